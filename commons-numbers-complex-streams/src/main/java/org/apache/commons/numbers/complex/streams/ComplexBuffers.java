@@ -0,0 +1,499 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexSink;
+
+/**
+ * Static adapters to access complex numbers stored in {@link java.nio} buffers.
+ *
+ * <p>The buffers can be heap, direct or memory-mapped buffers, for example a
+ * {@link java.nio.MappedByteBuffer} viewed using {@link java.nio.ByteBuffer#asDoubleBuffer()};
+ * the byte order is that of the view buffer. The data is read in place and the number
+ * of complex samples is not limited by the available heap memory.
+ *
+ * <p>Interleaved buffers contain the parts {@code [re0, im0, re1, im1, ...]}. Split
+ * buffers contain the real and imaginary parts in separate buffers.
+ *
+ * <p>Streams use the elements between the current position and the limit of the buffer
+ * when the stream is created. Streams do not modify the position of the buffer and
+ * support parallel processing. The content of the buffer should not be modified while
+ * the stream is in use.
+ *
+ * <p>The {@code read} and {@code write} methods transfer chunks of samples between an
+ * interleaved buffer and split arrays of primitives, advancing the buffer position.
+ * A single pair of arrays can be reused to process a buffer of any size.
+ */
+public final class ComplexBuffers {
+    /**
+     * A spliterator over a range of complex samples.
+     */
+    private abstract static class ComplexSpliterator implements Spliterator<Complex> {
+        /** Index of the next sample. */
+        private int index;
+        /** One past the index of the last sample. */
+        private final int fence;
+
+        /**
+         * @param index Index of the first sample.
+         * @param fence One past the index of the last sample.
+         */
+        ComplexSpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        /**
+         * Gets the sample at the index.
+         *
+         * @param i Index of the sample.
+         * @return the sample
+         */
+        abstract Complex get(int i);
+
+        /**
+         * Create a spliterator over the range of samples from the same source.
+         *
+         * @param from Index of the first sample.
+         * @param to One past the index of the last sample.
+         * @return the spliterator
+         */
+        abstract ComplexSpliterator create(int from, int to);
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Complex> action) {
+            if (index < fence) {
+                action.accept(get(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Complex> action) {
+            final int start = index;
+            index = fence;
+            for (int i = start; i < fence; i++) {
+                action.accept(get(i));
+            }
+        }
+
+        @Override
+        public Spliterator<Complex> trySplit() {
+            final int lo = index;
+            final int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return create(lo, mid);
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    /**
+     * A spliterator over an interleaved double buffer.
+     */
+    private static final class InterleavedDoubleSpliterator extends ComplexSpliterator {
+        /** Buffer. */
+        private final DoubleBuffer buffer;
+        /** Buffer index of the first part. */
+        private final int offset;
+
+        /**
+         * @param buffer Buffer.
+         * @param offset Buffer index of the first part.
+         * @param from Index of the first sample.
+         * @param to One past the index of the last sample.
+         */
+        InterleavedDoubleSpliterator(DoubleBuffer buffer, int offset, int from, int to) {
+            super(from, to);
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        @Override
+        Complex get(int i) {
+            final int j = offset + 2 * i;
+            return Complex.ofCartesian(buffer.get(j), buffer.get(j + 1));
+        }
+
+        @Override
+        ComplexSpliterator create(int from, int to) {
+            return new InterleavedDoubleSpliterator(buffer, offset, from, to);
+        }
+    }
+
+    /**
+     * A spliterator over an interleaved float buffer.
+     */
+    private static final class InterleavedFloatSpliterator extends ComplexSpliterator {
+        /** Buffer. */
+        private final FloatBuffer buffer;
+        /** Buffer index of the first part. */
+        private final int offset;
+
+        /**
+         * @param buffer Buffer.
+         * @param offset Buffer index of the first part.
+         * @param from Index of the first sample.
+         * @param to One past the index of the last sample.
+         */
+        InterleavedFloatSpliterator(FloatBuffer buffer, int offset, int from, int to) {
+            super(from, to);
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        @Override
+        Complex get(int i) {
+            final int j = offset + 2 * i;
+            return Complex.ofCartesian(buffer.get(j), buffer.get(j + 1));
+        }
+
+        @Override
+        ComplexSpliterator create(int from, int to) {
+            return new InterleavedFloatSpliterator(buffer, offset, from, to);
+        }
+    }
+
+    /**
+     * A spliterator over split double buffers.
+     */
+    private static final class SplitDoubleSpliterator extends ComplexSpliterator {
+        /** Real parts. */
+        private final DoubleBuffer real;
+        /** Imaginary parts. */
+        private final DoubleBuffer imaginary;
+        /** Buffer index of the first real part. */
+        private final int realOffset;
+        /** Buffer index of the first imaginary part. */
+        private final int imaginaryOffset;
+
+        /**
+         * @param real Real parts.
+         * @param imaginary Imaginary parts.
+         * @param from Index of the first sample.
+         * @param to One past the index of the last sample.
+         */
+        SplitDoubleSpliterator(DoubleBuffer real, DoubleBuffer imaginary, int from, int to) {
+            super(from, to);
+            this.real = real;
+            this.imaginary = imaginary;
+            realOffset = real.position();
+            imaginaryOffset = imaginary.position();
+        }
+
+        @Override
+        Complex get(int i) {
+            return Complex.ofCartesian(real.get(realOffset + i), imaginary.get(imaginaryOffset + i));
+        }
+
+        @Override
+        ComplexSpliterator create(int from, int to) {
+            return new SplitDoubleSpliterator(real, imaginary, from, to);
+        }
+    }
+
+    /**
+     * A spliterator over split float buffers.
+     */
+    private static final class SplitFloatSpliterator extends ComplexSpliterator {
+        /** Real parts. */
+        private final FloatBuffer real;
+        /** Imaginary parts. */
+        private final FloatBuffer imaginary;
+        /** Buffer index of the first real part. */
+        private final int realOffset;
+        /** Buffer index of the first imaginary part. */
+        private final int imaginaryOffset;
+
+        /**
+         * @param real Real parts.
+         * @param imaginary Imaginary parts.
+         * @param from Index of the first sample.
+         * @param to One past the index of the last sample.
+         */
+        SplitFloatSpliterator(FloatBuffer real, FloatBuffer imaginary, int from, int to) {
+            super(from, to);
+            this.real = real;
+            this.imaginary = imaginary;
+            realOffset = real.position();
+            imaginaryOffset = imaginary.position();
+        }
+
+        @Override
+        Complex get(int i) {
+            return Complex.ofCartesian(real.get(realOffset + i), imaginary.get(imaginaryOffset + i));
+        }
+
+        @Override
+        ComplexSpliterator create(int from, int to) {
+            return new SplitFloatSpliterator(real, imaginary, from, to);
+        }
+    }
+
+    /**
+     * Utility class.
+     */
+    private ComplexBuffers() {}
+
+    /**
+     * Creates a stream of the complex numbers in the interleaved buffer.
+     *
+     * @param buffer Buffer of interleaved real and imaginary parts.
+     * @return the stream
+     * @throws IllegalArgumentException if the number of remaining elements is not even.
+     */
+    public static Stream<Complex> interleaved(DoubleBuffer buffer) {
+        final int size = checkEven(buffer.remaining()) >>> 1;
+        // Use a duplicate so the spliterator is not affected by changes to the buffer position
+        return StreamSupport.stream(
+            new InterleavedDoubleSpliterator(buffer.duplicate(), buffer.position(), 0, size), false);
+    }
+
+    /**
+     * Creates a stream of the complex numbers in the interleaved buffer.
+     *
+     * @param buffer Buffer of interleaved real and imaginary parts.
+     * @return the stream
+     * @throws IllegalArgumentException if the number of remaining elements is not even.
+     */
+    public static Stream<Complex> interleaved(FloatBuffer buffer) {
+        final int size = checkEven(buffer.remaining()) >>> 1;
+        return StreamSupport.stream(
+            new InterleavedFloatSpliterator(buffer.duplicate(), buffer.position(), 0, size), false);
+    }
+
+    /**
+     * Creates a stream of the complex numbers in the split buffers.
+     *
+     * @param real Buffer of real parts.
+     * @param imaginary Buffer of imaginary parts.
+     * @return the stream
+     * @throws IllegalArgumentException if the number of remaining elements in the buffers
+     * are not equal.
+     */
+    public static Stream<Complex> split(DoubleBuffer real, DoubleBuffer imaginary) {
+        final int size = checkLength(real.remaining(), imaginary.remaining());
+        return StreamSupport.stream(
+            new SplitDoubleSpliterator(real.duplicate(), imaginary.duplicate(), 0, size), false);
+    }
+
+    /**
+     * Creates a stream of the complex numbers in the split buffers.
+     *
+     * @param real Buffer of real parts.
+     * @param imaginary Buffer of imaginary parts.
+     * @return the stream
+     * @throws IllegalArgumentException if the number of remaining elements in the buffers
+     * are not equal.
+     */
+    public static Stream<Complex> split(FloatBuffer real, FloatBuffer imaginary) {
+        final int size = checkLength(real.remaining(), imaginary.remaining());
+        return StreamSupport.stream(
+            new SplitFloatSpliterator(real.duplicate(), imaginary.duplicate(), 0, size), false);
+    }
+
+    /**
+     * Performs the action on the real and imaginary parts of each complex number in the
+     * interleaved buffer. No {@link Complex} objects are created. The buffer position
+     * is not modified.
+     *
+     * @param buffer Buffer of interleaved real and imaginary parts.
+     * @param action Action.
+     * @throws IllegalArgumentException if the number of remaining elements is not even.
+     */
+    public static void forEach(DoubleBuffer buffer, ComplexSink<?> action) {
+        final int end = buffer.position() + checkEven(buffer.remaining());
+        for (int i = buffer.position(); i < end; i += 2) {
+            action.apply(buffer.get(i), buffer.get(i + 1));
+        }
+    }
+
+    /**
+     * Performs the action on the real and imaginary parts of each complex number in the
+     * interleaved buffer. No {@link Complex} objects are created. The buffer position
+     * is not modified.
+     *
+     * @param buffer Buffer of interleaved real and imaginary parts.
+     * @param action Action.
+     * @throws IllegalArgumentException if the number of remaining elements is not even.
+     */
+    public static void forEach(FloatBuffer buffer, ComplexSink<?> action) {
+        final int end = buffer.position() + checkEven(buffer.remaining());
+        for (int i = buffer.position(); i < end; i += 2) {
+            action.apply(buffer.get(i), buffer.get(i + 1));
+        }
+    }
+
+    /**
+     * Reads complex numbers from the interleaved buffer into split arrays. Reads the
+     * smaller of the length of the arrays and the number of complex numbers remaining
+     * in the buffer. The buffer position is advanced by the number of parts read.
+     *
+     * @param buffer Buffer of interleaved real and imaginary parts.
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @return the number of complex numbers read
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static int read(DoubleBuffer buffer, double[] real, double[] imaginary) {
+        final int n = Math.min(checkLength(real.length, imaginary.length), buffer.remaining() >>> 1);
+        for (int i = 0; i < n; i++) {
+            real[i] = buffer.get();
+            imaginary[i] = buffer.get();
+        }
+        return n;
+    }
+
+    /**
+     * Reads complex numbers from the interleaved buffer into split arrays. Reads the
+     * smaller of the length of the arrays and the number of complex numbers remaining
+     * in the buffer. The buffer position is advanced by the number of parts read.
+     *
+     * @param buffer Buffer of interleaved real and imaginary parts.
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @return the number of complex numbers read
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static int read(FloatBuffer buffer, double[] real, double[] imaginary) {
+        final int n = Math.min(checkLength(real.length, imaginary.length), buffer.remaining() >>> 1);
+        for (int i = 0; i < n; i++) {
+            real[i] = buffer.get();
+            imaginary[i] = buffer.get();
+        }
+        return n;
+    }
+
+    /**
+     * Writes complex numbers from split arrays to the interleaved buffer.
+     * The buffer position is advanced by the number of parts written.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @param length Number of complex numbers to write.
+     * @param buffer Buffer of interleaved real and imaginary parts.
+     * @throws IndexOutOfBoundsException if the length exceeds the length of the arrays.
+     * @throws BufferOverflowException if there is insufficient space in the buffer.
+     */
+    public static void write(double[] real, double[] imaginary, int length, DoubleBuffer buffer) {
+        checkRange(length, real.length, imaginary.length);
+        checkSpace(length, buffer.remaining());
+        for (int i = 0; i < length; i++) {
+            buffer.put(real[i]);
+            buffer.put(imaginary[i]);
+        }
+    }
+
+    /**
+     * Writes complex numbers from split arrays to the interleaved buffer. The parts
+     * are converted to {@code float}. The buffer position is advanced by the number
+     * of parts written.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @param length Number of complex numbers to write.
+     * @param buffer Buffer of interleaved real and imaginary parts.
+     * @throws IndexOutOfBoundsException if the length exceeds the length of the arrays.
+     * @throws BufferOverflowException if there is insufficient space in the buffer.
+     */
+    public static void write(double[] real, double[] imaginary, int length, FloatBuffer buffer) {
+        checkRange(length, real.length, imaginary.length);
+        checkSpace(length, buffer.remaining());
+        for (int i = 0; i < length; i++) {
+            buffer.put((float) real[i]);
+            buffer.put((float) imaginary[i]);
+        }
+    }
+
+    /**
+     * Check the length is even.
+     *
+     * @param length Length.
+     * @return the length
+     * @throws IllegalArgumentException if the length is not even.
+     */
+    private static int checkEven(int length) {
+        if ((length & 1) != 0) {
+            throw new IllegalArgumentException("Length is not even: " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Check the lengths are equal.
+     *
+     * @param length1 First length.
+     * @param length2 Second length.
+     * @return the length
+     * @throws IllegalArgumentException if the lengths do not match.
+     */
+    private static int checkLength(int length1, int length2) {
+        if (length1 != length2) {
+            throw new IllegalArgumentException("Dimension mismatch: " + length1 + " != " + length2);
+        }
+        return length1;
+    }
+
+    /**
+     * Check the number of complex numbers is within the length of the arrays.
+     *
+     * @param length Number of complex numbers.
+     * @param realLength Length of the real parts.
+     * @param imaginaryLength Length of the imaginary parts.
+     * @throws IndexOutOfBoundsException if the length exceeds the length of the arrays.
+     */
+    private static void checkRange(int length, int realLength, int imaginaryLength) {
+        if (length < 0 || length > Math.min(realLength, imaginaryLength)) {
+            throw new IndexOutOfBoundsException("Invalid length: " + length);
+        }
+    }
+
+    /**
+     * Check the buffer has space for the number of complex numbers.
+     *
+     * @param length Number of complex numbers.
+     * @param remaining Remaining elements in the buffer.
+     * @throws BufferOverflowException if there is insufficient space in the buffer.
+     */
+    private static void checkSpace(int length, int remaining) {
+        if (2L * length > remaining) {
+            throw new BufferOverflowException();
+        }
+    }
+}
@@ -0,0 +1,762 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.stream.Stream;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexVector;
+import org.apache.commons.numbers.complex.streams.MappedComplexFile.Format;
+
+/**
+ * A compact binary encoding of arrays of complex numbers.
+ *
+ * <p>The encoding is a fixed size header followed by the raw IEEE 754 parts:
+ *
+ * <pre>
+ * offset  size  content
+ *      0     4  magic number: the ASCII characters "CPLX"
+ *      4     1  version: 1
+ *      5     1  layout: 0 = interleaved [re0, im0, re1, im1, ...]; 1 = split [re0, re1, ..., im0, im1, ...]
+ *      6     1  precision: 0 = float32; 1 = float64
+ *      7     1  byte order of the parts: 0 = big-endian; 1 = little-endian
+ *      8     8  number of complex values (big-endian)
+ *     16     -  parts
+ * </pre>
+ *
+ * <p>Values encoded using {@link Format#FLOAT32} are rounded to the nearest
+ * {@code float}. This halves the size of the data at the cost of precision.
+ *
+ * <p>Data written to a {@link ByteBuffer} uses the byte order of the buffer. A direct
+ * buffer using the {@link ByteOrder#nativeOrder() native order} allows the parts to be
+ * {@link #view(ByteBuffer) viewed} without copying. Data written to a {@link DataOutput}
+ * is big-endian.
+ *
+ * <p>The encoding is much smaller than Java serialization of {@code Complex[]}, which
+ * stores an object header for each element.
+ *
+ * @see MappedComplexFile
+ */
+public final class ComplexCodec {
+    /** Size of the header in bytes. */
+    public static final int HEADER_BYTES = 16;
+
+    /** Magic number identifying the encoding: "CPLX". */
+    private static final int MAGIC = 0x43504c58;
+    /** Version of the encoding. */
+    private static final int VERSION = 1;
+    /** Code for big-endian byte order. */
+    private static final int BIG_ENDIAN = 0;
+    /** Code for little-endian byte order. */
+    private static final int LITTLE_ENDIAN = 1;
+    /** Size of the buffer used to transfer data to a stream. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The arrangement of the real and imaginary parts.
+     */
+    public enum Layout {
+        /** Interleaved parts {@code [re0, im0, re1, im1, ...]}. */
+        INTERLEAVED,
+        /** Split parts {@code [re0, re1, ..., im0, im1, ...]}. */
+        SPLIT
+    }
+
+    /**
+     * The header of an encoded array.
+     */
+    public static final class Header {
+        /** Number of complex values. */
+        private final long length;
+        /** Layout of the parts. */
+        private final Layout layout;
+        /** Format of the parts. */
+        private final Format format;
+        /** Byte order of the parts. */
+        private final ByteOrder order;
+
+        /**
+         * @param length Number of complex values.
+         * @param layout Layout of the parts.
+         * @param format Format of the parts.
+         * @param order Byte order of the parts.
+         */
+        private Header(long length, Layout layout, Format format, ByteOrder order) {
+            this.length = length;
+            this.layout = layout;
+            this.format = format;
+            this.order = order;
+        }
+
+        /**
+         * Gets the number of complex values.
+         *
+         * @return the length
+         */
+        public long getLength() {
+            return length;
+        }
+
+        /**
+         * Gets the layout of the parts.
+         *
+         * @return the layout
+         */
+        public Layout getLayout() {
+            return layout;
+        }
+
+        /**
+         * Gets the format of the parts.
+         *
+         * @return the format
+         */
+        public Format getFormat() {
+            return format;
+        }
+
+        /**
+         * Gets the byte order of the parts.
+         *
+         * @return the order
+         */
+        public ByteOrder getOrder() {
+            return order;
+        }
+
+        /**
+         * Gets the size of the parts in bytes.
+         *
+         * @return the size
+         */
+        public long getDataBytes() {
+            return length * format.getSampleBytes();
+        }
+    }
+
+    /**
+     * A read-only view of encoded complex numbers backed by the encoded buffer.
+     * Changes to the content of the buffer are visible in the view.
+     */
+    public static final class View {
+        /** Header. */
+        private final Header header;
+        /** Number of complex values. */
+        private final int size;
+        /** Offset of the imaginary parts relative to the real parts. */
+        private final int imOffset;
+        /** Stride between values. */
+        private final int stride;
+        /** Parts using double precision. */
+        private final DoubleBuffer doubles;
+        /** Parts using single precision. */
+        private final FloatBuffer floats;
+
+        /**
+         * @param header Header.
+         * @param data Buffer positioned at the start of the parts.
+         */
+        View(Header header, ByteBuffer data) {
+            this.header = header;
+            size = (int) header.getLength();
+            if (header.getLayout() == Layout.INTERLEAVED) {
+                imOffset = 1;
+                stride = 2;
+            } else {
+                imOffset = size;
+                stride = 1;
+            }
+            final ByteBuffer b = data.slice().order(header.getOrder());
+            b.limit((int) header.getDataBytes());
+            if (header.getFormat() == Format.FLOAT64) {
+                doubles = b.asDoubleBuffer().asReadOnlyBuffer();
+                floats = null;
+            } else {
+                doubles = null;
+                floats = b.asFloatBuffer().asReadOnlyBuffer();
+            }
+        }
+
+        /**
+         * Gets the header.
+         *
+         * @return the header
+         */
+        public Header getHeader() {
+            return header;
+        }
+
+        /**
+         * Gets the number of complex values.
+         *
+         * @return the size
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Gets the real part of the value at the index.
+         *
+         * @param index Index.
+         * @return the real part
+         * @throws IndexOutOfBoundsException if the index is out of bounds.
+         */
+        public double getReal(int index) {
+            return part(checkIndex(index) * stride);
+        }
+
+        /**
+         * Gets the imaginary part of the value at the index.
+         *
+         * @param index Index.
+         * @return the imaginary part
+         * @throws IndexOutOfBoundsException if the index is out of bounds.
+         */
+        public double getImaginary(int index) {
+            return part(checkIndex(index) * stride + imOffset);
+        }
+
+        /**
+         * Gets the value at the index.
+         *
+         * @param index Index.
+         * @return the value
+         * @throws IndexOutOfBoundsException if the index is out of bounds.
+         */
+        public Complex get(int index) {
+            final int i = checkIndex(index) * stride;
+            return Complex.ofCartesian(part(i), part(i + imOffset));
+        }
+
+        /**
+         * Creates a stream of the complex numbers.
+         *
+         * @return the stream
+         */
+        public Stream<Complex> stream() {
+            if (header.getLayout() == Layout.INTERLEAVED) {
+                return doubles != null ?
+                    ComplexBuffers.interleaved(doubles) :
+                    ComplexBuffers.interleaved(floats);
+            }
+            if (doubles != null) {
+                return ComplexBuffers.split(split(doubles, 0), split(doubles, size));
+            }
+            return ComplexBuffers.split(split(floats, 0), split(floats, size));
+        }
+
+        /**
+         * Gets the part at the index of the data.
+         *
+         * @param index Index.
+         * @return the part
+         */
+        private double part(int index) {
+            return doubles != null ? doubles.get(index) : floats.get(index);
+        }
+
+        /**
+         * Check the index is valid.
+         *
+         * @param index Index.
+         * @return the index
+         * @throws IndexOutOfBoundsException if the index is out of bounds.
+         */
+        private int checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            return index;
+        }
+
+        /**
+         * Create a buffer of the parts starting from the offset.
+         *
+         * @param buffer Buffer.
+         * @param offset Offset of the first part.
+         * @return the buffer
+         */
+        private DoubleBuffer split(DoubleBuffer buffer, int offset) {
+            final DoubleBuffer b = buffer.duplicate();
+            b.position(offset).limit(offset + size);
+            return b.slice();
+        }
+
+        /**
+         * Create a buffer of the parts starting from the offset.
+         *
+         * @param buffer Buffer.
+         * @param offset Offset of the first part.
+         * @return the buffer
+         */
+        private FloatBuffer split(FloatBuffer buffer, int offset) {
+            final FloatBuffer b = buffer.duplicate();
+            b.position(offset).limit(offset + size);
+            return b.slice();
+        }
+    }
+
+    /**
+     * Utility class.
+     */
+    private ComplexCodec() {}
+
+    /**
+     * Gets the size of the encoding in bytes.
+     *
+     * @param length Number of complex values.
+     * @param format Format of the parts.
+     * @return the size
+     * @throws IllegalArgumentException if {@code length < 0}.
+     */
+    public static long encodedSize(long length, Format format) {
+        checkNonNegative(length);
+        return HEADER_BYTES + length * format.getSampleBytes();
+    }
+
+    /**
+     * Encodes the complex numbers into the buffer at its position using the byte order
+     * of the buffer. The buffer position is advanced past the encoding.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @param layout Layout of the parts.
+     * @param format Format of the parts.
+     * @param buffer Buffer.
+     * @return the buffer
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @throws BufferOverflowException if there is insufficient space in the buffer.
+     */
+    public static ByteBuffer encode(double[] real, double[] imaginary,
+                                    Layout layout, Format format, ByteBuffer buffer) {
+        final int n = checkLength(real.length, imaginary.length);
+        if (encodedSize(n, format) > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        putHeader(buffer, n, layout, format, buffer.order());
+        // Write using a view of the data then advance the position
+        final ByteBuffer data = buffer.slice().order(buffer.order());
+        if (format == Format.FLOAT64) {
+            final DoubleBuffer b = data.asDoubleBuffer();
+            if (layout == Layout.SPLIT) {
+                b.put(real).put(imaginary);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    b.put(real[i]).put(imaginary[i]);
+                }
+            }
+        } else {
+            final FloatBuffer b = data.asFloatBuffer();
+            if (layout == Layout.SPLIT) {
+                for (int i = 0; i < n; i++) {
+                    b.put((float) real[i]);
+                }
+                for (int i = 0; i < n; i++) {
+                    b.put((float) imaginary[i]);
+                }
+            } else {
+                for (int i = 0; i < n; i++) {
+                    b.put((float) real[i]).put((float) imaginary[i]);
+                }
+            }
+        }
+        buffer.position(buffer.position() + n * format.getSampleBytes());
+        return buffer;
+    }
+
+    /**
+     * Encodes the complex numbers into the buffer at its position using the byte order
+     * of the buffer. The buffer position is advanced past the encoding.
+     *
+     * @param values Complex numbers.
+     * @param layout Layout of the parts.
+     * @param format Format of the parts.
+     * @param buffer Buffer.
+     * @return the buffer
+     * @throws BufferOverflowException if there is insufficient space in the buffer.
+     */
+    public static ByteBuffer encode(Complex[] values, Layout layout, Format format, ByteBuffer buffer) {
+        return encode(ComplexUtils.complex2Real(values), ComplexUtils.complex2Imaginary(values),
+                      layout, format, buffer);
+    }
+
+    /**
+     * Writes the encoding of the complex numbers to the output. The parts are big-endian.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @param layout Layout of the parts.
+     * @param format Format of the parts.
+     * @param out Output.
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static void write(double[] real, double[] imaginary,
+                             Layout layout, Format format, DataOutput out) throws IOException {
+        final int n = checkLength(real.length, imaginary.length);
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        putHeader(buffer, n, layout, format, ByteOrder.BIG_ENDIAN);
+        if (layout == Layout.SPLIT) {
+            writeParts(real, format, buffer, out);
+            writeParts(imaginary, format, buffer, out);
+        } else {
+            final int bytes = format.getSampleBytes();
+            for (int i = 0; i < n; i++) {
+                if (buffer.remaining() < bytes) {
+                    flush(buffer, out);
+                }
+                if (format == Format.FLOAT64) {
+                    buffer.putDouble(real[i]).putDouble(imaginary[i]);
+                } else {
+                    buffer.putFloat((float) real[i]).putFloat((float) imaginary[i]);
+                }
+            }
+        }
+        flush(buffer, out);
+    }
+
+    /**
+     * Writes the encoding of the complex numbers to the output. The parts are big-endian.
+     *
+     * @param values Complex numbers.
+     * @param layout Layout of the parts.
+     * @param format Format of the parts.
+     * @param out Output.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void write(Complex[] values, Layout layout, Format format, DataOutput out) throws IOException {
+        write(ComplexUtils.complex2Real(values), ComplexUtils.complex2Imaginary(values), layout, format, out);
+    }
+
+    /**
+     * Reads the header from the buffer at its position. The buffer position is
+     * advanced past the header.
+     *
+     * @param buffer Buffer.
+     * @return the header
+     * @throws IllegalArgumentException if the header is invalid.
+     * @throws java.nio.BufferUnderflowException if the buffer does not contain a header.
+     */
+    public static Header readHeader(ByteBuffer buffer) {
+        final byte[] bytes = new byte[HEADER_BYTES];
+        buffer.get(bytes);
+        return parseHeader(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Reads the header from the input.
+     *
+     * @param in Input.
+     * @return the header
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if the header is invalid.
+     */
+    public static Header readHeader(DataInput in) throws IOException {
+        final byte[] bytes = new byte[HEADER_BYTES];
+        in.readFully(bytes);
+        return parseHeader(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes complex numbers from the buffer at its position. The buffer position
+     * is advanced past the encoding.
+     *
+     * @param buffer Buffer.
+     * @return the complex numbers
+     * @throws IllegalArgumentException if the header is invalid, or the buffer does not
+     * contain the number of values specified by the header.
+     */
+    public static ComplexVector decode(ByteBuffer buffer) {
+        final View view = view(buffer);
+        final int n = view.size();
+        final double[] re = new double[n];
+        final double[] im = new double[n];
+        if (view.doubles != null) {
+            final DoubleBuffer b = view.doubles;
+            if (view.stride == 1) {
+                b.get(re).get(im);
+            } else {
+                ComplexBuffers.read(b, re, im);
+            }
+        } else {
+            final FloatBuffer b = view.floats;
+            if (view.stride == 1) {
+                for (int i = 0; i < n; i++) {
+                    re[i] = b.get();
+                }
+                for (int i = 0; i < n; i++) {
+                    im[i] = b.get();
+                }
+            } else {
+                ComplexBuffers.read(b, re, im);
+            }
+        }
+        return ComplexVector.ofCartesian(re, im);
+    }
+
+    /**
+     * Reads the encoding of complex numbers from the input.
+     *
+     * @param in Input.
+     * @return the complex numbers
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if the header is invalid.
+     */
+    public static ComplexVector read(DataInput in) throws IOException {
+        final Header header = readHeader(in);
+        final int n = checkSize(header.getLength());
+        final double[] re = new double[n];
+        final double[] im = new double[n];
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(header.getOrder());
+        buffer.limit(0);
+        final Format format = header.getFormat();
+        if (header.getLayout() == Layout.SPLIT) {
+            readParts(re, format, buffer, in);
+            readParts(im, format, buffer, in);
+        } else {
+            final int bytes = format.getSampleBytes();
+            for (int i = 0; i < n; i++) {
+                if (buffer.remaining() < bytes) {
+                    fill(buffer, in, (long) (n - i) * bytes);
+                }
+                if (format == Format.FLOAT64) {
+                    re[i] = buffer.getDouble();
+                    im[i] = buffer.getDouble();
+                } else {
+                    re[i] = buffer.getFloat();
+                    im[i] = buffer.getFloat();
+                }
+            }
+        }
+        return ComplexVector.ofCartesian(re, im);
+    }
+
+    /**
+     * Creates a read-only view of the complex numbers encoded in the buffer at its
+     * position. The parts are not copied. The buffer position is advanced past the
+     * encoding.
+     *
+     * <p>Access to the view is fastest when the buffer is a direct buffer and the parts
+     * are encoded in the native byte order.
+     *
+     * @param buffer Buffer.
+     * @return the view
+     * @throws IllegalArgumentException if the header is invalid, or the buffer does not
+     * contain the number of values specified by the header.
+     */
+    public static View view(ByteBuffer buffer) {
+        final Header header = readHeader(buffer);
+        checkSize(header.getLength());
+        final long bytes = header.getDataBytes();
+        if (bytes > buffer.remaining()) {
+            throw new IllegalArgumentException("Insufficient data: " + bytes + " > " + buffer.remaining());
+        }
+        final View view = new View(header, buffer);
+        buffer.position(buffer.position() + (int) bytes);
+        return view;
+    }
+
+    /**
+     * Put the header into the buffer. The header fields are big-endian.
+     *
+     * @param buffer Buffer.
+     * @param length Number of complex values.
+     * @param layout Layout of the parts.
+     * @param format Format of the parts.
+     * @param order Byte order of the parts.
+     */
+    private static void putHeader(ByteBuffer buffer, long length, Layout layout, Format format, ByteOrder order) {
+        final ByteBuffer b = ByteBuffer.allocate(HEADER_BYTES)
+            .putInt(MAGIC)
+            .put((byte) VERSION)
+            .put((byte) (layout == Layout.INTERLEAVED ? 0 : 1))
+            .put((byte) (format == Format.FLOAT32 ? 0 : 1))
+            .put((byte) (order == ByteOrder.BIG_ENDIAN ? BIG_ENDIAN : LITTLE_ENDIAN))
+            .putLong(length);
+        buffer.put(b.array());
+    }
+
+    /**
+     * Parse the header.
+     *
+     * @param b Big-endian buffer containing the header.
+     * @return the header
+     * @throws IllegalArgumentException if the header is invalid.
+     */
+    private static Header parseHeader(ByteBuffer b) {
+        final int magic = b.getInt();
+        if (magic != MAGIC) {
+            throw new IllegalArgumentException("Invalid header: " + Integer.toHexString(magic));
+        }
+        final int version = b.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported version: " + version);
+        }
+        final Layout layout = decodeCode(b.get(), Layout.INTERLEAVED, Layout.SPLIT, "layout");
+        final Format format = decodeCode(b.get(), Format.FLOAT32, Format.FLOAT64, "precision");
+        final ByteOrder order = decodeCode(b.get(), ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN, "byte order");
+        final long length = b.getLong();
+        checkNonNegative(length);
+        return new Header(length, layout, format, order);
+    }
+
+    /**
+     * Decode a header code that has two values.
+     *
+     * @param <T> Type of the value.
+     * @param code Code.
+     * @param value0 Value for code 0.
+     * @param value1 Value for code 1.
+     * @param name Name of the field.
+     * @return the value
+     * @throws IllegalArgumentException if the code is invalid.
+     */
+    private static <T> T decodeCode(byte code, T value0, T value1, String name) {
+        if (code == 0) {
+            return value0;
+        }
+        if (code == 1) {
+            return value1;
+        }
+        throw new IllegalArgumentException("Invalid " + name + ": " + code);
+    }
+
+    /**
+     * Write the parts to the output using the buffer.
+     *
+     * @param parts Parts.
+     * @param format Format of the parts.
+     * @param buffer Buffer.
+     * @param out Output.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void writeParts(double[] parts, Format format, ByteBuffer buffer,
+                                   DataOutput out) throws IOException {
+        final int bytes = format.getSampleBytes() >>> 1;
+        for (final double x : parts) {
+            if (buffer.remaining() < bytes) {
+                flush(buffer, out);
+            }
+            if (format == Format.FLOAT64) {
+                buffer.putDouble(x);
+            } else {
+                buffer.putFloat((float) x);
+            }
+        }
+    }
+
+    /**
+     * Read the parts from the input using the buffer.
+     *
+     * @param parts Parts.
+     * @param format Format of the parts.
+     * @param buffer Buffer.
+     * @param in Input.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void readParts(double[] parts, Format format, ByteBuffer buffer,
+                                  DataInput in) throws IOException {
+        final int bytes = format.getSampleBytes() >>> 1;
+        for (int i = 0; i < parts.length; i++) {
+            if (buffer.remaining() < bytes) {
+                fill(buffer, in, (long) (parts.length - i) * bytes);
+            }
+            parts[i] = format == Format.FLOAT64 ? buffer.getDouble() : buffer.getFloat();
+        }
+    }
+
+    /**
+     * Write the buffer content to the output and clear the buffer.
+     *
+     * @param buffer Buffer.
+     * @param out Output.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void flush(ByteBuffer buffer, DataOutput out) throws IOException {
+        out.write(buffer.array(), 0, buffer.position());
+        buffer.clear();
+    }
+
+    /**
+     * Fill the buffer from the input. Any remaining content is retained. The number of
+     * bytes read is limited to the data required so the input is not read past the end
+     * of the encoding.
+     *
+     * @param buffer Buffer ready for reading.
+     * @param in Input.
+     * @param required Number of bytes of the encoding remaining to be read.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void fill(ByteBuffer buffer, DataInput in, long required) throws IOException {
+        buffer.compact();
+        final int size = (int) Math.min(buffer.remaining(), required - buffer.position());
+        in.readFully(buffer.array(), buffer.position(), size);
+        buffer.position(buffer.position() + size);
+        buffer.flip();
+    }
+
+    /**
+     * Check the lengths are equal.
+     *
+     * @param length1 First length.
+     * @param length2 Second length.
+     * @return the length
+     * @throws IllegalArgumentException if the lengths are not equal.
+     */
+    private static int checkLength(int length1, int length2) {
+        if (length1 != length2) {
+            throw new IllegalArgumentException("Dimension mismatch: " + length1 + " != " + length2);
+        }
+        return length1;
+    }
+
+    /**
+     * Check the number of values is not negative.
+     *
+     * @param length Number of values.
+     * @throws IllegalArgumentException if the length is negative.
+     */
+    private static void checkNonNegative(long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative size: " + length);
+        }
+    }
+
+    /**
+     * Check the number of values can be stored in an array.
+     *
+     * @param length Number of values.
+     * @return the length
+     * @throws IllegalArgumentException if the length is too large.
+     */
+    private static int checkSize(long length) {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Size is too large for an array: " + length);
+        }
+        return (int) length;
+    }
+}
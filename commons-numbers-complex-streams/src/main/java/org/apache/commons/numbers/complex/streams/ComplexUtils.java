@@ -1610,7 +1610,7 @@ public final class ComplexUtils {
     /**
      * Exception to be throw when an out-of-range index value is passed.
      */
-    private static class IndexOutOfRangeException extends IllegalArgumentException {
+    static class IndexOutOfRangeException extends IllegalArgumentException {
         /** Serializable version identifier. */
         private static final long serialVersionUID = 20181205L;
 
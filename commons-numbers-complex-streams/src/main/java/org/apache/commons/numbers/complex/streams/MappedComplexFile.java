@@ -0,0 +1,430 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexSink;
+
+/**
+ * A file of complex samples stored as raw interleaved real and imaginary parts
+ * {@code [re0, im0, re1, im1, ...]} using a fixed-size floating-point format.
+ *
+ * <p>Samples are accessed through windows of the file mapped into memory using
+ * {@link FileChannel#map(FileChannel.MapMode, long, long)}. Each access maps only the
+ * requested window; the file is never loaded onto the heap as a whole. Samples can be
+ * streamed as {@link Complex} numbers, or transferred to and from arrays using the
+ * interleaved and split layouts supported by {@link ComplexUtils}.
+ *
+ * <p>The byte order of the file is specified when the file is opened.
+ *
+ * <p>Mapped windows remain valid until they are garbage collected, even after the file
+ * is closed. Instances are not thread-safe for writing; concurrent reads of the same
+ * file are supported.
+ *
+ * @see ComplexBuffers
+ */
+public final class MappedComplexFile implements Closeable {
+    /** Number of complex samples in each window of the file used by {@link #stream()}. */
+    private static final int STREAM_WINDOW = 1 << 24;
+
+    /**
+     * The format of each part of a complex sample.
+     */
+    public enum Format {
+        /** IEEE 754 single-precision ({@code float}) parts. */
+        FLOAT32(Float.BYTES),
+        /** IEEE 754 double-precision ({@code double}) parts. */
+        FLOAT64(Double.BYTES);
+
+        /** Size of a complex sample in bytes. */
+        private final int sampleBytes;
+
+        /**
+         * @param bytes Size of each part in bytes.
+         */
+        Format(int bytes) {
+            this.sampleBytes = 2 * bytes;
+        }
+
+        /**
+         * Gets the size of a complex sample (the real and imaginary parts) in bytes.
+         *
+         * @return the sample size
+         */
+        public int getSampleBytes() {
+            return sampleBytes;
+        }
+    }
+
+    /** File channel. */
+    private final FileChannel channel;
+    /** Mode used to map windows of the file. */
+    private final FileChannel.MapMode mode;
+    /** Format of the parts. */
+    private final Format format;
+    /** Byte order of the parts. */
+    private final ByteOrder order;
+    /** Number of complex samples. */
+    private final long size;
+
+    /**
+     * @param channel File channel.
+     * @param mode Mode used to map windows of the file.
+     * @param format Format of the parts.
+     * @param order Byte order of the parts.
+     * @param size Number of complex samples.
+     */
+    private MappedComplexFile(FileChannel channel, FileChannel.MapMode mode,
+                              Format format, ByteOrder order, long size) {
+        this.channel = channel;
+        this.mode = mode;
+        this.format = format;
+        this.order = order;
+        this.size = size;
+    }
+
+    /**
+     * Opens an existing file for reading.
+     *
+     * @param path File path.
+     * @param format Format of the parts.
+     * @param order Byte order of the parts.
+     * @return the file
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if the file size is not a multiple of the sample size.
+     */
+    public static MappedComplexFile open(Path path, Format format, ByteOrder order) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        final long bytes = channel.size();
+        if (bytes % format.getSampleBytes() != 0) {
+            channel.close();
+            throw new IllegalArgumentException("File size is not a multiple of the sample size: " +
+                                               bytes + " % " + format.getSampleBytes());
+        }
+        return new MappedComplexFile(channel, FileChannel.MapMode.READ_ONLY,
+                                     format, order, bytes / format.getSampleBytes());
+    }
+
+    /**
+     * Creates a file for reading and writing. An existing file is truncated. The file
+     * is allocated to hold the specified number of samples; unwritten samples are zero.
+     *
+     * @param path File path.
+     * @param format Format of the parts.
+     * @param order Byte order of the parts.
+     * @param size Number of complex samples.
+     * @return the file
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if the size is negative.
+     */
+    public static MappedComplexFile create(Path path, Format format, ByteOrder order, long size) throws IOException {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (size != 0) {
+            // Extend the file by writing the final byte
+            channel.write(ByteBuffer.allocate(1), size * format.getSampleBytes() - 1);
+        }
+        return new MappedComplexFile(channel, FileChannel.MapMode.READ_WRITE, format, order, size);
+    }
+
+    /**
+     * Gets the number of complex samples in the file.
+     *
+     * @return the size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Gets the format of the parts.
+     *
+     * @return the format
+     */
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Gets the byte order of the parts.
+     *
+     * @return the byte order
+     */
+    public ByteOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Returns a sequential stream of all the complex samples in the file.
+     * Windows of the file are mapped as the stream is consumed.
+     *
+     * @return the stream
+     * @throws UncheckedIOException if an I/O error occurs when mapping a window.
+     */
+    public Stream<Complex> stream() {
+        final long windows = (size + STREAM_WINDOW - 1) / STREAM_WINDOW;
+        return LongStream.range(0, windows).mapToObj(w -> {
+            final long from = w * STREAM_WINDOW;
+            try {
+                return stream(from, (int) Math.min(STREAM_WINDOW, size - from));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }).flatMap(Function.identity());
+    }
+
+    /**
+     * Returns a stream of a window of the complex samples in the file.
+     * The stream supports parallel processing.
+     *
+     * @param from Index of the first sample.
+     * @param length Number of samples.
+     * @return the stream
+     * @throws IOException if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if the window is outside the file.
+     * @throws IllegalArgumentException if the window is too large to be mapped.
+     */
+    public Stream<Complex> stream(long from, int length) throws IOException {
+        checkWindow(from, length);
+        final ByteBuffer window = map(from, length);
+        return format == Format.FLOAT32 ?
+            ComplexBuffers.interleaved(window.asFloatBuffer()) :
+            ComplexBuffers.interleaved(window.asDoubleBuffer());
+    }
+
+    /**
+     * Performs an action for each complex sample in a window of the file.
+     *
+     * @param from Index of the first sample.
+     * @param length Number of samples.
+     * @param action Action to perform on the real and imaginary parts.
+     * @throws IOException if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if the window is outside the file.
+     * @throws IllegalArgumentException if the window is too large to be mapped.
+     */
+    public void forEach(long from, int length, ComplexSink<?> action) throws IOException {
+        checkWindow(from, length);
+        final ByteBuffer window = map(from, length);
+        if (format == Format.FLOAT32) {
+            ComplexBuffers.forEach(window.asFloatBuffer(), action);
+        } else {
+            ComplexBuffers.forEach(window.asDoubleBuffer(), action);
+        }
+    }
+
+    /**
+     * Reads complex samples into split arrays of the real and imaginary parts. Reads
+     * the smaller of the length of the arrays and the number of samples remaining in
+     * the file.
+     *
+     * @param from Index of the first sample.
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @return the number of samples read
+     * @throws IOException if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if the index is outside the file.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see ComplexUtils#split2Complex(double[], double[])
+     */
+    public int read(long from, double[] real, double[] imaginary) throws IOException {
+        final int length = readLength(from, real.length);
+        final ByteBuffer window = map(from, length);
+        return format == Format.FLOAT32 ?
+            ComplexBuffers.read(window.asFloatBuffer(), real, imaginary) :
+            ComplexBuffers.read(window.asDoubleBuffer(), real, imaginary);
+    }
+
+    /**
+     * Reads complex samples into an array of interleaved real and imaginary parts.
+     * Reads the smaller of half the length of the array and the number of samples
+     * remaining in the file.
+     *
+     * @param from Index of the first sample.
+     * @param interleaved Interleaved real and imaginary parts.
+     * @return the number of samples read
+     * @throws IOException if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if the index is outside the file.
+     * @throws IllegalArgumentException if the array length is not even.
+     * @see ComplexUtils#interleaved2Complex(double[])
+     */
+    public int read(long from, double[] interleaved) throws IOException {
+        final int length = readLength(from, checkEven(interleaved.length) >>> 1);
+        final ByteBuffer window = map(from, length);
+        final int n = 2 * length;
+        if (format == Format.FLOAT32) {
+            final FloatBuffer buffer = window.asFloatBuffer();
+            for (int i = 0; i < n; i++) {
+                interleaved[i] = buffer.get();
+            }
+        } else {
+            window.asDoubleBuffer().get(interleaved, 0, n);
+        }
+        return length;
+    }
+
+    /**
+     * Writes complex samples from split arrays of the real and imaginary parts.
+     * Parts are converted to {@code float} when the format is {@link Format#FLOAT32}.
+     *
+     * @param from Index of the first sample.
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @param length Number of samples to write.
+     * @throws IOException if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if the length exceeds the length of the arrays,
+     * or the window is outside the file.
+     * @throws IllegalArgumentException if the window is too large to be mapped.
+     * @throws java.nio.ReadOnlyBufferException if the file was opened for reading.
+     */
+    public void write(long from, double[] real, double[] imaginary, int length) throws IOException {
+        checkWindow(from, length);
+        final ByteBuffer window = map(from, length);
+        if (format == Format.FLOAT32) {
+            ComplexBuffers.write(real, imaginary, length, window.asFloatBuffer());
+        } else {
+            ComplexBuffers.write(real, imaginary, length, window.asDoubleBuffer());
+        }
+    }
+
+    /**
+     * Writes complex samples from an array of interleaved real and imaginary parts.
+     * Parts are converted to {@code float} when the format is {@link Format#FLOAT32}.
+     *
+     * @param from Index of the first sample.
+     * @param interleaved Interleaved real and imaginary parts.
+     * @throws IOException if an I/O error occurs.
+     * @throws IndexOutOfBoundsException if the window is outside the file.
+     * @throws IllegalArgumentException if the array length is not even, or the window is too
+     * large to be mapped.
+     * @throws java.nio.ReadOnlyBufferException if the file was opened for reading.
+     */
+    public void write(long from, double[] interleaved) throws IOException {
+        final int length = checkEven(interleaved.length) >>> 1;
+        checkWindow(from, length);
+        final ByteBuffer window = map(from, length);
+        if (format == Format.FLOAT32) {
+            final FloatBuffer buffer = window.asFloatBuffer();
+            for (final double x : interleaved) {
+                buffer.put((float) x);
+            }
+        } else {
+            final DoubleBuffer buffer = window.asDoubleBuffer();
+            buffer.put(interleaved);
+        }
+    }
+
+    /**
+     * Closes the file. Windows that are already mapped remain valid.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Map a window of the file.
+     *
+     * @param from Index of the first sample.
+     * @param length Number of samples.
+     * @return the window
+     * @throws IOException if an I/O error occurs.
+     */
+    private ByteBuffer map(long from, int length) throws IOException {
+        final long bytes = format.getSampleBytes();
+        return channel.map(mode, from * bytes, length * bytes).order(order);
+    }
+
+    /**
+     * Check the window is within the file and can be mapped.
+     *
+     * @param from Index of the first sample.
+     * @param length Number of samples.
+     * @throws IndexOutOfBoundsException if the window is outside the file.
+     * @throws IllegalArgumentException if the window is too large to be mapped.
+     */
+    private void checkWindow(long from, int length) {
+        if (from < 0 || length < 0 || length > size - from) {
+            throw new IndexOutOfBoundsException("Invalid window: [" + from + ", " + from + " + " + length +
+                                                ") for size " + size);
+        }
+        checkMappable(length);
+    }
+
+    /**
+     * Compute the number of samples to read from the file.
+     *
+     * @param from Index of the first sample.
+     * @param length Maximum number of samples.
+     * @return the number of samples
+     * @throws IndexOutOfBoundsException if the index is outside the file.
+     * @throws IllegalArgumentException if the window is too large to be mapped.
+     */
+    private int readLength(long from, int length) {
+        if (from < 0 || from > size) {
+            throw new IndexOutOfBoundsException("Invalid index: " + from + " for size " + size);
+        }
+        final int n = (int) Math.min(length, size - from);
+        checkMappable(n);
+        return n;
+    }
+
+    /**
+     * Check the number of samples can be mapped to a single buffer.
+     *
+     * @param length Number of samples.
+     * @throws IllegalArgumentException if the window is too large to be mapped.
+     */
+    private void checkMappable(int length) {
+        if ((long) length * format.getSampleBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window is too large to map: " + length);
+        }
+    }
+
+    /**
+     * Check the length is even.
+     *
+     * @param length Length.
+     * @return the length
+     * @throws IllegalArgumentException if the length is not even.
+     */
+    private static int checkEven(int length) {
+        if ((length & 1) != 0) {
+            throw new IllegalArgumentException("Length is not even: " + length);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import org.apache.commons.numbers.complex.Complex;
+
+/**
+ * Parallel implementations of the multi-dimensional conversions in {@link ComplexUtils}.
+ *
+ * <p>Each method computes the same result as the method of the same name in
+ * {@link ComplexUtils}. The work is split along the outermost dimension of the array
+ * and the sub-arrays are converted in parallel using the {@link ForkJoinPool#commonPool()
+ * common fork-join pool}. Each task converts at least {@value #THRESHOLD} elements;
+ * smaller arrays are converted sequentially in the calling thread.
+ *
+ * <p>The size of the array is estimated from the first element of each dimension;
+ * the arrays are expected to be rectangular.
+ *
+ * @see ComplexUtils
+ */
+public final class ParallelComplexUtils {
+    /** Minimum number of elements processed by a task. */
+    static final int THRESHOLD = 1 << 13;
+
+    /**
+     * Applies an action to each index of a range, splitting the range between
+     * tasks until the number of indices is below a minimum.
+     */
+    private static final class RangeAction extends RecursiveAction {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261015L;
+
+        /** Start of the range (inclusive). */
+        private final int from;
+        /** End of the range (exclusive). */
+        private final int to;
+        /** Minimum number of indices to split. */
+        private final int grain;
+        /** Action to apply to each index. */
+        private final transient IntConsumer action;
+
+        /**
+         * @param from Start of the range (inclusive).
+         * @param to End of the range (exclusive).
+         * @param grain Minimum number of indices to split.
+         * @param action Action to apply to each index.
+         */
+        RangeAction(int from, int to, int grain, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+            } else {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new RangeAction(from, mid, grain, action),
+                          new RangeAction(mid, to, grain, action));
+            }
+        }
+    }
+
+    /**
+     * Utility class.
+     */
+    private ParallelComplexUtils() {}
+
+    /**
+     * Converts a 2D real {@code double[][]} array to a {@code Complex[][]} array.
+     *
+     * @param d 2D real array
+     * @return 2D {@code Complex} array
+     * @see ComplexUtils#real2Complex(double[][])
+     */
+    public static Complex[][] real2Complex(double[][] d) {
+        final Complex[][] c = new Complex[d.length][];
+        forEach(d.length, size(d), x -> c[x] = ComplexUtils.real2Complex(d[x]));
+        return c;
+    }
+
+    /**
+     * Converts a 3D real {@code double[][][]} array to a {@code Complex[][][]} array.
+     *
+     * @param d 3D real array
+     * @return 3D {@code Complex} array
+     * @see ComplexUtils#real2Complex(double[][][])
+     */
+    public static Complex[][][] real2Complex(double[][][] d) {
+        final Complex[][][] c = new Complex[d.length][][];
+        forEach(d.length, size(d), x -> c[x] = ComplexUtils.real2Complex(d[x]));
+        return c;
+    }
+
+    /**
+     * Converts a 4D real {@code double[][][][]} array to a {@code Complex[][][][]} array.
+     *
+     * @param d 4D real array
+     * @return 4D {@code Complex} array
+     * @see ComplexUtils#real2Complex(double[][][][])
+     */
+    public static Complex[][][][] real2Complex(double[][][][] d) {
+        final Complex[][][][] c = new Complex[d.length][][][];
+        forEach(d.length, size(d), x -> c[x] = ComplexUtils.real2Complex(d[x]));
+        return c;
+    }
+
+    /**
+     * Converts a 3D imaginary {@code double[][][]} array to a {@code Complex[][][]} array.
+     *
+     * @param i 3D imaginary array
+     * @return 3D {@code Complex} array
+     * @see ComplexUtils#imaginary2Complex(double[][][])
+     */
+    public static Complex[][][] imaginary2Complex(double[][][] i) {
+        final Complex[][][] c = new Complex[i.length][][];
+        forEach(i.length, size(i), x -> c[x] = ComplexUtils.imaginary2Complex(i[x]));
+        return c;
+    }
+
+    /**
+     * Converts a 4D imaginary {@code double[][][][]} array to a {@code Complex[][][][]} array.
+     *
+     * @param i 4D imaginary array
+     * @return 4D {@code Complex} array
+     * @see ComplexUtils#imaginary2Complex(double[][][][])
+     */
+    public static Complex[][][][] imaginary2Complex(double[][][][] i) {
+        final Complex[][][][] c = new Complex[i.length][][][];
+        forEach(i.length, size(i), x -> c[x] = ComplexUtils.imaginary2Complex(i[x]));
+        return c;
+    }
+
+    /**
+     * Converts the real component of a {@code Complex[][][]} array to a
+     * {@code double[][][]} array.
+     *
+     * @param c 3D {@code Complex} array
+     * @return 3D array of the real component
+     * @see ComplexUtils#complex2Real(Complex[][][])
+     */
+    public static double[][][] complex2Real(Complex[][][] c) {
+        final double[][][] d = new double[c.length][][];
+        forEach(c.length, size(c), x -> d[x] = ComplexUtils.complex2Real(c[x]));
+        return d;
+    }
+
+    /**
+     * Converts the real component of a {@code Complex[][][][]} array to a
+     * {@code double[][][][]} array.
+     *
+     * @param c 4D {@code Complex} array
+     * @return 4D array of the real component
+     * @see ComplexUtils#complex2Real(Complex[][][][])
+     */
+    public static double[][][][] complex2Real(Complex[][][][] c) {
+        final double[][][][] d = new double[c.length][][][];
+        forEach(c.length, size(c), x -> d[x] = ComplexUtils.complex2Real(c[x]));
+        return d;
+    }
+
+    /**
+     * Converts the imaginary component of a {@code Complex[][][]} array to a
+     * {@code double[][][]} array.
+     *
+     * @param c 3D {@code Complex} array
+     * @return 3D array of the imaginary component
+     * @see ComplexUtils#complex2Imaginary(Complex[][][])
+     */
+    public static double[][][] complex2Imaginary(Complex[][][] c) {
+        final double[][][] d = new double[c.length][][];
+        forEach(c.length, size(c), x -> d[x] = ComplexUtils.complex2Imaginary(c[x]));
+        return d;
+    }
+
+    /**
+     * Converts the imaginary component of a {@code Complex[][][][]} array to a
+     * {@code double[][][][]} array.
+     *
+     * @param c 4D {@code Complex} array
+     * @return 4D array of the imaginary component
+     * @see ComplexUtils#complex2Imaginary(Complex[][][][])
+     */
+    public static double[][][][] complex2Imaginary(Complex[][][][] c) {
+        final double[][][][] d = new double[c.length][][][];
+        forEach(c.length, size(c), x -> d[x] = ComplexUtils.complex2Imaginary(c[x]));
+        return d;
+    }
+
+    /**
+     * Converts a 3D {@code Complex[][][]} array to an interleaved complex
+     * {@code double[][][]} array.
+     *
+     * @param c 3D {@code Complex} array
+     * @param interleavedDim Depth level of the array to interleave
+     * @return complex interleaved array alternating real and imaginary values
+     * @throws IllegalArgumentException if {@code interleavedDim} is not 0, 1, or 2
+     * @see ComplexUtils#complex2Interleaved(Complex[][][], int)
+     */
+    public static double[][][] complex2Interleaved(Complex[][][] c, int interleavedDim) {
+        if (interleavedDim > 2 || interleavedDim < 0) {
+            throw new ComplexUtils.IndexOutOfRangeException(interleavedDim);
+        }
+        if (interleavedDim == 0) {
+            final double[][][] i = new double[2 * c.length][][];
+            forEach(c.length, size(c), x -> {
+                i[2 * x] = ComplexUtils.complex2Real(c[x]);
+                i[2 * x + 1] = ComplexUtils.complex2Imaginary(c[x]);
+            });
+            return i;
+        }
+        final double[][][] i = new double[c.length][][];
+        forEach(c.length, size(c), x -> i[x] = ComplexUtils.complex2Interleaved(c[x], interleavedDim - 1));
+        return i;
+    }
+
+    /**
+     * Converts a 4D {@code Complex[][][][]} array to an interleaved complex
+     * {@code double[][][][]} array.
+     *
+     * @param c 4D {@code Complex} array
+     * @param interleavedDim Depth level of the array to interleave
+     * @return complex interleaved array alternating real and imaginary values
+     * @throws IllegalArgumentException if {@code interleavedDim} is not in the range {@code [0, 3]}
+     * @see ComplexUtils#complex2Interleaved(Complex[][][][], int)
+     */
+    public static double[][][][] complex2Interleaved(Complex[][][][] c, int interleavedDim) {
+        if (interleavedDim > 3 || interleavedDim < 0) {
+            throw new ComplexUtils.IndexOutOfRangeException(interleavedDim);
+        }
+        if (interleavedDim == 0) {
+            final double[][][][] i = new double[2 * c.length][][][];
+            forEach(c.length, size(c), x -> {
+                i[2 * x] = ComplexUtils.complex2Real(c[x]);
+                i[2 * x + 1] = ComplexUtils.complex2Imaginary(c[x]);
+            });
+            return i;
+        }
+        final double[][][][] i = new double[c.length][][][];
+        forEach(c.length, size(c), x -> i[x] = ComplexUtils.complex2Interleaved(c[x], interleavedDim - 1));
+        return i;
+    }
+
+    /**
+     * Converts a 3D interleaved complex {@code double[][][]} array to a
+     * {@code Complex[][][]} array.
+     *
+     * @param i 3D complex interleaved array
+     * @param interleavedDim Depth level of the array to interleave
+     * @return 3D {@code Complex} array
+     * @throws IllegalArgumentException if {@code interleavedDim} is not 0, 1, or 2
+     * @see ComplexUtils#interleaved2Complex(double[][][], int)
+     */
+    public static Complex[][][] interleaved2Complex(double[][][] i, int interleavedDim) {
+        if (interleavedDim > 2 || interleavedDim < 0) {
+            throw new ComplexUtils.IndexOutOfRangeException(interleavedDim);
+        }
+        if (interleavedDim == 0) {
+            final Complex[][][] c = new Complex[i.length / 2][][];
+            forEach(c.length, size(i), x -> c[x] = ComplexUtils.split2Complex(i[2 * x], i[2 * x + 1]));
+            return c;
+        }
+        final Complex[][][] c = new Complex[i.length][][];
+        forEach(c.length, size(i), x -> c[x] = ComplexUtils.interleaved2Complex(i[x], interleavedDim - 1));
+        return c;
+    }
+
+    /**
+     * Converts a 4D interleaved complex {@code double[][][][]} array to a
+     * {@code Complex[][][][]} array.
+     *
+     * @param i 4D complex interleaved array
+     * @param interleavedDim Depth level of the array to interleave
+     * @return 4D {@code Complex} array
+     * @throws IllegalArgumentException if {@code interleavedDim} is not in the range {@code [0, 3]}
+     * @see ComplexUtils#interleaved2Complex(double[][][][], int)
+     */
+    public static Complex[][][][] interleaved2Complex(double[][][][] i, int interleavedDim) {
+        if (interleavedDim > 3 || interleavedDim < 0) {
+            throw new ComplexUtils.IndexOutOfRangeException(interleavedDim);
+        }
+        if (interleavedDim == 0) {
+            final Complex[][][][] c = new Complex[i.length / 2][][][];
+            forEach(c.length, size(i), x -> c[x] = ComplexUtils.split2Complex(i[2 * x], i[2 * x + 1]));
+            return c;
+        }
+        final Complex[][][][] c = new Complex[i.length][][][];
+        forEach(c.length, size(i), x -> c[x] = ComplexUtils.interleaved2Complex(i[x], interleavedDim - 1));
+        return c;
+    }
+
+    /**
+     * Converts a 3D split complex array {@code double[][][] r, double[][][] i}
+     * to a 3D {@code Complex[][][]} array.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return 3D {@code Complex} array
+     * @see ComplexUtils#split2Complex(double[][][], double[][][])
+     */
+    public static Complex[][][] split2Complex(double[][][] real, double[][][] imag) {
+        final Complex[][][] c = new Complex[real.length][][];
+        forEach(real.length, size(real), x -> c[x] = ComplexUtils.split2Complex(real[x], imag[x]));
+        return c;
+    }
+
+    /**
+     * Converts a 4D split complex array {@code double[][][][] r, double[][][][] i}
+     * to a 4D {@code Complex[][][][]} array.
+     *
+     * @param real real component
+     * @param imag imaginary component
+     * @return 4D {@code Complex} array
+     * @see ComplexUtils#split2Complex(double[][][][], double[][][][])
+     */
+    public static Complex[][][][] split2Complex(double[][][][] real, double[][][][] imag) {
+        final Complex[][][][] c = new Complex[real.length][][][];
+        forEach(real.length, size(real), x -> c[x] = ComplexUtils.split2Complex(real[x], imag[x]));
+        return c;
+    }
+
+    /**
+     * Creates a {@code Complex[][][]} array given {@code double[][][]} arrays of
+     * r and theta.
+     *
+     * @param r array of moduli
+     * @param theta array of arguments
+     * @return 3D {@code Complex} array
+     * @throws IllegalArgumentException if any element in {@code r} is negative
+     * @see ComplexUtils#polar2Complex(double[][][], double[][][])
+     */
+    public static Complex[][][] polar2Complex(double[][][] r, double[][][] theta) {
+        final Complex[][][] c = new Complex[r.length][][];
+        forEach(r.length, size(r), x -> c[x] = ComplexUtils.polar2Complex(r[x], theta[x]));
+        return c;
+    }
+
+    /**
+     * Applies the action to each index in {@code [0, length)}. The indices are
+     * processed in parallel if the total number of elements is above the threshold.
+     *
+     * @param length Number of indices.
+     * @param size Estimated total number of elements.
+     * @param action Action to apply to each index.
+     */
+    private static void forEach(int length, long size, IntConsumer action) {
+        if (size < 2 * THRESHOLD || length < 2) {
+            for (int x = 0; x < length; x++) {
+                action.accept(x);
+            }
+        } else {
+            // Number of indices processed by a task to provide at least THRESHOLD elements
+            final long perIndex = size / length;
+            final int grain = (int) Math.max(1, THRESHOLD / Math.max(1, perIndex));
+            ForkJoinPool.commonPool().invoke(new RangeAction(0, length, grain, action));
+        }
+    }
+
+    /**
+     * Estimate the number of elements in the array.
+     *
+     * @param a Array.
+     * @return the size
+     */
+    private static long size(Object[] a) {
+        long size = 1;
+        Object o = a;
+        while (o instanceof Object[]) {
+            final Object[] array = (Object[]) o;
+            size *= array.length;
+            if (array.length == 0) {
+                return 0;
+            }
+            o = array[0];
+        }
+        if (o instanceof double[]) {
+            size *= ((double[]) o).length;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.numbers.complex.Complex;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexBuffers}.
+ */
+class ComplexBuffersTest {
+
+    /**
+     * Create interleaved data where sample {@code i} is {@code i + i(-i)}.
+     *
+     * @param size Number of samples.
+     * @return the data
+     */
+    private static double[] createData(int size) {
+        final double[] data = new double[size * 2];
+        for (int i = 0; i < size; i++) {
+            data[2 * i] = i;
+            data[2 * i + 1] = -i;
+        }
+        return data;
+    }
+
+    private static void assertSamples(List<Complex> list, int from, int to) {
+        Assertions.assertEquals(to - from, list.size());
+        for (int i = from; i < to; i++) {
+            Assertions.assertEquals(Complex.ofCartesian(i, -i), list.get(i - from));
+        }
+    }
+
+    @Test
+    void testInterleavedDouble() {
+        final int size = 1000;
+        final DoubleBuffer heap = DoubleBuffer.wrap(createData(size));
+        final DoubleBuffer direct = ByteBuffer.allocateDirect(size * 16).asDoubleBuffer();
+        direct.put(createData(size)).flip();
+        for (final DoubleBuffer buffer : new DoubleBuffer[] {heap, direct}) {
+            assertSamples(ComplexBuffers.interleaved(buffer).collect(Collectors.toList()), 0, size);
+            // Parallel stream preserves the order
+            assertSamples(ComplexBuffers.interleaved(buffer).parallel().collect(Collectors.toList()), 0, size);
+            // Position is not modified
+            Assertions.assertEquals(0, buffer.position());
+            // Stream from the current position to the limit
+            buffer.position(20).limit(60);
+            assertSamples(ComplexBuffers.interleaved(buffer).collect(Collectors.toList()), 10, 30);
+            buffer.clear();
+        }
+    }
+
+    @Test
+    void testInterleavedFloat() {
+        final int size = 500;
+        final FloatBuffer buffer = FloatBuffer.allocate(size * 2);
+        for (final double x : createData(size)) {
+            buffer.put((float) x);
+        }
+        buffer.flip();
+        assertSamples(ComplexBuffers.interleaved(buffer).collect(Collectors.toList()), 0, size);
+        assertSamples(ComplexBuffers.interleaved(buffer).parallel().collect(Collectors.toList()), 0, size);
+        Assertions.assertEquals(size, ComplexBuffers.interleaved(buffer).spliterator().getExactSizeIfKnown());
+    }
+
+    @Test
+    void testSplit() {
+        final int size = 300;
+        final double[] re = new double[size];
+        final double[] im = new double[size];
+        final float[] fre = new float[size];
+        final float[] fim = new float[size];
+        for (int i = 0; i < size; i++) {
+            re[i] = fre[i] = i;
+            im[i] = fim[i] = -i;
+        }
+        assertSamples(ComplexBuffers.split(DoubleBuffer.wrap(re), DoubleBuffer.wrap(im))
+            .parallel().collect(Collectors.toList()), 0, size);
+        assertSamples(ComplexBuffers.split(FloatBuffer.wrap(fre), FloatBuffer.wrap(fim))
+            .collect(Collectors.toList()), 0, size);
+        // Offset buffers
+        assertSamples(ComplexBuffers.split(DoubleBuffer.wrap(re, 5, 10), DoubleBuffer.wrap(im, 5, 10))
+            .collect(Collectors.toList()), 5, 15);
+        assertSamples(ComplexBuffers.split(FloatBuffer.wrap(fre, 7, 3), FloatBuffer.wrap(fim, 7, 3))
+            .parallel().collect(Collectors.toList()), 7, 10);
+    }
+
+    @Test
+    void testShortCircuit() {
+        final int size = 50;
+        final DoubleBuffer buffer = DoubleBuffer.wrap(createData(size));
+        // Consume samples one at a time until the end of the range
+        final List<Complex> list = new ArrayList<>();
+        final Iterator<Complex> it = ComplexBuffers.interleaved(buffer).iterator();
+        while (it.hasNext()) {
+            list.add(it.next());
+        }
+        assertSamples(list, 0, size);
+        Assertions.assertFalse(it.hasNext());
+        Assertions.assertEquals(Complex.ofCartesian(0, 0), ComplexBuffers.interleaved(buffer).findFirst().get());
+        buffer.position(2 * size);
+        Assertions.assertFalse(ComplexBuffers.interleaved(buffer).findFirst().isPresent());
+        buffer.clear();
+        assertSamples(ComplexBuffers.interleaved(buffer).limit(10).collect(Collectors.toList()), 0, 10);
+        // A single sample cannot be split
+        Assertions.assertNull(ComplexBuffers.interleaved(DoubleBuffer.wrap(createData(1))).spliterator().trySplit());
+    }
+
+    @Test
+    void testForEach() {
+        final int size = 100;
+        final double[] data = createData(size);
+        final List<Complex> list = new ArrayList<>();
+        ComplexBuffers.forEach(DoubleBuffer.wrap(data), (x, y) -> list.add(Complex.ofCartesian(x, y)));
+        assertSamples(list, 0, size);
+        list.clear();
+        final FloatBuffer buffer = FloatBuffer.allocate(size * 2);
+        for (final double x : data) {
+            buffer.put((float) x);
+        }
+        buffer.position(4);
+        ComplexBuffers.forEach(buffer, (x, y) -> list.add(Complex.ofCartesian(x, y)));
+        assertSamples(list, 2, size);
+        Assertions.assertEquals(4, buffer.position());
+    }
+
+    @Test
+    void testReadWrite() {
+        final int size = 1003;
+        final DoubleBuffer in = DoubleBuffer.wrap(createData(size));
+        final DoubleBuffer out = DoubleBuffer.allocate(size * 2);
+        final FloatBuffer outf = FloatBuffer.allocate(size * 2);
+        // Process in chunks reusing the same arrays
+        final double[] re = new double[64];
+        final double[] im = new double[64];
+        int total = 0;
+        int n;
+        while ((n = ComplexBuffers.read(in, re, im)) != 0) {
+            for (int i = 0; i < n; i++) {
+                Assertions.assertEquals(total + i, re[i]);
+                Assertions.assertEquals(-(total + i), im[i]);
+            }
+            ComplexBuffers.write(re, im, n, out);
+            ComplexBuffers.write(re, im, n, outf);
+            total += n;
+        }
+        Assertions.assertEquals(size, total);
+        Assertions.assertFalse(in.hasRemaining());
+        Assertions.assertArrayEquals(createData(size), out.array());
+        outf.flip();
+        Assertions.assertEquals(size, ComplexBuffers.read(outf, new double[size + 1], new double[size + 1]));
+
+        Assertions.assertThrows(BufferOverflowException.class,
+            () -> ComplexBuffers.write(re, im, 2, DoubleBuffer.allocate(3)));
+        Assertions.assertThrows(BufferOverflowException.class,
+            () -> ComplexBuffers.write(re, im, 2, FloatBuffer.allocate(3)));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ComplexBuffers.write(re, im, 65, DoubleBuffer.allocate(1000)));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ComplexBuffers.write(re, im, -1, FloatBuffer.allocate(1000)));
+    }
+
+    @Test
+    void testMemoryMapped() throws IOException {
+        final int size = 2000;
+        final Path file = Files.createTempFile("complex", ".iq");
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE, 0, size * 8L);
+                final FloatBuffer buffer = map.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+                final double[] data = createData(size);
+                ComplexBuffers.write(ComplexUtils.complex2Real(ComplexUtils.interleaved2Complex(data)),
+                    ComplexUtils.complex2Imaginary(ComplexUtils.interleaved2Complex(data)), size, buffer);
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, size * 8L);
+                final FloatBuffer buffer = map.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+                assertSamples(ComplexBuffers.interleaved(buffer).parallel().collect(Collectors.toList()), 0, size);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBuffers.interleaved(DoubleBuffer.allocate(3)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBuffers.interleaved(FloatBuffer.allocate(5)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBuffers.split(DoubleBuffer.allocate(3), DoubleBuffer.allocate(2)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBuffers.split(FloatBuffer.allocate(3), FloatBuffer.allocate(4)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBuffers.forEach(DoubleBuffer.allocate(1), (x, y) -> null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBuffers.forEach(FloatBuffer.allocate(1), (x, y) -> null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBuffers.read(DoubleBuffer.allocate(4), new double[2], new double[1]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexBuffers.read(FloatBuffer.allocate(4), new double[1], new double[2]));
+    }
+}
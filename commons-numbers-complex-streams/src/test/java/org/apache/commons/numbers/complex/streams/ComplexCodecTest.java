@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexVector;
+import org.apache.commons.numbers.complex.streams.ComplexCodec.Layout;
+import org.apache.commons.numbers.complex.streams.MappedComplexFile.Format;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexCodec}.
+ */
+class ComplexCodecTest {
+    /** Number of values: larger than the transfer buffer size. */
+    private static final int SIZE = 1500;
+
+    private static double[] random(UniformRandomProvider rng, int size) {
+        final double[] a = new double[size];
+        for (int i = 0; i < size; i++) {
+            a[i] = rng.nextDouble() * 200 - 100;
+        }
+        return a;
+    }
+
+    /**
+     * Gets the value expected after encoding with the format.
+     */
+    private static double[] expected(double[] values, Format format) {
+        return format == Format.FLOAT64 ? values :
+            Arrays.stream(values).map(x -> (float) x).toArray();
+    }
+
+    @Test
+    void testEncodeDecodeByteBuffer() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[] re = random(rng, SIZE);
+        final double[] im = random(rng, SIZE);
+        for (final Layout layout : Layout.values()) {
+            for (final Format format : Format.values()) {
+                for (final ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+                    for (final boolean direct : new boolean[] {true, false}) {
+                        final int size = (int) ComplexCodec.encodedSize(SIZE, format);
+                        Assertions.assertEquals(ComplexCodec.HEADER_BYTES + SIZE * format.getSampleBytes(), size);
+                        // Offset the encoding in the buffer
+                        final ByteBuffer buffer = (direct ?
+                            ByteBuffer.allocateDirect(size + 10) :
+                            ByteBuffer.allocate(size + 10)).order(order);
+                        buffer.position(3);
+                        Assertions.assertSame(buffer, ComplexCodec.encode(re, im, layout, format, buffer));
+                        Assertions.assertEquals(3 + size, buffer.position());
+                        buffer.flip().position(3);
+
+                        final ComplexCodec.Header header = ComplexCodec.readHeader(buffer.duplicate());
+                        Assertions.assertEquals(SIZE, header.getLength());
+                        Assertions.assertSame(layout, header.getLayout());
+                        Assertions.assertSame(format, header.getFormat());
+                        Assertions.assertSame(order, header.getOrder());
+                        Assertions.assertEquals(size - ComplexCodec.HEADER_BYTES, header.getDataBytes());
+
+                        final double[] x = expected(re, format);
+                        final double[] y = expected(im, format);
+                        final ComplexVector v = ComplexCodec.decode(buffer.duplicate());
+                        Assertions.assertArrayEquals(x, v.getReal());
+                        Assertions.assertArrayEquals(y, v.getImaginary());
+
+                        final ComplexCodec.View view = ComplexCodec.view(buffer);
+                        Assertions.assertFalse(buffer.hasRemaining());
+                        Assertions.assertEquals(SIZE, view.size());
+                        Assertions.assertEquals(order, view.getHeader().getOrder());
+                        for (final int i : new int[] {0, 1, SIZE - 1}) {
+                            Assertions.assertEquals(x[i], view.getReal(i));
+                            Assertions.assertEquals(y[i], view.getImaginary(i));
+                            Assertions.assertEquals(Complex.ofCartesian(x[i], y[i]), view.get(i));
+                        }
+                        Assertions.assertEquals(Arrays.asList(v.toArray()),
+                                                view.stream().collect(Collectors.toList()));
+                        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> view.get(SIZE));
+                        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> view.getReal(-1));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testWriteRead() throws IOException {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[] re = random(rng, SIZE);
+        final double[] im = random(rng, SIZE);
+        final Complex[] values = ComplexUtils.split2Complex(re, im);
+        for (final Layout layout : Layout.values()) {
+            for (final Format format : Format.values()) {
+                final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                try (DataOutputStream out = new DataOutputStream(bos)) {
+                    ComplexCodec.write(values, layout, format, out);
+                    // Trailing data must not be consumed by a read
+                    out.writeInt(42);
+                }
+                final byte[] bytes = bos.toByteArray();
+                Assertions.assertEquals(ComplexCodec.encodedSize(SIZE, format) + 4, bytes.length);
+                // Same as the encoding into a big-endian buffer
+                final ByteBuffer buffer = ByteBuffer.allocate(bytes.length - 4);
+                ComplexCodec.encode(values, layout, format, buffer);
+                Assertions.assertArrayEquals(buffer.array(), Arrays.copyOf(bytes, bytes.length - 4));
+
+                try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+                    final ComplexVector v = ComplexCodec.read(in);
+                    Assertions.assertArrayEquals(expected(re, format), v.getReal());
+                    Assertions.assertArrayEquals(expected(im, format), v.getImaginary());
+                    Assertions.assertEquals(42, in.readInt());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEmpty() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(ComplexCodec.HEADER_BYTES);
+        ComplexCodec.encode(new Complex[0], Layout.SPLIT, Format.FLOAT32, buffer);
+        buffer.flip();
+        Assertions.assertEquals(0, ComplexCodec.decode(buffer).size());
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ComplexCodec.write(new double[0], new double[0], Layout.INTERLEAVED, Format.FLOAT64,
+                           new DataOutputStream(bos));
+        Assertions.assertEquals(0, ComplexCodec.read(
+            new DataInputStream(new ByteArrayInputStream(bos.toByteArray()))).size());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        final double[] re = new double[3];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexCodec.encodedSize(-1, Format.FLOAT32));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexCodec.encode(re, new double[2], Layout.SPLIT, Format.FLOAT32, ByteBuffer.allocate(100)));
+        final ByteBuffer small = ByteBuffer.allocate(ComplexCodec.HEADER_BYTES + 3 * 8);
+        Assertions.assertThrows(BufferOverflowException.class,
+            () -> ComplexCodec.encode(re, re, Layout.SPLIT, Format.FLOAT64, small));
+        // Nothing is written on failure
+        Assertions.assertEquals(0, small.position());
+
+        final ByteBuffer buffer = ByteBuffer.allocate(100);
+        ComplexCodec.encode(re, re, Layout.SPLIT, Format.FLOAT64, buffer);
+        buffer.flip();
+        final byte[] bytes = new byte[buffer.limit()];
+        buffer.get(bytes);
+        // Insufficient data
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexCodec.decode(ByteBuffer.wrap(bytes, 0, bytes.length - 1)));
+        // Corrupt header fields
+        for (final int index : new int[] {0, 4, 5, 6, 7, 8}) {
+            final byte[] b = bytes.clone();
+            b[index] = (byte) 0x80;
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ComplexCodec.decode(ByteBuffer.wrap(b)), () -> "index " + index);
+        }
+    }
+}
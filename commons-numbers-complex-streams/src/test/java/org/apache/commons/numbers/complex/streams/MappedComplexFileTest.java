@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.streams.MappedComplexFile.Format;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MappedComplexFile}.
+ */
+class MappedComplexFileTest {
+
+    /**
+     * Create interleaved data where sample {@code i} is {@code i + i(0.5 - i)}.
+     * The values are exact as {@code float}.
+     *
+     * @param size Number of samples.
+     * @return the data
+     */
+    private static double[] createData(int size) {
+        final double[] data = new double[size * 2];
+        for (int i = 0; i < size; i++) {
+            data[2 * i] = i;
+            data[2 * i + 1] = 0.5 - i;
+        }
+        return data;
+    }
+
+    @Test
+    void testWriteReadInterleaved() throws IOException {
+        for (final Format format : Format.values()) {
+            for (final ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+                assertWriteReadInterleaved(format, order);
+            }
+        }
+    }
+
+    private static void assertWriteReadInterleaved(Format format, ByteOrder order) throws IOException {
+        final int size = 1234;
+        final double[] data = createData(size);
+        final Path path = Files.createTempFile("complex", ".iq");
+        try {
+            try (MappedComplexFile file = MappedComplexFile.create(path, format, order, size)) {
+                Assertions.assertEquals(size, file.size());
+                Assertions.assertSame(format, file.getFormat());
+                Assertions.assertSame(order, file.getOrder());
+                // Write in two windows
+                file.write(0, Arrays.copyOf(data, 200));
+                file.write(100, Arrays.copyOfRange(data, 200, data.length));
+            }
+            // Check the raw file content
+            final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path)).order(order);
+            Assertions.assertEquals((long) size * format.getSampleBytes(), bytes.capacity());
+            for (final double x : data) {
+                Assertions.assertEquals(x, format == Format.FLOAT32 ? bytes.getFloat() : bytes.getDouble());
+            }
+
+            try (MappedComplexFile file = MappedComplexFile.open(path, format, order)) {
+                Assertions.assertEquals(size, file.size());
+                final double[] interleaved = new double[data.length + 10];
+                Assertions.assertEquals(size, file.read(0, interleaved));
+                Assertions.assertArrayEquals(data, Arrays.copyOf(interleaved, data.length));
+                // Window
+                final double[] window = new double[20];
+                Assertions.assertEquals(10, file.read(50, window));
+                Assertions.assertArrayEquals(Arrays.copyOfRange(data, 100, 120), window);
+                // End of file
+                Assertions.assertEquals(3, file.read(size - 3, window));
+                Assertions.assertEquals(0, file.read(size, window));
+                Assertions.assertThrows(ReadOnlyBufferException.class, () -> file.write(0, window));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void testWriteReadSplit() throws IOException {
+        final int size = 517;
+        final double[] data = createData(size);
+        final double[] real = ComplexUtils.complex2Real(ComplexUtils.interleaved2Complex(data));
+        final double[] imaginary = ComplexUtils.complex2Imaginary(ComplexUtils.interleaved2Complex(data));
+        final Path path = Files.createTempFile("complex", ".iq");
+        try {
+            for (final Format format : Format.values()) {
+                try (MappedComplexFile file = MappedComplexFile.create(path, format, ByteOrder.nativeOrder(), size)) {
+                    file.write(0, real, imaginary, size);
+                    final double[] re = new double[100];
+                    final double[] im = new double[100];
+                    long from = 0;
+                    int n;
+                    while ((n = file.read(from, re, im)) != 0) {
+                        for (int i = 0; i < n; i++) {
+                            Assertions.assertEquals(real[(int) from + i], re[i]);
+                            Assertions.assertEquals(imaginary[(int) from + i], im[i]);
+                        }
+                        from += n;
+                    }
+                    Assertions.assertEquals(size, from);
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void testStream() throws IOException {
+        final int size = 3000;
+        final double[] data = createData(size);
+        final List<Complex> expected = Arrays.asList(ComplexUtils.interleaved2Complex(data));
+        final Path path = Files.createTempFile("complex", ".iq");
+        try {
+            for (final Format format : Format.values()) {
+                try (MappedComplexFile file = MappedComplexFile.create(path, format, ByteOrder.BIG_ENDIAN, size)) {
+                    file.write(0, data);
+                }
+                try (MappedComplexFile file = MappedComplexFile.open(path, format, ByteOrder.BIG_ENDIAN)) {
+                    Assertions.assertEquals(expected, file.stream().collect(Collectors.toList()));
+                    Assertions.assertEquals(expected.subList(1000, 2500),
+                        file.stream(1000, 1500).parallel().collect(Collectors.toList()));
+                    final List<Complex> list = new ArrayList<>();
+                    file.forEach(10, 5, (x, y) -> list.add(Complex.ofCartesian(x, y)));
+                    Assertions.assertEquals(expected.subList(10, 15), list);
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        final Path path = Files.createTempFile("complex", ".iq");
+        try {
+            try (MappedComplexFile file = MappedComplexFile.create(path, Format.FLOAT64, ByteOrder.BIG_ENDIAN, 0)) {
+                Assertions.assertEquals(0, file.size());
+                Assertions.assertEquals(0, file.stream().count());
+                Assertions.assertEquals(0, file.read(0, new double[2]));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void testInvalidArguments() throws IOException {
+        final Path path = Files.createTempFile("complex", ".iq");
+        try {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> MappedComplexFile.create(path, Format.FLOAT32, ByteOrder.BIG_ENDIAN, -1));
+            try (MappedComplexFile file = MappedComplexFile.create(path, Format.FLOAT32, ByteOrder.BIG_ENDIAN, 10)) {
+                final double[] a = new double[4];
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> file.stream(-1, 2));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> file.stream(9, 2));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> file.forEach(0, 11, (x, y) -> null));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> file.read(11, a));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> file.read(-1, a, a));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> file.write(9, a));
+                Assertions.assertThrows(IndexOutOfBoundsException.class, () -> file.write(0, a, a, 5));
+                Assertions.assertThrows(IllegalArgumentException.class, () -> file.read(0, new double[3]));
+                Assertions.assertThrows(IllegalArgumentException.class, () -> file.write(0, new double[3]));
+                Assertions.assertThrows(IllegalArgumentException.class, () -> file.read(0, a, new double[3]));
+            }
+            // Partial sample
+            Files.write(path, new byte[12]);
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> MappedComplexFile.open(path, Format.FLOAT64, ByteOrder.BIG_ENDIAN));
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
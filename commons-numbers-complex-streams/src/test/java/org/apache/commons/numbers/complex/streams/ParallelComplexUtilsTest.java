@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex.streams;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ParallelComplexUtils}.
+ */
+class ParallelComplexUtilsTest {
+    /** Dimensions of arrays above and below the parallel threshold. */
+    private static final int[][] DIMENSIONS = {
+        {3, 4, 5, 2},
+        {64, 16, 8, 4},
+        {2, 128, 64, 3},
+    };
+
+    private static double[][][] create3D(UniformRandomProvider rng, int w, int h, int d) {
+        final double[][][] a = new double[w][h][d];
+        for (final double[][] b : a) {
+            for (final double[] c : b) {
+                for (int z = 0; z < d; z++) {
+                    c[z] = rng.nextDouble() * 10 - 5;
+                }
+            }
+        }
+        return a;
+    }
+
+    private static double[][][][] create4D(UniformRandomProvider rng, int[] dim) {
+        final double[][][][] a = new double[dim[0]][][][];
+        for (int x = 0; x < a.length; x++) {
+            a[x] = create3D(rng, dim[1], dim[2], dim[3]);
+        }
+        return a;
+    }
+
+    @Test
+    void testConversions3D() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final int[] dim : DIMENSIONS) {
+            final double[][][] a = create3D(rng, dim[0], dim[1] * dim[3], dim[2]);
+            final double[][][] b = create3D(rng, dim[0], dim[1] * dim[3], dim[2]);
+            Assertions.assertArrayEquals(ComplexUtils.real2Complex(a), ParallelComplexUtils.real2Complex(a));
+            Assertions.assertArrayEquals(ComplexUtils.imaginary2Complex(a), ParallelComplexUtils.imaginary2Complex(a));
+            Assertions.assertArrayEquals(ComplexUtils.split2Complex(a, b), ParallelComplexUtils.split2Complex(a, b));
+            final Complex[][][] c = ComplexUtils.split2Complex(a, b);
+            Assertions.assertArrayEquals(ComplexUtils.complex2Real(c), ParallelComplexUtils.complex2Real(c));
+            Assertions.assertArrayEquals(ComplexUtils.complex2Imaginary(c), ParallelComplexUtils.complex2Imaginary(c));
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertArrayEquals(ComplexUtils.complex2Interleaved(c, i),
+                                             ParallelComplexUtils.complex2Interleaved(c, i));
+                Assertions.assertArrayEquals(ComplexUtils.interleaved2Complex(a, i),
+                                             ParallelComplexUtils.interleaved2Complex(a, i));
+            }
+            final double[][][] r = ComplexUtils.complex2Real(c);
+            for (final double[][] rr : r) {
+                for (final double[] rrr : rr) {
+                    for (int z = 0; z < rrr.length; z++) {
+                        rrr[z] = Math.abs(rrr[z]);
+                    }
+                }
+            }
+            Assertions.assertArrayEquals(ComplexUtils.polar2Complex(r, b), ParallelComplexUtils.polar2Complex(r, b));
+        }
+    }
+
+    @Test
+    void testConversions4D() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final int[] dim : DIMENSIONS) {
+            final double[][][][] a = create4D(rng, dim);
+            final double[][][][] b = create4D(rng, dim);
+            Assertions.assertArrayEquals(ComplexUtils.real2Complex(a), ParallelComplexUtils.real2Complex(a));
+            Assertions.assertArrayEquals(ComplexUtils.imaginary2Complex(a), ParallelComplexUtils.imaginary2Complex(a));
+            Assertions.assertArrayEquals(ComplexUtils.split2Complex(a, b), ParallelComplexUtils.split2Complex(a, b));
+            final Complex[][][][] c = ComplexUtils.split2Complex(a, b);
+            Assertions.assertArrayEquals(ComplexUtils.complex2Real(c), ParallelComplexUtils.complex2Real(c));
+            Assertions.assertArrayEquals(ComplexUtils.complex2Imaginary(c), ParallelComplexUtils.complex2Imaginary(c));
+            for (int i = 0; i < 4; i++) {
+                Assertions.assertArrayEquals(ComplexUtils.complex2Interleaved(c, i),
+                                             ParallelComplexUtils.complex2Interleaved(c, i));
+                Assertions.assertArrayEquals(ComplexUtils.interleaved2Complex(a, i),
+                                             ParallelComplexUtils.interleaved2Complex(a, i));
+            }
+        }
+    }
+
+    @Test
+    void testConversions2D() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final int[] dim : DIMENSIONS) {
+            final double[][] a = create3D(rng, 1, dim[0] * dim[1], dim[2] * dim[3])[0];
+            Assertions.assertArrayEquals(ComplexUtils.real2Complex(a), ParallelComplexUtils.real2Complex(a));
+        }
+        Assertions.assertEquals(0, ParallelComplexUtils.real2Complex(new double[0][]).length);
+        Assertions.assertEquals(0, ParallelComplexUtils.real2Complex(new double[0][][][]).length);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        final Complex[][][] c3 = new Complex[1][1][1];
+        final Complex[][][][] c4 = new Complex[1][1][1][1];
+        final double[][][] d3 = new double[2][2][2];
+        final double[][][][] d4 = new double[2][2][2][2];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelComplexUtils.complex2Interleaved(c3, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelComplexUtils.complex2Interleaved(c4, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelComplexUtils.interleaved2Complex(d3, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelComplexUtils.interleaved2Complex(d4, 4));
+        // Negative modulus in a large array converted in parallel
+        final double[][][] r = new double[64][64][64];
+        r[50][3][7] = -1;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ParallelComplexUtils.polar2Complex(r, r));
+    }
+}
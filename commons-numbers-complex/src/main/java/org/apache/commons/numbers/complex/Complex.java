@@ -201,6 +201,9 @@ public final class Complex implements Serializable  {
     private static final double TWO_POW_600 = 0x1.0p+600;
     /** 2^-600. */
     private static final double TWO_POW_NEG_600 = 0x1.0p-600;
+    /** Limit on the power of 2 used to scale the result of {@link #pow(int)}.
+     * Any larger scale results in overflow or underflow of a normalized number. */
+    private static final long SCALE_LIMIT = 4096;
 
     /** Serializable version identifier. */
     private static final long serialVersionUID = 20180201L;
@@ -230,22 +233,6 @@ public final class Complex implements Serializable  {
     /** The real part. */
     private final double real;
 
-    /**
-     * Define a constructor for a Complex.
-     * This is used in functions that implement trigonomic identities.
-     */
-    @FunctionalInterface
-    private interface ComplexConstructor {
-        /**
-         * Create a complex number given the real and imaginary parts.
-         *
-         * @param real Real part.
-         * @param imaginary Imaginary part.
-         * @return {@code Complex} object.
-         */
-        Complex create(double real, double imaginary);
-    }
-
     /**
      * Private default constructor.
      *
@@ -323,8 +310,12 @@ public final class Complex implements Serializable  {
      *
      * \[ \text{cis}(x) = e^{ix} = \cos(x) + i \sin(x) \]
      *
+     * <p>Repeated use of the angles \( 2 \pi k / n \) should use the cached table
+     * of the {@link RootsOfUnity roots of unity} of order \( n \).
+     *
      * @param x {@code double} to build the cis number.
      * @return {@code Complex} cis number.
+     * @see RootsOfUnity
      * @see <a href="http://mathworld.wolfram.com/Cis.html">Cis</a>
      */
     public static Complex ofCis(double x) {
@@ -533,7 +524,7 @@ public final class Complex implements Serializable  {
      * @param imaginary Imaginary part.
      * @return The absolute value.
      */
-    private static double abs(double real, double imaginary) {
+    static double abs(double real, double imaginary) {
         // Specialised implementation of hypot.
         // See NUMBERS-143
         return hypot(real, imaginary);
@@ -590,7 +581,23 @@ public final class Complex implements Serializable  {
      * @see <a href="http://mathworld.wolfram.com/AbsoluteSquare.html">Absolute square</a>
      */
     public double norm() {
-        if (isInfinite()) {
+        return norm(real, imaginary);
+    }
+
+    /**
+     * Returns the squared norm value of the complex number.
+     *
+     * <p>\[ \text{norm}(x + i y) = x^2 + y^2 \]
+     *
+     * <p>If either component is infinite then the result is positive infinity.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return The square norm value.
+     * @see #norm()
+     */
+    static double norm(double real, double imaginary) {
+        if (Double.isInfinite(real) || Double.isInfinite(imaginary)) {
             return Double.POSITIVE_INFINITY;
         }
         return real * real + imaginary * imaginary;
@@ -864,7 +871,7 @@ public final class Complex implements Serializable  {
      * @see <a href="http://mathworld.wolfram.com/ComplexMultiplication.html">Complex Muliplication</a>
      */
     public Complex multiply(Complex factor) {
-        return multiply(real, imaginary, factor.real, factor.imaginary);
+        return multiply(real, imaginary, factor.real, factor.imaginary, Complex::ofCartesian);
     }
 
     /**
@@ -878,9 +885,12 @@ public final class Complex implements Serializable  {
      * @param im1 Imaginary component of first number.
      * @param re2 Real component of second number.
      * @param im2 Imaginary component of second number.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
      * @return (a + b i)(c + d i).
      */
-    private static Complex multiply(double re1, double im1, double re2, double im2) {
+    static <R> R multiply(double re1, double im1, double re2, double im2,
+                          ComplexSink<R> constructor) {
         double a = re1;
         double b = im1;
         double c = re2;
@@ -943,7 +953,7 @@ public final class Complex implements Serializable  {
                 y = Double.POSITIVE_INFINITY * (a * d + b * c);
             }
         }
-        return new Complex(x, y);
+        return constructor.apply(x, y);
     }
 
     /**
@@ -1059,7 +1069,7 @@ public final class Complex implements Serializable  {
      * @see <a href="http://mathworld.wolfram.com/ComplexDivision.html">Complex Division</a>
      */
     public Complex divide(Complex divisor) {
-        return divide(real, imaginary, divisor.real, divisor.imaginary);
+        return divide(real, imaginary, divisor.real, divisor.imaginary, Complex::ofCartesian);
     }
 
     /**
@@ -1083,11 +1093,14 @@ public final class Complex implements Serializable  {
      * @param im1 Imaginary component of first number.
      * @param re2 Real component of second number.
      * @param im2 Imaginary component of second number.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
      * @return (a + i b) / (c + i d).
      * @see <a href="http://mathworld.wolfram.com/ComplexDivision.html">Complex Division</a>
      * @see #divide(double)
      */
-    private static Complex divide(double re1, double im1, double re2, double im2) {
+    static <R> R divide(double re1, double im1, double re2, double im2,
+                        ComplexSink<R> constructor) {
         double a = re1;
         double b = im1;
         double c = re2;
@@ -1142,7 +1155,7 @@ public final class Complex implements Serializable  {
                 y = 0.0 * (b * c - a * d);
             }
         }
-        return new Complex(x, y);
+        return constructor.apply(x, y);
     }
 
     /**
@@ -1239,6 +1252,19 @@ public final class Complex implements Serializable  {
      * @see <a href="http://functions.wolfram.com/ElementaryFunctions/Exp/">Exp</a>
      */
     public Complex exp() {
+        return exp(real, imaginary, Complex::ofCartesian);
+    }
+
+    /**
+     * Returns the exponential function of the complex number {@code exp(x + i y)}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return The exponential of the complex number.
+     */
+    static <R> R exp(double real, double imaginary, ComplexSink<R> constructor) {
         if (Double.isInfinite(real)) {
             // Set the scale factor applied to cis(y)
             double zeroOrInf;
@@ -1247,35 +1273,37 @@ public final class Complex implements Serializable  {
                     // (−∞ + i∞) or (−∞ + iNaN) returns (±0 ± i0) (where the signs of the
                     // real and imaginary parts of the result are unspecified).
                     // Here we preserve the conjugate equality.
-                    return new Complex(0, Math.copySign(0, imaginary));
+                    return constructor.apply(0, Math.copySign(0, imaginary));
                 }
                 // (−∞ + iy) returns +0 cis(y), for finite y
                 zeroOrInf = 0;
             } else {
                 // (+∞ + i0) returns +∞ + i0.
                 if (imaginary == 0) {
-                    return this;
+                    return constructor.apply(real, imaginary);
                 }
                 // (+∞ + i∞) or (+∞ + iNaN) returns (±∞ + iNaN) and raises the invalid
                 // floating-point exception (where the sign of the real part of the
                 // result is unspecified).
                 if (!Double.isFinite(imaginary)) {
-                    return new Complex(real, Double.NaN);
+                    return constructor.apply(real, Double.NaN);
                 }
                 // (+∞ + iy) returns (+∞ cis(y)), for finite nonzero y.
                 zeroOrInf = real;
             }
-            return new Complex(zeroOrInf * Math.cos(imaginary),
-                               zeroOrInf * Math.sin(imaginary));
+            return constructor.apply(zeroOrInf * Math.cos(imaginary),
+                                     zeroOrInf * Math.sin(imaginary));
         } else if (Double.isNaN(real)) {
             // (NaN + i0) returns (NaN + i0)
             // (NaN + iy) returns (NaN + iNaN) and optionally raises the invalid floating-point exception
             // (NaN + iNaN) returns (NaN + iNaN)
-            return imaginary == 0 ? this : NAN;
+            return imaginary == 0 ?
+                constructor.apply(real, imaginary) :
+                constructor.apply(Double.NaN, Double.NaN);
         } else if (!Double.isFinite(imaginary)) {
             // (x + i∞) or (x + iNaN) returns (NaN + iNaN) and raises the invalid
             // floating-point exception, for finite x.
-            return NAN;
+            return constructor.apply(Double.NaN, Double.NaN);
         }
         // real and imaginary are finite.
         // Compute e^a * (cos(b) + i sin(b)).
@@ -1284,10 +1312,10 @@ public final class Complex implements Serializable  {
         // (±0 + i0) returns (1 + i0)
         final double exp = Math.exp(real);
         if (imaginary == 0) {
-            return new Complex(exp, imaginary);
+            return constructor.apply(exp, imaginary);
         }
-        return new Complex(exp * Math.cos(imaginary),
-                           exp * Math.sin(imaginary));
+        return constructor.apply(exp * Math.cos(imaginary),
+                                 exp * Math.sin(imaginary));
     }
 
     /**
@@ -1336,7 +1364,21 @@ public final class Complex implements Serializable  {
      * @see <a href="http://functions.wolfram.com/ElementaryFunctions/Log/">Log</a>
      */
     public Complex log() {
-        return log(Math::log, HALF, LN_2, Complex::ofCartesian);
+        return log(real, imaginary, Complex::ofCartesian);
+    }
+
+    /**
+     * Returns the natural logarithm of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor for the returned complex.
+     * @param <R> Type of the result.
+     * @return The natural logarithm of the complex number.
+     * @see #log()
+     */
+    static <R> R log(double real, double imaginary, ComplexSink<R> constructor) {
+        return log(real, imaginary, Math::log, HALF, LN_2, constructor);
     }
 
     /**
@@ -1361,11 +1403,25 @@ public final class Complex implements Serializable  {
      * @see #arg()
      */
     public Complex log10() {
-        return log(Math::log10, LOG_10E_O_2, LOG10_2, Complex::ofCartesian);
+        return log10(real, imaginary, Complex::ofCartesian);
+    }
+
+    /**
+     * Returns the base 10 common logarithm of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor for the returned complex.
+     * @param <R> Type of the result.
+     * @return The base 10 logarithm of the complex number.
+     * @see #log10()
+     */
+    static <R> R log10(double real, double imaginary, ComplexSink<R> constructor) {
+        return log(real, imaginary, Math::log10, LOG_10E_O_2, LOG10_2, constructor);
     }
 
     /**
-     * Returns the logarithm of this complex number using the provided function.
+     * Returns the logarithm of the complex number using the provided function.
      * Implements the formula:
      *
      * <pre>
@@ -1375,26 +1431,54 @@ public final class Complex implements Serializable  {
      * provided log function otherwise scaling using powers of 2 in the case of overflow
      * will be incorrect. This is provided as an internal optimisation.
      *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
      * @param log Log function.
      * @param logOfeOver2 The log function applied to e, then divided by 2.
      * @param logOf2 The log function applied to 2.
      * @param constructor Constructor for the returned complex.
-     * @return The logarithm of this complex number.
+     * @param <R> Type of the result.
+     * @return The logarithm of the complex number.
      * @see #abs()
      * @see #arg()
      */
-    private Complex log(DoubleUnaryOperator log, double logOfeOver2, double logOf2, ComplexConstructor constructor) {
+    private static <R> R log(double real, double imaginary,
+                             DoubleUnaryOperator log, double logOfeOver2, double logOf2,
+                             ComplexSink<R> constructor) {
+        // All ISO C99 edge cases for the imaginary are satisfied by the Math library.
+        return constructor.apply(logAbs(real, imaginary, log, logOfeOver2, logOf2),
+                                 Math.atan2(imaginary, real));
+    }
+
+    /**
+     * Returns the real part of the logarithm of the complex number using the provided
+     * function. Implements the formula:
+     *
+     * <pre>
+     *   re(log(x + i y)) = log(|x + i y|)</pre>
+     *
+     * <p>The imaginary part of the logarithm is {@code atan2(y, x)} for all values
+     * including the ISO C99 special cases.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param log Log function.
+     * @param logOfeOver2 The log function applied to e, then divided by 2.
+     * @param logOf2 The log function applied to 2.
+     * @return The real part of the logarithm of the complex number.
+     * @see #log(double, double, DoubleUnaryOperator, double, double, ComplexSink)
+     */
+    private static double logAbs(double real, double imaginary,
+                                 DoubleUnaryOperator log, double logOfeOver2, double logOf2) {
         // Handle NaN
         if (Double.isNaN(real) || Double.isNaN(imaginary)) {
             // Return NaN unless infinite
-            if (isInfinite()) {
-                return constructor.create(Double.POSITIVE_INFINITY, Double.NaN);
+            if (Double.isInfinite(real) || Double.isInfinite(imaginary)) {
+                return Double.POSITIVE_INFINITY;
             }
-            // No-use of the input constructor
-            return NAN;
+            return Double.NaN;
         }
 
-        // Returns the real part:
         // log(sqrt(x^2 + y^2))
         // log(x^2 + y^2) / 2
 
@@ -1411,8 +1495,7 @@ public final class Complex implements Serializable  {
 
         if (x == 0) {
             // Handle zero: raises the ‘‘divide-by-zero’’ floating-point exception.
-            return constructor.create(Double.NEGATIVE_INFINITY,
-                                      negative(real) ? Math.copySign(Math.PI, imaginary) : imaginary);
+            return Double.NEGATIVE_INFINITY;
         }
 
         double re;
@@ -1437,7 +1520,7 @@ public final class Complex implements Serializable  {
                 // Potential overflow.
                 if (isPosInfinite(x)) {
                     // Handle infinity
-                    return constructor.create(x, arg());
+                    return x;
                 }
                 // Scale down.
                 x /= 2;
@@ -1448,7 +1531,7 @@ public final class Complex implements Serializable  {
                 // Potential underflow.
                 if (y == 0) {
                     // Handle real only number
-                    return constructor.create(log.applyAsDouble(x), arg());
+                    return log.applyAsDouble(x);
                 }
                 // Scale up sub-normal numbers to make them normal by scaling by 2^54,
                 // i.e. more than the mantissa digits.
@@ -1460,8 +1543,7 @@ public final class Complex implements Serializable  {
             re += log.applyAsDouble(abs(x, y));
         }
 
-        // All ISO C99 edge cases for the imaginary are satisfied by the Math library.
-        return constructor.create(re, arg());
+        return re;
     }
 
     /**
@@ -1483,18 +1565,46 @@ public final class Complex implements Serializable  {
      * @see <a href="http://functions.wolfram.com/ElementaryFunctions/Power/">Power</a>
      */
     public Complex pow(Complex x) {
+        return pow(real, imaginary, x.real, x.imaginary, Complex::ofCartesian);
+    }
+
+    /**
+     * Returns the complex power of the complex number raised to the power of the
+     * complex number {@code x}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param xReal Real part of the exponent.
+     * @param xImaginary Imaginary part of the exponent.
+     * @param constructor Constructor for the returned complex.
+     * @param <R> Type of the result.
+     * @return The complex number raised to the power of {@code x}.
+     * @see #pow(Complex)
+     */
+    static <R> R pow(double real, double imaginary, double xReal, double xImaginary,
+                     ComplexSink<R> constructor) {
         if (real == 0 &&
             imaginary == 0) {
             // This value is zero. Test the other.
-            if (x.real > 0 &&
-                x.imaginary == 0) {
+            if (xReal > 0 &&
+                xImaginary == 0) {
                 // 0 raised to positive number is 0
-                return ZERO;
+                return constructor.apply(0, 0);
             }
             // 0 raised to anything else is NaN
-            return NAN;
+            return constructor.apply(Double.NaN, Double.NaN);
+        }
+        // exp(log(z) * x) without intermediate complex objects.
+        final double a = logAbs(real, imaginary, Math::log, HALF, LN_2);
+        final double b = Math.atan2(imaginary, real);
+        // Same as the multiply function
+        final double re = a * xReal - b * xImaginary;
+        final double im = a * xImaginary + b * xReal;
+        if (Double.isNaN(re) && Double.isNaN(im)) {
+            // Recover infinities
+            return multiply(a, b, xReal, xImaginary, (x, y) -> exp(x, y, constructor));
         }
-        return log().multiply(x).exp();
+        return exp(re, im, constructor);
     }
 
     /**
@@ -1516,17 +1626,149 @@ public final class Complex implements Serializable  {
      * @see <a href="http://functions.wolfram.com/ElementaryFunctions/Power/">Power</a>
      */
     public Complex pow(double x) {
+        return pow(real, imaginary, x, Complex::ofCartesian);
+    }
+
+    /**
+     * Returns the complex power of the complex number raised to the power of {@code x},
+     * with {@code x} interpreted as a real number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param x The exponent.
+     * @param constructor Constructor for the returned complex.
+     * @param <R> Type of the result.
+     * @return The complex number raised to the power of {@code x}.
+     * @see #pow(double)
+     */
+    static <R> R pow(double real, double imaginary, double x, ComplexSink<R> constructor) {
         if (real == 0 &&
             imaginary == 0) {
             // This value is zero. Test the other.
             if (x > 0) {
                 // 0 raised to positive number is 0
-                return ZERO;
+                return constructor.apply(0, 0);
             }
             // 0 raised to anything else is NaN
-            return NAN;
+            return constructor.apply(Double.NaN, Double.NaN);
         }
-        return log().multiply(x).exp();
+        // exp(log(z) * x) without intermediate complex objects.
+        return exp(logAbs(real, imaginary, Math::log, HALF, LN_2) * x,
+                   Math.atan2(imaginary, real) * x, constructor);
+    }
+
+    /**
+     * Returns the complex power of this complex number raised to the integer power {@code n}.
+     *
+     * <p>The power is computed by binary exponentiation (repeated squaring) using at most
+     * \( 2 \log_2 |n| \) complex multiplications. Intermediate results are rescaled by powers
+     * of 2 so that the computation does not overflow or underflow if the final result is
+     * representable. A negative power is computed as the reciprocal of the positive power.
+     *
+     * <p>This is not computed as \( e^{n \ln(z)} \) as in {@link #pow(double)}. The relative
+     * error of the result, measured using the norm, is bounded to first order by
+     * \( (|n| - 1) \sqrt{5} \epsilon \) where \( \epsilon \) is the machine epsilon; it does not
+     * depend on the magnitude or argument of this number. The error of the exponential route
+     * includes the error of the logarithm multiplied by {@code n}, which is proportional to
+     * \( |n| (|\ln |z|| + |\arg(z)|) \epsilon \), and is typically larger. Products that are
+     * exactly representable are computed exactly. For example the square of \( i \) is
+     * \( -1 + 0i \); using {@link #pow(double)} the imaginary part is {@code 1.2246467991473532e-16}.
+     * The error of each part of the result may be larger than the relative error in the norm
+     * if the part is small compared to the absolute value.
+     *
+     * <p>If this complex number is zero then this method returns zero if {@code n} is positive;
+     * otherwise it returns NaN + iNaN. If either part of this complex number is infinite or NaN
+     * then the result is computed using {@link #pow(double)}. The sign of a zero part of the
+     * result may differ from {@link #pow(double)}.
+     *
+     * @param  n The exponent to which this complex number is to be raised.
+     * @return This complex number raised to the power of {@code n}.
+     * @see #pow(double)
+     * @see #multiply(Complex)
+     */
+    public Complex pow(int n) {
+        return pow(real, imaginary, n, Complex::ofCartesian);
+    }
+
+    /**
+     * Returns the complex power of the complex number raised to the integer power {@code n}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param n The exponent.
+     * @param constructor Constructor for the returned complex.
+     * @param <R> Type of the result.
+     * @return The complex number raised to the power of {@code n}.
+     * @see #pow(int)
+     */
+    static <R> R pow(double real, double imaginary, int n, ComplexSink<R> constructor) {
+        if (!(Double.isFinite(real) && Double.isFinite(imaginary)) ||
+            real == 0 && imaginary == 0) {
+            // Zero and non-finite values use the special cases of the exponential route
+            return pow(real, imaginary, (double) n, constructor);
+        }
+        // Binary exponentiation of the base b using the result r.
+        // Each number is represented as (x + iy) * 2^scale.
+        double br = real;
+        double bi = imaginary;
+        long bscale = 0;
+        double rr = 1;
+        double ri = 0;
+        long rscale = 0;
+        int k = scaleExponent(br, bi);
+        if (k != 0) {
+            br = Math.scalb(br, -k);
+            bi = Math.scalb(bi, -k);
+            bscale = k;
+        }
+        // Unsigned magnitude of n (supports Integer.MIN_VALUE)
+        long e = Math.abs((long) n);
+        for (;;) {
+            if ((e & 1) != 0) {
+                final double x = rr * br - ri * bi;
+                final double y = rr * bi + ri * br;
+                k = scaleExponent(x, y);
+                rr = Math.scalb(x, -k);
+                ri = Math.scalb(y, -k);
+                rscale += bscale + k;
+            }
+            e >>>= 1;
+            if (e == 0) {
+                break;
+            }
+            final double x = (br - bi) * (br + bi);
+            final double y = 2 * br * bi;
+            k = scaleExponent(x, y);
+            br = Math.scalb(x, -k);
+            bi = Math.scalb(y, -k);
+            bscale = 2 * bscale + k;
+        }
+        if (n < 0) {
+            // Reciprocal of the scaled result. This cannot overflow as the parts are
+            // in the range 2^+/-500. The subtraction from zero matches the sign of
+            // the imaginary part of the division (1 + 0i) / (rr + i ri).
+            final double d = rr * rr + ri * ri;
+            rr = rr / d;
+            ri = (0 - ri) / d;
+            rscale = -rscale;
+        }
+        // Clip the scale to the int range
+        final int scale = (int) Math.max(Math.min(rscale, SCALE_LIMIT), -SCALE_LIMIT);
+        return constructor.apply(Math.scalb(rr, scale), Math.scalb(ri, scale));
+    }
+
+    /**
+     * Gets the power of 2 required to scale the finite non-zero complex number so that the
+     * largest part is approximately 1. If the largest part is within {@code [2^-500, 2^500]}
+     * the number is not scaled and zero is returned.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the exponent of the scale factor
+     */
+    private static int scaleExponent(double x, double y) {
+        final int exp = Math.getExponent(Math.max(Math.abs(x), Math.abs(y)));
+        return exp > 500 || exp < -500 ? exp : 0;
     }
 
     /**
@@ -1577,7 +1819,7 @@ public final class Complex implements Serializable  {
      * @see <a href="http://functions.wolfram.com/ElementaryFunctions/Sqrt/">Sqrt</a>
      */
     public Complex sqrt() {
-        return sqrt(real, imaginary);
+        return sqrt(real, imaginary, Complex::ofCartesian);
     }
 
     /**
@@ -1585,22 +1827,24 @@ public final class Complex implements Serializable  {
      *
      * @param real Real component.
      * @param imaginary Imaginary component.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
      * @return The square root of the complex number.
      */
-    private static Complex sqrt(double real, double imaginary) {
+    static <R> R sqrt(double real, double imaginary, ComplexSink<R> constructor) {
         // Handle NaN
         if (Double.isNaN(real) || Double.isNaN(imaginary)) {
             // Check for infinite
             if (Double.isInfinite(imaginary)) {
-                return new Complex(Double.POSITIVE_INFINITY, imaginary);
+                return constructor.apply(Double.POSITIVE_INFINITY, imaginary);
             }
             if (Double.isInfinite(real)) {
                 if (real == Double.NEGATIVE_INFINITY) {
-                    return new Complex(Double.NaN, Math.copySign(Double.POSITIVE_INFINITY, imaginary));
+                    return constructor.apply(Double.NaN, Math.copySign(Double.POSITIVE_INFINITY, imaginary));
                 }
-                return new Complex(Double.POSITIVE_INFINITY, Double.NaN);
+                return constructor.apply(Double.POSITIVE_INFINITY, Double.NaN);
             }
-            return NAN;
+            return constructor.apply(Double.NaN, Double.NaN);
         }
 
         // Compute with positive values and determine sign at the end
@@ -1625,19 +1869,19 @@ public final class Complex implements Serializable  {
 
             // Check for infinite
             if (isPosInfinite(y)) {
-                return new Complex(Double.POSITIVE_INFINITY, imaginary);
+                return constructor.apply(Double.POSITIVE_INFINITY, imaginary);
             } else if (isPosInfinite(x)) {
                 if (real == Double.NEGATIVE_INFINITY) {
-                    return new Complex(0, Math.copySign(Double.POSITIVE_INFINITY, imaginary));
+                    return constructor.apply(0, Math.copySign(Double.POSITIVE_INFINITY, imaginary));
                 }
-                return new Complex(Double.POSITIVE_INFINITY, Math.copySign(0, imaginary));
+                return constructor.apply(Double.POSITIVE_INFINITY, Math.copySign(0, imaginary));
             } else if (y == 0) {
                 // Real only
                 final double sqrtAbs = Math.sqrt(x);
                 if (real < 0) {
-                    return new Complex(0, Math.copySign(sqrtAbs, imaginary));
+                    return constructor.apply(0, Math.copySign(sqrtAbs, imaginary));
                 }
-                return new Complex(sqrtAbs, imaginary);
+                return constructor.apply(sqrtAbs, imaginary);
             } else if (x == 0) {
                 // Imaginary only. This sets the two components to the same magnitude.
                 // Note: In polar coordinates this does not happen:
@@ -1646,7 +1890,7 @@ public final class Complex implements Serializable  {
                 // arg() / 2 = pi/4 and cos and sin should both return sqrt(2)/2 but
                 // are different by 1 ULP.
                 final double sqrtAbs = Math.sqrt(y) * ONE_OVER_ROOT2;
-                return new Complex(sqrtAbs, Math.copySign(sqrtAbs, imaginary));
+                return constructor.apply(sqrtAbs, Math.copySign(sqrtAbs, imaginary));
             } else {
                 // Over/underflow.
                 // Full scaling is not required as this is done in the hypotenuse function.
@@ -1675,9 +1919,9 @@ public final class Complex implements Serializable  {
         }
 
         if (real >= 0) {
-            return new Complex(t / 2, imaginary / t);
+            return constructor.apply(t / 2, imaginary / t);
         }
-        return new Complex(y / t, Math.copySign(t / 2, imaginary));
+        return constructor.apply(y / t, Math.copySign(t / 2, imaginary));
     }
 
     /**
@@ -1705,7 +1949,7 @@ public final class Complex implements Serializable  {
         // Define in terms of sinh
         // sin(z) = -i sinh(iz)
         // Multiply this number by I, compute sinh, then multiply by back
-        return sinh(-imaginary, real, Complex::multiplyNegativeI);
+        return sinh(-imaginary, real, true, Complex::ofCartesian);
     }
 
     /**
@@ -1759,7 +2003,7 @@ public final class Complex implements Serializable  {
         // Define in terms of tanh
         // tan(z) = -i tanh(iz)
         // Multiply this number by I, compute tanh, then multiply by back
-        return tanh(-imaginary, real, Complex::multiplyNegativeI);
+        return tanh(-imaginary, real, true, Complex::ofCartesian);
     }
 
     /**
@@ -1803,6 +2047,33 @@ public final class Complex implements Serializable  {
         return asin(real, imaginary, Complex::ofCartesian);
     }
 
+    /**
+     * Returns the inverse sine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return The inverse sine of the complex number.
+     */
+    static <R> R asin(double real, double imaginary, ComplexSink<R> constructor) {
+        return asin(real, imaginary, false, constructor);
+    }
+
+    /**
+     * Returns the inverse hyperbolic sine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return The inverse hyperbolic sine of the complex number.
+     */
+    static <R> R asinh(double real, double imaginary, ComplexSink<R> constructor) {
+        // asinh(z) = -i asin(iz)
+        return asin(-imaginary, real, true, constructor);
+    }
+
     /**
      * Returns the inverse sine of the complex number.
      *
@@ -1820,11 +2091,14 @@ public final class Complex implements Serializable  {
      *
      * @param real Real part.
      * @param imaginary Imaginary part.
+     * @param multiplyNegativeI Set to true to multiply the result by {@code -i}.
      * @param constructor Constructor.
+     * @param <R> Type of the result.
      * @return The inverse sine of this complex number.
      */
-    private static Complex asin(final double real, final double imaginary,
-                                final ComplexConstructor constructor) {
+    private static <R> R asin(final double real, final double imaginary,
+                              final boolean multiplyNegativeI,
+                              final ComplexSink<R> constructor) {
         // Compute with positive values and determine sign at the end
         final double x = Math.abs(real);
         final double y = Math.abs(imaginary);
@@ -1838,8 +2112,7 @@ public final class Complex implements Serializable  {
                 re = x;
                 im = y;
             } else {
-                // No-use of the input constructor
-                return NAN;
+                return create(Double.NaN, Double.NaN, multiplyNegativeI, constructor);
             }
         } else if (Double.isNaN(y)) {
             if (x == 0) {
@@ -1849,8 +2122,7 @@ public final class Complex implements Serializable  {
                 re = y;
                 im = x;
             } else {
-                // No-use of the input constructor
-                return NAN;
+                return create(Double.NaN, Double.NaN, multiplyNegativeI, constructor);
             }
         } else if (isPosInfinite(x)) {
             re = isPosInfinite(y) ? PI_OVER_4 : PI_OVER_2;
@@ -1861,7 +2133,7 @@ public final class Complex implements Serializable  {
         } else {
             // Special case for real numbers:
             if (y == 0 && x <= 1) {
-                return constructor.create(Math.asin(real), imaginary);
+                return create(Math.asin(real), imaginary, multiplyNegativeI, constructor);
             }
 
             final double xp1 = x + 1;
@@ -1937,8 +2209,8 @@ public final class Complex implements Serializable  {
             }
         }
 
-        return constructor.create(changeSign(re, real),
-                                  changeSign(im, imaginary));
+        return create(changeSign(re, real),
+                      changeSign(im, imaginary), multiplyNegativeI, constructor);
     }
 
     /**
@@ -1997,6 +2269,19 @@ public final class Complex implements Serializable  {
         return acos(real, imaginary, Complex::ofCartesian);
     }
 
+    /**
+     * Returns the inverse cosine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return The inverse cosine of the complex number.
+     */
+    static <R> R acos(double real, double imaginary, ComplexSink<R> constructor) {
+        return acos(real, imaginary, false, constructor);
+    }
+
     /**
      * Returns the inverse cosine of the complex number.
      *
@@ -2014,11 +2299,14 @@ public final class Complex implements Serializable  {
      *
      * @param real Real part.
      * @param imaginary Imaginary part.
+     * @param acosh Set to true to transform the result to the inverse hyperbolic cosine.
      * @param constructor Constructor.
+     * @param <R> Type of the result.
      * @return The inverse cosine of the complex number.
      */
-    private static Complex acos(final double real, final double imaginary,
-                                final ComplexConstructor constructor) {
+    private static <R> R acos(final double real, final double imaginary,
+                              final boolean acosh,
+                              final ComplexSink<R> constructor) {
         // Compute with positive values and determine sign at the end
         final double x = Math.abs(real);
         final double y = Math.abs(imaginary);
@@ -2033,26 +2321,25 @@ public final class Complex implements Serializable  {
                 im = y;
             } else if (Double.isNaN(y)) {
                 // sign of the imaginary part of the result is unspecified
-                return constructor.create(imaginary, real);
+                return createAcos(imaginary, real, acosh, constructor);
             } else {
                 re = 0;
                 im = Double.POSITIVE_INFINITY;
             }
         } else if (Double.isNaN(x)) {
             if (isPosInfinite(y)) {
-                return constructor.create(x, -imaginary);
+                return createAcos(x, -imaginary, acosh, constructor);
             }
-            // No-use of the input constructor
-            return NAN;
+            return createAcos(Double.NaN, Double.NaN, acosh, constructor);
         } else if (isPosInfinite(y)) {
             re = PI_OVER_2;
             im = y;
         } else if (Double.isNaN(y)) {
-            return constructor.create(x == 0 ? PI_OVER_2 : y, y);
+            return createAcos(x == 0 ? PI_OVER_2 : y, y, acosh, constructor);
         } else {
             // Special case for real numbers:
             if (y == 0 && x <= 1) {
-                return constructor.create(x == 0 ? PI_OVER_2 : Math.acos(real), -imaginary);
+                return createAcos(x == 0 ? PI_OVER_2 : Math.acos(real), -imaginary, acosh, constructor);
             }
 
             final double xp1 = x + 1;
@@ -2129,8 +2416,8 @@ public final class Complex implements Serializable  {
             }
         }
 
-        return constructor.create(negative(real) ? Math.PI - re : re,
-                                  negative(imaginary) ? im : -im);
+        return createAcos(negative(real) ? Math.PI - re : re,
+                          negative(imaginary) ? im : -im, acosh, constructor);
     }
 
     /**
@@ -2157,7 +2444,7 @@ public final class Complex implements Serializable  {
         // Define in terms of atanh
         // atan(z) = -i atanh(iz)
         // Multiply this number by I, compute atanh, then multiply by back
-        return atanh(-imaginary, real, Complex::multiplyNegativeI);
+        return atanh(-imaginary, real, true, Complex::ofCartesian);
     }
 
     /**
@@ -2199,6 +2486,33 @@ public final class Complex implements Serializable  {
         return sinh(real, imaginary, Complex::ofCartesian);
     }
 
+    /**
+     * Returns the sine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return The sine of the complex number.
+     */
+    static <R> R sin(double real, double imaginary, ComplexSink<R> constructor) {
+        // sin(z) = -i sinh(iz)
+        return sinh(-imaginary, real, true, constructor);
+    }
+
+    /**
+     * Returns the hyperbolic sine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return The hyperbolic sine of the complex number.
+     */
+    static <R> R sinh(double real, double imaginary, ComplexSink<R> constructor) {
+        return sinh(real, imaginary, false, constructor);
+    }
+
     /**
      * Returns the hyperbolic sine of the complex number.
      *
@@ -2207,38 +2521,41 @@ public final class Complex implements Serializable  {
      *
      * @param real Real part.
      * @param imaginary Imaginary part.
+     * @param multiplyNegativeI Set to true to multiply the result by {@code -i}.
      * @param constructor Constructor.
+     * @param <R> Type of the result.
      * @return The hyperbolic sine of the complex number.
      */
-    private static Complex sinh(double real, double imaginary, ComplexConstructor constructor) {
+    private static <R> R sinh(double real, double imaginary, boolean multiplyNegativeI,
+                              ComplexSink<R> constructor) {
         if (Double.isInfinite(real) && !Double.isFinite(imaginary)) {
-            return constructor.create(real, Double.NaN);
+            return create(real, Double.NaN, multiplyNegativeI, constructor);
         }
         if (real == 0) {
             // Imaginary-only sinh(iy) = i sin(y).
             if (Double.isFinite(imaginary)) {
                 // Maintain periodic property with respect to the imaginary component.
                 // sinh(+/-0.0) * cos(+/-x) = +/-0 * cos(x)
-                return constructor.create(changeSign(real, Math.cos(imaginary)),
-                                          Math.sin(imaginary));
+                return create(changeSign(real, Math.cos(imaginary)),
+                              Math.sin(imaginary), multiplyNegativeI, constructor);
             }
             // If imaginary is inf/NaN the sign of the real part is unspecified.
             // Returning the same real value maintains the conjugate equality.
             // It is not possible to also maintain the odd function (hence the unspecified sign).
-            return constructor.create(real, Double.NaN);
+            return create(real, Double.NaN, multiplyNegativeI, constructor);
         }
         if (imaginary == 0) {
             // Real-only sinh(x).
-            return constructor.create(Math.sinh(real), imaginary);
+            return create(Math.sinh(real), imaginary, multiplyNegativeI, constructor);
         }
         final double x = Math.abs(real);
         if (x > SAFE_EXP) {
             // Approximate sinh/cosh(x) using exp^|x| / 2
-            return coshsinh(x, real, imaginary, true, constructor);
+            return coshsinh(x, real, imaginary, true, multiplyNegativeI, constructor);
         }
         // No overflow of sinh/cosh
-        return constructor.create(Math.sinh(real) * Math.cos(imaginary),
-                                  Math.cosh(real) * Math.sin(imaginary));
+        return create(Math.sinh(real) * Math.cos(imaginary),
+                      Math.cosh(real) * Math.sin(imaginary), multiplyNegativeI, constructor);
     }
 
     /**
@@ -2289,26 +2606,27 @@ public final class Complex implements Serializable  {
      * @param real Real part.
      * @param imaginary Imaginary part.
      * @param constructor Constructor.
+     * @param <R> Type of the result.
      * @return The hyperbolic cosine of the complex number.
      */
-    private static Complex cosh(double real, double imaginary, ComplexConstructor constructor) {
+    static <R> R cosh(double real, double imaginary, ComplexSink<R> constructor) {
         // ISO C99: Preserve the even function by mapping to positive
         // f(z) = f(-z)
         if (Double.isInfinite(real) && !Double.isFinite(imaginary)) {
-            return constructor.create(Math.abs(real), Double.NaN);
+            return constructor.apply(Math.abs(real), Double.NaN);
         }
         if (real == 0) {
             // Imaginary-only cosh(iy) = cos(y).
             if (Double.isFinite(imaginary)) {
                 // Maintain periodic property with respect to the imaginary component.
                 // sinh(+/-0.0) * sin(+/-x) = +/-0 * sin(x)
-                return constructor.create(Math.cos(imaginary),
-                                          changeSign(real, Math.sin(imaginary)));
+                return constructor.apply(Math.cos(imaginary),
+                                         changeSign(real, Math.sin(imaginary)));
             }
             // If imaginary is inf/NaN the sign of the imaginary part is unspecified.
             // Although not required by C99 changing the sign maintains the conjugate equality.
             // It is not possible to also maintain the even function (hence the unspecified sign).
-            return constructor.create(Double.NaN, changeSign(real, imaginary));
+            return constructor.apply(Double.NaN, changeSign(real, imaginary));
         }
         if (imaginary == 0) {
             // Real-only cosh(x).
@@ -2316,16 +2634,16 @@ public final class Complex implements Serializable  {
             // sin(+/-0) * sinh(+/-x) = +/-0 * +/-a (sinh is monotonic and same sign)
             // => change the sign of imaginary using real. Handles special case of infinite real.
             // If real is NaN the sign of the imaginary part is unspecified.
-            return constructor.create(Math.cosh(real), changeSign(imaginary, real));
+            return constructor.apply(Math.cosh(real), changeSign(imaginary, real));
         }
         final double x = Math.abs(real);
         if (x > SAFE_EXP) {
             // Approximate sinh/cosh(x) using exp^|x| / 2
-            return coshsinh(x, real, imaginary, false, constructor);
+            return coshsinh(x, real, imaginary, false, false, constructor);
         }
         // No overflow of sinh/cosh
-        return constructor.create(Math.cosh(real) * Math.cos(imaginary),
-                                  Math.sinh(real) * Math.sin(imaginary));
+        return constructor.apply(Math.cosh(real) * Math.cos(imaginary),
+                                 Math.sinh(real) * Math.sin(imaginary));
     }
 
     /**
@@ -2343,11 +2661,13 @@ public final class Complex implements Serializable  {
      * @param real Real part (x).
      * @param imaginary Imaginary part (y).
      * @param sinh Set to true to compute sinh, otherwise cosh.
+     * @param multiplyNegativeI Set to true to multiply the result by {@code -i}.
      * @param constructor Constructor.
+     * @param <R> Type of the result.
      * @return The hyperbolic sine/cosine of the complex number.
      */
-    private static Complex coshsinh(double x, double real, double imaginary, boolean sinh,
-                                    ComplexConstructor constructor) {
+    private static <R> R coshsinh(double x, double real, double imaginary, boolean sinh,
+                                  boolean multiplyNegativeI, ComplexSink<R> constructor) {
         // Always require the cos and sin.
         double re = Math.cos(imaginary);
         double im = Math.sin(imaginary);
@@ -2385,7 +2705,7 @@ public final class Complex implements Serializable  {
             re *= exp;
             im *= exp;
         }
-        return constructor.create(re, im);
+        return create(re, im, multiplyNegativeI, constructor);
     }
 
     /**
@@ -2436,6 +2756,33 @@ public final class Complex implements Serializable  {
         return tanh(real, imaginary, Complex::ofCartesian);
     }
 
+    /**
+     * Returns the tangent of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return The tangent of the complex number.
+     */
+    static <R> R tan(double real, double imaginary, ComplexSink<R> constructor) {
+        // tan(z) = -i tanh(iz)
+        return tanh(-imaginary, real, true, constructor);
+    }
+
+    /**
+     * Returns the hyperbolic tangent of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return The hyperbolic tangent of the complex number.
+     */
+    static <R> R tanh(double real, double imaginary, ComplexSink<R> constructor) {
+        return tanh(real, imaginary, false, constructor);
+    }
+
     /**
      * Returns the hyperbolic tangent of this complex number.
      *
@@ -2444,10 +2791,13 @@ public final class Complex implements Serializable  {
      *
      * @param real Real part.
      * @param imaginary Imaginary part.
+     * @param multiplyNegativeI Set to true to multiply the result by {@code -i}.
      * @param constructor Constructor.
+     * @param <R> Type of the result.
      * @return The hyperbolic tangent of the complex number.
      */
-    private static Complex tanh(double real, double imaginary, ComplexConstructor constructor) {
+    private static <R> R tanh(double real, double imaginary, boolean multiplyNegativeI,
+                              ComplexSink<R> constructor) {
         // Cache the absolute real value
         final double x = Math.abs(real);
 
@@ -2462,11 +2812,11 @@ public final class Complex implements Serializable  {
                     final double sign = Math.abs(imaginary) < PI_OVER_2 ?
                                         imaginary :
                                         Math.sin(imaginary) * Math.cos(imaginary);
-                    return constructor.create(Math.copySign(1, real),
-                                              Math.copySign(0, sign));
+                    return create(Math.copySign(1, real),
+                                  Math.copySign(0, sign), multiplyNegativeI, constructor);
                 }
                 // imaginary is infinite or NaN
-                return constructor.create(Math.copySign(1, real), Math.copySign(0, imaginary));
+                return create(Math.copySign(1, real), Math.copySign(0, imaginary), multiplyNegativeI, constructor);
             }
             // Remaining cases:
             // (0 + i inf), returns (0 + i NaN)
@@ -2476,8 +2826,8 @@ public final class Complex implements Serializable  {
             // (NaN + i 0), returns (NaN + i 0)
             // (NaN + i y), returns (NaN + i NaN) for non-zero y (including infinite)
             // (NaN + i NaN), returns (NaN + i NaN)
-            return constructor.create(real == 0 ? real : Double.NaN,
-                                      imaginary == 0 ? imaginary : Double.NaN);
+            return create(real == 0 ? real : Double.NaN,
+                          imaginary == 0 ? imaginary : Double.NaN, multiplyNegativeI, constructor);
         }
 
         // Finite components
@@ -2486,11 +2836,11 @@ public final class Complex implements Serializable  {
         if (real == 0) {
             // Imaginary-only tanh(iy) = i tan(y)
             // Identity: sin 2y / (1 + cos 2y) = tan(y)
-            return constructor.create(real, Math.tan(imaginary));
+            return create(real, Math.tan(imaginary), multiplyNegativeI, constructor);
         }
         if (imaginary == 0) {
             // Identity: sinh 2x / (1 + cosh 2x) = tanh(x)
-            return constructor.create(Math.tanh(real), imaginary);
+            return create(Math.tanh(real), imaginary, multiplyNegativeI, constructor);
         }
 
         // The double angles can be avoided using the identities:
@@ -2525,7 +2875,7 @@ public final class Complex implements Serializable  {
                 // e^2|x| = e^m * e^(2|x| - m)
                 im = 4 * im / EXP_M / Math.exp(2 * x - SAFE_EXP);
             }
-            return constructor.create(re, im);
+            return create(re, im, multiplyNegativeI, constructor);
         }
 
         // No overflow of sinh(2x) and cosh(2x)
@@ -2538,8 +2888,8 @@ public final class Complex implements Serializable  {
         final double siny = Math.sin(imaginary);
         final double cosy = Math.cos(imaginary);
         final double divisor = sinhx * sinhx + cosy * cosy;
-        return constructor.create(sinhx * coshx / divisor,
-                                  siny * cosy / divisor);
+        return create(sinhx * coshx / divisor,
+                      siny * cosy / divisor, multiplyNegativeI, constructor);
     }
 
     /**
@@ -2584,7 +2934,7 @@ public final class Complex implements Serializable  {
         // Note: This is the opposite to the identity defined in the C99 standard:
         // asin(z) = -i asinh(iz)
         // Multiply this number by I, compute asin, then multiply by back
-        return asin(-imaginary, real, Complex::multiplyNegativeI);
+        return asin(-imaginary, real, true, Complex::ofCartesian);
     }
 
     /**
@@ -2632,6 +2982,20 @@ public final class Complex implements Serializable  {
      * @see <a href="http://functions.wolfram.com/ElementaryFunctions/ArcCosh/">ArcCosh</a>
      */
     public Complex acosh() {
+        return acosh(real, imaginary, Complex::ofCartesian);
+    }
+
+    /**
+     * Returns the inverse hyperbolic cosine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return The inverse hyperbolic cosine of the complex number.
+     * @see #acosh()
+     */
+    static <R> R acosh(double real, double imaginary, ComplexSink<R> constructor) {
         // Define in terms of acos
         // acosh(z) = +-i acos(z)
         // Note the special case:
@@ -2640,16 +3004,9 @@ public final class Complex implements Serializable  {
         // will not appropriately multiply by I to maintain positive imaginary if
         // acos() imaginary computes as NaN. So do this explicitly.
         if (Double.isNaN(imaginary) && real == 0) {
-            return new Complex(Double.NaN, PI_OVER_2);
+            return constructor.apply(Double.NaN, PI_OVER_2);
         }
-        return acos(real, imaginary, (re, im) ->
-            // Set the sign appropriately for real >= 0
-            (negative(im)) ?
-                // Multiply by I
-                new Complex(-im, re) :
-                // Multiply by -I
-                new Complex(im, -re)
-        );
+        return acos(real, imaginary, true, constructor);
     }
 
     /**
@@ -2700,6 +3057,33 @@ public final class Complex implements Serializable  {
         return atanh(real, imaginary, Complex::ofCartesian);
     }
 
+    /**
+     * Returns the inverse tangent of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return The inverse tangent of the complex number.
+     */
+    static <R> R atan(double real, double imaginary, ComplexSink<R> constructor) {
+        // atan(z) = -i atanh(iz)
+        return atanh(-imaginary, real, true, constructor);
+    }
+
+    /**
+     * Returns the inverse hyperbolic tangent of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return The inverse hyperbolic tangent of the complex number.
+     */
+    static <R> R atanh(double real, double imaginary, ComplexSink<R> constructor) {
+        return atanh(real, imaginary, false, constructor);
+    }
+
     /**
      * Returns the inverse hyperbolic tangent of this complex number.
      *
@@ -2717,11 +3101,14 @@ public final class Complex implements Serializable  {
      *
      * @param real Real part.
      * @param imaginary Imaginary part.
+     * @param multiplyNegativeI Set to true to multiply the result by {@code -i}.
      * @param constructor Constructor.
+     * @param <R> Type of the result.
      * @return The inverse hyperbolic tangent of the complex number.
      */
-    private static Complex atanh(final double real, final double imaginary,
-                                 final ComplexConstructor constructor) {
+    private static <R> R atanh(final double real, final double imaginary,
+                               final boolean multiplyNegativeI,
+                               final ComplexSink<R> constructor) {
         // Compute with positive values and determine sign at the end
         double x = Math.abs(real);
         double y = Math.abs(imaginary);
@@ -2733,20 +3120,18 @@ public final class Complex implements Serializable  {
         if (Double.isNaN(x)) {
             if (isPosInfinite(y)) {
                 // The sign of the real part of the result is unspecified
-                return constructor.create(0, Math.copySign(PI_OVER_2, imaginary));
+                return create(0, Math.copySign(PI_OVER_2, imaginary), multiplyNegativeI, constructor);
             }
-            // No-use of the input constructor.
             // Optionally raises the ‘‘invalid’’ floating-point exception, for finite y.
-            return NAN;
+            return create(Double.NaN, Double.NaN, multiplyNegativeI, constructor);
         } else if (Double.isNaN(y)) {
             if (isPosInfinite(x)) {
-                return constructor.create(Math.copySign(0, real), Double.NaN);
+                return create(Math.copySign(0, real), Double.NaN, multiplyNegativeI, constructor);
             }
             if (x == 0) {
-                return constructor.create(real, Double.NaN);
+                return create(real, Double.NaN, multiplyNegativeI, constructor);
             }
-            // No-use of the input constructor
-            return NAN;
+            return create(Double.NaN, Double.NaN, multiplyNegativeI, constructor);
         } else {
             // x && y are finite or infinite.
 
@@ -2799,10 +3184,10 @@ public final class Complex implements Serializable  {
                 // C99. G.7: Special case for imaginary only numbers
                 if (x == 0) {
                     if (imaginary == 0) {
-                        return constructor.create(real, imaginary);
+                        return create(real, imaginary, multiplyNegativeI, constructor);
                     }
                     // atanh(iy) = i atan(y)
-                    return constructor.create(real, Math.atan(imaginary));
+                    return create(real, Math.atan(imaginary), multiplyNegativeI, constructor);
                 }
 
                 // Real part:
@@ -2882,8 +3267,8 @@ public final class Complex implements Serializable  {
 
         re /= 4;
         im /= 2;
-        return constructor.create(changeSign(re, real),
-                                  changeSign(im, imaginary));
+        return create(changeSign(re, real),
+                      changeSign(im, imaginary), multiplyNegativeI, constructor);
     }
 
     /**
@@ -3132,6 +3517,7 @@ public final class Complex implements Serializable  {
      * @param n Degree of root.
      * @return A list of all {@code n}-th roots of this complex number.
      * @throws IllegalArgumentException if {@code n} is zero.
+     * @see RootsOfUnity
      * @see <a href="http://functions.wolfram.com/ElementaryFunctions/Root/">Root</a>
      */
     public List<Complex> nthRoot(int n) {
@@ -3139,21 +3525,46 @@ public final class Complex implements Serializable  {
             throw new IllegalArgumentException("cannot compute zeroth root");
         }
 
-        final List<Complex> result = new ArrayList<>();
+        final int m = Math.abs(n);
+        final List<Complex> result = new ArrayList<>(m);
 
         // nth root of abs -- faster / more accurate to use a solver here?
         final double nthRootOfAbs = Math.pow(abs(), 1.0 / n);
 
         // Compute nth roots of complex number with k = 0, 1, ... n-1
         final double nthPhi = arg() / n;
-        final double slice = 2 * Math.PI / n;
-        double innerPart = nthPhi;
-        for (int k = 0; k < Math.abs(n); k++) {
-            // inner part
-            final double realPart = nthRootOfAbs *  Math.cos(innerPart);
-            final double imaginaryPart = nthRootOfAbs *  Math.sin(innerPart);
-            result.add(ofCartesian(realPart, imaginaryPart));
-            innerPart += slice;
+        final double re = nthRootOfAbs * Math.cos(nthPhi);
+        final double im = nthRootOfAbs * Math.sin(nthPhi);
+        if (nthRootOfAbs == 0 || !Double.isFinite(nthRootOfAbs)) {
+            // Zero, infinite or NaN. The rotation would create inf * 0 = NaN and
+            // change the sign of zeros so compute each root using the angle.
+            final double slice = 2 * Math.PI / n;
+            double innerPart = nthPhi;
+            for (int k = 0; k < m; k++) {
+                result.add(ofCartesian(nthRootOfAbs * Math.cos(innerPart),
+                                       nthRootOfAbs * Math.sin(innerPart)));
+                innerPart += slice;
+            }
+            return result;
+        }
+
+        // Rotate the principal root by the roots of unity.
+        // Roots of unity on the axes have a zero component that is not used
+        // in the product to preserve the sign of zeros in the principal root.
+        final RootsOfUnity roots = RootsOfUnity.of(m);
+        result.add(ofCartesian(re, im));
+        for (int k = 1; k < m; k++) {
+            // A negative degree rotates clockwise around the unit circle
+            final int index = n > 0 ? k : -k;
+            final double wr = roots.getReal(index);
+            final double wi = roots.getImaginary(index);
+            if (wi == 0) {
+                result.add(ofCartesian(re * wr, im * wr));
+            } else if (wr == 0) {
+                result.add(ofCartesian(-im * wi, re * wi));
+            } else {
+                result.add(ofCartesian(re * wr - im * wi, re * wi + im * wr));
+            }
         }
 
         return result;
@@ -3316,19 +3727,48 @@ public final class Complex implements Serializable  {
     }
 
     /**
-     * Create a complex number given the real and imaginary parts, then multiply by {@code -i}.
-     * This is used in functions that implement trigonomic identities. It is the functional
-     * equivalent of:
+     * Create a complex result given the real and imaginary parts, optionally multiplied
+     * by {@code -i}. This is used in functions that implement trigonomic identities
+     * to transform the result without wrapping the constructor.
      *
-     * <pre>
-     *  z = new Complex(real, imaginary).multiplyImaginary(-1);</pre>
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param multiplyNegativeI Set to true to multiply the result by {@code -i}.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return the result.
+     */
+    private static <R> R create(double real, double imaginary, boolean multiplyNegativeI,
+                                ComplexSink<R> constructor) {
+        return multiplyNegativeI ?
+            constructor.apply(imaginary, -real) :
+            constructor.apply(real, imaginary);
+    }
+
+    /**
+     * Create a complex result given the real and imaginary parts of the inverse cosine,
+     * optionally transformed to the inverse hyperbolic cosine using the identity
+     * {@code acosh(z) = +-i acos(z)}. The sign is chosen so the real part of the
+     * result is positive.
      *
      * @param real Real part.
      * @param imaginary Imaginary part.
-     * @return {@code Complex} object.
+     * @param acosh Set to true to transform the result to the inverse hyperbolic cosine.
+     * @param constructor Constructor.
+     * @param <R> Type of the result.
+     * @return the result.
      */
-    private static Complex multiplyNegativeI(double real, double imaginary) {
-        return new Complex(imaginary, -real);
+    private static <R> R createAcos(double real, double imaginary, boolean acosh,
+                                    ComplexSink<R> constructor) {
+        if (acosh) {
+            // Set the sign appropriately for real >= 0
+            return negative(imaginary) ?
+                // Multiply by I
+                constructor.apply(-imaginary, real) :
+                // Multiply by -I
+                constructor.apply(imaginary, -real);
+        }
+        return constructor.apply(real, imaginary);
     }
 
     /**
@@ -3424,7 +3864,7 @@ public final class Complex implements Serializable  {
      * {@link Double#MIN_EXPONENT} -1.
      * </ul>
      *
-     * <p>This is used by {@link #divide(double, double, double, double)} as
+     * <p>This is used by {@link #divide(double, double, double, double, ComplexSink)} as
      * a simple detection that a number may overflow if multiplied
      * by a value in the interval [1, 2).
      *
@@ -3432,7 +3872,7 @@ public final class Complex implements Serializable  {
      * @param b the second value
      * @return The maximum unbiased exponent of the values.
      * @see Math#getExponent(double)
-     * @see #divide(double, double, double, double)
+     * @see #divide(double, double, double, double, ComplexSink)
      */
     private static int getMaxExponent(double a, double b) {
         // This could return:
@@ -3645,7 +4085,7 @@ public final class Complex implements Serializable  {
      * @see <a href="https://doi.org/10.1007/BF01397083">
      * Dekker (1971) A floating-point technique for extending the available precision</a>
      */
-    private static double x2y2(double x, double y) {
+    static double x2y2(double x, double y) {
         // Note:
         // This method is different from the high-accuracy summation used in fdlibm for hypot.
         // The summation could be any valid computation of x^2+y^2. However since this follows
@@ -0,0 +1,466 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Mutable accumulator for sums and products of complex numbers.
+ *
+ * <p>The real and imaginary parts are summed separately using compensated summation
+ * to reduce round-off error. Products added using
+ * {@link #addProduct(double, double, double, double) addProduct} are computed
+ * in extended precision before summation.
+ *
+ * <pre>
+ * // compute the sum z1 + z2 + z3
+ * Complex result = ComplexAccumulator.create()
+ *     .add(z1)
+ *     .add(z2)
+ *     .add(z3)
+ *     .get();
+ *
+ * // compute the dot product of two arrays of the same length, a and b
+ * ComplexAccumulator acc = ComplexAccumulator.create();
+ * for (int i = 0; i &lt; a.length; ++i) {
+ *      acc.addProduct(a[i], b[i]);
+ * }
+ * Complex result = acc.get();
+ *
+ * // sum a stream in parallel
+ * Complex result = stream.parallel().collect(
+ *     Collector.of(ComplexAccumulator::create, ComplexAccumulator::add,
+ *                  ComplexAccumulator::combine, ComplexAccumulator::get));
+ * </pre>
+ *
+ * <p><strong>Implementation Notes</strong>
+ * <p>This class uses the <em>Sum2S</em> and <em>Dot2S</em> algorithms described in
+ * <a href="https://citeseerx.ist.psu.edu/viewdoc/summary?doi=10.1.1.2.1547">
+ * Accurate Sum and Dot Product</a> by Takeshi Ogita, Siegfried M. Rump,
+ * and Shin'ichi Oishi (<em>SIAM J. Sci. Comput</em>, 2005) for each of the real and
+ * imaginary parts. This is the same method used by {@code Sum} in
+ * {@code commons-numbers-core}.
+ *
+ * <p>Multiplication of the accumulated value by a complex number uses the same
+ * computation as {@link Complex#multiply(Complex)}. The accumulated round-off is
+ * included in the value before multiplication and is then reset.
+ *
+ * <p>Results follow the IEEE 754 rules for addition: For example, if any
+ * input value is {@link Double#NaN}, the result is {@link Double#NaN}.
+ *
+ * <p>Instances of this class are mutable and not safe for use by multiple threads.
+ */
+public final class ComplexAccumulator implements Consumer<Complex>, Supplier<Complex> {
+    /**
+     * The multiplier used to split the double value into high and low parts. From
+     * Dekker (1971): "The constant should be chosen equal to 2^(p - p/2) + 1,
+     * where p is the number of binary digits in the mantissa". Here p is 53
+     * and the multiplier is {@code 2^27 + 1}.
+     */
+    private static final double MULTIPLIER = 1.0 + 0x1.0p27;
+    /**
+     * The upper limit above which a number may overflow during the split into a high part.
+     * This is {@code 2^996}.
+     */
+    private static final double SAFE_UPPER = 0x1.0p996;
+    /** The scale to use when down-scaling during a split into a high part. */
+    private static final double DOWN_SCALE = 0x1.0p-30;
+    /** The scale to use when re-scaling during a split into a high part. */
+    private static final double UP_SCALE = 0x1.0p30;
+
+    /** Standard sum of the real part. */
+    private double real;
+    /** Compensation value of the real part. */
+    private double realComp;
+    /** Standard sum of the imaginary part. */
+    private double imaginary;
+    /** Compensation value of the imaginary part. */
+    private double imaginaryComp;
+    /** Sink used to set the value to the result of a complex function. */
+    private final ComplexSink<ComplexAccumulator> setter = this::set;
+
+    /**
+     * Create an instance.
+     *
+     * @param real Initial real part.
+     * @param imaginary Initial imaginary part.
+     */
+    private ComplexAccumulator(double real, double imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Creates a new instance with an initial value of zero.
+     *
+     * @return a new instance.
+     */
+    public static ComplexAccumulator create() {
+        return new ComplexAccumulator(0, 0);
+    }
+
+    /**
+     * Creates an instance initialized to the given value.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return a new instance.
+     */
+    public static ComplexAccumulator of(double real, double imaginary) {
+        return new ComplexAccumulator(real, imaginary);
+    }
+
+    /**
+     * Creates an instance initialized to the given value.
+     *
+     * @param z Initial value.
+     * @return a new instance.
+     */
+    public static ComplexAccumulator of(Complex z) {
+        return new ComplexAccumulator(z.getReal(), z.getImaginary());
+    }
+
+    /**
+     * Adds a complex number to this accumulator.
+     *
+     * @param re Real part.
+     * @param im Imaginary part.
+     * @return this instance.
+     */
+    public ComplexAccumulator add(double re, double im) {
+        addReal(re);
+        addImaginary(im);
+        return this;
+    }
+
+    /**
+     * Adds a complex number to this accumulator.
+     *
+     * @param z Value to add.
+     * @return this instance.
+     */
+    public ComplexAccumulator add(Complex z) {
+        return add(z.getReal(), z.getImaginary());
+    }
+
+    /**
+     * Adds a real number to this accumulator. The imaginary part is unchanged.
+     *
+     * @param re Value to add.
+     * @return this instance.
+     */
+    public ComplexAccumulator add(double re) {
+        addReal(re);
+        return this;
+    }
+
+    /**
+     * Adds a complex number to this accumulator.
+     * This is equivalent to {@link #add(Complex)}.
+     *
+     * @param z Value to add.
+     * @see #add(Complex)
+     */
+    @Override
+    public void accept(Complex z) {
+        add(z.getReal(), z.getImaginary());
+    }
+
+    /**
+     * Adds the high-accuracy product \( (a + i b)(c + i d) \) to this accumulator.
+     *
+     * <p>\[ (a + i b)(c + i d) = (ac - bd) + i (ad + bc) \]
+     *
+     * <p>Each of the four products is computed in extended precision and added to the
+     * sum. No correction is performed to recover infinite results from a product that
+     * computes as NaN (see {@link Complex#multiply(Complex)}).
+     *
+     * @param a Real part of the first factor.
+     * @param b Imaginary part of the first factor.
+     * @param c Real part of the second factor.
+     * @param d Imaginary part of the second factor.
+     * @return this instance.
+     */
+    public ComplexAccumulator addProduct(double a, double b, double c, double d) {
+        addRealProduct(a, c);
+        addRealProduct(-b, d);
+        addImaginaryProduct(a, d);
+        addImaginaryProduct(b, c);
+        return this;
+    }
+
+    /**
+     * Adds the high-accuracy product \( z_1 z_2 \) to this accumulator.
+     *
+     * @param z1 First factor.
+     * @param z2 Second factor.
+     * @return this instance.
+     * @see #addProduct(double, double, double, double)
+     */
+    public ComplexAccumulator addProduct(Complex z1, Complex z2) {
+        return addProduct(z1.getReal(), z1.getImaginary(), z2.getReal(), z2.getImaginary());
+    }
+
+    /**
+     * Multiplies the value of this accumulator by a complex number.
+     *
+     * @param re Real part of the factor.
+     * @param im Imaginary part of the factor.
+     * @return this instance.
+     * @see Complex#multiply(Complex)
+     */
+    public ComplexAccumulator multiply(double re, double im) {
+        return Complex.multiply(getReal(), getImaginary(), re, im, setter);
+    }
+
+    /**
+     * Multiplies the value of this accumulator by a complex number.
+     *
+     * @param z Factor.
+     * @return this instance.
+     * @see Complex#multiply(Complex)
+     */
+    public ComplexAccumulator multiply(Complex z) {
+        return multiply(z.getReal(), z.getImaginary());
+    }
+
+    /**
+     * Multiplies the value of this accumulator by a real number.
+     *
+     * @param factor Factor.
+     * @return this instance.
+     * @see Complex#multiply(double)
+     */
+    public ComplexAccumulator multiply(double factor) {
+        return set(getReal() * factor, getImaginary() * factor);
+    }
+
+    /**
+     * Adds the value of another accumulator to this accumulator. The other
+     * accumulator is not modified.
+     *
+     * <p>This can be used as the combiner of partial results computed in parallel.
+     *
+     * @param other Accumulator to add.
+     * @return this instance.
+     */
+    public ComplexAccumulator combine(ComplexAccumulator other) {
+        // Pull all values first to ensure there are
+        // no issues when adding an accumulator to itself.
+        final double re = other.real;
+        final double reComp = other.realComp;
+        final double im = other.imaginary;
+        final double imComp = other.imaginaryComp;
+        addReal(re);
+        addReal(reComp);
+        addImaginary(im);
+        addImaginary(imComp);
+        return this;
+    }
+
+    /**
+     * Gets the real part of the accumulated value.
+     *
+     * @return the real part.
+     */
+    public double getReal() {
+        return value(real, realComp);
+    }
+
+    /**
+     * Gets the imaginary part of the accumulated value.
+     *
+     * @return the imaginary part.
+     */
+    public double getImaginary() {
+        return value(imaginary, imaginaryComp);
+    }
+
+    /**
+     * Gets the accumulated value.
+     *
+     * @return the value.
+     */
+    @Override
+    public Complex get() {
+        return Complex.ofCartesian(getReal(), getImaginary());
+    }
+
+    /**
+     * Sets the value of this accumulator and resets the compensation.
+     *
+     * @param re Real part.
+     * @param im Imaginary part.
+     * @return this instance.
+     */
+    private ComplexAccumulator set(double re, double im) {
+        real = re;
+        realComp = 0;
+        imaginary = im;
+        imaginaryComp = 0;
+        return this;
+    }
+
+    /**
+     * Adds a term to the real part.
+     *
+     * @param t Value to add.
+     */
+    private void addReal(double t) {
+        final double newSum = real + t;
+        realComp += twoSumLow(real, t, newSum);
+        real = newSum;
+    }
+
+    /**
+     * Adds a term to the imaginary part.
+     *
+     * @param t Value to add.
+     */
+    private void addImaginary(double t) {
+        final double newSum = imaginary + t;
+        imaginaryComp += twoSumLow(imaginary, t, newSum);
+        imaginary = newSum;
+    }
+
+    /**
+     * Adds the high-accuracy product \( x y \) to the real part.
+     *
+     * @param x Factor.
+     * @param y Factor.
+     */
+    private void addRealProduct(double x, double y) {
+        final double xy = x * y;
+        final double newSum = real + xy;
+        realComp += twoSumLow(real, xy, newSum) + productLow(x, y, xy);
+        real = newSum;
+    }
+
+    /**
+     * Adds the high-accuracy product \( x y \) to the imaginary part.
+     *
+     * @param x Factor.
+     * @param y Factor.
+     */
+    private void addImaginaryProduct(double x, double y) {
+        final double xy = x * y;
+        final double newSum = imaginary + xy;
+        imaginaryComp += twoSumLow(imaginary, xy, newSum) + productLow(x, y, xy);
+        imaginary = newSum;
+    }
+
+    /**
+     * Gets the value of the sum including the compensation.
+     *
+     * @param sum Standard sum.
+     * @param comp Compensation.
+     * @return the value.
+     */
+    private static double value(double sum, double comp) {
+        // Preserve the sign of zero when there is no round-off
+        if (comp == 0) {
+            return sum;
+        }
+        // High-precision value if it is finite, standard IEEE754 result otherwise.
+        final double hpsum = sum + comp;
+        return Double.isFinite(hpsum) ?
+                hpsum :
+                sum;
+    }
+
+    /**
+     * Compute the round-off from the sum of two numbers {@code a} and {@code b} using
+     * Knuth's two-sum algorithm. The values are not required to be ordered by magnitude.
+     *
+     * @param a First part of sum.
+     * @param b Second part of sum.
+     * @param sum Sum of the parts (a + b).
+     * @return <code>(a - (sum - (sum - a))) + (b - (sum - a))</code>
+     * @see <a href="http://www-2.cs.cmu.edu/afs/cs/project/quake/public/papers/robust-arithmetic.ps">
+     * Shewchuk (1997) Theorum 7</a>
+     */
+    private static double twoSumLow(double a, double b, double sum) {
+        final double bVirtual = sum - a;
+        return (a - (sum - bVirtual)) + (b - bVirtual);
+    }
+
+    /**
+     * Compute the low part of the double length number {@code (z,zz)} for the exact
+     * product of {@code x} and {@code y} using Dekker's mult12 algorithm. Large
+     * numbers are scaled to avoid overflow in the split of the factors.
+     *
+     * <p>If {@code x * y} is sub-normal or zero then the result is 0.0;
+     * if {@code x * y} is infinite or NaN then the result is NaN.
+     *
+     * @param x First factor.
+     * @param y Second factor.
+     * @param xy Product of the factors (x * y).
+     * @return the low part of the product double length number
+     * @see <a href="https://doi.org/10.1007/BF01397083">
+     * Dekker (1971) A floating-point technique for extending the available precision</a>
+     */
+    private static double productLow(double x, double y, double xy) {
+        final double abs = Math.abs(xy);
+        if (abs <= Double.MIN_NORMAL || !(abs <= Double.MAX_VALUE)) {
+            // No round-off for sub-normal numbers; NaN for inf/nan
+            return xy - xy;
+        }
+        final double a = Math.abs(x);
+        final double b = Math.abs(y);
+        if (a + b + abs >= SAFE_UPPER) {
+            // Only required to scale the largest number as x*y does not overflow.
+            if (a > b) {
+                return productLowUnscaled(x * DOWN_SCALE, y, xy * DOWN_SCALE) * UP_SCALE;
+            }
+            return productLowUnscaled(x, y * DOWN_SCALE, xy * DOWN_SCALE) * UP_SCALE;
+        }
+        return productLowUnscaled(x, y, xy);
+    }
+
+    /**
+     * Compute the low part of the double length number {@code (z,zz)} for the exact
+     * product of {@code x} and {@code y} using Dekker's mult12 algorithm without scaling.
+     *
+     * @param x First factor.
+     * @param y Second factor.
+     * @param xy Product of the factors (x * y).
+     * @return <code>lx * ly - (((xy - hx * hy) - lx * hy) - hx * ly)</code>
+     * @see <a href="http://www-2.cs.cmu.edu/afs/cs/project/quake/public/papers/robust-arithmetic.ps">
+     * Shewchuk (1997) Theorum 18</a>
+     */
+    private static double productLowUnscaled(double x, double y, double xy) {
+        final double hx = splitHigh(x);
+        final double lx = x - hx;
+        final double hy = splitHigh(y);
+        final double ly = y - hy;
+        return lx * ly - (((xy - hx * hy) - lx * hy) - hx * ly);
+    }
+
+    /**
+     * Implement Dekker's method to split a value into two parts. Multiplying by (2^s + 1) creates
+     * a big value from which to derive the two split parts.
+     *
+     * @param a Value.
+     * @return the high part of the value.
+     */
+    private static double splitHigh(double a) {
+        final double c = MULTIPLIER * a;
+        return c - (c - a);
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * Bulk operations on complex numbers stored in separate primitive arrays of the
+ * real and imaginary parts.
+ *
+ * <p>Each operation computes the same result for each element as the equivalent
+ * method in {@link Complex}, including the special cases defined in ISO C99.
+ * The loops are written as straight-line arithmetic on the arrays; special cases
+ * that require the full scalar computation are detected with a single rarely taken
+ * branch per element.
+ *
+ * <p>The library is packaged as a multi-release jar. On Java 17 or later the arithmetic
+ * of {@code add}, {@code subtract}, {@code multiply}, {@code divide}, {@code conj} and
+ * {@code abs} is computed with SIMD instructions using the incubating Vector API when
+ * the module {@code jdk.incubator.vector} is added to the runtime, e.g. using
+ * {@code --add-modules jdk.incubator.vector}. Elements that require the special case
+ * handling of the scalar method, and any elements remaining after the last full vector,
+ * are computed using the scalar code. Otherwise the scalar code is used for all elements.
+ * The result is the same in either case.
+ *
+ * <p>The output arrays may be the same as the input arrays to compute the result in-place.
+ * All arrays must have the same length.
+ *
+ * @see Complex
+ * @see ComplexVector
+ */
+public final class ComplexArrays {
+    /**
+     * Stores a complex result at the current index of the output arrays.
+     */
+    private static final class Cursor implements ComplexSink<Void> {
+        /** Real parts. */
+        private final double[] re;
+        /** Imaginary parts. */
+        private final double[] im;
+        /** Index of the element to store. */
+        private int index;
+
+        /**
+         * @param re Real parts.
+         * @param im Imaginary parts.
+         */
+        Cursor(double[] re, double[] im) {
+            this.re = re;
+            this.im = im;
+        }
+
+        @Override
+        public Void apply(double real, double imaginary) {
+            re[index] = real;
+            im[index] = imaginary;
+            return null;
+        }
+    }
+
+    /** Number of elements processed as a block by {@link #abs(double[], double[], double[])}. */
+    private static final int BLOCK_SIZE = 256;
+    /** Upper limit on the magnitude of parts that can be squared without scaling: 2^500. */
+    private static final double LARGE_THRESHOLD = 0x1.0p500;
+    /** Lower limit on the magnitude of non-zero parts that can be squared without scaling: 2^-500. */
+    private static final double SMALL_THRESHOLD = 0x1.0p-500;
+
+    /** No instances. */
+    private ComplexArrays() {}
+
+    /**
+     * Adds the complex numbers element-wise.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see Complex#add(Complex)
+     */
+    public static void add(double[] re1, double[] im1, double[] re2, double[] im2,
+                           double[] reOut, double[] imOut) {
+        checkLength(re1, im1, re2, im2, reOut, imOut);
+        for (int i = SimdKernels.add(re1, im1, re2, im2, reOut, imOut); i < re1.length; i++) {
+            reOut[i] = re1[i] + re2[i];
+            imOut[i] = im1[i] + im2[i];
+        }
+    }
+
+    /**
+     * Subtracts the second complex numbers from the first complex numbers element-wise.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see Complex#subtract(Complex)
+     */
+    public static void subtract(double[] re1, double[] im1, double[] re2, double[] im2,
+                                double[] reOut, double[] imOut) {
+        checkLength(re1, im1, re2, im2, reOut, imOut);
+        for (int i = SimdKernels.subtract(re1, im1, re2, im2, reOut, imOut); i < re1.length; i++) {
+            reOut[i] = re1[i] - re2[i];
+            imOut[i] = im1[i] - im2[i];
+        }
+    }
+
+    /**
+     * Multiplies the complex numbers element-wise.
+     *
+     * <p>The product is computed directly; a result of {@code NaN + i NaN} is recomputed
+     * using the scalar method to recover infinities as defined in ISO C99.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see Complex#multiply(Complex)
+     */
+    public static void multiply(double[] re1, double[] im1, double[] re2, double[] im2,
+                                double[] reOut, double[] imOut) {
+        checkLength(re1, im1, re2, im2, reOut, imOut);
+        final int n = re1.length;
+        Cursor cursor = null;
+        // Each vector kernel call computes the elements up to the next
+        // that must be computed here
+        for (int i = SimdKernels.multiply(re1, im1, re2, im2, reOut, imOut, 0); i < n;
+             i = SimdKernels.multiply(re1, im1, re2, im2, reOut, imOut, i + 1)) {
+            final double a = re1[i];
+            final double b = im1[i];
+            final double c = re2[i];
+            final double d = im2[i];
+            final double x = a * c - b * d;
+            final double y = a * d + b * c;
+            if (x != x && y != y) {
+                // Rare: NaN + i NaN requires the recovery of infinities
+                if (cursor == null) {
+                    cursor = new Cursor(reOut, imOut);
+                }
+                cursor.index = i;
+                Complex.multiply(a, b, c, d, cursor);
+            } else {
+                reOut[i] = x;
+                imOut[i] = y;
+            }
+        }
+    }
+
+    /**
+     * Divides the first complex numbers by the second complex numbers element-wise.
+     *
+     * @param re1 Real parts of the dividends.
+     * @param im1 Imaginary parts of the dividends.
+     * @param re2 Real parts of the divisors.
+     * @param im2 Imaginary parts of the divisors.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see Complex#divide(Complex)
+     */
+    public static void divide(double[] re1, double[] im1, double[] re2, double[] im2,
+                              double[] reOut, double[] imOut) {
+        checkLength(re1, im1, re2, im2, reOut, imOut);
+        final int n = re1.length;
+        Cursor cursor = null;
+        // Each vector kernel call computes the elements up to the next
+        // that must be computed here
+        for (int i = SimdKernels.divide(re1, im1, re2, im2, reOut, imOut, 0); i < n;
+             i = SimdKernels.divide(re1, im1, re2, im2, reOut, imOut, i + 1)) {
+            if (cursor == null) {
+                cursor = new Cursor(reOut, imOut);
+            }
+            cursor.index = i;
+            Complex.divide(re1[i], im1[i], re2[i], im2[i], cursor);
+        }
+    }
+
+    /**
+     * Raises the complex numbers to the integer power {@code n}.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param n The exponent.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see Complex#pow(int)
+     */
+    public static void pow(double[] re, double[] im, int n, double[] reOut, double[] imOut) {
+        checkLength(re.length, im.length);
+        checkLength(re.length, reOut.length);
+        checkLength(re.length, imOut.length);
+        final Cursor cursor = new Cursor(reOut, imOut);
+        for (int i = 0; i < re.length; i++) {
+            cursor.index = i;
+            Complex.pow(re[i], im[i], n, cursor);
+        }
+    }
+
+    /**
+     * Computes the conjugate of the complex numbers.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see Complex#conj()
+     */
+    public static void conj(double[] re, double[] im, double[] reOut, double[] imOut) {
+        checkLength(re.length, im.length);
+        checkLength(re.length, reOut.length);
+        checkLength(re.length, imOut.length);
+        if (re != reOut) {
+            System.arraycopy(re, 0, reOut, 0, re.length);
+        }
+        for (int i = SimdKernels.negate(im, imOut); i < im.length; i++) {
+            imOut[i] = -im[i];
+        }
+    }
+
+    /**
+     * Computes the absolute value of the complex numbers.
+     *
+     * <p>The numbers are processed in blocks. The scaling required to avoid overflow or
+     * underflow of the squares is decided once per block by the range of the parts: if all
+     * non-zero parts of the block have a magnitude in {@code [2^-500, 2^500)} the extended
+     * precision sum of squares is computed directly for each number. Otherwise the block
+     * uses the scalar method which scales each number as required. The result is identical
+     * to {@link Complex#abs()}.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param out Absolute values.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see Complex#abs()
+     */
+    public static void abs(double[] re, double[] im, double[] out) {
+        checkLength(re.length, im.length);
+        checkLength(re.length, out.length);
+        for (int from = 0; from < re.length; from += BLOCK_SIZE) {
+            final int to = Math.min(from + BLOCK_SIZE, re.length);
+            if (isUnscaledRange(re, im, from, to)) {
+                for (int i = SimdKernels.abs(re, im, out, from, to); i < to; i++) {
+                    final double x = Math.abs(re[i]);
+                    final double y = Math.abs(im[i]);
+                    // The sum of squares requires |x| >= |y|
+                    out[i] = Math.sqrt(Complex.x2y2(Math.max(x, y), Math.min(x, y)));
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    out[i] = Complex.abs(re[i], im[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the squared norm of the complex numbers.
+     *
+     * <p>The squares are summed directly; a result of {@code NaN} is recomputed using
+     * the scalar method which returns infinity if either part is infinite.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param out Squared norms.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see Complex#norm()
+     */
+    public static void norm(double[] re, double[] im, double[] out) {
+        checkLength(re.length, im.length);
+        checkLength(re.length, out.length);
+        for (int i = 0; i < re.length; i++) {
+            final double x = re[i];
+            final double y = im[i];
+            final double r = x * x + y * y;
+            // Rare: NaN may be infinite
+            out[i] = r == r ? r : Complex.norm(x, y);
+        }
+    }
+
+    /**
+     * Test if the squares of the parts in the range can be summed without scaling.
+     * This is true if all parts are finite and all non-zero parts have a magnitude in
+     * {@code [2^-500, 2^500)}.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param from Start of the range (inclusive).
+     * @param to End of the range (exclusive).
+     * @return true if scaling is not required
+     */
+    private static boolean isUnscaledRange(double[] re, double[] im, int from, int to) {
+        double max = 0;
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            final double x = Math.abs(re[i]);
+            final double y = Math.abs(im[i]);
+            // Propagates NaN
+            max = Math.max(max, Math.max(x, y));
+            // Ignore zeros
+            min = Math.min(min, Math.min(x == 0 ? Double.POSITIVE_INFINITY : x,
+                                         y == 0 ? Double.POSITIVE_INFINITY : y));
+        }
+        return max < LARGE_THRESHOLD && min >= SMALL_THRESHOLD;
+    }
+
+    /**
+     * Check the arrays of the binary operation all have the same length.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    private static void checkLength(double[] re1, double[] im1, double[] re2, double[] im2,
+                                    double[] reOut, double[] imOut) {
+        final int n = re1.length;
+        checkLength(n, im1.length);
+        checkLength(n, re2.length);
+        checkLength(n, im2.length);
+        checkLength(n, reOut.length);
+        checkLength(n, imOut.length);
+    }
+
+    /**
+     * Check the lengths are equal.
+     *
+     * @param expected Expected length.
+     * @param actual Actual length.
+     * @throws IllegalArgumentException if the lengths do not match.
+     */
+    private static void checkLength(int expected, int actual) {
+        if (expected != actual) {
+            throw new IllegalArgumentException("Dimension mismatch: " + expected + " != " + actual);
+        }
+    }
+}
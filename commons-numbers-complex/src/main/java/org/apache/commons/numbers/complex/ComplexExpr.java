@@ -0,0 +1,577 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * A lazily evaluated chain of operations on a complex number.
+ *
+ * <p>The expression records the operations applied to a variable {@code z}; operands
+ * of binary operations are constants. For example the expression:
+ *
+ * <pre>
+ * ComplexExpr f = ComplexExpr.identity().multiply(w).add(c).exp().multiply(k);
+ * </pre>
+ *
+ * <p>computes {@code z.multiply(w).add(c).exp().multiply(k)} for any {@code z}.
+ * The expression can be evaluated for a single number or for arrays of numbers.
+ * Array evaluation computes all the operations on each element in a single pass
+ * over the data; no intermediate {@link Complex} objects or arrays are created.
+ *
+ * <p>Each operation uses the same computation as the equivalent method in
+ * {@link Complex}; the result is identical to eager evaluation of the chain
+ * including the special cases defined in ISO C99.
+ *
+ * <p>This class is immutable and thread-safe. Each operation returns a new expression;
+ * the recorded operations are shared with this expression.
+ *
+ * @see Complex
+ * @see ComplexFunctions
+ */
+public final class ComplexExpr {
+    /** The identity expression. */
+    private static final ComplexExpr IDENTITY = new ComplexExpr(null, null);
+
+    /**
+     * An operation in the chain. The operation is linked to the following operation
+     * when the expression is evaluated.
+     */
+    private interface Stage {
+        /**
+         * Create a consumer of the input to this stage that computes the operation
+         * and passes the result to the next stage.
+         *
+         * @param next Consumer of the result.
+         * @return the consumer of the input
+         */
+        ComplexSink<Void> link(ComplexSink<Void> next);
+    }
+
+    /**
+     * Stores the result of a scalar evaluation.
+     */
+    private static final class Result implements ComplexSink<Void> {
+        /** Real part. */
+        private double re;
+        /** Imaginary part. */
+        private double im;
+
+        @Override
+        public Void apply(double real, double imaginary) {
+            re = real;
+            im = imaginary;
+            return null;
+        }
+    }
+
+    /**
+     * Stores a result at the current index of the output arrays.
+     */
+    private static final class Cursor implements ComplexSink<Void> {
+        /** Real parts. */
+        private final double[] re;
+        /** Imaginary parts. */
+        private final double[] im;
+        /** Index of the element to store. */
+        private int index;
+
+        /**
+         * @param re Real parts.
+         * @param im Imaginary parts.
+         */
+        Cursor(double[] re, double[] im) {
+            this.re = re;
+            this.im = im;
+        }
+
+        @Override
+        public Void apply(double real, double imaginary) {
+            re[index] = real;
+            im[index] = imaginary;
+            return null;
+        }
+    }
+
+    /** The preceding operations (null for the identity). */
+    private final ComplexExpr previous;
+    /** The last operation (null for the identity). */
+    private final Stage stage;
+
+    /**
+     * @param previous Preceding operations.
+     * @param stage Last operation.
+     */
+    private ComplexExpr(ComplexExpr previous, Stage stage) {
+        this.previous = previous;
+        this.stage = stage;
+    }
+
+    /**
+     * Gets the identity expression {@code f(z) = z}. This is the start of a chain of operations.
+     *
+     * @return the identity expression
+     */
+    public static ComplexExpr identity() {
+        return IDENTITY;
+    }
+
+    /**
+     * Appends the operation to this expression.
+     *
+     * @param next Operation.
+     * @return the new expression
+     */
+    private ComplexExpr then(Stage next) {
+        return new ComplexExpr(this, next);
+    }
+
+    /**
+     * Appends addition of a complex number.
+     *
+     * @param addend Value to be added.
+     * @return the new expression
+     * @see Complex#add(Complex)
+     */
+    public ComplexExpr add(Complex addend) {
+        final double a = addend.getReal();
+        final double b = addend.getImaginary();
+        return then(next -> (x, y) -> next.apply(x + a, y + b));
+    }
+
+    /**
+     * Appends addition of a real number.
+     *
+     * @param addend Value to be added.
+     * @return the new expression
+     * @see Complex#add(double)
+     */
+    public ComplexExpr add(double addend) {
+        return then(next -> (x, y) -> next.apply(x + addend, y));
+    }
+
+    /**
+     * Appends subtraction of a complex number.
+     *
+     * @param subtrahend Value to be subtracted.
+     * @return the new expression
+     * @see Complex#subtract(Complex)
+     */
+    public ComplexExpr subtract(Complex subtrahend) {
+        final double a = subtrahend.getReal();
+        final double b = subtrahend.getImaginary();
+        return then(next -> (x, y) -> next.apply(x - a, y - b));
+    }
+
+    /**
+     * Appends subtraction of a real number.
+     *
+     * @param subtrahend Value to be subtracted.
+     * @return the new expression
+     * @see Complex#subtract(double)
+     */
+    public ComplexExpr subtract(double subtrahend) {
+        return then(next -> (x, y) -> next.apply(x - subtrahend, y));
+    }
+
+    /**
+     * Appends multiplication by a complex number.
+     *
+     * @param factor Value to be multiplied.
+     * @return the new expression
+     * @see Complex#multiply(Complex)
+     */
+    public ComplexExpr multiply(Complex factor) {
+        final double c = factor.getReal();
+        final double d = factor.getImaginary();
+        return then(next -> (x, y) -> Complex.multiply(x, y, c, d, next));
+    }
+
+    /**
+     * Appends multiplication by a real number.
+     *
+     * @param factor Value to be multiplied.
+     * @return the new expression
+     * @see Complex#multiply(double)
+     */
+    public ComplexExpr multiply(double factor) {
+        return then(next -> (x, y) -> next.apply(x * factor, y * factor));
+    }
+
+    /**
+     * Appends division by a complex number.
+     *
+     * @param divisor Value by which to divide.
+     * @return the new expression
+     * @see Complex#divide(Complex)
+     */
+    public ComplexExpr divide(Complex divisor) {
+        final double c = divisor.getReal();
+        final double d = divisor.getImaginary();
+        return then(next -> (x, y) -> Complex.divide(x, y, c, d, next));
+    }
+
+    /**
+     * Appends division by a real number.
+     *
+     * @param divisor Value by which to divide.
+     * @return the new expression
+     * @see Complex#divide(double)
+     */
+    public ComplexExpr divide(double divisor) {
+        return then(next -> (x, y) -> next.apply(x / divisor, y / divisor));
+    }
+
+    /**
+     * Appends the conjugate.
+     *
+     * @return the new expression
+     * @see Complex#conj()
+     */
+    public ComplexExpr conj() {
+        return then(next -> (x, y) -> next.apply(x, -y));
+    }
+
+    /**
+     * Appends the negation.
+     *
+     * @return the new expression
+     * @see Complex#negate()
+     */
+    public ComplexExpr negate() {
+        return then(next -> (x, y) -> next.apply(-x, -y));
+    }
+
+    /**
+     * Appends the complex power raised to the power of {@code x}.
+     *
+     * @param x The exponent.
+     * @return the new expression
+     * @see Complex#pow(Complex)
+     */
+    public ComplexExpr pow(Complex x) {
+        final double c = x.getReal();
+        final double d = x.getImaginary();
+        return then(next -> (a, b) -> Complex.pow(a, b, c, d, next));
+    }
+
+    /**
+     * Appends the complex power raised to the real power of {@code x}.
+     *
+     * @param x The exponent.
+     * @return the new expression
+     * @see Complex#pow(double)
+     */
+    public ComplexExpr pow(double x) {
+        return then(next -> (a, b) -> Complex.pow(a, b, x, next));
+    }
+
+    /**
+     * Appends the complex power raised to the integer power of {@code n}.
+     *
+     * @param n The exponent.
+     * @return the new expression
+     * @see Complex#pow(int)
+     */
+    public ComplexExpr pow(int n) {
+        return then(next -> (a, b) -> Complex.pow(a, b, n, next));
+    }
+
+    /**
+     * Appends the exponential.
+     *
+     * @return the new expression
+     * @see Complex#exp()
+     */
+    public ComplexExpr exp() {
+        return then(next -> (x, y) -> ComplexFunctions.exp(x, y, next));
+    }
+
+    /**
+     * Appends the natural logarithm.
+     *
+     * @return the new expression
+     * @see Complex#log()
+     */
+    public ComplexExpr log() {
+        return then(next -> (x, y) -> ComplexFunctions.log(x, y, next));
+    }
+
+    /**
+     * Appends the base 10 common logarithm.
+     *
+     * @return the new expression
+     * @see Complex#log10()
+     */
+    public ComplexExpr log10() {
+        return then(next -> (x, y) -> ComplexFunctions.log10(x, y, next));
+    }
+
+    /**
+     * Appends the square root.
+     *
+     * @return the new expression
+     * @see Complex#sqrt()
+     */
+    public ComplexExpr sqrt() {
+        return then(next -> (x, y) -> ComplexFunctions.sqrt(x, y, next));
+    }
+
+    /**
+     * Appends the sine.
+     *
+     * @return the new expression
+     * @see Complex#sin()
+     */
+    public ComplexExpr sin() {
+        return then(next -> (x, y) -> ComplexFunctions.sin(x, y, next));
+    }
+
+    /**
+     * Appends the cosine.
+     *
+     * @return the new expression
+     * @see Complex#cos()
+     */
+    public ComplexExpr cos() {
+        return then(next -> (x, y) -> ComplexFunctions.cos(x, y, next));
+    }
+
+    /**
+     * Appends the tangent.
+     *
+     * @return the new expression
+     * @see Complex#tan()
+     */
+    public ComplexExpr tan() {
+        return then(next -> (x, y) -> ComplexFunctions.tan(x, y, next));
+    }
+
+    /**
+     * Appends the inverse sine.
+     *
+     * @return the new expression
+     * @see Complex#asin()
+     */
+    public ComplexExpr asin() {
+        return then(next -> (x, y) -> ComplexFunctions.asin(x, y, next));
+    }
+
+    /**
+     * Appends the inverse cosine.
+     *
+     * @return the new expression
+     * @see Complex#acos()
+     */
+    public ComplexExpr acos() {
+        return then(next -> (x, y) -> ComplexFunctions.acos(x, y, next));
+    }
+
+    /**
+     * Appends the inverse tangent.
+     *
+     * @return the new expression
+     * @see Complex#atan()
+     */
+    public ComplexExpr atan() {
+        return then(next -> (x, y) -> ComplexFunctions.atan(x, y, next));
+    }
+
+    /**
+     * Appends the hyperbolic sine.
+     *
+     * @return the new expression
+     * @see Complex#sinh()
+     */
+    public ComplexExpr sinh() {
+        return then(next -> (x, y) -> ComplexFunctions.sinh(x, y, next));
+    }
+
+    /**
+     * Appends the hyperbolic cosine.
+     *
+     * @return the new expression
+     * @see Complex#cosh()
+     */
+    public ComplexExpr cosh() {
+        return then(next -> (x, y) -> ComplexFunctions.cosh(x, y, next));
+    }
+
+    /**
+     * Appends the hyperbolic tangent.
+     *
+     * @return the new expression
+     * @see Complex#tanh()
+     */
+    public ComplexExpr tanh() {
+        return then(next -> (x, y) -> ComplexFunctions.tanh(x, y, next));
+    }
+
+    /**
+     * Appends the inverse hyperbolic sine.
+     *
+     * @return the new expression
+     * @see Complex#asinh()
+     */
+    public ComplexExpr asinh() {
+        return then(next -> (x, y) -> ComplexFunctions.asinh(x, y, next));
+    }
+
+    /**
+     * Appends the inverse hyperbolic cosine.
+     *
+     * @return the new expression
+     * @see Complex#acosh()
+     */
+    public ComplexExpr acosh() {
+        return then(next -> (x, y) -> ComplexFunctions.acosh(x, y, next));
+    }
+
+    /**
+     * Appends the inverse hyperbolic tangent.
+     *
+     * @return the new expression
+     * @see Complex#atanh()
+     */
+    public ComplexExpr atanh() {
+        return then(next -> (x, y) -> ComplexFunctions.atanh(x, y, next));
+    }
+
+    /**
+     * Appends the operations of the expression. The result is equivalent to the
+     * composition {@code after(this(z))}.
+     *
+     * @param after Expression to apply to the result of this expression.
+     * @return the new expression
+     */
+    public ComplexExpr andThen(ComplexExpr after) {
+        ComplexExpr e = this;
+        for (final Stage s : after.stages()) {
+            e = e.then(s);
+        }
+        return e;
+    }
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param z Complex number.
+     * @return the result
+     */
+    public Complex apply(Complex z) {
+        final Result result = new Result();
+        link(result).apply(z.getReal(), z.getImaginary());
+        return Complex.ofCartesian(result.re, result.im);
+    }
+
+    /**
+     * Evaluates the expression and passes the result to the sink.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return the result of the sink
+     */
+    public <R> R apply(double real, double imaginary, ComplexSink<R> sink) {
+        final Result result = new Result();
+        link(result).apply(real, imaginary);
+        return sink.apply(result.re, result.im);
+    }
+
+    /**
+     * Evaluates the expression for each element of the arrays.
+     * The output arrays may be the same as the input arrays to compute the result in-place.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public void apply(double[] re, double[] im, double[] reOut, double[] imOut) {
+        checkLength(re.length, im.length);
+        checkLength(re.length, reOut.length);
+        checkLength(re.length, imOut.length);
+        final Cursor cursor = new Cursor(reOut, imOut);
+        final ComplexSink<Void> head = link(cursor);
+        for (int i = 0; i < re.length; i++) {
+            cursor.index = i;
+            head.apply(re[i], im[i]);
+        }
+    }
+
+    /**
+     * Evaluates the expression for each element of the vector. The vector is updated in-place.
+     *
+     * @param vector Vector.
+     * @return the vector
+     */
+    public ComplexVector apply(ComplexVector vector) {
+        final int size = vector.size();
+        final Result result = new Result();
+        final ComplexSink<Void> head = link(result);
+        for (int i = 0; i < size; i++) {
+            head.apply(vector.getReal(i), vector.getImaginary(i));
+            vector.set(i, result.re, result.im);
+        }
+        return vector;
+    }
+
+    /**
+     * Link the operations of the expression to the terminal consumer.
+     *
+     * @param terminal Consumer of the final result.
+     * @return the consumer of the input
+     */
+    private ComplexSink<Void> link(ComplexSink<Void> terminal) {
+        ComplexSink<Void> sink = terminal;
+        for (ComplexExpr e = this; e.stage != null; e = e.previous) {
+            sink = e.stage.link(sink);
+        }
+        return sink;
+    }
+
+    /**
+     * Gets the operations of the expression in order of evaluation.
+     *
+     * @return the operations
+     */
+    private Stage[] stages() {
+        int n = 0;
+        for (ComplexExpr e = this; e.stage != null; e = e.previous) {
+            n++;
+        }
+        final Stage[] stages = new Stage[n];
+        for (ComplexExpr e = this; e.stage != null; e = e.previous) {
+            stages[--n] = e.stage;
+        }
+        return stages;
+    }
+
+    /**
+     * Check the lengths are equal.
+     *
+     * @param a First length.
+     * @param b Second length.
+     * @throws IllegalArgumentException if the lengths are not equal.
+     */
+    private static void checkLength(int a, int b) {
+        if (a != b) {
+            throw new IllegalArgumentException("Dimension mismatch: " + a + " != " + b);
+        }
+    }
+}
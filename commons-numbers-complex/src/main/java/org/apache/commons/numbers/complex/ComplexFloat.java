@@ -0,0 +1,743 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cartesian representation of a complex number using single-precision ({@code float})
+ * real and imaginary parts. The complex number is expressed in the form \( a + ib \)
+ * where \( a \) and \( b \) are {@code float} values.
+ *
+ * <p>This class mirrors the API of {@link Complex}. It halves the storage of each value
+ * and is intended for data acquired or stored in single precision.
+ *
+ * <p>Arithmetic is performed on the {@code float} parts where the result is correctly
+ * rounded. Multiplication, division and the elementary functions are computed from the
+ * parts widened to {@code double} using the implementation of {@link Complex}, and the
+ * result is rounded to {@code float}. The special cases defined by ISO C99 for complex
+ * numbers are therefore the same as {@code Complex}. Results that exceed the range of
+ * {@code float} overflow to infinity.
+ *
+ * <p>This class is immutable.
+ *
+ * @see Complex
+ * @see ComplexFloatArrays
+ */
+public final class ComplexFloat implements Serializable {
+    /**
+     * A complex number representing \( i \), the square root of \( -1 \).
+     *
+     * <p>\( (0 + i 1) \).
+     */
+    public static final ComplexFloat I = new ComplexFloat(0, 1);
+    /**
+     * A complex number representing one.
+     *
+     * <p>\( (1 + i 0) \).
+     */
+    public static final ComplexFloat ONE = new ComplexFloat(1, 0);
+    /**
+     * A complex number representing zero.
+     *
+     * <p>\( (0 + i 0) \).
+     */
+    public static final ComplexFloat ZERO = new ComplexFloat(0, 0);
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261015L;
+
+    /** The size of the buffer for {@link #toString()}. */
+    private static final int TO_STRING_SIZE = 32;
+    /** {@link #toString() String representation}. */
+    private static final char FORMAT_START = '(';
+    /** {@link #toString() String representation}. */
+    private static final char FORMAT_END = ')';
+    /** {@link #toString() String representation}. */
+    private static final char FORMAT_SEP = ',';
+
+    /** The imaginary part. */
+    private final float imaginary;
+    /** The real part. */
+    private final float real;
+
+    /**
+     * Private default constructor.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     */
+    private ComplexFloat(float real, float imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Create a complex number given the real and imaginary parts.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return {@code ComplexFloat} number.
+     */
+    public static ComplexFloat ofCartesian(float real, float imaginary) {
+        return new ComplexFloat(real, imaginary);
+    }
+
+    /**
+     * Creates a complex number from its polar representation using modulus {@code rho}
+     * and phase angle {@code theta}.
+     *
+     * @param rho The modulus of the complex number.
+     * @param theta The argument of the complex number.
+     * @return {@code ComplexFloat} number.
+     * @see Complex#ofPolar(double, double)
+     */
+    public static ComplexFloat ofPolar(float rho, float theta) {
+        return of(Complex.ofPolar(rho, theta));
+    }
+
+    /**
+     * Create a complex cis number: \( \cos(x) + i \sin(x) \).
+     *
+     * @param x {@code float} to build the cis number.
+     * @return {@code ComplexFloat} cis number.
+     * @see Complex#ofCis(double)
+     */
+    public static ComplexFloat ofCis(float x) {
+        return new ComplexFloat((float) Math.cos(x), (float) Math.sin(x));
+    }
+
+    /**
+     * Create a complex number by rounding the parts of the double-precision complex
+     * number to {@code float}.
+     *
+     * @param z Complex number.
+     * @return {@code ComplexFloat} number.
+     */
+    public static ComplexFloat of(Complex z) {
+        return new ComplexFloat((float) z.getReal(), (float) z.getImaginary());
+    }
+
+    /**
+     * Create a complex number from double-precision parts rounded to {@code float}.
+     * This is used as the {@link ComplexSink} for the double-precision functions.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return {@code ComplexFloat} number.
+     */
+    private static ComplexFloat round(double real, double imaginary) {
+        return new ComplexFloat((float) real, (float) imaginary);
+    }
+
+    /**
+     * Gets the real part \( a \) of this complex number \( (a + i b) \).
+     *
+     * @return The real part.
+     */
+    public float getReal() {
+        return real;
+    }
+
+    /**
+     * Gets the real part \( a \) of this complex number \( (a + i b) \).
+     *
+     * <p>This method is the equivalent of the C++ method {@code std::complex::real}.
+     *
+     * @return The real part.
+     * @see #getReal()
+     */
+    public float real() {
+        return getReal();
+    }
+
+    /**
+     * Gets the imaginary part \( b \) of this complex number \( (a + i b) \).
+     *
+     * @return The imaginary part.
+     */
+    public float getImaginary() {
+        return imaginary;
+    }
+
+    /**
+     * Gets the imaginary part \( b \) of this complex number \( (a + i b) \).
+     *
+     * <p>This method is the equivalent of the C++ method {@code std::complex::imag}.
+     *
+     * @return The imaginary part.
+     * @see #getImaginary()
+     */
+    public float imag() {
+        return getImaginary();
+    }
+
+    /**
+     * Converts this complex number to a double-precision complex number. The conversion
+     * is exact.
+     *
+     * @return {@code Complex} number.
+     */
+    public Complex toComplex() {
+        return Complex.ofCartesian(real, imaginary);
+    }
+
+    /**
+     * Returns the absolute value of this complex number. This is also called complex norm,
+     * modulus, or magnitude.
+     *
+     * <p>The sum of the squares is computed in double precision without overflow or
+     * underflow. The result is within 1 ulp of the exact result.
+     *
+     * @return The absolute value.
+     * @see Complex#abs()
+     */
+    public float abs() {
+        return ComplexFloatArrays.abs(real, imaginary);
+    }
+
+    /**
+     * Returns the argument of this complex number.
+     *
+     * @return The argument of this complex number.
+     * @see Complex#arg()
+     */
+    public float arg() {
+        return (float) Math.atan2(imaginary, real);
+    }
+
+    /**
+     * Returns the squared norm value of this complex number.
+     *
+     * @return The square norm value.
+     * @see Complex#norm()
+     */
+    public float norm() {
+        return ComplexFloatArrays.norm(real, imaginary);
+    }
+
+    /**
+     * Returns {@code true} if either the real <em>or</em> imaginary component of the complex number is NaN
+     * <em>and</em> the complex number is not infinite.
+     *
+     * @return {@code true} if this instance contains NaN and no infinite parts.
+     * @see Complex#isNaN()
+     */
+    public boolean isNaN() {
+        if (Float.isNaN(real) || Float.isNaN(imaginary)) {
+            return !isInfinite();
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if either real or imaginary component of the complex number is infinite.
+     *
+     * @return {@code true} if this instance contains an infinite value.
+     * @see Complex#isInfinite()
+     */
+    public boolean isInfinite() {
+        return Float.isInfinite(real) || Float.isInfinite(imaginary);
+    }
+
+    /**
+     * Returns {@code true} if both real and imaginary component of the complex number are finite.
+     *
+     * @return {@code true} if this instance contains finite values.
+     * @see Complex#isFinite()
+     */
+    public boolean isFinite() {
+        return Float.isFinite(real) && Float.isFinite(imaginary);
+    }
+
+    /**
+     * Returns the conjugate \( \overline{z} \) of this complex number \( z \).
+     *
+     * @return The conjugate (\( \overline{z} \)) of this complex number.
+     * @see Complex#conj()
+     */
+    public ComplexFloat conj() {
+        return new ComplexFloat(real, -imaginary);
+    }
+
+    /**
+     * Returns the negation of both the real and imaginary parts of this complex number.
+     *
+     * @return \( -z \).
+     * @see Complex#negate()
+     */
+    public ComplexFloat negate() {
+        return new ComplexFloat(-real, -imaginary);
+    }
+
+    /**
+     * Returns the projection of this complex number onto the Riemann sphere.
+     *
+     * @return \( z \) projected onto the Riemann sphere.
+     * @see Complex#proj()
+     */
+    public ComplexFloat proj() {
+        if (isInfinite()) {
+            return new ComplexFloat(Float.POSITIVE_INFINITY, Math.copySign(0.0f, imaginary));
+        }
+        return this;
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this + addend)}.
+     *
+     * @param addend Value to be added to this complex number.
+     * @return {@code this + addend}.
+     * @see Complex#add(Complex)
+     */
+    public ComplexFloat add(ComplexFloat addend) {
+        return new ComplexFloat(real + addend.real,
+                                imaginary + addend.imaginary);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this + addend)},
+     * with {@code addend} interpreted as a real number.
+     *
+     * @param addend Value to be added to this complex number.
+     * @return {@code this + addend}.
+     * @see Complex#add(double)
+     */
+    public ComplexFloat add(float addend) {
+        return new ComplexFloat(real + addend, imaginary);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this + addend)},
+     * with {@code addend} interpreted as an imaginary number.
+     *
+     * @param addend Value to be added to this complex number.
+     * @return {@code this + addend}.
+     * @see Complex#addImaginary(double)
+     */
+    public ComplexFloat addImaginary(float addend) {
+        return new ComplexFloat(real, imaginary + addend);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this - subtrahend)}.
+     *
+     * @param subtrahend Value to be subtracted from this complex number.
+     * @return {@code this - subtrahend}.
+     * @see Complex#subtract(Complex)
+     */
+    public ComplexFloat subtract(ComplexFloat subtrahend) {
+        return new ComplexFloat(real - subtrahend.real,
+                                imaginary - subtrahend.imaginary);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this - subtrahend)},
+     * with {@code subtrahend} interpreted as a real number.
+     *
+     * @param subtrahend Value to be subtracted from this complex number.
+     * @return {@code this - subtrahend}.
+     * @see Complex#subtract(double)
+     */
+    public ComplexFloat subtract(float subtrahend) {
+        return new ComplexFloat(real - subtrahend, imaginary);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this - subtrahend)},
+     * with {@code subtrahend} interpreted as an imaginary number.
+     *
+     * @param subtrahend Value to be subtracted from this complex number.
+     * @return {@code this - subtrahend}.
+     * @see Complex#subtractImaginary(double)
+     */
+    public ComplexFloat subtractImaginary(float subtrahend) {
+        return new ComplexFloat(real, imaginary - subtrahend);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (minuend - this)},
+     * with {@code minuend} interpreted as a real number.
+     *
+     * @param minuend Value this complex number is to be subtracted from.
+     * @return {@code minuend - this}.
+     * @see Complex#subtractFrom(double)
+     */
+    public ComplexFloat subtractFrom(float minuend) {
+        return new ComplexFloat(minuend - real, -imaginary);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this - subtrahend)},
+     * with {@code minuend} interpreted as an imaginary number.
+     *
+     * @param minuend Value this complex number is to be subtracted from.
+     * @return {@code this - subtrahend}.
+     * @see Complex#subtractFromImaginary(double)
+     */
+    public ComplexFloat subtractFromImaginary(float minuend) {
+        return new ComplexFloat(-real, minuend - imaginary);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code this * factor}.
+     *
+     * <p>The products of the parts are exact in double precision; each part of the
+     * result is rounded once to {@code float}.
+     *
+     * @param factor Value to be multiplied by this complex number.
+     * @return {@code this * factor}.
+     * @see Complex#multiply(Complex)
+     */
+    public ComplexFloat multiply(ComplexFloat factor) {
+        return ComplexFloatArrays.multiply(real, imaginary, factor.real, factor.imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code this * factor}, with {@code factor}
+     * interpreted as a real number.
+     *
+     * @param factor Value to be multiplied by this complex number.
+     * @return {@code this * factor}.
+     * @see Complex#multiply(double)
+     */
+    public ComplexFloat multiply(float factor) {
+        return new ComplexFloat(real * factor, imaginary * factor);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code this * factor}, with {@code factor}
+     * interpreted as an imaginary number.
+     *
+     * @param factor Value to be multiplied by this complex number.
+     * @return {@code this * factor}.
+     * @see Complex#multiplyImaginary(double)
+     */
+    public ComplexFloat multiplyImaginary(float factor) {
+        return new ComplexFloat(-imaginary * factor, real * factor);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this / divisor)}.
+     *
+     * <p>Finite values are divided using the textbook formula in double precision which
+     * cannot overflow or underflow for {@code float} parts.
+     *
+     * @param divisor Value by which this complex number is to be divided.
+     * @return {@code this / divisor}.
+     * @see Complex#divide(Complex)
+     */
+    public ComplexFloat divide(ComplexFloat divisor) {
+        return ComplexFloatArrays.divide(real, imaginary, divisor.real, divisor.imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this / divisor)},
+     * with {@code divisor} interpreted as a real number.
+     *
+     * @param divisor Value by which this complex number is to be divided.
+     * @return {@code this / divisor}.
+     * @see Complex#divide(double)
+     */
+    public ComplexFloat divide(float divisor) {
+        return new ComplexFloat(real / divisor, imaginary / divisor);
+    }
+
+    /**
+     * Returns a {@code ComplexFloat} whose value is {@code (this / divisor)},
+     * with {@code divisor} interpreted as an imaginary number.
+     *
+     * @param divisor Value by which this complex number is to be divided.
+     * @return {@code this / divisor}.
+     * @see Complex#divideImaginary(double)
+     */
+    public ComplexFloat divideImaginary(float divisor) {
+        return new ComplexFloat(imaginary / divisor, -real / divisor);
+    }
+
+    /**
+     * Returns the exponential function of this complex number.
+     *
+     * @return The exponential of this complex number.
+     * @see Complex#exp()
+     */
+    public ComplexFloat exp() {
+        return Complex.exp(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the natural logarithm of this complex number.
+     *
+     * @return The natural logarithm of this complex number.
+     * @see Complex#log()
+     */
+    public ComplexFloat log() {
+        return Complex.log(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the base 10 common logarithm of this complex number.
+     *
+     * @return The base 10 logarithm of this complex number.
+     * @see Complex#log10()
+     */
+    public ComplexFloat log10() {
+        return Complex.log10(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the complex power of this complex number raised to the power of {@code x}.
+     *
+     * @param x The exponent to which this complex number is to be raised.
+     * @return This complex number raised to the power of {@code x}.
+     * @see Complex#pow(Complex)
+     */
+    public ComplexFloat pow(ComplexFloat x) {
+        return Complex.pow(real, imaginary, x.real, x.imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the complex power of this complex number raised to the power of {@code x},
+     * with {@code x} interpreted as a real number.
+     *
+     * @param x The exponent to which this complex number is to be raised.
+     * @return This complex number raised to the power of {@code x}.
+     * @see Complex#pow(double)
+     */
+    public ComplexFloat pow(float x) {
+        return Complex.pow(real, imaginary, x, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the complex power of this complex number raised to the integer power {@code n}.
+     *
+     * @param n The exponent to which this complex number is to be raised.
+     * @return This complex number raised to the power of {@code n}.
+     * @see Complex#pow(int)
+     */
+    public ComplexFloat pow(int n) {
+        return Complex.pow(real, imaginary, n, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the square root of this complex number.
+     *
+     * @return The square root of this complex number.
+     * @see Complex#sqrt()
+     */
+    public ComplexFloat sqrt() {
+        return Complex.sqrt(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the trigonometric sine of this complex number.
+     *
+     * @return The sine of this complex number.
+     * @see Complex#sin()
+     */
+    public ComplexFloat sin() {
+        return ComplexFunctions.sin(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the trigonometric cosine of this complex number.
+     *
+     * @return The cosine of this complex number.
+     * @see Complex#cos()
+     */
+    public ComplexFloat cos() {
+        return ComplexFunctions.cos(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the trigonometric tangent of this complex number.
+     *
+     * @return The tangent of this complex number.
+     * @see Complex#tan()
+     */
+    public ComplexFloat tan() {
+        return ComplexFunctions.tan(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the inverse sine of this complex number.
+     *
+     * @return The inverse sine of this complex number.
+     * @see Complex#asin()
+     */
+    public ComplexFloat asin() {
+        return ComplexFunctions.asin(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the inverse cosine of this complex number.
+     *
+     * @return The inverse cosine of this complex number.
+     * @see Complex#acos()
+     */
+    public ComplexFloat acos() {
+        return ComplexFunctions.acos(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the inverse tangent of this complex number.
+     *
+     * @return The inverse tangent of this complex number.
+     * @see Complex#atan()
+     */
+    public ComplexFloat atan() {
+        return ComplexFunctions.atan(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the hyperbolic sine of this complex number.
+     *
+     * @return The hyperbolic sine of this complex number.
+     * @see Complex#sinh()
+     */
+    public ComplexFloat sinh() {
+        return ComplexFunctions.sinh(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the hyperbolic cosine of this complex number.
+     *
+     * @return The hyperbolic cosine of this complex number.
+     * @see Complex#cosh()
+     */
+    public ComplexFloat cosh() {
+        return ComplexFunctions.cosh(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the hyperbolic tangent of this complex number.
+     *
+     * @return The hyperbolic tangent of this complex number.
+     * @see Complex#tanh()
+     */
+    public ComplexFloat tanh() {
+        return ComplexFunctions.tanh(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the inverse hyperbolic sine of this complex number.
+     *
+     * @return The inverse hyperbolic sine of this complex number.
+     * @see Complex#asinh()
+     */
+    public ComplexFloat asinh() {
+        return ComplexFunctions.asinh(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the inverse hyperbolic cosine of this complex number.
+     *
+     * @return The inverse hyperbolic cosine of this complex number.
+     * @see Complex#acosh()
+     */
+    public ComplexFloat acosh() {
+        return ComplexFunctions.acosh(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the inverse hyperbolic tangent of this complex number.
+     *
+     * @return The inverse hyperbolic tangent of this complex number.
+     * @see Complex#atanh()
+     */
+    public ComplexFloat atanh() {
+        return ComplexFunctions.atanh(real, imaginary, ComplexFloat::round);
+    }
+
+    /**
+     * Returns the n-th roots of this complex number.
+     *
+     * @param n Degree of root.
+     * @return A list of all {@code n}-th roots of this complex number.
+     * @throws IllegalArgumentException if {@code n} is zero.
+     * @see Complex#nthRoot(int)
+     */
+    public List<ComplexFloat> nthRoot(int n) {
+        final List<Complex> roots = toComplex().nthRoot(n);
+        final List<ComplexFloat> result = new ArrayList<>(roots.size());
+        for (final Complex z : roots) {
+            result.add(of(z));
+        }
+        return result;
+    }
+
+    /**
+     * Test for equality with another object. If the other object is a {@code ComplexFloat}
+     * then the parts are compared using the semantics of {@link Float#equals(Object)}.
+     *
+     * <p>The behavior is the same as if the components of the two complex numbers were passed
+     * to {@link java.util.Arrays#equals(float[], float[]) Arrays.equals(float[], float[])}.
+     *
+     * @param other Object to test for equality with this instance.
+     * @return {@code true} if the objects are equal, {@code false} if object
+     * is {@code null}, not an instance of {@code ComplexFloat}, or not equal to
+     * this instance.
+     * @see Complex#equals(Object)
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof ComplexFloat) {
+            final ComplexFloat c = (ComplexFloat) other;
+            return Float.floatToIntBits(real) == Float.floatToIntBits(c.real) &&
+                Float.floatToIntBits(imaginary) == Float.floatToIntBits(c.imaginary);
+        }
+        return false;
+    }
+
+    /**
+     * Gets a hash code for the complex number.
+     *
+     * <p>The behavior is the same as if the components of the complex number were passed
+     * to {@link java.util.Arrays#hashCode(float[]) Arrays.hashCode(float[])}.
+     *
+     * @return A hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 + Float.hashCode(real)) + Float.hashCode(imaginary);
+    }
+
+    /**
+     * Returns a string representation of the complex number.
+     *
+     * <p>The format for complex number \( x + i y \) is {@code "(x,y)"}, with \( x \) and
+     * \( y \) converted as if using {@link Float#toString(float)}.
+     *
+     * @return A string representation of the complex number.
+     * @see Complex#toString()
+     */
+    @Override
+    public String toString() {
+        return new StringBuilder(TO_STRING_SIZE)
+            .append(FORMAT_START)
+            .append(real).append(FORMAT_SEP)
+            .append(imaginary)
+            .append(FORMAT_END)
+            .toString();
+    }
+}
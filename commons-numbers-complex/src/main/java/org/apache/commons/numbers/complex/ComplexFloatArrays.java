@@ -0,0 +1,436 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * Bulk operations on single-precision complex numbers stored in separate
+ * {@code float} arrays of the real and imaginary parts.
+ *
+ * <p>Each operation computes the same result for each element as the equivalent
+ * method in {@link ComplexFloat}, including the special cases defined in ISO C99.
+ * Products and quotients of {@code float} parts are computed in double precision
+ * where they cannot overflow or underflow; the scaling required by the
+ * double-precision methods of {@link Complex} is only used for non-finite
+ * values, detected with a single rarely taken branch per element.
+ *
+ * <p>The output arrays may be the same as the input arrays to compute the result in-place.
+ * All arrays must have the same length.
+ *
+ * @see ComplexFloat
+ * @see ComplexArrays
+ */
+public final class ComplexFloatArrays {
+    /**
+     * Stores a complex result, rounded to {@code float}, at the current index of
+     * the output arrays.
+     */
+    private static final class Cursor implements ComplexSink<Void> {
+        /** Real parts. */
+        private final float[] re;
+        /** Imaginary parts. */
+        private final float[] im;
+        /** Index of the element to store. */
+        private int index;
+
+        /**
+         * @param re Real parts.
+         * @param im Imaginary parts.
+         */
+        Cursor(float[] re, float[] im) {
+            this.re = re;
+            this.im = im;
+        }
+
+        @Override
+        public Void apply(double real, double imaginary) {
+            re[index] = (float) real;
+            im[index] = (float) imaginary;
+            return null;
+        }
+    }
+
+    /** No instances. */
+    private ComplexFloatArrays() {}
+
+    /**
+     * Adds the complex numbers element-wise.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see ComplexFloat#add(ComplexFloat)
+     */
+    public static void add(float[] re1, float[] im1, float[] re2, float[] im2,
+                           float[] reOut, float[] imOut) {
+        checkLength(re1, im1, re2, im2, reOut, imOut);
+        for (int i = 0; i < re1.length; i++) {
+            reOut[i] = re1[i] + re2[i];
+            imOut[i] = im1[i] + im2[i];
+        }
+    }
+
+    /**
+     * Subtracts the second complex numbers from the first complex numbers element-wise.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see ComplexFloat#subtract(ComplexFloat)
+     */
+    public static void subtract(float[] re1, float[] im1, float[] re2, float[] im2,
+                                float[] reOut, float[] imOut) {
+        checkLength(re1, im1, re2, im2, reOut, imOut);
+        for (int i = 0; i < re1.length; i++) {
+            reOut[i] = re1[i] - re2[i];
+            imOut[i] = im1[i] - im2[i];
+        }
+    }
+
+    /**
+     * Multiplies the complex numbers element-wise.
+     *
+     * <p>The products of the parts are exact in double precision and each part of the
+     * result is rounded once to {@code float}. A result of {@code NaN + i NaN} is recomputed
+     * using the scalar method to recover infinities as defined in ISO C99.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see ComplexFloat#multiply(ComplexFloat)
+     */
+    public static void multiply(float[] re1, float[] im1, float[] re2, float[] im2,
+                                float[] reOut, float[] imOut) {
+        checkLength(re1, im1, re2, im2, reOut, imOut);
+        Cursor cursor = null;
+        for (int i = 0; i < re1.length; i++) {
+            final double a = re1[i];
+            final double b = im1[i];
+            final double c = re2[i];
+            final double d = im2[i];
+            final double x = a * c - b * d;
+            final double y = a * d + b * c;
+            if (x != x && y != y) {
+                // Rare: NaN + i NaN requires the recovery of infinities
+                if (cursor == null) {
+                    cursor = new Cursor(reOut, imOut);
+                }
+                cursor.index = i;
+                Complex.multiply(a, b, c, d, cursor);
+            } else {
+                reOut[i] = (float) x;
+                imOut[i] = (float) y;
+            }
+        }
+    }
+
+    /**
+     * Divides the first complex numbers by the second complex numbers element-wise.
+     *
+     * <p>Finite values are divided using the textbook formula in double precision which
+     * cannot overflow or underflow for {@code float} parts. Other values use the scalar
+     * method for the special cases defined in ISO C99.
+     *
+     * @param re1 Real parts of the dividends.
+     * @param im1 Imaginary parts of the dividends.
+     * @param re2 Real parts of the divisors.
+     * @param im2 Imaginary parts of the divisors.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see ComplexFloat#divide(ComplexFloat)
+     */
+    public static void divide(float[] re1, float[] im1, float[] re2, float[] im2,
+                              float[] reOut, float[] imOut) {
+        checkLength(re1, im1, re2, im2, reOut, imOut);
+        Cursor cursor = null;
+        for (int i = 0; i < re1.length; i++) {
+            final double a = re1[i];
+            final double b = im1[i];
+            final double c = re2[i];
+            final double d = im2[i];
+            final double denom = c * c + d * d;
+            // The sum a + b + c + d is finite only if all parts are finite
+            if (denom != 0 && Double.isFinite(a + b + c + d)) {
+                reOut[i] = (float) ((a * c + b * d) / denom);
+                imOut[i] = (float) ((b * c - a * d) / denom);
+            } else {
+                // Rare: zero or non-finite values
+                if (cursor == null) {
+                    cursor = new Cursor(reOut, imOut);
+                }
+                cursor.index = i;
+                Complex.divide(a, b, c, d, cursor);
+            }
+        }
+    }
+
+    /**
+     * Computes the conjugate of the complex numbers.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see ComplexFloat#conj()
+     */
+    public static void conj(float[] re, float[] im, float[] reOut, float[] imOut) {
+        checkLength(re.length, im.length);
+        checkLength(re.length, reOut.length);
+        checkLength(re.length, imOut.length);
+        if (re != reOut) {
+            System.arraycopy(re, 0, reOut, 0, re.length);
+        }
+        for (int i = 0; i < im.length; i++) {
+            imOut[i] = -im[i];
+        }
+    }
+
+    /**
+     * Computes the absolute value of the complex numbers.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param out Absolute values.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see ComplexFloat#abs()
+     */
+    public static void abs(float[] re, float[] im, float[] out) {
+        checkLength(re.length, im.length);
+        checkLength(re.length, out.length);
+        for (int i = 0; i < re.length; i++) {
+            out[i] = abs(re[i], im[i]);
+        }
+    }
+
+    /**
+     * Computes the squared norm of the complex numbers.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param out Squared norms.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see ComplexFloat#norm()
+     */
+    public static void norm(float[] re, float[] im, float[] out) {
+        checkLength(re.length, im.length);
+        checkLength(re.length, out.length);
+        for (int i = 0; i < re.length; i++) {
+            out[i] = norm(re[i], im[i]);
+        }
+    }
+
+    /**
+     * Computes the exponential function of the complex numbers.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see ComplexFloat#exp()
+     */
+    public static void exp(float[] re, float[] im, float[] reOut, float[] imOut) {
+        final Cursor cursor = createCursor(re, im, reOut, imOut);
+        for (int i = 0; i < re.length; i++) {
+            cursor.index = i;
+            Complex.exp(re[i], im[i], cursor);
+        }
+    }
+
+    /**
+     * Computes the natural logarithm of the complex numbers.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see ComplexFloat#log()
+     */
+    public static void log(float[] re, float[] im, float[] reOut, float[] imOut) {
+        final Cursor cursor = createCursor(re, im, reOut, imOut);
+        for (int i = 0; i < re.length; i++) {
+            cursor.index = i;
+            Complex.log(re[i], im[i], cursor);
+        }
+    }
+
+    /**
+     * Computes the square root of the complex numbers.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     * @see ComplexFloat#sqrt()
+     */
+    public static void sqrt(float[] re, float[] im, float[] reOut, float[] imOut) {
+        final Cursor cursor = createCursor(re, im, reOut, imOut);
+        for (int i = 0; i < re.length; i++) {
+            cursor.index = i;
+            Complex.sqrt(re[i], im[i], cursor);
+        }
+    }
+
+    /**
+     * Returns the absolute value of the complex number.
+     *
+     * <p>The squares of the parts are exact in double precision and the sum cannot
+     * overflow or underflow. Only the ISO C99 case of an infinite part with a NaN
+     * part requires the scalar method.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return The absolute value.
+     */
+    static float abs(float real, float imaginary) {
+        final double x = real;
+        final double y = imaginary;
+        final double r = Math.sqrt(x * x + y * y);
+        if (r != r) {
+            // Rare: NaN may be infinite
+            return (float) Complex.abs(x, y);
+        }
+        return (float) r;
+    }
+
+    /**
+     * Returns the squared norm value of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return The square norm value.
+     */
+    static float norm(float real, float imaginary) {
+        final double x = real;
+        final double y = imaginary;
+        final double r = x * x + y * y;
+        if (r != r) {
+            // Rare: NaN may be infinite
+            return (float) Complex.norm(x, y);
+        }
+        return (float) r;
+    }
+
+    /**
+     * Returns the product of two complex numbers.
+     *
+     * @param <R> Type of the result.
+     * @param re1 Real part of the first number.
+     * @param im1 Imaginary part of the first number.
+     * @param re2 Real part of the second number.
+     * @param im2 Imaginary part of the second number.
+     * @param sink Consumer of the result.
+     * @return the result of the sink
+     * @see #multiply(float[], float[], float[], float[], float[], float[])
+     */
+    static <R> R multiply(float re1, float im1, float re2, float im2, ComplexSink<R> sink) {
+        // Matches the direct formula of Complex.multiply for non-NaN results
+        return Complex.multiply(re1, im1, re2, im2, sink);
+    }
+
+    /**
+     * Returns the quotient of two complex numbers.
+     *
+     * @param <R> Type of the result.
+     * @param re1 Real part of the dividend.
+     * @param im1 Imaginary part of the dividend.
+     * @param re2 Real part of the divisor.
+     * @param im2 Imaginary part of the divisor.
+     * @param sink Consumer of the result.
+     * @return the result of the sink
+     * @see #divide(float[], float[], float[], float[], float[], float[])
+     */
+    static <R> R divide(float re1, float im1, float re2, float im2, ComplexSink<R> sink) {
+        final double a = re1;
+        final double b = im1;
+        final double c = re2;
+        final double d = im2;
+        final double denom = c * c + d * d;
+        if (denom != 0 && Double.isFinite(a + b + c + d)) {
+            return sink.apply((a * c + b * d) / denom, (b * c - a * d) / denom);
+        }
+        return Complex.divide(a, b, c, d, sink);
+    }
+
+    /**
+     * Check the arrays of the unary operation all have the same length and create
+     * a cursor for the output.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @return the cursor
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    private static Cursor createCursor(float[] re, float[] im, float[] reOut, float[] imOut) {
+        checkLength(re.length, im.length);
+        checkLength(re.length, reOut.length);
+        checkLength(re.length, imOut.length);
+        return new Cursor(reOut, imOut);
+    }
+
+    /**
+     * Check the arrays of the binary operation all have the same length.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    private static void checkLength(float[] re1, float[] im1, float[] re2, float[] im2,
+                                    float[] reOut, float[] imOut) {
+        final int n = re1.length;
+        checkLength(n, im1.length);
+        checkLength(n, re2.length);
+        checkLength(n, im2.length);
+        checkLength(n, reOut.length);
+        checkLength(n, imOut.length);
+    }
+
+    /**
+     * Check the lengths are equal.
+     *
+     * @param expected Expected length.
+     * @param actual Actual length.
+     * @throws IllegalArgumentException if the lengths do not match.
+     */
+    private static void checkLength(int expected, int actual) {
+        if (expected != actual) {
+            throw new IllegalArgumentException("Dimension mismatch: " + expected + " != " + actual);
+        }
+    }
+}
@@ -0,0 +1,537 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+/**
+ * Bulk parsing and formatting of complex numbers in the text format of
+ * {@link Complex#toString()}, e.g. {@code "(1.0,-2.5)"}, using separate primitive
+ * arrays of the real and imaginary parts.
+ *
+ * <p>Parsing scans an array of the characters. A {@link CharBuffer} backed by an array
+ * is scanned in place; other text is first copied to an array. Values may be separated
+ * by any combination of whitespace, commas and semicolons, allowing the format to be
+ * used for lines of text or comma separated values. Each value is parsed with the same rules as
+ * {@link Complex#parse(String)}. Numeric parts in plain or scientific decimal notation
+ * are converted without allocation if the significant digits form an integer of at most
+ * 2<sup>53</sup> and the decimal exponent is in {@code [-22, 22]}; the digits and the power
+ * of 10 are exactly represented before a single correctly rounded multiplication or
+ * division. This includes all parts with up to 15 significant digits.
+ *
+ * <p>Parts with 17 significant digits, as output by {@link Double#toString(double)} for
+ * many {@code double} values, and other parts outside the above limits are delegated to
+ * {@link Double#parseDouble(String)} which requires a {@code String} for each part.
+ * An exact conversion of up to 17 digits without allocation requires extended precision
+ * arithmetic with a table of powers of 10 and is not supported.
+ *
+ * <p>Formatting writes each value exactly as {@link Complex#toString()}. The text is
+ * built in a reusable buffer and appended to the output in blocks, so that the cost
+ * of any conversion to a {@code String} required by the {@link Appendable} is shared
+ * by many values.
+ *
+ * @see Complex#parse(String)
+ * @see Complex#toString()
+ */
+public final class ComplexFormat {
+    /** {@link Complex#toString() String representation} start delimiter. */
+    private static final char FORMAT_START = '(';
+    /** {@link Complex#toString() String representation} end delimiter. */
+    private static final char FORMAT_END = ')';
+    /** {@link Complex#toString() String representation} separator of the parts. */
+    private static final char FORMAT_SEP = ',';
+    /** Separator of values that may be used in addition to whitespace. */
+    private static final char VALUE_SEP = ';';
+    /** Maximum number of significant digits that can be accumulated in a {@code long}. */
+    private static final int MAX_DIGITS = 18;
+    /** Maximum significand that is exactly represented by a {@code double}: 2^53. */
+    private static final long MAX_EXACT = 1L << 53;
+    /** Powers of 10 that are exactly represented by a {@code double}. */
+    private static final double[] POWERS_OF_10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+    };
+    /** Size of the buffer used to build the formatted text. */
+    private static final int BUFFER_SIZE = 8192;
+    /** Result indicating the number was not parsed by the fast path. */
+    private static final double NOT_PARSED = Double.NaN;
+
+    /**
+     * The state of parsing a region of text.
+     */
+    private static final class Cursor {
+        /** Text. */
+        private final char[] text;
+        /** End of the text (exclusive). */
+        private final int end;
+        /** Set to {@code true} to stop without error at an incomplete final value. */
+        private final boolean partial;
+        /** Index of the next character to parse. */
+        private int position;
+
+        /**
+         * @param text Text.
+         * @param position Index of the first character to parse.
+         * @param end End of the text (exclusive).
+         * @param partial Set to {@code true} to stop without error at an incomplete final value.
+         */
+        Cursor(char[] text, int position, int end, boolean partial) {
+            this.text = text;
+            this.position = position;
+            this.end = end;
+            this.partial = partial;
+        }
+    }
+
+    /** No instances. */
+    private ComplexFormat() {}
+
+    /**
+     * Parses all the complex numbers in the text.
+     *
+     * @param text Text.
+     * @param real Real parts of the result.
+     * @param imaginary Imaginary parts of the result.
+     * @return the number of values parsed.
+     * @throws NumberFormatException if the text does not contain a sequence of parsable
+     * complex numbers, or contains more numbers than the length of the result arrays.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static int parse(CharSequence text, double[] real, double[] imaginary) {
+        checkSize(real.length, imaginary.length);
+        final char[] chars = text.toString().toCharArray();
+        final int end = chars.length;
+        final Cursor cursor = new Cursor(chars, 0, end, false);
+        final int n = parse(cursor, real, imaginary, 0, real.length);
+        final int next = skipSeparators(chars, cursor.position, end);
+        if (next != end) {
+            throw new NumberFormatException(
+                parsingExceptionMsg("Too many values, capacity is " + real.length, chars, next));
+        }
+        return n;
+    }
+
+    /**
+     * Parses complex numbers from the buffer into the arrays, starting at the buffer
+     * position. At most {@code length} numbers are parsed.
+     *
+     * <p>On return the buffer position is after the last parsed number. A final number
+     * that is incomplete because the end of the buffer was reached is not consumed,
+     * allowing text to be read in chunks: the remaining content can be moved to the
+     * start of the buffer using {@link CharBuffer#compact()} before appending
+     * the next chunk.
+     *
+     * @param buffer Text.
+     * @param real Real parts of the result.
+     * @param imaginary Imaginary parts of the result.
+     * @param offset Index of the first result.
+     * @param length Maximum number of values to parse.
+     * @return the number of values parsed.
+     * @throws NumberFormatException if the text does not contain a sequence of parsable
+     * complex numbers.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the arrays.
+     */
+    public static int parse(CharBuffer buffer, double[] real, double[] imaginary, int offset, int length) {
+        checkRange(offset, length, Math.min(real.length, imaginary.length));
+        final int start = buffer.position();
+        // Use the absolute indices of the backing array if available,
+        // otherwise a copy of the remaining characters
+        final Cursor cursor;
+        final int base;
+        if (buffer.hasArray()) {
+            base = buffer.arrayOffset() + start;
+            cursor = new Cursor(buffer.array(), base, base + buffer.remaining(), true);
+        } else {
+            base = 0;
+            final char[] chars = new char[buffer.remaining()];
+            buffer.duplicate().get(chars);
+            cursor = new Cursor(chars, 0, chars.length, true);
+        }
+        final int n = parse(cursor, real, imaginary, offset, length);
+        buffer.position(start + cursor.position - base);
+        return n;
+    }
+
+    /**
+     * Formats the complex numbers and appends them to the output. Each value is
+     * formatted as {@link Complex#toString()} and values are separated by the separator.
+     *
+     * @param <A> Type of the output.
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @param from Index of the first value (inclusive).
+     * @param to Index of the last value (exclusive).
+     * @param separator Separator of values.
+     * @param out Output.
+     * @return the output.
+     * @throws IOException if an I/O error occurs writing to the output.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the arrays.
+     */
+    public static <A extends Appendable> A format(double[] real, double[] imaginary, int from, int to,
+                                                  CharSequence separator, A out) throws IOException {
+        checkRange(from, to - from, Math.min(real.length, imaginary.length));
+        if (out instanceof StringBuilder) {
+            format(real, imaginary, from, to, separator, (StringBuilder) out);
+            return out;
+        }
+        final StringBuilder sb = new StringBuilder(BUFFER_SIZE + 64);
+        for (int i = from; i < to; i++) {
+            if (i != from) {
+                sb.append(separator);
+            }
+            append(sb, real[i], imaginary[i]);
+            if (sb.length() >= BUFFER_SIZE) {
+                out.append(sb);
+                sb.setLength(0);
+            }
+        }
+        out.append(sb);
+        return out;
+    }
+
+    /**
+     * Formats the complex numbers and appends them to the output. Each value is
+     * formatted as {@link Complex#toString()} and values are separated by the separator.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @param from Index of the first value (inclusive).
+     * @param to Index of the last value (exclusive).
+     * @param separator Separator of values.
+     * @param out Output.
+     * @return the output.
+     * @throws IndexOutOfBoundsException if the range is out of bounds of the arrays.
+     */
+    public static StringBuilder format(double[] real, double[] imaginary, int from, int to,
+                                       CharSequence separator, StringBuilder out) {
+        checkRange(from, to - from, Math.min(real.length, imaginary.length));
+        for (int i = from; i < to; i++) {
+            if (i != from) {
+                out.append(separator);
+            }
+            append(out, real[i], imaginary[i]);
+        }
+        return out;
+    }
+
+    /**
+     * Parses complex numbers from the text into the arrays.
+     *
+     * @param cursor Text to parse; the position is updated to the index after the last parsed value.
+     * @param real Real parts of the result.
+     * @param imaginary Imaginary parts of the result.
+     * @param offset Index of the first result.
+     * @param length Maximum number of values to parse.
+     * @return the number of values parsed.
+     */
+    private static int parse(Cursor cursor, double[] real, double[] imaginary, int offset, int length) {
+        final char[] text = cursor.text;
+        final int end = cursor.end;
+        int pos = cursor.position;
+        int n = 0;
+        while (n < length) {
+            final int start = skipSeparators(text, pos, end);
+            if (start == end) {
+                break;
+            }
+            if (text[start] != FORMAT_START) {
+                throw new NumberFormatException(
+                    parsingExceptionMsg("Expected start delimiter '" + FORMAT_START + "'", text, start));
+            }
+            final int sep = indexOf(text, FORMAT_SEP, start + 1, end);
+            final int last = sep < 0 ? -1 : indexOf(text, FORMAT_END, sep + 1, end);
+            if (last < 0) {
+                if (cursor.partial) {
+                    break;
+                }
+                throw new NumberFormatException(
+                    parsingExceptionMsg("Incomplete value", text, start));
+            }
+            real[offset + n] = parseDouble(text, start + 1, sep, "real");
+            imaginary[offset + n] = parseDouble(text, sep + 1, last, "imaginary");
+            n++;
+            pos = last + 1;
+        }
+        cursor.position = pos;
+        return n;
+    }
+
+    /**
+     * Parses the numeric part of a complex number. Leading and trailing whitespace is ignored.
+     *
+     * @param text Text.
+     * @param from Start of the part (inclusive).
+     * @param to End of the part (exclusive).
+     * @param part Name of the part.
+     * @return the value.
+     * @throws NumberFormatException if the part is not a parsable number.
+     */
+    private static double parseDouble(char[] text, int from, int to, String part) {
+        // Trim as per String.trim() used by Double.parseDouble
+        int start = from;
+        int end = to;
+        while (start < end && text[start] <= ' ') {
+            start++;
+        }
+        while (end > start && text[end - 1] <= ' ') {
+            end--;
+        }
+        if (matches(text, start, end, "NaN")) {
+            return Double.NaN;
+        }
+        final double v = parseDecimal(text, start, end);
+        if (v == v) {
+            return v;
+        }
+        final String s = String.valueOf(text, start, end - start);
+        try {
+            return Double.parseDouble(s);
+        } catch (final NumberFormatException ex) {
+            throw new NumberFormatException(
+                parsingExceptionMsg("Could not parse " + part + " part '" + s + "'", text, from));
+        }
+    }
+
+    /**
+     * Parses a decimal number with a significand of at most 2^53 and a small exponent.
+     * The significand and the power of 10 are exactly represented by a {@code double}
+     * so the result of a single multiplication or division is correctly rounded.
+     *
+     * <p>Signed infinity is supported.
+     *
+     * @param text Text.
+     * @param from Start of the number (inclusive).
+     * @param to End of the number (exclusive).
+     * @return the value, or {@link #NOT_PARSED} if the number is not supported.
+     */
+    private static double parseDecimal(char[] text, int from, int to) {
+        if (from == to) {
+            return NOT_PARSED;
+        }
+        int i = from;
+        char c = text[i];
+        final boolean negative = c == '-';
+        if (negative || c == '+') {
+            i++;
+        }
+        if (matches(text, i, to, "Infinity")) {
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        boolean hasPoint = false;
+        for (; i < to; i++) {
+            c = text[i];
+            if (c >= '0' && c <= '9') {
+                hasDigits = true;
+                if (mantissa == 0 && c == '0') {
+                    // Leading zero
+                    if (hasPoint) {
+                        exponent--;
+                    }
+                    continue;
+                }
+                if (digits == MAX_DIGITS) {
+                    return NOT_PARSED;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (hasPoint) {
+                    exponent--;
+                }
+            } else if (c == '.' && !hasPoint) {
+                hasPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (!hasDigits) {
+            return NOT_PARSED;
+        }
+        if (i < to && (c == 'e' || c == 'E')) {
+            i++;
+            if (i == to) {
+                return NOT_PARSED;
+            }
+            c = text[i];
+            final boolean negativeExponent = c == '-';
+            if (negativeExponent || c == '+') {
+                i++;
+            }
+            if (i == to) {
+                return NOT_PARSED;
+            }
+            int e = 0;
+            for (; i < to; i++) {
+                c = text[i];
+                if (c < '0' || c > '9' || e > POWERS_OF_10.length + MAX_DIGITS) {
+                    // Invalid character or exponent is too large
+                    return NOT_PARSED;
+                }
+                e = e * 10 + (c - '0');
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+        if (i != to) {
+            // Unsupported characters, e.g. a type suffix or hex format
+            return NOT_PARSED;
+        }
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (mantissa > MAX_EXACT) {
+            return NOT_PARSED;
+        }
+        final double v;
+        if (exponent < 0) {
+            if (exponent < -POWERS_OF_10.length + 1) {
+                return NOT_PARSED;
+            }
+            v = mantissa / POWERS_OF_10[-exponent];
+        } else {
+            if (exponent >= POWERS_OF_10.length) {
+                return NOT_PARSED;
+            }
+            v = mantissa * POWERS_OF_10[exponent];
+        }
+        return negative ? -v : v;
+    }
+
+    /**
+     * Test if the text region exactly matches the string.
+     *
+     * @param text Text.
+     * @param from Start of the region (inclusive).
+     * @param to End of the region (exclusive).
+     * @param s String.
+     * @return true if a match
+     */
+    private static boolean matches(char[] text, int from, int to, String s) {
+        if (to - from != s.length()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (text[from + i] != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the complex number in the format of {@link Complex#toString()}.
+     *
+     * @param sb Output.
+     * @param re Real part.
+     * @param im Imaginary part.
+     */
+    private static void append(StringBuilder sb, double re, double im) {
+        sb.append(FORMAT_START)
+            .append(re).append(FORMAT_SEP)
+            .append(im)
+            .append(FORMAT_END);
+    }
+
+    /**
+     * Skip whitespace and value separators.
+     *
+     * @param text Text.
+     * @param from Start index.
+     * @param to End index (exclusive).
+     * @return the index of the next character, or {@code to}
+     */
+    private static int skipSeparators(char[] text, int from, int to) {
+        int i = from;
+        while (i < to) {
+            final char c = text[i];
+            if (c <= ' ' || c == FORMAT_SEP || c == VALUE_SEP) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Find the index of the character.
+     *
+     * @param text Text.
+     * @param ch Character.
+     * @param from Start index.
+     * @param to End index (exclusive).
+     * @return the index, or -1
+     */
+    private static int indexOf(char[] text, char ch, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (text[i] == ch) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Creates an exception message.
+     *
+     * @param message Message prefix.
+     * @param text Text.
+     * @param index Index of the error.
+     * @return A message.
+     */
+    private static String parsingExceptionMsg(String message, char[] text, int index) {
+        // Show a short section of the text
+        final int end = Math.min(text.length, index + 32);
+        return new StringBuilder(100)
+            .append(message)
+            .append(" at index ").append(index)
+            .append(": \"").append(text, index, end - index).append('"')
+            .toString();
+    }
+
+    /**
+     * Check the sizes are equal.
+     *
+     * @param size1 First size.
+     * @param size2 Second size.
+     * @throws IllegalArgumentException if the sizes are not equal.
+     */
+    private static void checkSize(int size1, int size2) {
+        if (size1 != size2) {
+            throw new IllegalArgumentException("Dimension mismatch: " + size1 + " != " + size2);
+        }
+    }
+
+    /**
+     * Check the range is within the length.
+     *
+     * @param from Start of the range.
+     * @param length Length of the range.
+     * @param size Size of the data.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    private static void checkRange(int from, int length, int size) {
+        if (from < 0 || length < 0 || from > size - length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + from + " + " + length +
+                ") out of bounds for length " + size);
+        }
+    }
+}
@@ -0,0 +1,437 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * Complex functions computed on the real and imaginary parts of a complex number.
+ *
+ * <p>Each function computes the same result as the equivalent method in {@link Complex}
+ * and passes the real and imaginary parts of the result to a {@link ComplexSink}.
+ * This allows the functions to be used on primitive data without creating a
+ * {@code Complex} for the argument or the result.
+ *
+ * <p>Functions defined in {@code Complex} using an identity with another function,
+ * for example \( \sin(z) = -i \sinh(iz) \), transform the result before it is
+ * passed to the sink.
+ *
+ * @see Complex
+ * @see ComplexSink
+ */
+public final class ComplexFunctions {
+    /** No instances. */
+    private ComplexFunctions() {}
+
+    /**
+     * Returns the absolute value of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return The absolute value.
+     * @see Complex#abs()
+     */
+    public static double abs(double real, double imaginary) {
+        return Complex.abs(real, imaginary);
+    }
+
+    /**
+     * Returns the argument of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return The argument.
+     * @see Complex#arg()
+     */
+    public static double arg(double real, double imaginary) {
+        return Math.atan2(imaginary, real);
+    }
+
+    /**
+     * Returns the squared norm value of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return The square norm value.
+     * @see Complex#norm()
+     */
+    public static double norm(double real, double imaginary) {
+        return Complex.norm(real, imaginary);
+    }
+
+    /**
+     * Returns the product of two complex numbers.
+     *
+     * @param re1 Real part of the first number.
+     * @param im1 Imaginary part of the first number.
+     * @param re2 Real part of the second number.
+     * @param im2 Imaginary part of the second number.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#multiply(Complex)
+     */
+    public static <R> R multiply(double re1, double im1, double re2, double im2, ComplexSink<R> sink) {
+        return Complex.multiply(re1, im1, re2, im2, sink);
+    }
+
+    /**
+     * Returns the quotient of two complex numbers.
+     *
+     * @param re1 Real part of the dividend.
+     * @param im1 Imaginary part of the dividend.
+     * @param re2 Real part of the divisor.
+     * @param im2 Imaginary part of the divisor.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#divide(Complex)
+     */
+    public static <R> R divide(double re1, double im1, double re2, double im2, ComplexSink<R> sink) {
+        return Complex.divide(re1, im1, re2, im2, sink);
+    }
+
+    /**
+     * Returns the product of two complex numbers with finite parts.
+     *
+     * <p>This is a fast variant of {@link #multiply(double, double, double, double, ComplexSink)
+     * multiply} that computes {@code (ac - bd) + i (ad + bc)} directly. The result is the
+     * same as {@link Complex#multiply(Complex)} when all the parts are finite and the
+     * result does not overflow. It omits the ISO C99 recovery of infinities: if any part
+     * is infinite or NaN, or the computation overflows, the result may contain NaN where
+     * {@code multiply} would return an infinite value.
+     *
+     * @param re1 Real part of the first number.
+     * @param im1 Imaginary part of the first number.
+     * @param re2 Real part of the second number.
+     * @param im2 Imaginary part of the second number.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see #multiply(double, double, double, double, ComplexSink)
+     */
+    public static <R> R multiplyFinite(double re1, double im1, double re2, double im2, ComplexSink<R> sink) {
+        return sink.apply(re1 * re2 - im1 * im2, re1 * im2 + im1 * re2);
+    }
+
+    /**
+     * Returns the quotient of two complex numbers with finite parts.
+     *
+     * <p>This is a fast variant of {@link #divide(double, double, double, double, ComplexSink)
+     * divide} using Smith's algorithm. The division is arranged to avoid overflow of
+     * intermediate products without the exponent scaling used by {@link Complex#divide(Complex)}.
+     * The result is within a few ULP of {@code divide} when all the parts are finite
+     * and the divisor is not zero, but may lose accuracy or underflow to zero when the
+     * parts differ greatly in magnitude. It omits the ISO C99 special cases: if any part
+     * is infinite or NaN, or the divisor is zero, the result may contain NaN where
+     * {@code divide} would return an infinite value or zero.
+     *
+     * @param re1 Real part of the dividend.
+     * @param im1 Imaginary part of the dividend.
+     * @param re2 Real part of the divisor.
+     * @param im2 Imaginary part of the divisor.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see #divide(double, double, double, double, ComplexSink)
+     * @see <a href="https://doi.org/10.1145/368637.368661">Smith (1962) Algorithm 116:
+     * Complex division. Commun. ACM 5, 435</a>
+     */
+    public static <R> R divideFinite(double re1, double im1, double re2, double im2, ComplexSink<R> sink) {
+        if (Math.abs(re2) >= Math.abs(im2)) {
+            final double r = im2 / re2;
+            final double t = re2 + im2 * r;
+            return sink.apply((re1 + im1 * r) / t, (im1 - re1 * r) / t);
+        }
+        final double r = re2 / im2;
+        final double t = re2 * r + im2;
+        return sink.apply((re1 * r + im1) / t, (im1 * r - re1) / t);
+    }
+
+    /**
+     * Returns the exponential function of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#exp()
+     */
+    public static <R> R exp(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.exp(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the natural logarithm of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#log()
+     */
+    public static <R> R log(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.log(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the base 10 common logarithm of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#log10()
+     */
+    public static <R> R log10(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.log10(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the complex power of the complex number raised to the power of the
+     * complex number {@code x}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param xReal Real part of the exponent.
+     * @param xImaginary Imaginary part of the exponent.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#pow(Complex)
+     */
+    public static <R> R pow(double real, double imaginary, double xReal, double xImaginary,
+                            ComplexSink<R> sink) {
+        return Complex.pow(real, imaginary, xReal, xImaginary, sink);
+    }
+
+    /**
+     * Returns the complex power of the complex number raised to the power of {@code x},
+     * with {@code x} interpreted as a real number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param x The exponent.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#pow(double)
+     */
+    public static <R> R pow(double real, double imaginary, double x, ComplexSink<R> sink) {
+        return Complex.pow(real, imaginary, x, sink);
+    }
+
+    /**
+     * Returns the complex power of the complex number raised to the integer power {@code n}.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param n The exponent.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#pow(int)
+     */
+    public static <R> R pow(double real, double imaginary, int n, ComplexSink<R> sink) {
+        return Complex.pow(real, imaginary, n, sink);
+    }
+
+    /**
+     * Returns the square root of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#sqrt()
+     */
+    public static <R> R sqrt(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.sqrt(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the sine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#sin()
+     */
+    public static <R> R sin(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.sin(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the cosine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#cos()
+     */
+    public static <R> R cos(double real, double imaginary, ComplexSink<R> sink) {
+        // cos(z) = cosh(iz)
+        return Complex.cosh(-imaginary, real, sink);
+    }
+
+    /**
+     * Returns the tangent of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#tan()
+     */
+    public static <R> R tan(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.tan(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the inverse sine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#asin()
+     */
+    public static <R> R asin(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.asin(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the inverse cosine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#acos()
+     */
+    public static <R> R acos(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.acos(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the inverse tangent of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#atan()
+     */
+    public static <R> R atan(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.atan(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the hyperbolic sine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#sinh()
+     */
+    public static <R> R sinh(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.sinh(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the hyperbolic cosine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#cosh()
+     */
+    public static <R> R cosh(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.cosh(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the hyperbolic tangent of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#tanh()
+     */
+    public static <R> R tanh(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.tanh(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the inverse hyperbolic sine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#asinh()
+     */
+    public static <R> R asinh(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.asinh(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the inverse hyperbolic cosine of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#acosh()
+     */
+    public static <R> R acosh(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.acosh(real, imaginary, sink);
+    }
+
+    /**
+     * Returns the inverse hyperbolic tangent of the complex number.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @param sink Consumer of the result.
+     * @param <R> Type of the result.
+     * @return The result of the sink.
+     * @see Complex#atanh()
+     */
+    public static <R> R atanh(double real, double imaginary, ComplexSink<R> sink) {
+        return Complex.atanh(real, imaginary, sink);
+    }
+}
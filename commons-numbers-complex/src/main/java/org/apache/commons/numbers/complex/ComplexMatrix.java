@@ -0,0 +1,537 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * A dense matrix of complex numbers stored using separate primitive arrays for the
+ * real and imaginary parts in row-major order.
+ *
+ * <p>Elements can be read and written as {@link Complex} values, and the matrix can be
+ * converted to and from {@code Complex[][]} or split {@code double[][]} arrays of the
+ * real and imaginary parts, as used by the 2D conversions of {@code ComplexUtils}.
+ *
+ * <p>Matrix products are computed on the primitive parts using the direct formula
+ * {@code (ac - bd) + i (ad + bc)} for each term of the sum; the ISO C99 recovery of
+ * infinities performed by {@link Complex#multiply(Complex)} is not applied. The
+ * matrix multiplication is blocked to reuse data in the processor cache, and large
+ * products are computed in parallel using the {@link ForkJoinPool#commonPool() common
+ * fork-join pool}.
+ *
+ * <p>This class is mutable using the {@code set} methods; all other operations return
+ * a new matrix. This class is not thread-safe.
+ *
+ * @see ComplexVector
+ */
+public final class ComplexMatrix {
+    /** Size of the square blocks used to partition the matrices. */
+    private static final int BLOCK_SIZE = 64;
+    /** Minimum number of multiply-add operations processed by a parallel task. */
+    private static final long PARALLEL_THRESHOLD = 1L << 18;
+
+    /** Number of rows. */
+    private final int rows;
+    /** Number of columns. */
+    private final int columns;
+    /** Real parts in row-major order. */
+    private final double[] real;
+    /** Imaginary parts in row-major order. */
+    private final double[] imaginary;
+
+    /**
+     * Applies an action to each index of a range, splitting the range between
+     * tasks until the number of indices is below a minimum.
+     */
+    private static final class RangeAction extends RecursiveAction {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261015L;
+
+        /** Start of the range (inclusive). */
+        private final int from;
+        /** End of the range (exclusive). */
+        private final int to;
+        /** Minimum number of indices to split. */
+        private final int grain;
+        /** Action to apply to each index. */
+        private final transient IntConsumer action;
+
+        /**
+         * @param from Start of the range (inclusive).
+         * @param to End of the range (exclusive).
+         * @param grain Minimum number of indices to split.
+         * @param action Action to apply to each index.
+         */
+        RangeAction(int from, int to, int grain, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+            } else {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new RangeAction(from, mid, grain, action),
+                          new RangeAction(mid, to, grain, action));
+            }
+        }
+    }
+
+    /**
+     * Create an instance using the provided arrays. The arrays are not copied.
+     *
+     * @param rows Number of rows.
+     * @param columns Number of columns.
+     * @param real Real parts in row-major order.
+     * @param imaginary Imaginary parts in row-major order.
+     */
+    private ComplexMatrix(int rows, int columns, double[] real, double[] imaginary) {
+        this.rows = rows;
+        this.columns = columns;
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Creates a matrix of the specified dimensions with all elements set to zero.
+     *
+     * @param rows Number of rows.
+     * @param columns Number of columns.
+     * @return the matrix.
+     * @throws IllegalArgumentException if either dimension is negative, or the number of
+     * elements is too large to be stored in an array.
+     */
+    public static ComplexMatrix create(int rows, int columns) {
+        checkNonNegative(rows);
+        checkNonNegative(columns);
+        final long size = (long) rows * columns;
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Matrix is too large: " + rows + " x " + columns);
+        }
+        return new ComplexMatrix(rows, columns, new double[(int) size], new double[(int) size]);
+    }
+
+    /**
+     * Creates a square identity matrix.
+     *
+     * @param size Number of rows and columns.
+     * @return the matrix.
+     * @throws IllegalArgumentException if {@code size < 0}.
+     */
+    public static ComplexMatrix identity(int size) {
+        final ComplexMatrix m = create(size, size);
+        for (int i = 0; i < size; i++) {
+            m.real[i * size + i] = 1;
+        }
+        return m;
+    }
+
+    /**
+     * Creates a matrix from the real and imaginary parts. The arrays are copied.
+     *
+     * @param real Real parts indexed as {@code [row][column]}.
+     * @param imaginary Imaginary parts indexed as {@code [row][column]}.
+     * @return the matrix.
+     * @throws IllegalArgumentException if the arrays are not rectangular or do not have
+     * the same dimensions.
+     */
+    public static ComplexMatrix ofCartesian(double[][] real, double[][] imaginary) {
+        final int n = real.length;
+        checkSize(n, imaginary.length);
+        final int m = n == 0 ? 0 : real[0].length;
+        final ComplexMatrix matrix = create(n, m);
+        for (int i = 0; i < n; i++) {
+            checkSize(m, real[i].length);
+            checkSize(m, imaginary[i].length);
+            System.arraycopy(real[i], 0, matrix.real, i * m, m);
+            System.arraycopy(imaginary[i], 0, matrix.imaginary, i * m, m);
+        }
+        return matrix;
+    }
+
+    /**
+     * Creates a matrix from the complex values.
+     *
+     * @param values Values indexed as {@code [row][column]}.
+     * @return the matrix.
+     * @throws IllegalArgumentException if the array is not rectangular.
+     */
+    public static ComplexMatrix of(Complex[][] values) {
+        final int n = values.length;
+        final int m = n == 0 ? 0 : values[0].length;
+        final ComplexMatrix matrix = create(n, m);
+        for (int i = 0; i < n; i++) {
+            final Complex[] row = values[i];
+            checkSize(m, row.length);
+            for (int j = 0; j < m; j++) {
+                matrix.real[i * m + j] = row[j].getReal();
+                matrix.imaginary[i * m + j] = row[j].getImaginary();
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Creates a copy of this matrix.
+     *
+     * @return the copy.
+     */
+    public ComplexMatrix copy() {
+        return new ComplexMatrix(rows, columns, real.clone(), imaginary.clone());
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the number of rows.
+     */
+    public int getRowDimension() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return the number of columns.
+     */
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    /**
+     * Gets the real part of the element at the specified position.
+     *
+     * @param row Row index.
+     * @param column Column index.
+     * @return the real part.
+     * @throws IndexOutOfBoundsException if the position is out of bounds.
+     */
+    public double getReal(int row, int column) {
+        return real[index(row, column)];
+    }
+
+    /**
+     * Gets the imaginary part of the element at the specified position.
+     *
+     * @param row Row index.
+     * @param column Column index.
+     * @return the imaginary part.
+     * @throws IndexOutOfBoundsException if the position is out of bounds.
+     */
+    public double getImaginary(int row, int column) {
+        return imaginary[index(row, column)];
+    }
+
+    /**
+     * Gets the element at the specified position.
+     *
+     * @param row Row index.
+     * @param column Column index.
+     * @return the complex value.
+     * @throws IndexOutOfBoundsException if the position is out of bounds.
+     */
+    public Complex get(int row, int column) {
+        final int i = index(row, column);
+        return Complex.ofCartesian(real[i], imaginary[i]);
+    }
+
+    /**
+     * Sets the element at the specified position.
+     *
+     * @param row Row index.
+     * @param column Column index.
+     * @param re Real part.
+     * @param im Imaginary part.
+     * @return this instance.
+     * @throws IndexOutOfBoundsException if the position is out of bounds.
+     */
+    public ComplexMatrix set(int row, int column, double re, double im) {
+        final int i = index(row, column);
+        real[i] = re;
+        imaginary[i] = im;
+        return this;
+    }
+
+    /**
+     * Sets the element at the specified position.
+     *
+     * @param row Row index.
+     * @param column Column index.
+     * @param value Value.
+     * @return this instance.
+     * @throws IndexOutOfBoundsException if the position is out of bounds.
+     */
+    public ComplexMatrix set(int row, int column, Complex value) {
+        return set(row, column, value.getReal(), value.getImaginary());
+    }
+
+    /**
+     * Gets a copy of the real parts.
+     *
+     * @return the real parts indexed as {@code [row][column]}.
+     */
+    public double[][] getReal() {
+        return toRows(real);
+    }
+
+    /**
+     * Gets a copy of the imaginary parts.
+     *
+     * @return the imaginary parts indexed as {@code [row][column]}.
+     */
+    public double[][] getImaginary() {
+        return toRows(imaginary);
+    }
+
+    /**
+     * Gets the elements as complex values.
+     *
+     * @return the complex values indexed as {@code [row][column]}.
+     */
+    public Complex[][] toArray() {
+        final Complex[][] result = new Complex[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            final Complex[] row = result[i];
+            for (int j = 0; j < columns; j++) {
+                row[j] = Complex.ofCartesian(real[i * columns + j], imaginary[i * columns + j]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the conjugate transpose (Hermitian transpose) of this matrix.
+     *
+     * @return the conjugate transpose.
+     */
+    public ComplexMatrix conjugateTranspose() {
+        final ComplexMatrix result = create(columns, rows);
+        final double[] re = result.real;
+        final double[] im = result.imaginary;
+        // Transpose in blocks so the reads and the writes both use cached rows
+        for (int ii = 0; ii < rows; ii += BLOCK_SIZE) {
+            final int iEnd = Math.min(ii + BLOCK_SIZE, rows);
+            for (int jj = 0; jj < columns; jj += BLOCK_SIZE) {
+                final int jEnd = Math.min(jj + BLOCK_SIZE, columns);
+                for (int i = ii; i < iEnd; i++) {
+                    for (int j = jj; j < jEnd; j++) {
+                        re[j * rows + i] = real[i * columns + j];
+                        im[j * rows + i] = -imaginary[i * columns + j];
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the product of this matrix and another matrix.
+     *
+     * @param other Matrix to multiply by.
+     * @return the product {@code this * other}.
+     * @throws IllegalArgumentException if the number of columns of this matrix is not
+     * equal to the number of rows of the other matrix.
+     */
+    public ComplexMatrix multiply(ComplexMatrix other) {
+        checkSize(columns, other.rows);
+        final ComplexMatrix result = create(rows, other.columns);
+        final int rowBlocks = (rows + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        final long work = (long) rows * columns * other.columns;
+        forEach(rowBlocks, work, block -> multiplyBlock(other, result, block * BLOCK_SIZE));
+        return result;
+    }
+
+    /**
+     * Computes the product of this matrix and a vector.
+     *
+     * @param vector Vector to multiply by.
+     * @return the product {@code this * vector}.
+     * @throws IllegalArgumentException if the number of columns of this matrix is not
+     * equal to the size of the vector.
+     */
+    public ComplexVector operate(ComplexVector vector) {
+        checkSize(columns, vector.size());
+        final double[] xr = vector.getReal();
+        final double[] xi = vector.getImaginary();
+        final double[] yr = new double[rows];
+        final double[] yi = new double[rows];
+        forEach(rows, (long) rows * columns, i -> {
+            double sr = 0;
+            double si = 0;
+            for (int k = 0, offset = i * columns; k < columns; k++, offset++) {
+                final double a = real[offset];
+                final double b = imaginary[offset];
+                sr += a * xr[k] - b * xi[k];
+                si += a * xi[k] + b * xr[k];
+            }
+            yr[i] = sr;
+            yi[i] = si;
+        });
+        return ComplexVector.ofCartesian(yr, yi);
+    }
+
+    /**
+     * Test for equality with another object. The objects are considered equal if
+     * they are both {@code ComplexMatrix} instances with the same dimensions and all
+     * elements are equal as defined by {@link Complex#equals(Object)}.
+     *
+     * @param other Object to test for equality with this instance.
+     * @return {@code true} if the objects are equal.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof ComplexMatrix) {
+            final ComplexMatrix m = (ComplexMatrix) other;
+            return rows == m.rows &&
+                columns == m.columns &&
+                Arrays.equals(real, m.real) &&
+                Arrays.equals(imaginary, m.imaginary);
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * rows + Arrays.hashCode(real)) + Arrays.hashCode(imaginary);
+    }
+
+    /**
+     * Compute a block of rows of the product {@code this * other}. The inner loops
+     * iterate over contiguous rows of the other matrix and the result.
+     *
+     * @param other Matrix to multiply by.
+     * @param result Product.
+     * @param from First row of the block.
+     */
+    private void multiplyBlock(ComplexMatrix other, ComplexMatrix result, int from) {
+        final int to = Math.min(from + BLOCK_SIZE, rows);
+        final int n = other.columns;
+        final double[] br = other.real;
+        final double[] bi = other.imaginary;
+        final double[] cr = result.real;
+        final double[] ci = result.imaginary;
+        for (int kk = 0; kk < columns; kk += BLOCK_SIZE) {
+            final int kEnd = Math.min(kk + BLOCK_SIZE, columns);
+            for (int jj = 0; jj < n; jj += BLOCK_SIZE) {
+                final int jEnd = Math.min(jj + BLOCK_SIZE, n);
+                for (int i = from; i < to; i++) {
+                    final int rowC = i * n;
+                    for (int k = kk; k < kEnd; k++) {
+                        final double a = real[i * columns + k];
+                        final double b = imaginary[i * columns + k];
+                        final int rowB = k * n;
+                        for (int j = jj; j < jEnd; j++) {
+                            final double c = br[rowB + j];
+                            final double d = bi[rowB + j];
+                            cr[rowC + j] += a * c - b * d;
+                            ci[rowC + j] += a * d + b * c;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the action to each index in {@code [0, length)}. The indices are
+     * processed in parallel if the total work is large.
+     *
+     * @param length Number of indices.
+     * @param work Total number of multiply-add operations.
+     * @param action Action to apply to each index.
+     */
+    private static void forEach(int length, long work, IntConsumer action) {
+        if (work < 2 * PARALLEL_THRESHOLD || length < 2) {
+            for (int i = 0; i < length; i++) {
+                action.accept(i);
+            }
+        } else {
+            // Number of indices processed by a task to provide at least the minimum work
+            final long perIndex = Math.max(1, work / length);
+            final int grain = (int) Math.max(1, PARALLEL_THRESHOLD / perIndex);
+            ForkJoinPool.commonPool().invoke(new RangeAction(0, length, grain, action));
+        }
+    }
+
+    /**
+     * Compute the index of the element in the row-major arrays.
+     *
+     * @param row Row index.
+     * @param column Column index.
+     * @return the index
+     * @throws IndexOutOfBoundsException if the position is out of bounds.
+     */
+    private int index(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException("Invalid position: (" + row + ", " + column + ")");
+        }
+        return row * columns + column;
+    }
+
+    /**
+     * Copy the row-major data to rows.
+     *
+     * @param data Row-major data.
+     * @return the rows
+     */
+    private double[][] toRows(double[] data) {
+        final double[][] result = new double[rows][];
+        for (int i = 0; i < rows; i++) {
+            result[i] = Arrays.copyOfRange(data, i * columns, (i + 1) * columns);
+        }
+        return result;
+    }
+
+    /**
+     * Check the size is not negative.
+     *
+     * @param size Size.
+     * @throws IllegalArgumentException if the size is negative.
+     */
+    private static void checkNonNegative(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+    }
+
+    /**
+     * Check the sizes are equal.
+     *
+     * @param size1 First size.
+     * @param size2 Second size.
+     * @throws IllegalArgumentException if the sizes are not equal.
+     */
+    private static void checkSize(int size1, int size2) {
+        if (size1 != size2) {
+            throw new IllegalArgumentException("Dimension mismatch: " + size1 + " != " + size2);
+        }
+    }
+}
@@ -0,0 +1,545 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.Arrays;
+
+/**
+ * A polynomial with complex coefficients:
+ *
+ * <p>\[ p(z) = c_0 + c_1 z + c_2 z^2 + \dots + c_n z^n \]
+ *
+ * <p>The coefficients are stored in primitive arrays of the real and imaginary parts
+ * in order of increasing power. Evaluation uses Horner's method on the primitive parts
+ * and does not create intermediate {@link Complex} objects. Products use the direct
+ * formula {@code (ac - bd) + i (ad + bc)} without the recovery of infinities performed
+ * by {@link Complex#multiply(Complex)}.
+ *
+ * <p>The roots are computed simultaneously using the Aberth-Ehrlich method. Newton
+ * corrections are computed with the overflow-safe division of {@link Complex#divide(Complex)};
+ * for points outside the unit circle the polynomial is evaluated in the reciprocal
+ * variable to avoid overflow of high powers.
+ *
+ * <p>Instances are immutable.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Horner%27s_method">Horner's method</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Aberth_method">Aberth method</a>
+ */
+public final class ComplexPolynomial {
+    /** Relative size of a correction below which a root has converged: {@code 2^-51}. */
+    private static final double CONVERGED = 0x1.0p-51;
+    /** Maximum number of iterations of the root finder. */
+    private static final int MAX_ITERATIONS = 1000;
+    /** Offset of the angle of the initial approximations to break the symmetry of the roots. */
+    private static final double ANGLE_OFFSET = 0.4;
+
+    /** Real parts of the coefficients. */
+    private final double[] re;
+    /** Imaginary parts of the coefficients. */
+    private final double[] im;
+
+    /**
+     * Stores the result of a complex function.
+     */
+    private static final class Result implements ComplexSink<Result> {
+        /** Real part. */
+        private double real;
+        /** Imaginary part. */
+        private double imaginary;
+
+        @Override
+        public Result apply(double r, double i) {
+            real = r;
+            imaginary = i;
+            return this;
+        }
+    }
+
+    /**
+     * @param re Real parts of the coefficients.
+     * @param im Imaginary parts of the coefficients.
+     */
+    private ComplexPolynomial(double[] re, double[] im) {
+        this.re = re;
+        this.im = im;
+    }
+
+    /**
+     * Creates a polynomial from the coefficients in order of increasing power.
+     * Zero coefficients of the highest powers are ignored.
+     *
+     * @param real Real parts of the coefficients.
+     * @param imaginary Imaginary parts of the coefficients.
+     * @return the polynomial
+     * @throws IllegalArgumentException if the arrays do not have the same length,
+     * or are empty.
+     */
+    public static ComplexPolynomial of(double[] real, double[] imaginary) {
+        checkLength(real.length, imaginary.length);
+        if (real.length == 0) {
+            throw new IllegalArgumentException("No coefficients");
+        }
+        int n = real.length;
+        while (n > 1 && real[n - 1] == 0 && imaginary[n - 1] == 0) {
+            n--;
+        }
+        return new ComplexPolynomial(Arrays.copyOf(real, n), Arrays.copyOf(imaginary, n));
+    }
+
+    /**
+     * Creates a polynomial from the coefficients in order of increasing power.
+     * Zero coefficients of the highest powers are ignored.
+     *
+     * @param coefficients Coefficients.
+     * @return the polynomial
+     * @throws IllegalArgumentException if there are no coefficients.
+     */
+    public static ComplexPolynomial of(Complex... coefficients) {
+        final double[] real = new double[coefficients.length];
+        final double[] imaginary = new double[coefficients.length];
+        for (int i = 0; i < real.length; i++) {
+            real[i] = coefficients[i].getReal();
+            imaginary[i] = coefficients[i].getImaginary();
+        }
+        return of(real, imaginary);
+    }
+
+    /**
+     * Creates the monic polynomial with the specified roots.
+     *
+     * <p>\[ p(z) = (z - r_1)(z - r_2) \dots (z - r_n) \]
+     *
+     * @param real Real parts of the roots.
+     * @param imaginary Imaginary parts of the roots.
+     * @return the polynomial
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static ComplexPolynomial fromRoots(double[] real, double[] imaginary) {
+        final int n = checkLength(real.length, imaginary.length);
+        final double[] cr = new double[n + 1];
+        final double[] ci = new double[n + 1];
+        cr[0] = 1;
+        // Multiply by (z - r) for each root: c_j = c_{j-1} - r c_j
+        for (int k = 0; k < n; k++) {
+            final double a = real[k];
+            final double b = imaginary[k];
+            for (int j = k + 1; j > 0; j--) {
+                final double x = cr[j];
+                final double y = ci[j];
+                cr[j] = cr[j - 1] - (a * x - b * y);
+                ci[j] = ci[j - 1] - (a * y + b * x);
+            }
+            final double x = cr[0];
+            final double y = ci[0];
+            cr[0] = -(a * x - b * y);
+            ci[0] = -(a * y + b * x);
+        }
+        return new ComplexPolynomial(cr, ci);
+    }
+
+    /**
+     * Gets the degree of the polynomial.
+     *
+     * @return the degree
+     */
+    public int degree() {
+        return re.length - 1;
+    }
+
+    /**
+     * Gets the coefficient of the specified power.
+     *
+     * @param power Power.
+     * @return the coefficient
+     * @throws IndexOutOfBoundsException if the power is negative or above the degree.
+     */
+    public Complex getCoefficient(int power) {
+        return Complex.ofCartesian(re[power], im[power]);
+    }
+
+    /**
+     * Gets the real parts of the coefficients in order of increasing power.
+     *
+     * @return the real parts
+     */
+    public double[] getReal() {
+        return re.clone();
+    }
+
+    /**
+     * Gets the imaginary parts of the coefficients in order of increasing power.
+     *
+     * @return the imaginary parts
+     */
+    public double[] getImaginary() {
+        return im.clone();
+    }
+
+    /**
+     * Gets the derivative of the polynomial.
+     *
+     * @return the derivative
+     */
+    public ComplexPolynomial derivative() {
+        final int n = re.length - 1;
+        if (n == 0) {
+            return new ComplexPolynomial(new double[1], new double[1]);
+        }
+        final double[] dr = new double[n];
+        final double[] di = new double[n];
+        for (int j = 1; j <= n; j++) {
+            dr[j - 1] = j * re[j];
+            di[j - 1] = j * im[j];
+        }
+        return new ComplexPolynomial(dr, di);
+    }
+
+    /**
+     * Evaluates the polynomial.
+     *
+     * @param z Point.
+     * @return p(z)
+     */
+    public Complex value(Complex z) {
+        return value(z.getReal(), z.getImaginary(), Complex::ofCartesian);
+    }
+
+    /**
+     * Evaluates the polynomial and passes the result to the provided function.
+     *
+     * @param real Real part of the point.
+     * @param imaginary Imaginary part of the point.
+     * @param action Function to receive the result.
+     * @param <R> Type of the result.
+     * @return the result of the function
+     */
+    public <R> R value(double real, double imaginary, ComplexSink<R> action) {
+        final int n = re.length - 1;
+        double sr = re[n];
+        double si = im[n];
+        for (int j = n - 1; j >= 0; j--) {
+            final double t = sr * real - si * imaginary + re[j];
+            si = sr * imaginary + si * real + im[j];
+            sr = t;
+        }
+        return action.apply(sr, si);
+    }
+
+    /**
+     * Evaluates the polynomial at each point.
+     *
+     * <p>The output arrays may be the same as the input arrays to compute the result in-place.
+     *
+     * @param real Real parts of the points.
+     * @param imaginary Imaginary parts of the points.
+     * @param realOut Real parts of the result.
+     * @param imaginaryOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public void value(double[] real, double[] imaginary, double[] realOut, double[] imaginaryOut) {
+        final int size = checkLength(real.length, imaginary.length);
+        checkLength(size, realOut.length);
+        checkLength(size, imaginaryOut.length);
+        final int n = re.length - 1;
+        final double cr = re[n];
+        final double ci = im[n];
+        for (int i = 0; i < size; i++) {
+            final double x = real[i];
+            final double y = imaginary[i];
+            double sr = cr;
+            double si = ci;
+            for (int j = n - 1; j >= 0; j--) {
+                final double t = sr * x - si * y + re[j];
+                si = sr * y + si * x + im[j];
+                sr = t;
+            }
+            realOut[i] = sr;
+            imaginaryOut[i] = si;
+        }
+    }
+
+    /**
+     * Evaluates the polynomial at the {@code n}-th roots of unity, where {@code n} is
+     * the length of the output arrays. Element {@code k} of the output is the value at
+     * \( e^{2 \pi i k / n} \), the root given by {@link RootsOfUnity#get(int)}.
+     *
+     * <p>The values are computed using a {@link FastFourierTransform} of the coefficients
+     * in \( O(n \log n + d) \) operations for a polynomial of degree {@code d}.
+     *
+     * @param realOut Real parts of the result.
+     * @param imaginaryOut Imaginary parts of the result.
+     * @throws IllegalArgumentException if the arrays do not have the same length, or
+     * are empty.
+     */
+    public void valueAtRootsOfUnity(double[] realOut, double[] imaginaryOut) {
+        final int size = checkLength(realOut.length, imaginaryOut.length);
+        final FastFourierTransform fft = FastFourierTransform.of(size);
+        Arrays.fill(realOut, 0);
+        Arrays.fill(imaginaryOut, 0);
+        // Fold the coefficients modulo n: w^(j+n) = w^j.
+        // p(w^k) = conj(sum conj(c_j) e^(-2 pi i j k / n)), computed with the forward transform.
+        for (int j = 0; j < re.length; j++) {
+            final int k = j % size;
+            realOut[k] += re[j];
+            imaginaryOut[k] -= im[j];
+        }
+        fft.forward(realOut, imaginaryOut);
+        for (int k = 0; k < size; k++) {
+            imaginaryOut[k] = -imaginaryOut[k];
+        }
+    }
+
+    /**
+     * Computes all the roots of the polynomial.
+     *
+     * @return the roots
+     * @see #roots(double[], double[])
+     */
+    public Complex[] roots() {
+        final int n = re.length - 1;
+        final double[] rootsRe = new double[n];
+        final double[] rootsIm = new double[n];
+        roots(rootsRe, rootsIm);
+        final Complex[] z = new Complex[n];
+        for (int i = 0; i < n; i++) {
+            z[i] = Complex.ofCartesian(rootsRe[i], rootsIm[i]);
+        }
+        return z;
+    }
+
+    /**
+     * Computes all the roots of the polynomial. Roots are repeated according to
+     * their multiplicity. The order of the roots is unspecified.
+     *
+     * <p>The roots are refined simultaneously until the correction to each root is
+     * negligible relative to its magnitude, or a maximum number of iterations is
+     * reached. Convergence to multiple roots is linear and such roots are computed to
+     * a reduced accuracy.
+     *
+     * @param realOut Real parts of the roots.
+     * @param imaginaryOut Imaginary parts of the roots.
+     * @throws IllegalArgumentException if the array lengths are not equal to the degree.
+     */
+    public void roots(double[] realOut, double[] imaginaryOut) {
+        final int n = re.length - 1;
+        checkLength(n, realOut.length);
+        checkLength(n, imaginaryOut.length);
+        // Roots at zero for zero coefficients of the lowest powers
+        int zeros = 0;
+        while (zeros < n && re[zeros] == 0 && im[zeros] == 0) {
+            realOut[zeros] = 0;
+            imaginaryOut[zeros] = 0;
+            zeros++;
+        }
+        final int m = n - zeros;
+        if (m == 0) {
+            return;
+        }
+        final double[] cr = Arrays.copyOfRange(re, zeros, re.length);
+        final double[] ci = Arrays.copyOfRange(im, zeros, im.length);
+        final double[] zr = new double[m];
+        final double[] zi = new double[m];
+        if (m == 1) {
+            // Linear: z = -c0 / c1
+            final Result r = Complex.divide(-cr[0], -ci[0], cr[1], ci[1], new Result());
+            zr[0] = r.real;
+            zi[0] = r.imaginary;
+        } else {
+            aberth(cr, ci, zr, zi);
+        }
+        System.arraycopy(zr, 0, realOut, zeros, m);
+        System.arraycopy(zi, 0, imaginaryOut, zeros, m);
+    }
+
+    /**
+     * Compute the roots using the Aberth-Ehrlich method. The constant coefficient
+     * must be non-zero.
+     *
+     * @param cr Real parts of the coefficients.
+     * @param ci Imaginary parts of the coefficients.
+     * @param zr Real parts of the roots.
+     * @param zi Imaginary parts of the roots.
+     */
+    private static void aberth(double[] cr, double[] ci, double[] zr, double[] zi) {
+        final int m = zr.length;
+        // Coefficients of the reversed polynomial q(y) = y^m p(1/y)
+        final double[] rr = cr.clone();
+        final double[] ri = ci.clone();
+        reverse(rr);
+        reverse(ri);
+
+        // Initial approximations on a circle with radius |c0 / cm|^(1/m):
+        // the geometric mean of the magnitudes of the roots.
+        final double radius = Math.exp((Math.log(Complex.abs(cr[0], ci[0])) -
+                                        Math.log(Complex.abs(cr[m], ci[m]))) / m);
+        for (int k = 0; k < m; k++) {
+            final double theta = (2 * Math.PI * k + ANGLE_OFFSET) / m;
+            zr[k] = radius * Math.cos(theta);
+            zi[k] = radius * Math.sin(theta);
+        }
+
+        final boolean[] converged = new boolean[m];
+        final Result ratio = new Result();
+        final Result w = new Result();
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            boolean active = false;
+            for (int i = 0; i < m; i++) {
+                if (converged[i]) {
+                    continue;
+                }
+                final double x = zr[i];
+                final double y = zi[i];
+                if (!newtonCorrection(cr, ci, rr, ri, x, y, ratio)) {
+                    // Exact root
+                    converged[i] = true;
+                    continue;
+                }
+                // Sum of 1 / (z_i - z_j)
+                double sr = 0;
+                double si = 0;
+                for (int j = 0; j < m; j++) {
+                    if (j != i) {
+                        final double dr = x - zr[j];
+                        final double di = y - zi[j];
+                        final double d2 = dr * dr + di * di;
+                        sr += dr / d2;
+                        si -= di / d2;
+                    }
+                }
+                final double nr = ratio.real;
+                final double ni = ratio.imaginary;
+                if (Double.isFinite(nr) && Double.isFinite(ni)) {
+                    // w = N / (1 - N S)
+                    Complex.divide(nr, ni, 1 - (nr * sr - ni * si), -(nr * si + ni * sr), w);
+                } else {
+                    // Limit as N -> infinity (stationary point of p): w = -1 / S
+                    Complex.divide(-1, 0, sr, si, w);
+                }
+                if (!Double.isFinite(w.real) || !Double.isFinite(w.imaginary)) {
+                    // Coincident approximations or overflow: no further progress
+                    converged[i] = true;
+                    continue;
+                }
+                zr[i] = x - w.real;
+                zi[i] = y - w.imaginary;
+                if (Complex.abs(w.real, w.imaginary) <= CONVERGED * Complex.abs(zr[i], zi[i])) {
+                    converged[i] = true;
+                } else {
+                    active = true;
+                }
+            }
+            if (!active) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Compute the Newton correction {@code p(z) / p'(z)}. Points outside the unit
+     * circle use the reversed polynomial {@code q(y) = y^m p(1/y)} with {@code y = 1/z}:
+     *
+     * <pre>
+     * p(z) / p'(z) = z / (m - y q'(y) / q(y))
+     * </pre>
+     *
+     * @param cr Real parts of the coefficients.
+     * @param ci Imaginary parts of the coefficients.
+     * @param rr Real parts of the reversed coefficients.
+     * @param ri Imaginary parts of the reversed coefficients.
+     * @param x Real part of the point.
+     * @param y Imaginary part of the point.
+     * @param result Newton correction.
+     * @return false if the point is an exact root
+     */
+    private static boolean newtonCorrection(double[] cr, double[] ci, double[] rr, double[] ri,
+                                            double x, double y, Result result) {
+        final int m = cr.length - 1;
+        final boolean inside = x * x + y * y <= 1;
+        final double[] ar;
+        final double[] ai;
+        final double u;
+        final double v;
+        if (inside) {
+            ar = cr;
+            ai = ci;
+            u = x;
+            v = y;
+        } else {
+            ar = rr;
+            ai = ri;
+            Complex.divide(1, 0, x, y, result);
+            u = result.real;
+            v = result.imaginary;
+        }
+        // Horner evaluation of the polynomial and derivative
+        double pr = ar[m];
+        double pi = ai[m];
+        double dr = 0;
+        double di = 0;
+        for (int j = m - 1; j >= 0; j--) {
+            final double t = dr * u - di * v + pr;
+            di = dr * v + di * u + pi;
+            dr = t;
+            final double s = pr * u - pi * v + ar[j];
+            pi = pr * v + pi * u + ai[j];
+            pr = s;
+        }
+        if (pr == 0 && pi == 0) {
+            return false;
+        }
+        if (inside) {
+            Complex.divide(pr, pi, dr, di, result);
+        } else {
+            // q'/q
+            Complex.divide(dr, di, pr, pi, result);
+            final double qr = result.real;
+            final double qi = result.imaginary;
+            // z / (m - y q'/q)
+            Complex.divide(x, y, m - (u * qr - v * qi), -(u * qi + v * qr), result);
+        }
+        return true;
+    }
+
+    /**
+     * Reverse the array.
+     *
+     * @param a Array.
+     */
+    private static void reverse(double[] a) {
+        for (int i = 0, j = a.length - 1; i < j; i++, j--) {
+            final double t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    /**
+     * Check the lengths are equal.
+     *
+     * @param expected Expected length.
+     * @param actual Actual length.
+     * @return the length
+     * @throws IllegalArgumentException if the lengths do not match.
+     */
+    private static int checkLength(int expected, int actual) {
+        if (expected != actual) {
+            throw new IllegalArgumentException("Dimension mismatch: " + expected + " != " + actual);
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * Represents a consumer of the real and imaginary parts of a complex result.
+ *
+ * <p>This is used to receive the result of a complex function computed on primitive
+ * values without creating a {@link Complex}. A single mutable implementation can be
+ * reused to write a series of results directly to primitive storage (see
+ * {@link ComplexVector}); the method {@link Complex#ofCartesian(double, double)}
+ * can be used to create a {@code Complex}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(double, double)}.
+ *
+ * @param <R> Type of the result.
+ * @see ComplexFunctions
+ */
+@FunctionalInterface
+public interface ComplexSink<R> {
+    /**
+     * Accept the complex result given the real and imaginary parts.
+     *
+     * @param real Real part.
+     * @param imaginary Imaginary part.
+     * @return the result.
+     */
+    R apply(double real, double imaginary);
+}
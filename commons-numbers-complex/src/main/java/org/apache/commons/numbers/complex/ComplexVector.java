@@ -0,0 +1,741 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.Arrays;
+
+/**
+ * A vector of complex numbers stored using separate primitive arrays for the
+ * real and imaginary parts.
+ *
+ * <p>This class is mutable. Element-wise operations update the values of this
+ * vector in-place and return the instance to allow chaining. No intermediate
+ * {@link Complex} objects are created.</p>
+ *
+ * <p>Each operation uses the same computation as the equivalent method in
+ * {@link Complex}; the result for each element is identical to the result of
+ * the scalar method, including the special cases defined in ISO C99. The exception
+ * is the creation of numbers from polar coordinates which uses a bulk computation of
+ * the sine and cosine.</p>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @see Complex
+ * @see ComplexArrays
+ */
+public final class ComplexVector {
+    /** Real parts. */
+    private final double[] real;
+    /** Imaginary parts. */
+    private final double[] imaginary;
+
+    /**
+     * Stores a complex result at the current index of the vector.
+     */
+    private final class Cursor implements ComplexSink<Void> {
+        /** Index of the element to store. */
+        private int index;
+
+        @Override
+        public Void apply(double re, double im) {
+            real[index] = re;
+            imaginary[index] = im;
+            return null;
+        }
+    }
+
+    /**
+     * Create an instance using the provided arrays. The arrays are not copied.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     */
+    private ComplexVector(double[] real, double[] imaginary) {
+        this.real = real;
+        this.imaginary = imaginary;
+    }
+
+    /**
+     * Creates a vector of the specified size with all elements set to zero.
+     *
+     * @param size Size.
+     * @return the vector.
+     * @throws IllegalArgumentException if {@code size < 0}.
+     */
+    public static ComplexVector create(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+        return new ComplexVector(new double[size], new double[size]);
+    }
+
+    /**
+     * Creates a vector from the real and imaginary parts. The arrays are copied.
+     *
+     * @param real Real parts.
+     * @param imaginary Imaginary parts.
+     * @return the vector.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static ComplexVector ofCartesian(double[] real, double[] imaginary) {
+        checkSize(real.length, imaginary.length);
+        return new ComplexVector(real.clone(), imaginary.clone());
+    }
+
+    /**
+     * Creates a vector from interleaved real and imaginary parts
+     * {@code [re0, im0, re1, im1, ...]}.
+     *
+     * @param interleaved Interleaved real and imaginary parts.
+     * @return the vector.
+     * @throws IllegalArgumentException if the array length is not even.
+     */
+    public static ComplexVector ofInterleaved(double[] interleaved) {
+        if ((interleaved.length & 1) != 0) {
+            throw new IllegalArgumentException("Length is not even: " + interleaved.length);
+        }
+        final int size = interleaved.length >>> 1;
+        final double[] re = new double[size];
+        final double[] im = new double[size];
+        for (int i = 0; i < size; i++) {
+            re[i] = interleaved[i << 1];
+            im[i] = interleaved[(i << 1) + 1];
+        }
+        return new ComplexVector(re, im);
+    }
+
+    /**
+     * Creates a vector from the complex values.
+     *
+     * @param values Values.
+     * @return the vector.
+     */
+    public static ComplexVector of(Complex... values) {
+        final int size = values.length;
+        final double[] re = new double[size];
+        final double[] im = new double[size];
+        for (int i = 0; i < size; i++) {
+            re[i] = values[i].getReal();
+            im[i] = values[i].getImaginary();
+        }
+        return new ComplexVector(re, im);
+    }
+
+    /**
+     * Creates a vector of complex cis numbers. Each element is computed as
+     * {@link Complex#ofCis(double)}.
+     *
+     * <p>The sine and cosine are computed using {@link SinCos#sincos(double[], double[], double[])}
+     * which may differ from the scalar method by 1 ulp.
+     *
+     * @param theta Angles (in radians).
+     * @return the vector.
+     */
+    public static ComplexVector ofCis(double[] theta) {
+        final int size = theta.length;
+        final double[] re = new double[size];
+        final double[] im = new double[size];
+        SinCos.sincos(theta, im, re);
+        return new ComplexVector(re, im);
+    }
+
+    /**
+     * Creates a vector of complex numbers from polar coordinates. Each element is computed
+     * as {@link Complex#ofPolar(double, double)}, including the rules for invalid arguments
+     * that create NaN.
+     *
+     * <p>The sine and cosine are computed using {@link SinCos#sincos(double[], double[], double[])}
+     * which may differ from the scalar method by 1 ulp.
+     *
+     * @param rho Moduli.
+     * @param theta Arguments (in radians).
+     * @return the vector.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public static ComplexVector ofPolar(double[] rho, double[] theta) {
+        checkSize(rho.length, theta.length);
+        final ComplexVector v = ofCis(theta);
+        final double[] re = v.real;
+        final double[] im = v.imaginary;
+        for (int i = 0; i < re.length; i++) {
+            final double r = rho[i];
+            // Require finite theta and non-negative, non-nan rho
+            if (!Double.isFinite(theta[i]) || r < 0 || Double.isNaN(r) ||
+                Double.doubleToRawLongBits(r) == Long.MIN_VALUE) {
+                re[i] = Double.NaN;
+                im[i] = Double.NaN;
+            } else {
+                re[i] *= r;
+                im[i] *= r;
+            }
+        }
+        return v;
+    }
+
+    /**
+     * Creates a copy of this vector.
+     *
+     * @return the copy.
+     */
+    public ComplexVector copy() {
+        return new ComplexVector(real.clone(), imaginary.clone());
+    }
+
+    /**
+     * Gets the number of elements in the vector.
+     *
+     * @return the size.
+     */
+    public int size() {
+        return real.length;
+    }
+
+    /**
+     * Gets the real part of the element at the specified index.
+     *
+     * @param index Index.
+     * @return the real part.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public double getReal(int index) {
+        return real[index];
+    }
+
+    /**
+     * Gets the imaginary part of the element at the specified index.
+     *
+     * @param index Index.
+     * @return the imaginary part.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public double getImaginary(int index) {
+        return imaginary[index];
+    }
+
+    /**
+     * Gets the element at the specified index.
+     *
+     * @param index Index.
+     * @return the complex value.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public Complex get(int index) {
+        return Complex.ofCartesian(real[index], imaginary[index]);
+    }
+
+    /**
+     * Sets the element at the specified index.
+     *
+     * @param index Index.
+     * @param re Real part.
+     * @param im Imaginary part.
+     * @return this instance.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public ComplexVector set(int index, double re, double im) {
+        real[index] = re;
+        imaginary[index] = im;
+        return this;
+    }
+
+    /**
+     * Sets the element at the specified index.
+     *
+     * @param index Index.
+     * @param value Value.
+     * @return this instance.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public ComplexVector set(int index, Complex value) {
+        return set(index, value.getReal(), value.getImaginary());
+    }
+
+    /**
+     * Gets a copy of the real parts.
+     *
+     * @return the real parts.
+     */
+    public double[] getReal() {
+        return real.clone();
+    }
+
+    /**
+     * Gets a copy of the imaginary parts.
+     *
+     * @return the imaginary parts.
+     */
+    public double[] getImaginary() {
+        return imaginary.clone();
+    }
+
+    /**
+     * Gets the real and imaginary parts interleaved {@code [re0, im0, re1, im1, ...]}.
+     *
+     * @return the interleaved parts.
+     */
+    public double[] toInterleaved() {
+        final double[] result = new double[real.length << 1];
+        for (int i = 0; i < real.length; i++) {
+            result[i << 1] = real[i];
+            result[(i << 1) + 1] = imaginary[i];
+        }
+        return result;
+    }
+
+    /**
+     * Gets the elements as complex values.
+     *
+     * @return the complex values.
+     */
+    public Complex[] toArray() {
+        final Complex[] result = new Complex[real.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Complex.ofCartesian(real[i], imaginary[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Adds the elements of the other vector to this vector.
+     *
+     * @param other Vector to add.
+     * @return this instance.
+     * @throws IllegalArgumentException if the vectors do not have the same size.
+     * @see Complex#add(Complex)
+     */
+    public ComplexVector add(ComplexVector other) {
+        ComplexArrays.add(real, imaginary, other.real, other.imaginary, real, imaginary);
+        return this;
+    }
+
+    /**
+     * Adds the complex value to each element of this vector.
+     *
+     * @param addend Value to add.
+     * @return this instance.
+     * @see Complex#add(Complex)
+     */
+    public ComplexVector add(Complex addend) {
+        final double re = addend.getReal();
+        final double im = addend.getImaginary();
+        for (int i = 0; i < real.length; i++) {
+            real[i] += re;
+            imaginary[i] += im;
+        }
+        return this;
+    }
+
+    /**
+     * Adds the real value to each element of this vector.
+     *
+     * @param addend Value to add.
+     * @return this instance.
+     * @see Complex#add(double)
+     */
+    public ComplexVector add(double addend) {
+        for (int i = 0; i < real.length; i++) {
+            real[i] += addend;
+        }
+        return this;
+    }
+
+    /**
+     * Subtracts the elements of the other vector from this vector.
+     *
+     * @param other Vector to subtract.
+     * @return this instance.
+     * @throws IllegalArgumentException if the vectors do not have the same size.
+     * @see Complex#subtract(Complex)
+     */
+    public ComplexVector subtract(ComplexVector other) {
+        ComplexArrays.subtract(real, imaginary, other.real, other.imaginary, real, imaginary);
+        return this;
+    }
+
+    /**
+     * Subtracts the complex value from each element of this vector.
+     *
+     * @param subtrahend Value to subtract.
+     * @return this instance.
+     * @see Complex#subtract(Complex)
+     */
+    public ComplexVector subtract(Complex subtrahend) {
+        final double re = subtrahend.getReal();
+        final double im = subtrahend.getImaginary();
+        for (int i = 0; i < real.length; i++) {
+            real[i] -= re;
+            imaginary[i] -= im;
+        }
+        return this;
+    }
+
+    /**
+     * Subtracts the real value from each element of this vector.
+     *
+     * @param subtrahend Value to subtract.
+     * @return this instance.
+     * @see Complex#subtract(double)
+     */
+    public ComplexVector subtract(double subtrahend) {
+        for (int i = 0; i < real.length; i++) {
+            real[i] -= subtrahend;
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies the elements of this vector by the elements of the other vector.
+     *
+     * @param other Vector of factors.
+     * @return this instance.
+     * @throws IllegalArgumentException if the vectors do not have the same size.
+     * @see Complex#multiply(Complex)
+     */
+    public ComplexVector multiply(ComplexVector other) {
+        ComplexArrays.multiply(real, imaginary, other.real, other.imaginary, real, imaginary);
+        return this;
+    }
+
+    /**
+     * Multiplies each element of this vector by the complex value.
+     *
+     * @param factor Factor.
+     * @return this instance.
+     * @see Complex#multiply(Complex)
+     */
+    public ComplexVector multiply(Complex factor) {
+        final double re = factor.getReal();
+        final double im = factor.getImaginary();
+        final Cursor cursor = new Cursor();
+        for (int i = 0; i < real.length; i++) {
+            cursor.index = i;
+            Complex.multiply(real[i], imaginary[i], re, im, cursor);
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies each element of this vector by the real value.
+     *
+     * @param factor Factor.
+     * @return this instance.
+     * @see Complex#multiply(double)
+     */
+    public ComplexVector multiply(double factor) {
+        for (int i = 0; i < real.length; i++) {
+            real[i] *= factor;
+            imaginary[i] *= factor;
+        }
+        return this;
+    }
+
+    /**
+     * Divides the elements of this vector by the elements of the other vector.
+     *
+     * @param other Vector of divisors.
+     * @return this instance.
+     * @throws IllegalArgumentException if the vectors do not have the same size.
+     * @see Complex#divide(Complex)
+     */
+    public ComplexVector divide(ComplexVector other) {
+        ComplexArrays.divide(real, imaginary, other.real, other.imaginary, real, imaginary);
+        return this;
+    }
+
+    /**
+     * Divides each element of this vector by the complex value.
+     *
+     * @param divisor Divisor.
+     * @return this instance.
+     * @see Complex#divide(Complex)
+     */
+    public ComplexVector divide(Complex divisor) {
+        final double re = divisor.getReal();
+        final double im = divisor.getImaginary();
+        final Cursor cursor = new Cursor();
+        for (int i = 0; i < real.length; i++) {
+            cursor.index = i;
+            Complex.divide(real[i], imaginary[i], re, im, cursor);
+        }
+        return this;
+    }
+
+    /**
+     * Divides each element of this vector by the real value.
+     *
+     * @param divisor Divisor.
+     * @return this instance.
+     * @see Complex#divide(double)
+     */
+    public ComplexVector divide(double divisor) {
+        for (int i = 0; i < real.length; i++) {
+            real[i] /= divisor;
+            imaginary[i] /= divisor;
+        }
+        return this;
+    }
+
+    /**
+     * Replaces each element with its conjugate.
+     *
+     * @return this instance.
+     * @see Complex#conj()
+     */
+    public ComplexVector conj() {
+        for (int i = 0; i < imaginary.length; i++) {
+            imaginary[i] = -imaginary[i];
+        }
+        return this;
+    }
+
+    /**
+     * Replaces each element with its negation.
+     *
+     * @return this instance.
+     * @see Complex#negate()
+     */
+    public ComplexVector negate() {
+        for (int i = 0; i < real.length; i++) {
+            real[i] = -real[i];
+            imaginary[i] = -imaginary[i];
+        }
+        return this;
+    }
+
+    /**
+     * Replaces each element with its exponential.
+     *
+     * @return this instance.
+     * @see Complex#exp()
+     */
+    public ComplexVector exp() {
+        final Cursor cursor = new Cursor();
+        for (int i = 0; i < real.length; i++) {
+            cursor.index = i;
+            Complex.exp(real[i], imaginary[i], cursor);
+        }
+        return this;
+    }
+
+    /**
+     * Replaces each element with its natural logarithm.
+     *
+     * @return this instance.
+     * @see Complex#log()
+     */
+    public ComplexVector log() {
+        final Cursor cursor = new Cursor();
+        for (int i = 0; i < real.length; i++) {
+            cursor.index = i;
+            Complex.log(real[i], imaginary[i], cursor);
+        }
+        return this;
+    }
+
+    /**
+     * Replaces each element with its base 10 common logarithm.
+     *
+     * @return this instance.
+     * @see Complex#log10()
+     */
+    public ComplexVector log10() {
+        final Cursor cursor = new Cursor();
+        for (int i = 0; i < real.length; i++) {
+            cursor.index = i;
+            Complex.log10(real[i], imaginary[i], cursor);
+        }
+        return this;
+    }
+
+    /**
+     * Replaces each element with its square root.
+     *
+     * @return this instance.
+     * @see Complex#sqrt()
+     */
+    public ComplexVector sqrt() {
+        final Cursor cursor = new Cursor();
+        for (int i = 0; i < real.length; i++) {
+            cursor.index = i;
+            Complex.sqrt(real[i], imaginary[i], cursor);
+        }
+        return this;
+    }
+
+    /**
+     * Replaces each element with its integer power {@code n}.
+     *
+     * @param n The exponent.
+     * @return this instance.
+     * @see Complex#pow(int)
+     */
+    public ComplexVector pow(int n) {
+        final Cursor cursor = new Cursor();
+        for (int i = 0; i < real.length; i++) {
+            cursor.index = i;
+            Complex.pow(real[i], imaginary[i], n, cursor);
+        }
+        return this;
+    }
+
+    /**
+     * Computes the absolute value of each element.
+     *
+     * @return the absolute values.
+     * @see Complex#abs()
+     */
+    public double[] abs() {
+        return abs(new double[real.length]);
+    }
+
+    /**
+     * Computes the absolute value of each element and stores the result
+     * in the provided array.
+     *
+     * @param result Array to store the result.
+     * @return the result.
+     * @throws IllegalArgumentException if the array does not have the same size as this vector.
+     * @see Complex#abs()
+     */
+    public double[] abs(double[] result) {
+        ComplexArrays.abs(real, imaginary, result);
+        return result;
+    }
+
+    /**
+     * Computes the argument of each element.
+     *
+     * @return the arguments.
+     * @see Complex#arg()
+     */
+    public double[] arg() {
+        return arg(new double[real.length]);
+    }
+
+    /**
+     * Computes the argument of each element and stores the result
+     * in the provided array.
+     *
+     * @param result Array to store the result.
+     * @return the result.
+     * @throws IllegalArgumentException if the array does not have the same size as this vector.
+     * @see Complex#arg()
+     */
+    public double[] arg(double[] result) {
+        checkSize(real.length, result.length);
+        for (int i = 0; i < real.length; i++) {
+            result[i] = Math.atan2(imaginary[i], real[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the squared norm of each element.
+     *
+     * @return the squared norms.
+     * @see Complex#norm()
+     */
+    public double[] norm() {
+        return norm(new double[real.length]);
+    }
+
+    /**
+     * Computes the squared norm of each element and stores the result
+     * in the provided array.
+     *
+     * @param result Array to store the result.
+     * @return the result.
+     * @throws IllegalArgumentException if the array does not have the same size as this vector.
+     * @see Complex#norm()
+     */
+    public double[] norm(double[] result) {
+        checkSize(real.length, result.length);
+        ComplexArrays.norm(real, imaginary, result);
+        return result;
+    }
+
+    /**
+     * Computes the Hermitian inner product of this vector and another vector.
+     * This is the sum of the products of the conjugate of each element of this
+     * vector with the corresponding element of the other vector:
+     *
+     * <p>\[ \langle x, y \rangle = \sum_i \overline{x_i} y_i \]
+     *
+     * <p>The products are computed using the direct formula; the ISO C99 recovery of
+     * infinities performed by {@link Complex#multiply(Complex)} is not applied.
+     *
+     * @param other Other vector.
+     * @return the inner product.
+     * @throws IllegalArgumentException if the vectors do not have the same size.
+     */
+    public Complex innerProduct(ComplexVector other) {
+        checkSize(real.length, other.real.length);
+        double re = 0;
+        double im = 0;
+        for (int i = 0; i < real.length; i++) {
+            final double a = real[i];
+            final double b = imaginary[i];
+            final double c = other.real[i];
+            final double d = other.imaginary[i];
+            // (a - ib) (c + id)
+            re += a * c + b * d;
+            im += a * d - b * c;
+        }
+        return Complex.ofCartesian(re, im);
+    }
+
+    /**
+     * Test for equality with another object. The objects are considered equal if
+     * they are both {@code ComplexVector} instances and all elements are equal
+     * as defined by {@link Complex#equals(Object)}.
+     *
+     * @param other Object to test for equality with this instance.
+     * @return {@code true} if the objects are equal.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof ComplexVector) {
+            final ComplexVector v = (ComplexVector) other;
+            return Arrays.equals(real, v.real) &&
+                Arrays.equals(imaginary, v.imaginary);
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(real) + Arrays.hashCode(imaginary);
+    }
+
+    /**
+     * Check the sizes are equal.
+     *
+     * @param size1 First size.
+     * @param size2 Second size.
+     * @throws IllegalArgumentException if the sizes are not equal.
+     */
+    private static void checkSize(int size1, int size2) {
+        if (size1 != size2) {
+            throw new IllegalArgumentException("Dimension mismatch: " + size1 + " != " + size2);
+        }
+    }
+}
@@ -0,0 +1,665 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Computes the discrete Fourier transform (DFT) of complex data stored in primitive arrays.
+ *
+ * <p>The forward transform of \( n \) values \( x_j \) is defined as:
+ *
+ * <p>\[ X_k = \sum_{j=0}^{n-1} x_j e^{-2 \pi i j k / n} \]
+ *
+ * <p>The inverse transform uses the opposite sign in the exponent and scales the
+ * result by \( 1/n \) so that the inverse of the forward transform is the
+ * original data (within round-off error).
+ *
+ * <p>A transform is created for a fixed size using {@link #of(int)}. The transform
+ * holds precomputed twiddle factors and is immutable; the same instance can be used
+ * concurrently by multiple threads. Recently used instances are held in a bounded cache;
+ * when the total size of the cached transforms exceeds a limit the least recently used
+ * transforms are evicted. The twiddle factors are shared with the tables of the
+ * {@link RootsOfUnity}.
+ *
+ * <p>The algorithm is chosen using the size:
+ *
+ * <ul>
+ * <li>Powers of 2 use an iterative radix-2 Cooley-Tukey algorithm.
+ * <li>Sizes whose prime factors are all small use a recursive mixed-radix
+ *     Cooley-Tukey algorithm.
+ * <li>Other sizes, for example large primes, use Bluestein's algorithm to express the
+ *     transform as a convolution computed using a radix-2 transform.
+ * </ul>
+ *
+ * <p>Data can be provided as separate arrays for the real and imaginary parts or as
+ * a single array of interleaved parts {@code [re0, im0, re1, im1, ...]}. Transforms
+ * are computed in-place directly on either layout. The radix-2 algorithm requires no
+ * additional storage. The mixed-radix algorithm reads from a copy of the input
+ * data (the same size as the data) and Bluestein's algorithm uses two arrays of the
+ * convolution size (at least {@code 2n - 1}); this workspace is allocated for each
+ * transform.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Cooley%E2%80%93Tukey_FFT_algorithm">Cooley-Tukey FFT algorithm</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Chirp_Z-transform#Bluestein.27s_algorithm">Bluestein's algorithm</a>
+ */
+public final class FastFourierTransform {
+    /** The largest prime factor of the size to use the mixed-radix algorithm. */
+    private static final int MAX_MIXED_RADIX_FACTOR = 31;
+    /** The largest size to use Bluestein's algorithm. The convolution size is at most 2^30. */
+    private static final int MAX_BLUESTEIN_SIZE = 1 << 29;
+    /** The largest size of a transform to hold in the cache. */
+    private static final int MAX_CACHED_TRANSFORM_SIZE = 1 << 20;
+    /** The maximum total size of the transforms held in the cache. */
+    private static final int MAX_CACHED_SIZE = 1 << 21;
+    /** Cache of transforms. Access must be synchronized on the cache. */
+    private static final Map<Integer, FastFourierTransform> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+    /** Total size of the transforms held in the cache. Access must be synchronized on the cache. */
+    private static int cachedSize;
+
+    /** Size of the transform. */
+    private final int size;
+    /** Forward transform of the data. */
+    private final Transform transform;
+
+    /**
+     * Define an in-place forward transform of complex data.
+     *
+     * <p>The parts of value {@code k} are read from {@code re[reOffset + k * stride]}
+     * and {@code im[imOffset + k * stride]}. This supports separate arrays
+     * ({@code stride = 1}) and interleaved data in a single array
+     * ({@code re = im}, {@code imOffset = reOffset + 1}, {@code stride = 2}).
+     */
+    private interface Transform {
+        /**
+         * Compute the forward transform in-place.
+         *
+         * @param re Real parts.
+         * @param reOffset Offset of the first real part.
+         * @param im Imaginary parts.
+         * @param imOffset Offset of the first imaginary part.
+         * @param stride Distance between consecutive parts.
+         */
+        void forward(double[] re, int reOffset, double[] im, int imOffset, int stride);
+    }
+
+    /**
+     * Iterative radix-2 transform for sizes that are a power of 2.
+     */
+    private static final class Radix2 implements Transform {
+        /** Size. */
+        private final int n;
+        /** Cosine of the twiddle factors 2 pi k / n for k in [0, n). */
+        private final double[] cos;
+        /** Sine of the twiddle factors 2 pi k / n for k in [0, n). */
+        private final double[] sin;
+
+        /**
+         * @param n Size (must be a power of 2).
+         */
+        Radix2(int n) {
+            this.n = n;
+            final RootsOfUnity roots = RootsOfUnity.of(n);
+            cos = roots.realParts();
+            sin = roots.imaginaryParts();
+        }
+
+        /**
+         * Compute the forward transform in-place of separate arrays.
+         *
+         * @param re Real parts.
+         * @param im Imaginary parts.
+         */
+        void forward(double[] re, double[] im) {
+            forward(re, 0, im, 0, 1);
+        }
+
+        @Override
+        public void forward(double[] re, int reOffset, double[] im, int imOffset, int stride) {
+            // Bit-reversal permutation
+            for (int i = 1, j = 0; i < n; i++) {
+                int bit = n >>> 1;
+                for (; (j & bit) != 0; bit >>>= 1) {
+                    j ^= bit;
+                }
+                j ^= bit;
+                if (i < j) {
+                    swap(re, reOffset + i * stride, reOffset + j * stride);
+                    swap(im, imOffset + i * stride, imOffset + j * stride);
+                }
+            }
+            // Butterflies
+            for (int len = 2; len <= n; len <<= 1) {
+                final int half = len >>> 1;
+                final int step = n / len;
+                for (int i = 0; i < n; i += len) {
+                    for (int j = 0; j < half; j++) {
+                        // w = exp(-2 pi i j / len)
+                        final double wr = cos[j * step];
+                        final double wi = -sin[j * step];
+                        final int a = (i + j) * stride;
+                        final int b = a + half * stride;
+                        final int ar = reOffset + a;
+                        final int ai = imOffset + a;
+                        final int br = reOffset + b;
+                        final int bi = imOffset + b;
+                        final double vr = re[br] * wr - im[bi] * wi;
+                        final double vi = re[br] * wi + im[bi] * wr;
+                        re[br] = re[ar] - vr;
+                        im[bi] = im[ai] - vi;
+                        re[ar] += vr;
+                        im[ai] += vi;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Swap the values at the two indices.
+         *
+         * @param data Data.
+         * @param i First index.
+         * @param j Second index.
+         */
+        private static void swap(double[] data, int i, int j) {
+            final double tmp = data[i];
+            data[i] = data[j];
+            data[j] = tmp;
+        }
+    }
+
+    /**
+     * Recursive mixed-radix transform for sizes with small prime factors.
+     */
+    private static final class MixedRadix implements Transform {
+        /** Size. */
+        private final int n;
+        /** Prime factors of the size. */
+        private final int[] factors;
+        /** Largest factor. */
+        private final int maxFactor;
+        /** Cosine of the twiddle factors 2 pi k / n for k in [0, n). */
+        private final double[] cos;
+        /** Sine of the twiddle factors 2 pi k / n for k in [0, n). */
+        private final double[] sin;
+
+        /**
+         * @param n Size.
+         * @param factors Prime factors of the size.
+         */
+        MixedRadix(int n, int[] factors) {
+            this.n = n;
+            this.factors = factors;
+            maxFactor = factors[factors.length - 1];
+            final RootsOfUnity roots = RootsOfUnity.of(n);
+            cos = roots.realParts();
+            sin = roots.imaginaryParts();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>The recursive decimation reads the input while the output is written to
+         * the same storage. The input is copied to a workspace; for interleaved data
+         * a single copy of the array holds both parts.
+         */
+        @Override
+        public void forward(double[] re, int reOffset, double[] im, int imOffset, int stride) {
+            final Workspace w = new Workspace(re, reOffset, im, imOffset, stride, maxFactor);
+            transform(w, 0, 1, 0, n, 0);
+        }
+
+        /**
+         * Compute the transform of the {@code m} values read from the input
+         * using the given offset and stride. The result is written to the
+         * output at the given offset.
+         *
+         * @param w Workspace.
+         * @param inOffset Input offset.
+         * @param stride Input stride.
+         * @param outOffset Output offset.
+         * @param m Number of values.
+         * @param factor Index of the factor to use to split the values.
+         */
+        private void transform(Workspace w, int inOffset, int stride, int outOffset, int m, int factor) {
+            final double[] outRe = w.outRe;
+            final double[] outIm = w.outIm;
+            final int ro = w.reOffset;
+            final int io = w.imOffset;
+            final int s = w.stride;
+            final int p = factors[factor];
+            final int q = m / p;
+            // Twiddle step for roots of order p
+            final int stepP = n / p;
+            if (q == 1) {
+                // Direct DFT of p values
+                final double[] inRe = w.inRe;
+                final double[] inIm = w.inIm;
+                for (int k = 0; k < p; k++) {
+                    double sumRe = 0;
+                    double sumIm = 0;
+                    for (int j = 0; j < p; j++) {
+                        final int t = ((j * k) % p) * stepP;
+                        final double wr = cos[t];
+                        final double wi = -sin[t];
+                        final int x = (inOffset + j * stride) * s;
+                        final double xr = inRe[ro + x];
+                        final double xi = inIm[io + x];
+                        sumRe += xr * wr - xi * wi;
+                        sumIm += xr * wi + xi * wr;
+                    }
+                    final int y = (outOffset + k) * s;
+                    outRe[ro + y] = sumRe;
+                    outIm[io + y] = sumIm;
+                }
+                return;
+            }
+            // Transform each of the p decimated subsequences of length q
+            for (int j = 0; j < p; j++) {
+                transform(w, inOffset + j * stride, stride * p, outOffset + j * q, q, factor + 1);
+            }
+            // Combine using p-point butterflies with twiddle factors of order m
+            final double[] sRe = w.scratchRe;
+            final double[] sIm = w.scratchIm;
+            final int stepM = n / m;
+            for (int k = 0; k < q; k++) {
+                for (int j = 0; j < p; j++) {
+                    final int t = j * k * stepM;
+                    final double wr = cos[t];
+                    final double wi = -sin[t];
+                    final int x = (outOffset + j * q + k) * s;
+                    final double xr = outRe[ro + x];
+                    final double xi = outIm[io + x];
+                    sRe[j] = xr * wr - xi * wi;
+                    sIm[j] = xr * wi + xi * wr;
+                }
+                for (int r = 0; r < p; r++) {
+                    double sumRe = 0;
+                    double sumIm = 0;
+                    for (int j = 0; j < p; j++) {
+                        final int t = ((j * r) % p) * stepP;
+                        final double wr = cos[t];
+                        final double wi = -sin[t];
+                        sumRe += sRe[j] * wr - sIm[j] * wi;
+                        sumIm += sRe[j] * wi + sIm[j] * wr;
+                    }
+                    final int y = (outOffset + r * q + k) * s;
+                    outRe[ro + y] = sumRe;
+                    outIm[io + y] = sumIm;
+                }
+            }
+        }
+
+        /**
+         * Storage for a single transform. The output is written to the data; the input
+         * is read from a copy of the data using the same layout.
+         */
+        private static final class Workspace {
+            /** Input real parts. */
+            private final double[] inRe;
+            /** Input imaginary parts. */
+            private final double[] inIm;
+            /** Output real parts. */
+            private final double[] outRe;
+            /** Output imaginary parts. */
+            private final double[] outIm;
+            /** Offset of the first real part. */
+            private final int reOffset;
+            /** Offset of the first imaginary part. */
+            private final int imOffset;
+            /** Distance between consecutive parts. */
+            private final int stride;
+            /** Scratch space for real parts of a butterfly. */
+            private final double[] scratchRe;
+            /** Scratch space for imaginary parts of a butterfly. */
+            private final double[] scratchIm;
+
+            /**
+             * @param re Real parts.
+             * @param reOffset Offset of the first real part.
+             * @param im Imaginary parts.
+             * @param imOffset Offset of the first imaginary part.
+             * @param stride Distance between consecutive parts.
+             * @param maxFactor Largest factor of the transform size.
+             */
+            Workspace(double[] re, int reOffset, double[] im, int imOffset, int stride, int maxFactor) {
+                inRe = re.clone();
+                // Interleaved data requires a single copy
+                inIm = re == im ? inRe : im.clone();
+                outRe = re;
+                outIm = im;
+                this.reOffset = reOffset;
+                this.imOffset = imOffset;
+                this.stride = stride;
+                scratchRe = new double[maxFactor];
+                scratchIm = new double[maxFactor];
+            }
+        }
+    }
+
+    /**
+     * Bluestein's algorithm for arbitrary sizes.
+     *
+     * <p>The transform is expressed as a convolution with a chirp sequence
+     * \( w_k = e^{-\pi i k^2 / n} \):
+     *
+     * <p>\[ X_k = w_k \sum_{j=0}^{n-1} (x_j w_j) \overline{w_{k-j}} \]
+     *
+     * <p>The convolution is computed using a radix-2 transform of size at least {@code 2n - 1}.
+     */
+    private static final class Bluestein implements Transform {
+        /** Size. */
+        private final int n;
+        /** Size of the convolution. */
+        private final int m;
+        /** Cosine of the chirp angles pi k^2 / n. */
+        private final double[] cos;
+        /** Sine of the chirp angles pi k^2 / n. */
+        private final double[] sin;
+        /** Real part of the transform of the convolution kernel (scaled by 1/m). */
+        private final double[] kernelRe;
+        /** Imaginary part of the transform of the convolution kernel (scaled by 1/m). */
+        private final double[] kernelIm;
+        /** Transform used for the convolution. */
+        private final Radix2 convolution;
+
+        /**
+         * @param n Size.
+         * @throws IllegalArgumentException if the size is too large for the convolution.
+         */
+        Bluestein(int n) {
+            if (n > MAX_BLUESTEIN_SIZE) {
+                throw new IllegalArgumentException("Size is too large for Bluestein's algorithm: " + n);
+            }
+            this.n = n;
+            m = Integer.highestOneBit(2 * n - 1) << 1;
+            cos = new double[n];
+            sin = new double[n];
+            // Chirp angle pi k^2 / n is the (k^2 mod 2n)-th root of unity of order 2n
+            final RootsOfUnity roots = RootsOfUnity.of(2 * n);
+            final long n2 = 2L * n;
+            for (int k = 0; k < n; k++) {
+                final int k2 = (int) (((long) k * k) % n2);
+                cos[k] = roots.getReal(k2);
+                sin[k] = roots.getImaginary(k2);
+            }
+            convolution = new Radix2(m);
+            // Kernel b_k = conj(w_k) for k in (-n, n), wrapped into [0, m)
+            kernelRe = new double[m];
+            kernelIm = new double[m];
+            final double scale = 1.0 / m;
+            kernelRe[0] = cos[0] * scale;
+            kernelIm[0] = sin[0] * scale;
+            for (int k = 1; k < n; k++) {
+                kernelRe[k] = kernelRe[m - k] = cos[k] * scale;
+                kernelIm[k] = kernelIm[m - k] = sin[k] * scale;
+            }
+            convolution.forward(kernelRe, kernelIm);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>The convolution requires a workspace of two arrays of the convolution size.
+         */
+        @Override
+        public void forward(double[] re, int reOffset, double[] im, int imOffset, int stride) {
+            final double[] aRe = new double[m];
+            final double[] aIm = new double[m];
+            // a_k = x_k * w_k
+            for (int k = 0; k < n; k++) {
+                final double wr = cos[k];
+                final double wi = -sin[k];
+                final double xr = re[reOffset + k * stride];
+                final double xi = im[imOffset + k * stride];
+                aRe[k] = xr * wr - xi * wi;
+                aIm[k] = xr * wi + xi * wr;
+            }
+            convolution.forward(aRe, aIm);
+            // Multiply by the kernel and conjugate for the inverse transform
+            for (int k = 0; k < m; k++) {
+                final double xr = aRe[k];
+                final double xi = aIm[k];
+                aRe[k] = xr * kernelRe[k] - xi * kernelIm[k];
+                aIm[k] = -(xr * kernelIm[k] + xi * kernelRe[k]);
+            }
+            convolution.forward(aRe, aIm);
+            // X_k = w_k * conj(a_k)
+            for (int k = 0; k < n; k++) {
+                final double wr = cos[k];
+                final double wi = -sin[k];
+                final double xr = aRe[k];
+                final double xi = -aIm[k];
+                re[reOffset + k * stride] = xr * wr - xi * wi;
+                im[imOffset + k * stride] = xr * wi + xi * wr;
+            }
+        }
+    }
+
+    /**
+     * Identity transform for size 1.
+     */
+    private static final class Identity implements Transform {
+        @Override
+        public void forward(double[] re, int reOffset, double[] im, int imOffset, int stride) {
+            // Nothing to do
+        }
+    }
+
+    /**
+     * Create an instance.
+     *
+     * @param size Size.
+     */
+    private FastFourierTransform(int size) {
+        this.size = size;
+        this.transform = createTransform(size);
+    }
+
+    /**
+     * Gets the transform for the specified size.
+     *
+     * @param size Size of the transform.
+     * @return the transform.
+     * @throws IllegalArgumentException if {@code size < 1}, or if the size requires
+     * Bluestein's algorithm and is larger than {@code 2^29}.
+     */
+    public static FastFourierTransform of(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be strictly positive: " + size);
+        }
+        final Integer key = size;
+        synchronized (CACHE) {
+            final FastFourierTransform fft = CACHE.get(key);
+            if (fft != null) {
+                return fft;
+            }
+        }
+        // Compute outside the lock
+        final FastFourierTransform fft = new FastFourierTransform(size);
+        if (size > MAX_CACHED_TRANSFORM_SIZE) {
+            return fft;
+        }
+        synchronized (CACHE) {
+            final FastFourierTransform previous = CACHE.putIfAbsent(key, fft);
+            if (previous != null) {
+                return previous;
+            }
+            cachedSize += size;
+            // Evict the least recently used transforms
+            final Iterator<FastFourierTransform> it = CACHE.values().iterator();
+            while (cachedSize > MAX_CACHED_SIZE) {
+                cachedSize -= it.next().size();
+                it.remove();
+            }
+        }
+        return fft;
+    }
+
+    /**
+     * Gets the size of the transform.
+     *
+     * @return the size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Computes the forward transform in-place.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @throws IllegalArgumentException if the array lengths are not equal to the size.
+     */
+    public void forward(double[] re, double[] im) {
+        checkLength(re.length);
+        checkLength(im.length);
+        transform.forward(re, 0, im, 0, 1);
+    }
+
+    /**
+     * Computes the inverse transform in-place.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @throws IllegalArgumentException if the array lengths are not equal to the size.
+     */
+    public void inverse(double[] re, double[] im) {
+        checkLength(re.length);
+        checkLength(im.length);
+        inverse(re, 0, im, 0, 1);
+    }
+
+    /**
+     * Computes the forward transform in-place of interleaved data {@code [re0, im0, re1, im1, ...]}.
+     *
+     * @param data Interleaved real and imaginary parts.
+     * @throws IllegalArgumentException if the array length is not twice the size.
+     */
+    public void forward(double[] data) {
+        checkEven(data.length);
+        checkLength(data.length >>> 1);
+        transform.forward(data, 0, data, 1, 2);
+    }
+
+    /**
+     * Computes the inverse transform in-place of interleaved data {@code [re0, im0, re1, im1, ...]}.
+     *
+     * @param data Interleaved real and imaginary parts.
+     * @throws IllegalArgumentException if the array length is not twice the size.
+     */
+    public void inverse(double[] data) {
+        checkEven(data.length);
+        checkLength(data.length >>> 1);
+        inverse(data, 0, data, 1, 2);
+    }
+
+    /**
+     * Computes the inverse transform in-place.
+     *
+     * @param re Real parts.
+     * @param reOffset Offset of the first real part.
+     * @param im Imaginary parts.
+     * @param imOffset Offset of the first imaginary part.
+     * @param stride Distance between consecutive parts.
+     */
+    private void inverse(double[] re, int reOffset, double[] im, int imOffset, int stride) {
+        // ifft(x) = conj(fft(conj(x))) / n
+        for (int i = 0; i < size; i++) {
+            final int k = imOffset + i * stride;
+            im[k] = -im[k];
+        }
+        transform.forward(re, reOffset, im, imOffset, stride);
+        final double scale = 1.0 / size;
+        for (int i = 0; i < size; i++) {
+            re[reOffset + i * stride] *= scale;
+            im[imOffset + i * stride] *= -scale;
+        }
+    }
+
+    /**
+     * Creates the transform for the size.
+     *
+     * @param n Size.
+     * @return the transform
+     */
+    private static Transform createTransform(int n) {
+        if (n == 1) {
+            return new Identity();
+        }
+        if ((n & (n - 1)) == 0) {
+            return new Radix2(n);
+        }
+        final int[] factors = factor(n);
+        if (factors[factors.length - 1] <= MAX_MIXED_RADIX_FACTOR) {
+            return new MixedRadix(n, factors);
+        }
+        return new Bluestein(n);
+    }
+
+    /**
+     * Compute the prime factors of the value in ascending order.
+     *
+     * @param n Value (must be above 1).
+     * @return the factors
+     */
+    private static int[] factor(int n) {
+        final int[] factors = new int[32];
+        int count = 0;
+        int value = n;
+        for (int p = 2; p * p <= value; p++) {
+            while (value % p == 0) {
+                factors[count++] = p;
+                value /= p;
+            }
+        }
+        if (value > 1) {
+            factors[count++] = value;
+        }
+        final int[] result = new int[count];
+        System.arraycopy(factors, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Check the length is equal to the size of the transform.
+     *
+     * @param length Length.
+     * @throws IllegalArgumentException if the length is not equal to the size.
+     */
+    private void checkLength(int length) {
+        if (length != size) {
+            throw new IllegalArgumentException("Dimension mismatch: " + length + " != " + size);
+        }
+    }
+
+    /**
+     * Check the length is even.
+     *
+     * @param length Length.
+     * @throws IllegalArgumentException if the length is not even.
+     */
+    private static void checkEven(int length) {
+        if ((length & 1) != 0) {
+            throw new IllegalArgumentException("Length is not even: " + length);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Table of the \( n \)-th roots of unity:
+ *
+ * <p>\[ \omega_k = e^{2 \pi i k / n} = \cos(2 \pi k / n) + i \sin(2 \pi k / n), \quad k = 0, 1, \dots, n-1 \]
+ *
+ * <p>Each root is computed by reducing the angle exactly to the interval \( [-\pi/4, \pi/4] \)
+ * and using the symmetry of the unit circle. The roots on the axes are exact and the error
+ * of each other root is no larger than that of direct evaluation of
+ * {@code Math.cos(2 * Math.PI * k / n)} and {@code Math.sin(2 * Math.PI * k / n)}.
+ *
+ * <p>A table is created for a fixed order using {@link #of(int)}. Tables are immutable
+ * and can be shared by multiple threads. Recently used tables are held in a bounded cache;
+ * when the total number of cached roots exceeds a limit the least recently used tables
+ * are evicted.
+ */
+public final class RootsOfUnity {
+    /** The largest order of a table to hold in the cache. */
+    private static final int MAX_CACHED_ORDER = 1 << 20;
+    /** The maximum total number of roots held in the cache. */
+    private static final int MAX_CACHED_ROOTS = 1 << 21;
+    /** Cache of tables. Access must be synchronized on the cache. */
+    private static final Map<Integer, RootsOfUnity> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+    /** Total number of roots held in the cache. Access must be synchronized on the cache. */
+    private static int cachedRoots;
+
+    /** Real parts of the roots. */
+    private final double[] real;
+    /** Imaginary parts of the roots. */
+    private final double[] imaginary;
+
+    /**
+     * Create an instance.
+     *
+     * @param n Order.
+     */
+    private RootsOfUnity(int n) {
+        real = new double[n];
+        imaginary = new double[n];
+        for (int k = 0; k < n; k++) {
+            // Angle 2 pi k / n = pi/2 * (q + r / n) with q the nearest quadrant
+            // and |r| <= n/2. The reduced angle is in [-pi/4, pi/4].
+            final long k4 = 4L * k;
+            final int q = (int) ((2 * k4 + n) / (2L * n));
+            final long r = k4 - (long) q * n;
+            final double theta = Math.PI * r / (2.0 * n);
+            final double c = Math.cos(theta);
+            final double s = Math.sin(theta);
+            // Rotate by i^q. Subtraction from zero avoids creating -0.0.
+            switch (q) {
+            case 1:
+                real[k] = 0.0 - s;
+                imaginary[k] = c;
+                break;
+            case 2:
+                real[k] = -c;
+                imaginary[k] = 0.0 - s;
+                break;
+            case 3:
+                real[k] = s;
+                imaginary[k] = -c;
+                break;
+            default:
+                // q = 0 or 4
+                real[k] = c;
+                imaginary[k] = s;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Gets the table of the roots of unity for the specified order.
+     *
+     * @param n Order of the roots.
+     * @return the table.
+     * @throws IllegalArgumentException if {@code n < 1}.
+     */
+    public static RootsOfUnity of(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Order must be strictly positive: " + n);
+        }
+        final Integer key = n;
+        synchronized (CACHE) {
+            final RootsOfUnity roots = CACHE.get(key);
+            if (roots != null) {
+                return roots;
+            }
+        }
+        // Compute outside the lock
+        final RootsOfUnity roots = new RootsOfUnity(n);
+        if (n > MAX_CACHED_ORDER) {
+            return roots;
+        }
+        synchronized (CACHE) {
+            final RootsOfUnity previous = CACHE.putIfAbsent(key, roots);
+            if (previous != null) {
+                return previous;
+            }
+            cachedRoots += n;
+            // Evict the least recently used tables
+            final Iterator<RootsOfUnity> it = CACHE.values().iterator();
+            while (cachedRoots > MAX_CACHED_ROOTS) {
+                cachedRoots -= it.next().size();
+                it.remove();
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * Gets the order of the roots. This is the number of roots in the table.
+     *
+     * @return the order
+     */
+    public int size() {
+        return real.length;
+    }
+
+    /**
+     * Gets the real part of the root \( \omega_k = e^{2 \pi i k / n} \).
+     *
+     * <p>The index is taken modulo the order \( n \) and may be negative.
+     *
+     * @param k Index of the root.
+     * @return the real part
+     */
+    public double getReal(int k) {
+        return real[Math.floorMod(k, real.length)];
+    }
+
+    /**
+     * Gets the imaginary part of the root \( \omega_k = e^{2 \pi i k / n} \).
+     *
+     * <p>The index is taken modulo the order \( n \) and may be negative.
+     *
+     * @param k Index of the root.
+     * @return the imaginary part
+     */
+    public double getImaginary(int k) {
+        return imaginary[Math.floorMod(k, imaginary.length)];
+    }
+
+    /**
+     * Gets the root \( \omega_k = e^{2 \pi i k / n} \).
+     *
+     * <p>The index is taken modulo the order \( n \) and may be negative.
+     *
+     * @param k Index of the root.
+     * @return the root
+     */
+    public Complex get(int k) {
+        final int i = Math.floorMod(k, real.length);
+        return Complex.ofCartesian(real[i], imaginary[i]);
+    }
+
+    /**
+     * Gets a copy of the real parts of the roots.
+     *
+     * @return the real parts
+     */
+    public double[] getReal() {
+        return real.clone();
+    }
+
+    /**
+     * Gets a copy of the imaginary parts of the roots.
+     *
+     * @return the imaginary parts
+     */
+    public double[] getImaginary() {
+        return imaginary.clone();
+    }
+
+    /**
+     * Gets the roots as an array of interleaved parts {@code [re0, im0, re1, im1, ...]}.
+     *
+     * @return the interleaved parts
+     */
+    public double[] toInterleaved() {
+        final double[] data = new double[real.length * 2];
+        for (int i = 0; i < real.length; i++) {
+            data[i * 2] = real[i];
+            data[i * 2 + 1] = imaginary[i];
+        }
+        return data;
+    }
+
+    /**
+     * Gets the internal array of the real parts of the roots. The array must not be modified.
+     *
+     * @return the real parts
+     */
+    double[] realParts() {
+        return real;
+    }
+
+    /**
+     * Gets the internal array of the imaginary parts of the roots. The array must not be modified.
+     *
+     * @return the imaginary parts
+     */
+    double[] imaginaryParts() {
+        return imaginary;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * Computes the sine and cosine of arrays of angles.
+ *
+ * <p>The sine and cosine of each angle are computed together using a single argument
+ * reduction to the interval \( [-\pi/4, \pi/4] \) followed by evaluation of minimax
+ * polynomials. The reduction and polynomials are those of the FDLIBM library used by
+ * {@link StrictMath}; the result is within 1 ulp of the exact result, as for
+ * {@link Math#sin(double)} and {@link Math#cos(double)}.
+ *
+ * <p>Angles with a magnitude above \( 2^{19} \pi / 2 \) require a multi-precision
+ * argument reduction and are computed using {@link Math#sin(double)} and
+ * {@link Math#cos(double)}. The sine and cosine of a non-finite angle is NaN.
+ *
+ * @see <a href="https://www.netlib.org/fdlibm/">FDLIBM</a>
+ */
+public final class SinCos {
+    /** The upper bound of |x| for which no reduction is required: pi/4. */
+    private static final double PI_4 = 0x1.921fb54442d18p-1;
+    /** The upper bound of |x| for which the sine is x and the cosine is 1: 2^-27. */
+    private static final double TINY = 0x1.0p-27;
+    /** The upper bound of |x| to use the Cody-Waite argument reduction: ~ 2^19 * pi/2. */
+    private static final double MEDIUM = 0x1.921fbp19;
+    /** The upper bound of |x| to use the simple form of the cosine kernel: ~ 0.3. */
+    private static final double COS_SMALL = 0x1.33333p-2;
+    /** The lower bound of |x| to use a fixed correction in the cosine kernel: 0.78125. */
+    private static final double COS_LARGE = 0.78125;
+    /** The fixed correction in the cosine kernel. */
+    private static final double COS_CORRECTION = 0.28125;
+    /** Mask to clear the low 32-bits of a double. */
+    private static final long HIGH_MASK = 0xffffffff00000000L;
+    /** Offset to the bits of a double to divide the value by 4. */
+    private static final long DIVIDE_BY_4 = 2L << 52;
+    /** 2 / pi. */
+    private static final double INV_PIO2 = 0x1.45f306dc9c883p-1;
+    /** First 33 bits of pi/2. */
+    private static final double PIO2_1 = 0x1.921fb544p0;
+    /** pi/2 - PIO2_1. */
+    private static final double PIO2_1T = 0x1.0b4611a626331p-34;
+    /** Second 33 bits of pi/2. */
+    private static final double PIO2_2 = 0x1.0b4611a6p-34;
+    /** pi/2 - (PIO2_1 + PIO2_2). */
+    private static final double PIO2_2T = 0x1.3198a2e037073p-69;
+    /** Third 33 bits of pi/2. */
+    private static final double PIO2_3 = 0x1.3198a2ep-69;
+    /** pi/2 - (PIO2_1 + PIO2_2 + PIO2_3). */
+    private static final double PIO2_3T = 0x1.b839a252049c1p-104;
+    /** Sine polynomial coefficient. */
+    private static final double S1 = -0x1.5555555555549p-3;
+    /** Sine polynomial coefficient. */
+    private static final double S2 = 0x1.111111110f8a6p-7;
+    /** Sine polynomial coefficient. */
+    private static final double S3 = -0x1.a01a019c161d5p-13;
+    /** Sine polynomial coefficient. */
+    private static final double S4 = 0x1.71de357b1fe7dp-19;
+    /** Sine polynomial coefficient. */
+    private static final double S5 = -0x1.ae5e68a2b9cebp-26;
+    /** Sine polynomial coefficient. */
+    private static final double S6 = 0x1.5d93a5acfd57cp-33;
+    /** Cosine polynomial coefficient. */
+    private static final double C1 = 0x1.555555555554cp-5;
+    /** Cosine polynomial coefficient. */
+    private static final double C2 = -0x1.6c16c16c15177p-10;
+    /** Cosine polynomial coefficient. */
+    private static final double C3 = 0x1.a01a019cb159p-16;
+    /** Cosine polynomial coefficient. */
+    private static final double C4 = -0x1.27e4f809c52adp-22;
+    /** Cosine polynomial coefficient. */
+    private static final double C5 = 0x1.1ee9ebdb4b1c4p-29;
+    /** Cosine polynomial coefficient. */
+    private static final double C6 = -0x1.8fae9be8838d4p-37;
+    /** Exponent shift for a double. */
+    private static final int EXP_SHIFT = 52;
+    /** Exponent mask for a double (after shifting). */
+    private static final int EXP_MASK = 0x7ff;
+
+    /** No instances. */
+    private SinCos() {}
+
+    /**
+     * Compute the sine and cosine of each angle.
+     *
+     * <p>The output arrays may be the same as the input array only if the output
+     * for that array is not required; for example the sine and cosine cannot be
+     * written to the same array.
+     *
+     * @param theta Angles (in radians).
+     * @param sin Sine of the angles.
+     * @param cos Cosine of the angles.
+     * @throws IllegalArgumentException if the array lengths do not match.
+     */
+    public static void sincos(double[] theta, double[] sin, double[] cos) {
+        checkLength(theta.length, sin.length);
+        checkLength(theta.length, cos.length);
+        for (int i = 0; i < theta.length; i++) {
+            sincos(theta[i], sin, cos, i);
+        }
+    }
+
+    /**
+     * Compute the sine and cosine of the angle and store the result at the specified index.
+     *
+     * @param x Angle (in radians).
+     * @param sin Sine of the angles.
+     * @param cos Cosine of the angles.
+     * @param i Index.
+     */
+    static void sincos(double x, double[] sin, double[] cos, int i) {
+        final double ax = Math.abs(x);
+        if (ax <= PI_4) {
+            // No reduction
+            if (ax < TINY) {
+                sin[i] = x;
+                cos[i] = 1;
+            } else {
+                sin[i] = sinKernel(x, 0);
+                cos[i] = cosKernel(x, 0);
+            }
+            return;
+        }
+        if (!(ax <= MEDIUM)) {
+            // Large or non-finite
+            sin[i] = Math.sin(x);
+            cos[i] = Math.cos(x);
+            return;
+        }
+
+        // Cody-Waite reduction: x = n * pi/2 + (y0 + y1)
+        final int n = (int) (ax * INV_PIO2 + 0.5);
+        final double fn = n;
+        double r = ax - fn * PIO2_1;
+        double w = fn * PIO2_1T;
+        double y0 = r - w;
+        final int j = exponent(ax);
+        if (j - exponent(y0) > 16) {
+            // Cancellation: use the second 33 bits of pi/2
+            double t = r;
+            w = fn * PIO2_2;
+            r = t - w;
+            w = fn * PIO2_2T - ((t - r) - w);
+            y0 = r - w;
+            if (j - exponent(y0) > 49) {
+                // Further cancellation: use the third 33 bits of pi/2
+                t = r;
+                w = fn * PIO2_3;
+                r = t - w;
+                w = fn * PIO2_3T - ((t - r) - w);
+                y0 = r - w;
+            }
+        }
+        double y1 = (r - y0) - w;
+        int q = n;
+        if (x < 0) {
+            y0 = -y0;
+            y1 = -y1;
+            q = -n;
+        }
+
+        final double s = Math.abs(y0) < TINY ? y0 : sinKernel(y0, y1);
+        final double c = cosKernel(y0, y1);
+        switch (q & 3) {
+        case 0:
+            sin[i] = s;
+            cos[i] = c;
+            break;
+        case 1:
+            sin[i] = c;
+            cos[i] = -s;
+            break;
+        case 2:
+            sin[i] = -s;
+            cos[i] = -c;
+            break;
+        default:
+            sin[i] = -c;
+            cos[i] = s;
+            break;
+        }
+    }
+
+    /**
+     * Compute the sine on the interval [-pi/4, pi/4] for the value {@code x + y}
+     * where {@code y} is the tail of the reduced argument.
+     *
+     * @param x Value.
+     * @param y Tail of the value.
+     * @return sin(x + y)
+     */
+    private static double sinKernel(double x, double y) {
+        final double z = x * x;
+        final double v = z * x;
+        final double r = S2 + z * (S3 + z * (S4 + z * (S5 + z * S6)));
+        if (y == 0) {
+            return x + v * (S1 + z * r);
+        }
+        return x - ((z * (0.5 * y - v * r) - y) - v * S1);
+    }
+
+    /**
+     * Compute the cosine on the interval [-pi/4, pi/4] for the value {@code x + y}
+     * where {@code y} is the tail of the reduced argument.
+     *
+     * @param x Value.
+     * @param y Tail of the value.
+     * @return cos(x + y)
+     */
+    private static double cosKernel(double x, double y) {
+        final double ax = Math.abs(x);
+        if (ax < TINY) {
+            return 1;
+        }
+        final double z = x * x;
+        final double r = z * (C1 + z * (C2 + z * (C3 + z * (C4 + z * (C5 + z * C6)))));
+        if (ax < COS_SMALL) {
+            return 1 - (0.5 * z - (z * r - x * y));
+        }
+        // Correction qx ~ |x|/4 with the low 32-bits cleared to avoid loss of precision
+        final double qx = ax > COS_LARGE ?
+            COS_CORRECTION :
+            Double.longBitsToDouble((Double.doubleToRawLongBits(ax) & HIGH_MASK) - DIVIDE_BY_4);
+        final double hz = 0.5 * z - qx;
+        final double a = 1 - qx;
+        return a - (hz - (z * r - x * y));
+    }
+
+    /**
+     * Gets the biased exponent of the value.
+     *
+     * @param x Value.
+     * @return the exponent
+     */
+    private static int exponent(double x) {
+        return (int) (Double.doubleToRawLongBits(x) >>> EXP_SHIFT) & EXP_MASK;
+    }
+
+    /**
+     * Check the lengths are equal.
+     *
+     * @param expected Expected length.
+     * @param actual Actual length.
+     * @throws IllegalArgumentException if the lengths do not match.
+     */
+    private static void checkLength(int expected, int actual) {
+        if (expected != actual) {
+            throw new IllegalArgumentException("Dimension mismatch: " + expected + " != " + actual);
+        }
+    }
+}
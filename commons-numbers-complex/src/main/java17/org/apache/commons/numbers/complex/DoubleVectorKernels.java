@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels for the bulk operations in {@link ComplexArrays} using the incubating
+ * Vector API.
+ *
+ * <p>Each lane performs the same IEEE 754 operations in the same order as the scalar code
+ * and the result is identical. A vector that contains an element requiring the special case
+ * handling of the scalar method is not stored; the kernel returns the index of the vector
+ * so the caller can compute the next element using the scalar method. This allows the
+ * output arrays to be the same as the input arrays.
+ *
+ * <p>This class must only be used when the module {@code jdk.incubator.vector} is
+ * available to the runtime.
+ */
+final class DoubleVectorKernels {
+    /** The preferred species of vector. */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    /** The number of lanes in a vector. */
+    private static final int LANES = SPECIES.length();
+    /**
+     * The multiplier used to split the double value into high and low parts. From
+     * Dekker (1971): "The constant should be chosen equal to 2^(p - p/2) + 1,
+     * where p is the number of binary digits in the mantissa". Here p is 53
+     * and the multiplier is {@code 2^27 + 1}.
+     */
+    private static final double MULTIPLIER = 1.34217729E8;
+    /**
+     * Upper limit on the magnitude of parts that can be divided without scaling: 2^200.
+     * The products of the parts and the square of the divisor cannot overflow.
+     */
+    private static final double DIVIDE_LARGE = 0x1.0p200;
+    /**
+     * Lower limit on the magnitude of non-zero parts that can be divided without scaling: 2^-200.
+     * The products of the parts, their sum and the quotient cannot be sub-normal.
+     */
+    private static final double DIVIDE_SMALL = 0x1.0p-200;
+
+    /** No instances. */
+    private DoubleVectorKernels() {}
+
+    /**
+     * Adds the complex numbers element-wise.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @return the index of the first element not computed
+     */
+    static int add(double[] re1, double[] im1, double[] re2, double[] im2,
+                   double[] reOut, double[] imOut) {
+        final int bound = SPECIES.loopBound(re1.length);
+        for (int i = 0; i < bound; i += LANES) {
+            final DoubleVector a = DoubleVector.fromArray(SPECIES, re1, i);
+            final DoubleVector b = DoubleVector.fromArray(SPECIES, im1, i);
+            final DoubleVector c = DoubleVector.fromArray(SPECIES, re2, i);
+            final DoubleVector d = DoubleVector.fromArray(SPECIES, im2, i);
+            a.add(c).intoArray(reOut, i);
+            b.add(d).intoArray(imOut, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Subtracts the second complex numbers from the first complex numbers element-wise.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @return the index of the first element not computed
+     */
+    static int subtract(double[] re1, double[] im1, double[] re2, double[] im2,
+                        double[] reOut, double[] imOut) {
+        final int bound = SPECIES.loopBound(re1.length);
+        for (int i = 0; i < bound; i += LANES) {
+            final DoubleVector a = DoubleVector.fromArray(SPECIES, re1, i);
+            final DoubleVector b = DoubleVector.fromArray(SPECIES, im1, i);
+            final DoubleVector c = DoubleVector.fromArray(SPECIES, re2, i);
+            final DoubleVector d = DoubleVector.fromArray(SPECIES, im2, i);
+            a.sub(c).intoArray(reOut, i);
+            b.sub(d).intoArray(imOut, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Multiplies the complex numbers element-wise starting from the specified index.
+     *
+     * <p>Stops at the first vector with a product of {@code NaN + i NaN} which requires
+     * the recovery of infinities by the scalar method.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @param from Index of the first element.
+     * @return the index of the first element not computed
+     * @see Complex#multiply(Complex)
+     */
+    static int multiply(double[] re1, double[] im1, double[] re2, double[] im2,
+                        double[] reOut, double[] imOut, int from) {
+        final int last = re1.length - LANES;
+        int i = from;
+        for (; i <= last; i += LANES) {
+            final DoubleVector a = DoubleVector.fromArray(SPECIES, re1, i);
+            final DoubleVector b = DoubleVector.fromArray(SPECIES, im1, i);
+            final DoubleVector c = DoubleVector.fromArray(SPECIES, re2, i);
+            final DoubleVector d = DoubleVector.fromArray(SPECIES, im2, i);
+            final DoubleVector x = a.mul(c).sub(b.mul(d));
+            final DoubleVector y = a.mul(d).add(b.mul(c));
+            if (x.test(VectorOperators.IS_NAN).and(y.test(VectorOperators.IS_NAN)).anyTrue()) {
+                // Rare: NaN + i NaN requires the recovery of infinities
+                break;
+            }
+            x.intoArray(reOut, i);
+            y.intoArray(imOut, i);
+        }
+        return i;
+    }
+
+    /**
+     * Divides the first complex numbers by the second complex numbers element-wise
+     * starting from the specified index.
+     *
+     * <p>The scalar method scales the divisor to avoid overflow and underflow.
+     * If all non-zero parts have a magnitude in {@code [2^-200, 2^200)} and the divisor
+     * is non-zero then no intermediate is sub-normal or infinite with or without the
+     * scaling. The scaling by a power of 2 is then exact and the quotient is computed
+     * directly. Stops at the first vector with an element outside this range.
+     *
+     * @param re1 Real parts of the dividends.
+     * @param im1 Imaginary parts of the dividends.
+     * @param re2 Real parts of the divisors.
+     * @param im2 Imaginary parts of the divisors.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @param from Index of the first element.
+     * @return the index of the first element not computed
+     * @see Complex#divide(Complex)
+     */
+    static int divide(double[] re1, double[] im1, double[] re2, double[] im2,
+                      double[] reOut, double[] imOut, int from) {
+        final int last = re1.length - LANES;
+        int i = from;
+        for (; i <= last; i += LANES) {
+            final DoubleVector a = DoubleVector.fromArray(SPECIES, re1, i);
+            final DoubleVector b = DoubleVector.fromArray(SPECIES, im1, i);
+            final DoubleVector c = DoubleVector.fromArray(SPECIES, re2, i);
+            final DoubleVector d = DoubleVector.fromArray(SPECIES, im2, i);
+            final VectorMask<Double> unscaled = isDivideRange(a).and(isDivideRange(b))
+                .and(isDivideRange(c)).and(isDivideRange(d))
+                .and(c.abs().max(d.abs()).compare(VectorOperators.GE, DIVIDE_SMALL));
+            if (!unscaled.allTrue()) {
+                break;
+            }
+            final DoubleVector denom = c.mul(c).add(d.mul(d));
+            a.mul(c).add(b.mul(d)).div(denom).intoArray(reOut, i);
+            b.mul(c).sub(a.mul(d)).div(denom).intoArray(imOut, i);
+        }
+        return i;
+    }
+
+    /**
+     * Negates the values.
+     *
+     * @param x Values.
+     * @param out Negated values.
+     * @return the index of the first element not computed
+     */
+    static int negate(double[] x, double[] out) {
+        final int bound = SPECIES.loopBound(x.length);
+        for (int i = 0; i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, x, i).neg().intoArray(out, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Computes the absolute value of the complex numbers in the range. All non-zero parts
+     * in the range must have a magnitude in {@code [2^-500, 2^500)}.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param out Absolute values.
+     * @param from Start of the range (inclusive).
+     * @param to End of the range (exclusive).
+     * @return the index of the first element not computed
+     * @see Complex#abs()
+     */
+    static int abs(double[] re, double[] im, double[] out, int from, int to) {
+        final int last = to - LANES;
+        int i = from;
+        for (; i <= last; i += LANES) {
+            final DoubleVector x = DoubleVector.fromArray(SPECIES, re, i).abs();
+            final DoubleVector y = DoubleVector.fromArray(SPECIES, im, i).abs();
+            // The sum of squares requires |x| >= |y|
+            x2y2(x.max(y), x.min(y)).lanewise(VectorOperators.SQRT).intoArray(out, i);
+        }
+        return i;
+    }
+
+    /**
+     * Test if the magnitude of each part is zero or in {@code [2^-200, 2^200)}.
+     *
+     * @param v Parts.
+     * @return the mask of the parts in the range
+     */
+    private static VectorMask<Double> isDivideRange(DoubleVector v) {
+        final DoubleVector x = v.abs();
+        return x.compare(VectorOperators.EQ, 0.0)
+            .or(x.compare(VectorOperators.GE, DIVIDE_SMALL).and(x.compare(VectorOperators.LT, DIVIDE_LARGE)));
+    }
+
+    /**
+     * Return {@code x^2 + y^2} with high accuracy. This is the lane-wise equivalent of
+     * {@code Complex.x2y2(double, double)} and has the same requirement
+     * {@code 2^500 > |x| >= |y| > 2^-500}.
+     *
+     * @param x Value x.
+     * @param y Value y.
+     * @return x^2 + y^2
+     */
+    private static DoubleVector x2y2(DoubleVector x, DoubleVector y) {
+        final DoubleVector xx = x.mul(x);
+        final DoubleVector yy = y.mul(y);
+        // Dekker mul12
+        final DoubleVector xHigh = splitHigh(x);
+        final DoubleVector xLow = x.sub(xHigh);
+        final DoubleVector xxLow = squareLow(xLow, xHigh, xx);
+        // Dekker mul12
+        final DoubleVector yHigh = splitHigh(y);
+        final DoubleVector yLow = y.sub(yHigh);
+        final DoubleVector yyLow = squareLow(yLow, yHigh, yy);
+        // Dekker add2
+        final DoubleVector r = xx.add(yy);
+        return xx.sub(r).add(yy).add(yyLow).add(xxLow).add(r);
+    }
+
+    /**
+     * Implement Dekker's method to split a value into two parts.
+     *
+     * @param a Value.
+     * @return the high part of the value.
+     */
+    private static DoubleVector splitHigh(DoubleVector a) {
+        final DoubleVector c = a.mul(MULTIPLIER);
+        return c.sub(c.sub(a));
+    }
+
+    /**
+     * Compute the round-off from the square of a split number with {@code low} and {@code high}
+     * components.
+     *
+     * @param low Low part of number.
+     * @param high High part of number.
+     * @param square Square of the number.
+     * @return <code>low * low - (((product - high * high) - low * high) - high * low)</code>
+     */
+    private static DoubleVector squareLow(DoubleVector low, DoubleVector high, DoubleVector square) {
+        final DoubleVector lh = low.mul(high);
+        return low.mul(low).sub(square.sub(high.mul(high)).sub(lh).sub(lh));
+    }
+}
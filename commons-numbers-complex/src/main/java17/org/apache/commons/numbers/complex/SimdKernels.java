@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+/**
+ * SIMD kernels for the bulk operations in {@link ComplexArrays}.
+ *
+ * <p>Each kernel computes the leading elements of a range using vector instructions and
+ * returns the index of the first element it has not computed. The caller computes that
+ * element using the scalar method.
+ *
+ * <p>This implementation for Java 17 or later delegates to {@link DoubleVectorKernels}
+ * if the module {@code jdk.incubator.vector} is available to the runtime; otherwise
+ * it computes no elements.
+ */
+final class SimdKernels {
+    /** Set to true if the Vector API module is available to the runtime. */
+    private static final boolean ENABLED =
+        ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /** No instances. */
+    private SimdKernels() {}
+
+    /**
+     * Adds the complex numbers element-wise.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @return the index of the first element not computed
+     */
+    static int add(double[] re1, double[] im1, double[] re2, double[] im2,
+                   double[] reOut, double[] imOut) {
+        return ENABLED ? DoubleVectorKernels.add(re1, im1, re2, im2, reOut, imOut) : 0;
+    }
+
+    /**
+     * Subtracts the second complex numbers from the first complex numbers element-wise.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @return the index of the first element not computed
+     */
+    static int subtract(double[] re1, double[] im1, double[] re2, double[] im2,
+                        double[] reOut, double[] imOut) {
+        return ENABLED ? DoubleVectorKernels.subtract(re1, im1, re2, im2, reOut, imOut) : 0;
+    }
+
+    /**
+     * Multiplies the complex numbers element-wise starting from the specified index.
+     *
+     * @param re1 Real parts of the first numbers.
+     * @param im1 Imaginary parts of the first numbers.
+     * @param re2 Real parts of the second numbers.
+     * @param im2 Imaginary parts of the second numbers.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @param from Index of the first element.
+     * @return the index of the first element not computed
+     */
+    static int multiply(double[] re1, double[] im1, double[] re2, double[] im2,
+                        double[] reOut, double[] imOut, int from) {
+        return ENABLED ? DoubleVectorKernels.multiply(re1, im1, re2, im2, reOut, imOut, from) : from;
+    }
+
+    /**
+     * Divides the first complex numbers by the second complex numbers element-wise
+     * starting from the specified index.
+     *
+     * @param re1 Real parts of the dividends.
+     * @param im1 Imaginary parts of the dividends.
+     * @param re2 Real parts of the divisors.
+     * @param im2 Imaginary parts of the divisors.
+     * @param reOut Real parts of the result.
+     * @param imOut Imaginary parts of the result.
+     * @param from Index of the first element.
+     * @return the index of the first element not computed
+     */
+    static int divide(double[] re1, double[] im1, double[] re2, double[] im2,
+                      double[] reOut, double[] imOut, int from) {
+        return ENABLED ? DoubleVectorKernels.divide(re1, im1, re2, im2, reOut, imOut, from) : from;
+    }
+
+    /**
+     * Negates the values.
+     *
+     * @param x Values.
+     * @param out Negated values.
+     * @return the index of the first element not computed
+     */
+    static int negate(double[] x, double[] out) {
+        return ENABLED ? DoubleVectorKernels.negate(x, out) : 0;
+    }
+
+    /**
+     * Computes the absolute value of the complex numbers in the range. All non-zero parts
+     * in the range must have a magnitude in {@code [2^-500, 2^500)}.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param out Absolute values.
+     * @param from Start of the range (inclusive).
+     * @param to End of the range (exclusive).
+     * @return the index of the first element not computed
+     */
+    static int abs(double[] re, double[] im, double[] out, int from, int to) {
+        return ENABLED ? DoubleVectorKernels.abs(re, im, out, from, to) : from;
+    }
+}
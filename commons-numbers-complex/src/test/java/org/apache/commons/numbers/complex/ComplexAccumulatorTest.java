@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexAccumulator}.
+ */
+class ComplexAccumulatorTest {
+
+    @Test
+    void testCreate() {
+        Assertions.assertEquals(Complex.ZERO, ComplexAccumulator.create().get());
+        Assertions.assertEquals(Complex.ofCartesian(1.5, -2), ComplexAccumulator.of(1.5, -2).get());
+        final Complex z = Complex.ofCartesian(-3, 4.25);
+        Assertions.assertEquals(z, ComplexAccumulator.of(z).get());
+    }
+
+    @Test
+    void testAdd() {
+        final ComplexAccumulator acc = ComplexAccumulator.create()
+            .add(Complex.ofCartesian(1, 2))
+            .add(3, -4)
+            .add(5);
+        acc.accept(Complex.ofCartesian(-0.5, 0.25));
+        Assertions.assertEquals(Complex.ofCartesian(8.5, -1.75), acc.get());
+        Assertions.assertEquals(8.5, acc.getReal());
+        Assertions.assertEquals(-1.75, acc.getImaginary());
+    }
+
+    @Test
+    void testAddNonFinite() {
+        final double inf = Double.POSITIVE_INFINITY;
+        Assertions.assertEquals(Complex.ofCartesian(inf, Double.NaN),
+            ComplexAccumulator.create().add(inf, 1).add(1, Double.NaN).get());
+        Assertions.assertEquals(Complex.ofCartesian(Double.NaN, inf),
+            ComplexAccumulator.create().add(inf, inf).add(-inf, 1).get());
+        Assertions.assertEquals(Complex.ofCartesian(inf, -inf),
+            ComplexAccumulator.create().add(Double.MAX_VALUE, -Double.MAX_VALUE)
+                .add(Double.MAX_VALUE, -Double.MAX_VALUE).get());
+    }
+
+    @Test
+    void testAddAccuracy() {
+        final double a = 9.999999999;
+        final double b = Math.scalb(a, -53);
+        final double c = Math.scalb(a, -27);
+        final double d = Math.scalb(a, -50);
+        final double[] re = {a, b, b, -c, c, d, -a};
+        final double[] im = {-d, a, c, b, -a, b, c};
+        final ComplexAccumulator acc = ComplexAccumulator.create();
+        for (int i = 0; i < re.length; i++) {
+            acc.add(re[i], im[i]);
+        }
+        Assertions.assertEquals(exactSum(re), acc.getReal());
+        Assertions.assertEquals(exactSum(im), acc.getImaginary());
+    }
+
+    @Test
+    void testAddProduct() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (int i = 0; i < 100; i++) {
+            final Complex z1 = Complex.ofCartesian(rng.nextDouble(), rng.nextDouble());
+            final Complex z2 = Complex.ofCartesian(rng.nextDouble(), rng.nextDouble());
+            final Complex p = ComplexAccumulator.create().addProduct(z1, z2).get();
+            // The accumulator is accurate to the final rounding
+            final double re = exactProductSum(z1.getReal(), z2.getReal(), -z1.getImaginary(), z2.getImaginary());
+            final double im = exactProductSum(z1.getReal(), z2.getImaginary(), z1.getImaginary(), z2.getReal());
+            Assertions.assertEquals(re, p.getReal(), Math.ulp(re));
+            Assertions.assertEquals(im, p.getImaginary(), Math.ulp(im));
+        }
+    }
+
+    @Test
+    void testAddProductAccuracy() {
+        // Dot product of ill-conditioned data: (x, -x) . (y, y) == 0 with catastrophic cancellation
+        final double x = 1.0 + 0x1.0p-30;
+        final double y = 1.0 - 0x1.0p-30;
+        final ComplexAccumulator acc = ComplexAccumulator.create()
+            .addProduct(x, 0, y, 0)
+            .add(-1)
+            .addProduct(0, x, 0, y)
+            .add(1);
+        // x * y - 1 - x * y + 1 = 0
+        Assertions.assertEquals(0.0, acc.getReal());
+        Assertions.assertEquals(0.0, acc.getImaginary());
+        // x * y - 1 = -2^-60 which is lost in standard precision
+        Assertions.assertEquals(-0x1.0p-60,
+            ComplexAccumulator.create().addProduct(x, 0, y, 0).add(-1).getReal());
+
+        // Large values use scaling to avoid overflow in the split
+        final double big = 0x1.0p1000;
+        Assertions.assertEquals(big * 0.5, ComplexAccumulator.create().addProduct(big, 0, 0.5, 0).getReal());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY,
+            ComplexAccumulator.create().addProduct(big, 0, big, 0).getReal());
+    }
+
+    @Test
+    void testMultiply() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[] values = {0, -0.0, 1, -2, Double.POSITIVE_INFINITY, Double.NaN};
+        final List<Complex> list = new ArrayList<>();
+        for (final double a : values) {
+            for (final double b : values) {
+                list.add(Complex.ofCartesian(a, b));
+            }
+        }
+        for (int i = 0; i < 20; i++) {
+            list.add(Complex.ofCartesian(rng.nextDouble() * 4 - 2, rng.nextDouble() * 4 - 2));
+        }
+        for (final Complex z1 : list) {
+            for (final Complex z2 : list) {
+                Assertions.assertEquals(z1.multiply(z2), ComplexAccumulator.of(z1).multiply(z2).get());
+                Assertions.assertEquals(z1.multiply(z2.getReal()),
+                    ComplexAccumulator.of(z1).multiply(z2.getReal()).get());
+            }
+        }
+    }
+
+    @Test
+    void testMultiplyThenAdd() {
+        // (1 + 2i) * i + 3 = 1 + i
+        final ComplexAccumulator acc = ComplexAccumulator.of(1, 2).multiply(0, 1).add(3, 0);
+        Assertions.assertEquals(Complex.ofCartesian(1, 1), acc.get());
+        // Compensation is included before multiplication
+        final double small = 0x1.0p-60;
+        final ComplexAccumulator acc2 = ComplexAccumulator.of(1, 0).add(small, 0).add(-1, 0).multiply(2, 0);
+        Assertions.assertEquals(2 * small, acc2.getReal());
+    }
+
+    @Test
+    void testCombine() {
+        final double a = Math.PI;
+        final double b = Math.scalb(a, -53);
+        final double c = Math.scalb(a, -27);
+        final ComplexAccumulator acc1 = ComplexAccumulator.of(a, c).add(b, -a);
+        final ComplexAccumulator acc2 = ComplexAccumulator.of(c, b).add(-a, a);
+        Assertions.assertSame(acc1, acc1.combine(acc2));
+        Assertions.assertEquals(exactSum(a, b, c, -a), acc1.getReal());
+        Assertions.assertEquals(exactSum(c, -a, b, a), acc1.getImaginary());
+        // acc2 is unchanged
+        Assertions.assertEquals(exactSum(c, -a), acc2.getReal());
+
+        // Combine with self
+        final ComplexAccumulator acc3 = ComplexAccumulator.of(a, b).add(b, a);
+        acc3.combine(acc3);
+        Assertions.assertEquals(exactSum(a, b, a, b), acc3.getReal());
+        Assertions.assertEquals(exactSum(b, a, b, a), acc3.getImaginary());
+    }
+
+    @Test
+    void testCollector() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final List<Complex> list = new ArrayList<>();
+        final double[] re = new double[2000];
+        final double[] im = new double[re.length];
+        for (int i = 0; i < re.length; i++) {
+            // Values with different magnitudes and signs
+            re[i] = Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(60));
+            im[i] = Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(60));
+            list.add(Complex.ofCartesian(re[i], im[i]));
+        }
+        final Collector<Complex, ComplexAccumulator, Complex> collector =
+            Collector.of(ComplexAccumulator::create, ComplexAccumulator::add,
+                         ComplexAccumulator::combine, ComplexAccumulator::get);
+        final Complex expected = Complex.ofCartesian(exactSum(re), exactSum(im));
+        final double deltaRe = Math.ulp(expected.getReal());
+        final double deltaIm = Math.ulp(expected.getImaginary());
+        final Complex z1 = list.stream().collect(collector);
+        Assertions.assertEquals(expected.getReal(), z1.getReal(), deltaRe);
+        Assertions.assertEquals(expected.getImaginary(), z1.getImaginary(), deltaIm);
+        final Complex z2 = list.parallelStream().collect(collector);
+        Assertions.assertEquals(expected.getReal(), z2.getReal(), deltaRe);
+        Assertions.assertEquals(expected.getImaginary(), z2.getImaginary(), deltaIm);
+    }
+
+    /**
+     * Compute the sum of the values using exact arithmetic and round to the nearest double.
+     *
+     * @param values Values.
+     * @return the sum
+     */
+    private static double exactSum(double... values) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (final double x : values) {
+            sum = sum.add(new BigDecimal(x));
+        }
+        return sum.doubleValue();
+    }
+
+    /**
+     * Compute {@code a * b + c * d} using exact arithmetic and round to the nearest double.
+     *
+     * @param a First factor of the first product.
+     * @param b Second factor of the first product.
+     * @param c First factor of the second product.
+     * @param d Second factor of the second product.
+     * @return the sum of the products
+     */
+    private static double exactProductSum(double a, double b, double c, double d) {
+        return new BigDecimal(a).multiply(new BigDecimal(b))
+            .add(new BigDecimal(c).multiply(new BigDecimal(d))).doubleValue();
+    }
+}
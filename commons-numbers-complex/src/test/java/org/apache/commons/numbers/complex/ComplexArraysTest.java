@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.function.BiFunction;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexArrays}.
+ */
+class ComplexArraysTest {
+    private static final double inf = Double.POSITIVE_INFINITY;
+    private static final double nan = Double.NaN;
+
+    /**
+     * Define a binary operation on arrays.
+     */
+    private interface BinaryOperation {
+        /**
+         * Apply the operation.
+         *
+         * @param re1 Real parts of the first numbers.
+         * @param im1 Imaginary parts of the first numbers.
+         * @param re2 Real parts of the second numbers.
+         * @param im2 Imaginary parts of the second numbers.
+         * @param reOut Real parts of the result.
+         * @param imOut Imaginary parts of the result.
+         */
+        void apply(double[] re1, double[] im1, double[] re2, double[] im2, double[] reOut, double[] imOut);
+    }
+
+    @Test
+    void testBinaryOperations() {
+        assertBinaryOperation(ComplexArrays::add, Complex::add);
+        assertBinaryOperation(ComplexArrays::subtract, Complex::subtract);
+        assertBinaryOperation(ComplexArrays::multiply, Complex::multiply);
+        assertBinaryOperation(ComplexArrays::divide, Complex::divide);
+    }
+
+    @Test
+    void testBinaryOperationsExponentRange() {
+        // Values with a wide range of exponents and sparse non-finite values so that
+        // some runs of elements can be computed directly and others require the scalar method
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final int n = 3001;
+        final double[] re1 = new double[n];
+        final double[] im1 = new double[n];
+        final double[] re2 = new double[n];
+        final double[] im2 = new double[n];
+        for (final double[] x : new double[][] {re1, im1, re2, im2}) {
+            for (int i = 0; i < n; i++) {
+                // Exponent range: moderate in the first half, extreme in the second half
+                final int range = i < n / 2 ? 200 : 1100;
+                x[i] = Math.scalb(rng.nextDouble() * 2 - 1, rng.nextInt(2 * range) - range);
+            }
+            x[rng.nextInt(n)] = 0.0;
+            x[rng.nextInt(n)] = -0.0;
+            x[rng.nextInt(n)] = inf;
+            x[rng.nextInt(n)] = -inf;
+            x[rng.nextInt(n)] = nan;
+        }
+        assertBinaryOperation(ComplexArrays::add, Complex::add, re1, im1, re2, im2);
+        assertBinaryOperation(ComplexArrays::subtract, Complex::subtract, re1, im1, re2, im2);
+        assertBinaryOperation(ComplexArrays::multiply, Complex::multiply, re1, im1, re2, im2);
+        assertBinaryOperation(ComplexArrays::divide, Complex::divide, re1, im1, re2, im2);
+    }
+
+    @Test
+    void testConj() {
+        final double[][] z = TestUtils.createParts(TestUtils.EDGE_VALUES,
+            RandomSource.create(RandomSource.SPLIT_MIX_64), 10);
+        final int n = z[0].length;
+        final double[] re = new double[n];
+        final double[] im = new double[n];
+        ComplexArrays.conj(z[0], z[1], re, im);
+        for (int i = 0; i < n; i++) {
+            Assertions.assertEquals(Complex.ofCartesian(z[0][i], z[1][i]).conj(), Complex.ofCartesian(re[i], im[i]));
+        }
+        // In-place
+        ComplexArrays.conj(re, im, re, im);
+        Assertions.assertArrayEquals(z[0], re);
+        Assertions.assertArrayEquals(z[1], im);
+    }
+
+    @Test
+    void testPow() {
+        final double[][] z = TestUtils.createParts(TestUtils.EDGE_VALUES,
+            RandomSource.create(RandomSource.SPLIT_MIX_64), 100);
+        final int size = z[0].length;
+        final double[] re = new double[size];
+        final double[] im = new double[size];
+        for (final int n : new int[] {-3, 0, 1, 2, 7}) {
+            ComplexArrays.pow(z[0], z[1], n, re, im);
+            for (int i = 0; i < size; i++) {
+                Assertions.assertEquals(Complex.ofCartesian(z[0][i], z[1][i]).pow(n), Complex.ofCartesian(re[i], im[i]));
+            }
+        }
+    }
+
+    @Test
+    void testAbs() {
+        final double[][] z = TestUtils.createParts(TestUtils.EDGE_VALUES,
+            RandomSource.create(RandomSource.SPLIT_MIX_64), 100);
+        final double[] abs = new double[z[0].length];
+        ComplexArrays.abs(z[0], z[1], abs);
+        for (int i = 0; i < abs.length; i++) {
+            Assertions.assertEquals(Complex.ofCartesian(z[0][i], z[1][i]).abs(), abs[i]);
+        }
+    }
+
+    @Test
+    void testAbsBlocks() {
+        // Values with a wide range of exponents so that some blocks can be computed
+        // without scaling and others require it
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final int n = 2000;
+        final double[] re = new double[n];
+        final double[] im = new double[n];
+        for (int i = 0; i < n; i++) {
+            // Exponent range of the block: small in the first half, large in the second half
+            final int range = i < n / 2 ? 400 : 1020;
+            re[i] = Math.scalb(rng.nextDouble() * 2 - 1, rng.nextInt(2 * range) - range);
+            im[i] = Math.scalb(rng.nextDouble() * 2 - 1, rng.nextInt(2 * range) - range);
+        }
+        // Zeros and a single non-finite value do not require scaling of the entire array
+        re[10] = 0;
+        im[11] = -0.0;
+        im[n - 1] = nan;
+        final double[] abs = new double[n];
+        ComplexArrays.abs(re, im, abs);
+        for (int i = 0; i < n; i++) {
+            Assertions.assertEquals(Complex.ofCartesian(re[i], im[i]).abs(), abs[i], re[i] + ", " + im[i]);
+        }
+    }
+
+    @Test
+    void testNorm() {
+        final double[][] z = TestUtils.createParts(TestUtils.EDGE_VALUES,
+            RandomSource.create(RandomSource.SPLIT_MIX_64), 100);
+        final double[] norm = new double[z[0].length];
+        ComplexArrays.norm(z[0], z[1], norm);
+        for (int i = 0; i < norm.length; i++) {
+            Assertions.assertEquals(Complex.ofCartesian(z[0][i], z[1][i]).norm(), norm[i]);
+        }
+    }
+
+    @Test
+    void testDimensionMismatch() {
+        final double[] a = new double[2];
+        final double[] b = new double[3];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexArrays.add(a, a, a, a, a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexArrays.subtract(a, a, a, b, a, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexArrays.multiply(a, a, b, a, a, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexArrays.divide(a, b, a, a, a, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexArrays.conj(a, a, a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexArrays.pow(a, a, 2, b, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexArrays.abs(a, b, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexArrays.abs(a, a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexArrays.norm(b, a, a));
+    }
+
+    private static void assertBinaryOperation(BinaryOperation operation,
+                                              BiFunction<Complex, Complex, Complex> expected) {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[][] z = TestUtils.createParts(TestUtils.EDGE_VALUES, rng, 50);
+        final int n = z[0].length;
+        // All combinations: repeat the first values against each second value
+        final double[] re1 = new double[n * n];
+        final double[] im1 = new double[n * n];
+        final double[] re2 = new double[n * n];
+        final double[] im2 = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                final int k = i * n + j;
+                re1[k] = z[0][i];
+                im1[k] = z[1][i];
+                re2[k] = z[0][j];
+                im2[k] = z[1][j];
+            }
+        }
+        assertBinaryOperation(operation, expected, re1, im1, re2, im2);
+    }
+
+    private static void assertBinaryOperation(BinaryOperation operation,
+                                              BiFunction<Complex, Complex, Complex> expected,
+                                              double[] re1, double[] im1, double[] re2, double[] im2) {
+        final double[] re = new double[re1.length];
+        final double[] im = new double[re1.length];
+        operation.apply(re1, im1, re2, im2, re, im);
+        for (int k = 0; k < re.length; k++) {
+            final Complex c1 = Complex.ofCartesian(re1[k], im1[k]);
+            final Complex c2 = Complex.ofCartesian(re2[k], im2[k]);
+            Assertions.assertEquals(expected.apply(c1, c2), Complex.ofCartesian(re[k], im[k]),
+                () -> c1 + ", " + c2);
+        }
+        // In-place using the first argument for the output
+        final double[] reInPlace = re1.clone();
+        final double[] imInPlace = im1.clone();
+        operation.apply(reInPlace, imInPlace, re2, im2, reInPlace, imInPlace);
+        Assertions.assertArrayEquals(re, reInPlace);
+        Assertions.assertArrayEquals(im, imInPlace);
+    }
+}
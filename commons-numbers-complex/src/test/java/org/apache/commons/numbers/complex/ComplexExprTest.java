@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexExpr}.
+ */
+class ComplexExprTest {
+    private static final Complex W = Complex.ofCartesian(0.75, -1.5);
+    private static final Complex C = Complex.ofCartesian(-2, 0.25);
+
+    @Test
+    void testIdentity() {
+        final Complex z = Complex.ofCartesian(1.5, -0.0);
+        Assertions.assertEquals(z, ComplexExpr.identity().apply(z));
+        Assertions.assertSame(ComplexExpr.identity(), ComplexExpr.identity());
+    }
+
+    @Test
+    void testSingleOperations() {
+        assertExpression(e -> e.add(C), z -> z.add(C));
+        assertExpression(e -> e.add(1.25), z -> z.add(1.25));
+        assertExpression(e -> e.subtract(C), z -> z.subtract(C));
+        assertExpression(e -> e.subtract(1.25), z -> z.subtract(1.25));
+        assertExpression(e -> e.multiply(W), z -> z.multiply(W));
+        assertExpression(e -> e.multiply(-3), z -> z.multiply(-3));
+        assertExpression(e -> e.divide(W), z -> z.divide(W));
+        assertExpression(e -> e.divide(-3), z -> z.divide(-3));
+        assertExpression(ComplexExpr::conj, Complex::conj);
+        assertExpression(ComplexExpr::negate, Complex::negate);
+        assertExpression(e -> e.pow(W), z -> z.pow(W));
+        assertExpression(e -> e.pow(2.5), z -> z.pow(2.5));
+        assertExpression(e -> e.pow(3), z -> z.pow(3));
+        assertExpression(ComplexExpr::exp, Complex::exp);
+        assertExpression(ComplexExpr::log, Complex::log);
+        assertExpression(ComplexExpr::log10, Complex::log10);
+        assertExpression(ComplexExpr::sqrt, Complex::sqrt);
+        assertExpression(ComplexExpr::sin, Complex::sin);
+        assertExpression(ComplexExpr::cos, Complex::cos);
+        assertExpression(ComplexExpr::tan, Complex::tan);
+        assertExpression(ComplexExpr::asin, Complex::asin);
+        assertExpression(ComplexExpr::acos, Complex::acos);
+        assertExpression(ComplexExpr::atan, Complex::atan);
+        assertExpression(ComplexExpr::sinh, Complex::sinh);
+        assertExpression(ComplexExpr::cosh, Complex::cosh);
+        assertExpression(ComplexExpr::tanh, Complex::tanh);
+        assertExpression(ComplexExpr::asinh, Complex::asinh);
+        assertExpression(ComplexExpr::acosh, Complex::acosh);
+        assertExpression(ComplexExpr::atanh, Complex::atanh);
+    }
+
+    @Test
+    void testChain() {
+        final Complex k = Complex.ofCartesian(0.5, 2);
+        assertExpression(e -> e.multiply(W).add(C).exp().multiply(k),
+            z -> z.multiply(W).add(C).exp().multiply(k));
+        assertExpression(e -> e.sqrt().log().divide(W).subtract(0.5).tanh(),
+            z -> z.sqrt().log().divide(W).subtract(0.5).tanh());
+    }
+
+    @Test
+    void testAndThen() {
+        final ComplexExpr f = ComplexExpr.identity().multiply(W).add(C);
+        final ComplexExpr g = ComplexExpr.identity().exp().conj();
+        // The expressions are not modified
+        final ComplexExpr fg = f.andThen(g);
+        assertExpression(e -> fg, z -> z.multiply(W).add(C).exp().conj());
+        assertExpression(e -> f, z -> z.multiply(W).add(C));
+        assertExpression(e -> g.andThen(f), z -> z.exp().conj().multiply(W).add(C));
+        assertExpression(e -> f.andThen(ComplexExpr.identity()), z -> z.multiply(W).add(C));
+    }
+
+    @Test
+    void testApplyToSink() {
+        final ComplexExpr f = ComplexExpr.identity().multiply(W).exp();
+        final Complex z = Complex.ofCartesian(0.25, -0.5);
+        Assertions.assertEquals(z.multiply(W).exp(), f.apply(z.getReal(), z.getImaginary(), Complex::ofCartesian));
+    }
+
+    @Test
+    void testDimensionMismatch() {
+        final ComplexExpr f = ComplexExpr.identity().exp();
+        final double[] a = new double[2];
+        final double[] b = new double[3];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.apply(a, b, a, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.apply(a, a, b, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> f.apply(a, a, a, b));
+    }
+
+    /**
+     * Assert the expression evaluated on scalars, arrays and vectors is the same as
+     * eager evaluation.
+     *
+     * @param expression Function to create the expression from the identity.
+     * @param expected Eager evaluation.
+     */
+    private static void assertExpression(UnaryOperator<ComplexExpr> expression, UnaryOperator<Complex> expected) {
+        final ComplexExpr f = expression.apply(ComplexExpr.identity());
+        final Complex[] values = TestUtils.createValues(TestUtils.EDGE_VALUES,
+            RandomSource.create(RandomSource.SPLIT_MIX_64), 100);
+        final int n = values.length;
+        final double[] re = new double[n];
+        final double[] im = new double[n];
+        for (int i = 0; i < n; i++) {
+            final Complex z = values[i];
+            Assertions.assertEquals(expected.apply(z), f.apply(z), z::toString);
+            re[i] = z.getReal();
+            im[i] = z.getImaginary();
+        }
+        final double[] reOut = new double[n];
+        final double[] imOut = new double[n];
+        f.apply(re, im, reOut, imOut);
+        final ComplexVector v = f.apply(ComplexVector.ofCartesian(re, im));
+        for (int i = 0; i < n; i++) {
+            final Complex e = expected.apply(values[i]);
+            Assertions.assertEquals(e, Complex.ofCartesian(reOut[i], imOut[i]));
+            Assertions.assertEquals(e, v.get(i));
+        }
+        // In-place
+        f.apply(re, im, re, im);
+        Assertions.assertArrayEquals(reOut, re);
+        Assertions.assertArrayEquals(imOut, im);
+    }
+}
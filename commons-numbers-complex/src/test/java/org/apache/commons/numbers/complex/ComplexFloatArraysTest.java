@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.function.BinaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexFloatArrays}.
+ */
+class ComplexFloatArraysTest {
+
+    /** Binary array operation. */
+    private interface BinaryArrayOperation {
+        void apply(float[] re1, float[] im1, float[] re2, float[] im2, float[] reOut, float[] imOut);
+    }
+
+    /** Unary array operation. */
+    private interface UnaryArrayOperation {
+        void apply(float[] re, float[] im, float[] reOut, float[] imOut);
+    }
+
+    /** Real-valued array operation. */
+    private interface RealArrayOperation {
+        void apply(float[] re, float[] im, float[] out);
+    }
+
+    @Test
+    void testBinaryOperations() {
+        assertBinaryOperation(ComplexFloatArrays::add, ComplexFloat::add);
+        assertBinaryOperation(ComplexFloatArrays::subtract, ComplexFloat::subtract);
+        assertBinaryOperation(ComplexFloatArrays::multiply, ComplexFloat::multiply);
+        assertBinaryOperation(ComplexFloatArrays::divide, ComplexFloat::divide);
+    }
+
+    @Test
+    void testUnaryOperations() {
+        assertUnaryOperation(ComplexFloatArrays::conj, ComplexFloat::conj);
+        assertUnaryOperation(ComplexFloatArrays::exp, ComplexFloat::exp);
+        assertUnaryOperation(ComplexFloatArrays::log, ComplexFloat::log);
+        assertUnaryOperation(ComplexFloatArrays::sqrt, ComplexFloat::sqrt);
+    }
+
+    @Test
+    void testRealValuedOperations() {
+        assertRealOperation(ComplexFloatArrays::abs, ComplexFloat::abs);
+        assertRealOperation(ComplexFloatArrays::norm, ComplexFloat::norm);
+    }
+
+    @Test
+    void testDimensionMismatch() {
+        final float[] a = new float[2];
+        final float[] b = new float[3];
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexFloatArrays.add(a, a, a, a, a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexFloatArrays.multiply(a, b, a, a, a, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexFloatArrays.divide(a, a, a, b, a, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexFloatArrays.conj(a, a, a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexFloatArrays.exp(a, b, a, a));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexFloatArrays.abs(a, a, b));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexFloatArrays.norm(b, a, a));
+    }
+
+    private static float[][] split(ComplexFloat[] values) {
+        final float[] re = new float[values.length];
+        final float[] im = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            re[i] = values[i].getReal();
+            im[i] = values[i].getImaginary();
+        }
+        return new float[][] {re, im};
+    }
+
+    private static void assertBinaryOperation(BinaryArrayOperation operation, BinaryOperator<ComplexFloat> expected) {
+        final ComplexFloat[] x = ComplexFloatTest.createValues(RandomSource.create(RandomSource.SPLIT_MIX_64), 100);
+        // Pair the values using rotations of the array
+        for (int shift = 0; shift < x.length; shift += 7) {
+            final ComplexFloat[] y = new ComplexFloat[x.length];
+            for (int i = 0; i < x.length; i++) {
+                y[i] = x[(i + shift) % x.length];
+            }
+            final float[][] a = split(x);
+            final float[][] b = split(y);
+            final float[] re = new float[x.length];
+            final float[] im = new float[x.length];
+            operation.apply(a[0], a[1], b[0], b[1], re, im);
+            for (int i = 0; i < x.length; i++) {
+                Assertions.assertEquals(expected.apply(x[i], y[i]), ComplexFloat.ofCartesian(re[i], im[i]),
+                    x[i] + ", " + y[i]);
+            }
+            // In-place
+            operation.apply(a[0], a[1], b[0], b[1], a[0], a[1]);
+            Assertions.assertArrayEquals(re, a[0]);
+            Assertions.assertArrayEquals(im, a[1]);
+        }
+    }
+
+    private static void assertUnaryOperation(UnaryArrayOperation operation, UnaryOperator<ComplexFloat> expected) {
+        final ComplexFloat[] x = ComplexFloatTest.createValues(RandomSource.create(RandomSource.SPLIT_MIX_64), 100);
+        final float[][] a = split(x);
+        final float[] re = new float[x.length];
+        final float[] im = new float[x.length];
+        operation.apply(a[0], a[1], re, im);
+        for (int i = 0; i < x.length; i++) {
+            Assertions.assertEquals(expected.apply(x[i]), ComplexFloat.ofCartesian(re[i], im[i]), x[i]::toString);
+        }
+        operation.apply(a[0], a[1], a[0], a[1]);
+        Assertions.assertArrayEquals(re, a[0]);
+        Assertions.assertArrayEquals(im, a[1]);
+    }
+
+    private static void assertRealOperation(RealArrayOperation operation, ToDoubleFunction<ComplexFloat> expected) {
+        final ComplexFloat[] x = ComplexFloatTest.createValues(RandomSource.create(RandomSource.SPLIT_MIX_64), 100);
+        final float[][] a = split(x);
+        final float[] out = new float[x.length];
+        operation.apply(a[0], a[1], out);
+        for (int i = 0; i < x.length; i++) {
+            Assertions.assertEquals((float) expected.applyAsDouble(x[i]), out[i], x[i]::toString);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexFloat}.
+ */
+class ComplexFloatTest {
+    private static final float inf = Float.POSITIVE_INFINITY;
+    private static final float nan = Float.NaN;
+
+    /** Edge case values for the real and imaginary parts. */
+    private static final double[] EDGE_VALUES = {
+        0.0f, -0.0f, 1.0f, -1.0f, 0.5f, -2.0f, Float.MIN_VALUE, -Float.MIN_NORMAL,
+        Float.MAX_VALUE, -Float.MAX_VALUE, 1e30f, -1e-30f, inf, -inf, nan,
+    };
+
+    /**
+     * Create values containing all combinations of the edge case values
+     * followed by random values.
+     *
+     * @param rng Source of randomness.
+     * @param randomSize Number of random values.
+     * @return the values
+     */
+    static ComplexFloat[] createValues(UniformRandomProvider rng, int randomSize) {
+        final Complex[] values = TestUtils.createValues(EDGE_VALUES, rng, randomSize);
+        final ComplexFloat[] result = new ComplexFloat[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = ComplexFloat.of(values[i]);
+        }
+        return result;
+    }
+
+    @Test
+    void testConstantsAndAccessors() {
+        Assertions.assertEquals(Complex.ONE, ComplexFloat.ONE.toComplex());
+        Assertions.assertEquals(Complex.I, ComplexFloat.I.toComplex());
+        Assertions.assertEquals(Complex.ZERO, ComplexFloat.ZERO.toComplex());
+        final ComplexFloat z = ComplexFloat.ofCartesian(1.5f, -2.25f);
+        Assertions.assertEquals(1.5f, z.getReal());
+        Assertions.assertEquals(1.5f, z.real());
+        Assertions.assertEquals(-2.25f, z.getImaginary());
+        Assertions.assertEquals(-2.25f, z.imag());
+        Assertions.assertEquals("(1.5,-2.25)", z.toString());
+        Assertions.assertEquals(z, ComplexFloat.of(Complex.ofCartesian(1.5, -2.25)));
+        Assertions.assertEquals(ComplexFloat.ofCartesian(0.1f, inf), ComplexFloat.of(Complex.ofCartesian(0.1, 1e300)));
+        Assertions.assertEquals(ComplexFloat.of(Complex.ofPolar(2, 0.5)), ComplexFloat.ofPolar(2, 0.5f));
+        Assertions.assertEquals(ComplexFloat.of(Complex.ofCis(0.5)), ComplexFloat.ofCis(0.5f));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        final ComplexFloat z = ComplexFloat.ofCartesian(1, 2);
+        Assertions.assertEquals(z, z);
+        Assertions.assertNotEquals(z, null);
+        Assertions.assertNotEquals(z, z.toComplex());
+        Assertions.assertNotEquals(z, ComplexFloat.ofCartesian(1, -2));
+        Assertions.assertNotEquals(ComplexFloat.ofCartesian(0.0f, 0), ComplexFloat.ofCartesian(-0.0f, 0));
+        Assertions.assertEquals(ComplexFloat.ofCartesian(nan, 0), ComplexFloat.ofCartesian(nan, 0));
+        for (final ComplexFloat c : createValues(RandomSource.create(RandomSource.SPLIT_MIX_64), 10)) {
+            Assertions.assertEquals(java.util.Arrays.hashCode(new float[] {c.getReal(), c.getImaginary()}),
+                                    c.hashCode());
+            Assertions.assertEquals(c, ComplexFloat.ofCartesian(c.getReal(), c.getImaginary()));
+        }
+    }
+
+    @Test
+    void testPredicates() {
+        for (final ComplexFloat z : createValues(RandomSource.create(RandomSource.SPLIT_MIX_64), 10)) {
+            final Complex c = z.toComplex();
+            Assertions.assertEquals(c.isNaN(), z.isNaN(), z::toString);
+            Assertions.assertEquals(c.isInfinite(), z.isInfinite(), z::toString);
+            Assertions.assertEquals(c.isFinite(), z.isFinite(), z::toString);
+        }
+    }
+
+    @Test
+    void testRealValuedFunctions() {
+        for (final ComplexFloat z : createValues(RandomSource.create(RandomSource.SPLIT_MIX_64), 500)) {
+            final Complex c = z.toComplex();
+            assertClose((float) c.abs(), z.abs(), 1, z);
+            Assertions.assertEquals((float) c.arg(), z.arg(), z::toString);
+            assertClose((float) c.norm(), z.norm(), 0, z);
+        }
+        // ISO C99 special case
+        Assertions.assertEquals(inf, ComplexFloat.ofCartesian(nan, -inf).abs());
+        Assertions.assertEquals(inf, ComplexFloat.ofCartesian(inf, nan).norm());
+        // No intermediate overflow or underflow
+        Assertions.assertEquals(Float.MAX_VALUE, ComplexFloat.ofCartesian(Float.MAX_VALUE, 1).abs());
+        Assertions.assertEquals(Float.MIN_VALUE, ComplexFloat.ofCartesian(0, -Float.MIN_VALUE).abs());
+        Assertions.assertEquals(5 * Float.MIN_VALUE,
+            ComplexFloat.ofCartesian(3 * Float.MIN_VALUE, 4 * Float.MIN_VALUE).abs());
+    }
+
+    @Test
+    void testUnaryFunctions() {
+        // Functions that use the double-precision result rounded to float
+        assertUnaryFunction(ComplexFloat::conj, Complex::conj, 0);
+        assertUnaryFunction(ComplexFloat::negate, Complex::negate, 0);
+        assertUnaryFunction(ComplexFloat::proj, Complex::proj, 0);
+        assertUnaryFunction(ComplexFloat::exp, Complex::exp, 0);
+        assertUnaryFunction(ComplexFloat::log, Complex::log, 0);
+        assertUnaryFunction(ComplexFloat::log10, Complex::log10, 0);
+        assertUnaryFunction(ComplexFloat::sqrt, Complex::sqrt, 0);
+        assertUnaryFunction(ComplexFloat::sin, Complex::sin, 0);
+        assertUnaryFunction(ComplexFloat::cos, Complex::cos, 0);
+        assertUnaryFunction(ComplexFloat::tan, Complex::tan, 0);
+        assertUnaryFunction(ComplexFloat::asin, Complex::asin, 0);
+        assertUnaryFunction(ComplexFloat::acos, Complex::acos, 0);
+        assertUnaryFunction(ComplexFloat::atan, Complex::atan, 0);
+        assertUnaryFunction(ComplexFloat::sinh, Complex::sinh, 0);
+        assertUnaryFunction(ComplexFloat::cosh, Complex::cosh, 0);
+        assertUnaryFunction(ComplexFloat::tanh, Complex::tanh, 0);
+        assertUnaryFunction(ComplexFloat::asinh, Complex::asinh, 0);
+        assertUnaryFunction(ComplexFloat::acosh, Complex::acosh, 0);
+        assertUnaryFunction(ComplexFloat::atanh, Complex::atanh, 0);
+        assertUnaryFunction(z -> z.pow(2.5f), z -> z.pow(2.5), 0);
+        for (final int n : new int[] {0, 1, -1, 2, 3, -4, 17, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+            assertUnaryFunction(z -> z.pow(n), z -> z.pow(n), 0);
+        }
+        // Operations on float parts
+        assertUnaryFunction(z -> z.add(1.25f), z -> z.add(1.25), 0);
+        assertUnaryFunction(z -> z.addImaginary(1.25f), z -> z.addImaginary(1.25), 0);
+        assertUnaryFunction(z -> z.subtract(1.25f), z -> z.subtract(1.25), 0);
+        assertUnaryFunction(z -> z.subtractImaginary(1.25f), z -> z.subtractImaginary(1.25), 0);
+        assertUnaryFunction(z -> z.subtractFrom(1.25f), z -> z.subtractFrom(1.25), 0);
+        assertUnaryFunction(z -> z.subtractFromImaginary(1.25f), z -> z.subtractFromImaginary(1.25), 0);
+        assertUnaryFunction(z -> z.multiply(-3f), z -> z.multiply(-3), 0);
+        assertUnaryFunction(z -> z.multiplyImaginary(-3f), z -> z.multiplyImaginary(-3), 0);
+        assertUnaryFunction(z -> z.divide(-3f), z -> z.divide(-3), 1);
+        assertUnaryFunction(z -> z.divideImaginary(-3f), z -> z.divideImaginary(-3), 1);
+    }
+
+    @Test
+    void testBinaryFunctions() {
+        assertBinaryFunction(ComplexFloat::add, Complex::add, 0);
+        assertBinaryFunction(ComplexFloat::subtract, Complex::subtract, 0);
+        assertBinaryFunction(ComplexFloat::multiply, Complex::multiply, 0);
+        // Division does not use the same computation as Complex for finite values
+        assertBinaryFunction(ComplexFloat::divide, Complex::divide, 1);
+        assertBinaryFunction(ComplexFloat::pow, Complex::pow, 0);
+    }
+
+    @Test
+    void testNthRoot() {
+        final ComplexFloat z = ComplexFloat.ofCartesian(-3, 4);
+        final List<ComplexFloat> roots = z.nthRoot(3);
+        final List<Complex> expected = z.toComplex().nthRoot(3);
+        Assertions.assertEquals(3, roots.size());
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(ComplexFloat.of(expected.get(i)), roots.get(i));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> z.nthRoot(0));
+    }
+
+    private static void assertUnaryFunction(UnaryOperator<ComplexFloat> operation,
+                                            UnaryOperator<Complex> expected, int ulps) {
+        for (final ComplexFloat z : createValues(RandomSource.create(RandomSource.SPLIT_MIX_64), 100)) {
+            assertClose(ComplexFloat.of(expected.apply(z.toComplex())), operation.apply(z), ulps, z);
+        }
+    }
+
+    private static void assertBinaryFunction(BiFunction<ComplexFloat, ComplexFloat, ComplexFloat> operation,
+                                             BiFunction<Complex, Complex, Complex> expected, int ulps) {
+        final ComplexFloat[] values = createValues(RandomSource.create(RandomSource.SPLIT_MIX_64), 100);
+        for (final ComplexFloat z1 : values) {
+            for (final ComplexFloat z2 : values) {
+                final Complex c = expected.apply(z1.toComplex(), z2.toComplex());
+                assertClose(ComplexFloat.of(c), operation.apply(z1, z2), ulps, z1, z2);
+            }
+        }
+    }
+
+    private static void assertClose(ComplexFloat expected, ComplexFloat actual, int ulps, Object... args) {
+        assertClose(expected.getReal(), actual.getReal(), ulps, args);
+        assertClose(expected.getImaginary(), actual.getImaginary(), ulps, args);
+    }
+
+    private static void assertClose(float expected, float actual, int ulps, Object... args) {
+        if (Float.compare(expected, actual) == 0) {
+            return;
+        }
+        final int e = Float.floatToIntBits(expected);
+        final int a = Float.floatToIntBits(actual);
+        // Same sign and non-NaN values within the ulp limit
+        final boolean close = (e ^ a) >= 0 && !Float.isNaN(expected) && !Float.isNaN(actual) &&
+            Math.abs(e - a) <= ulps;
+        Assertions.assertTrue(close,
+            () -> expected + " != " + actual + " for " + java.util.Arrays.toString(args));
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexFormat}.
+ */
+class ComplexFormatTest {
+    /** Edge case values for the real and imaginary parts. */
+    private static final double[] EDGE_VALUES = {
+        0.0, -0.0, 1.0, -1.0, 0.5, Double.MIN_VALUE, -Double.MIN_NORMAL, Double.MAX_VALUE,
+        1e300, -1e-300, 1e22, 1e23, 123456789012345.0, 9007199254740992.0, 9007199254740994.0, 0.1,
+        Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN,
+    };
+
+    /**
+     * Create the parts for all combinations of the edge case values followed by random
+     * values that mix full precision values and short decimals.
+     *
+     * @param rng Source of randomness.
+     * @param randomSize Number of random values.
+     * @return the parts {real, imaginary}
+     */
+    private static double[][] createValues(UniformRandomProvider rng, int randomSize) {
+        final double[][] parts = TestUtils.createParts(EDGE_VALUES, rng, randomSize);
+        final double[] re = parts[0];
+        final double[] im = parts[1];
+        for (int k = re.length - randomSize; k < re.length; k++) {
+            re[k] = (rng.nextDouble() - 0.5) * Math.pow(10, rng.nextInt(40) - 20);
+            im[k] = rng.nextInt(2000000) * 1e-3;
+        }
+        return parts;
+    }
+
+    private static String toString(double[] re, double[] im, String separator) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < re.length; i++) {
+            if (i != 0) {
+                sb.append(separator);
+            }
+            sb.append(Complex.ofCartesian(re[i], im[i]));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void testFormat() throws IOException {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[][] data = createValues(rng, 5000);
+        final double[] re = data[0];
+        final double[] im = data[1];
+        final String expected = toString(re, im, "\n");
+        Assertions.assertEquals(expected,
+            ComplexFormat.format(re, im, 0, re.length, "\n", new StringBuilder()).toString());
+        Assertions.assertEquals(expected,
+            ComplexFormat.format(re, im, 0, re.length, "\n", new StringWriter()).toString());
+        // Appends to existing content
+        Assertions.assertEquals("x(1.0,2.0);(3.0,4.0)",
+            ComplexFormat.format(new double[] {0, 1, 3}, new double[] {0, 2, 4}, 1, 3, ";",
+                new StringBuilder("x")).toString());
+        Assertions.assertEquals("",
+            ComplexFormat.format(re, im, 2, 2, ",", (Appendable) new StringBuilder()).toString());
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ComplexFormat.format(re, im, 1, 0, ",", new StringBuilder()));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ComplexFormat.format(re, new double[1], 0, 2, ",", new StringWriter()));
+    }
+
+    @Test
+    void testParseRoundTrip() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[][] data = createValues(rng, 5000);
+        final double[] re = data[0];
+        final double[] im = data[1];
+        for (final String separator : new String[] {"\n", ",", ", ", "; ", "\r\n", ""}) {
+            final String text = toString(re, im, separator);
+            final double[] x = new double[re.length];
+            final double[] y = new double[re.length];
+            Assertions.assertEquals(re.length, ComplexFormat.parse(text, x, y));
+            Assertions.assertArrayEquals(re, x);
+            Assertions.assertArrayEquals(im, y);
+        }
+    }
+
+    @Test
+    void testParseMatchesComplexParse() {
+        final String[] values = {
+            "(0,0)", "(-0.0, 0.0)", "(-1.23, 4.56)", "(1e300,-1.1e-2)", "( 1.5E+3 , -2e-0 )",
+            "(.5,5.)", "(+7,-0)", "(1d,2f)", "(0x1.8p1,-0x1p-3)", "(NaN,-Infinity)", "(+Infinity,-NaN)",
+            "(1e-22,1e22)", "(1e-23,1e23)", "(123456789012345,1234567890123456)",
+            "(0.000000000000000000000000000001234,12345678901234567890e-5)",
+            "(4.9e-324,1.7976931348623157e308)", "(2.2250738585072014E-308,9007199254740993)",
+            "(1e400,1e-400)", "(00000000000000000000012.5,0.1000000000000000000000)",
+        };
+        final double[] x = new double[values.length];
+        final double[] y = new double[values.length];
+        Assertions.assertEquals(values.length, ComplexFormat.parse(String.join(" ", values), x, y));
+        for (int i = 0; i < values.length; i++) {
+            Assertions.assertEquals(Complex.parse(values[i]), Complex.ofCartesian(x[i], y[i]), values[i]);
+        }
+    }
+
+    @Test
+    void testParseShortDecimals() {
+        // Values that use the fast path must be correctly rounded
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final int n = 2000;
+        final double[] re = new double[n];
+        final double[] im = new double[n];
+        final StringBuilder sb = new StringBuilder();
+        final String[] parts = new String[2 * n];
+        for (int i = 0; i < parts.length; i++) {
+            // Up to 18 digits: the fast path is used up to 2^53 (9007199254740992)
+            final int digits = 1 + rng.nextInt(18);
+            final String m = Long.toString(Long.MAX_VALUE - (rng.nextLong() >>> 3)).substring(0, digits);
+            final int point = rng.nextInt(digits + 1);
+            String s = m.substring(0, point) + "." + m.substring(point);
+            if (rng.nextBoolean()) {
+                s += "e" + (rng.nextInt(41) - 20);
+            }
+            parts[i] = rng.nextBoolean() ? "-" + s : s;
+        }
+        for (int i = 0; i < n; i++) {
+            sb.append('(').append(parts[2 * i]).append(',').append(parts[2 * i + 1]).append(")\n");
+        }
+        ComplexFormat.parse(sb, re, im);
+        for (int i = 0; i < n; i++) {
+            Assertions.assertEquals(Double.parseDouble(parts[2 * i]), re[i], parts[2 * i]);
+            Assertions.assertEquals(Double.parseDouble(parts[2 * i + 1]), im[i], parts[2 * i + 1]);
+        }
+    }
+
+    @Test
+    void testParseCharBuffer() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[][] data = createValues(rng, 1000);
+        final double[] re = data[0];
+        final double[] im = data[1];
+        final String text = toString(re, im, ",\n");
+
+        // Read-only buffer that does not expose the array
+        final CharBuffer all = CharBuffer.wrap(text);
+        final double[] x = new double[re.length + 1];
+        final double[] y = new double[re.length + 1];
+        Assertions.assertEquals(10, ComplexFormat.parse(all, x, y, 1, 10));
+        Assertions.assertEquals(re.length - 10, ComplexFormat.parse(all, x, y, 11, re.length - 10));
+        Assertions.assertFalse(all.hasRemaining());
+        assertEquals(re, im, x, y);
+
+        // Read in chunks using a heap buffer at an offset in the backing array
+        final CharBuffer buffer = CharBuffer.wrap(new char[300], 7, 200).slice();
+        final double[] x2 = new double[re.length + 1];
+        final double[] y2 = new double[re.length + 1];
+        int count = 1;
+        int pos = 0;
+        while (pos < text.length()) {
+            final int size = Math.min(Math.min(buffer.remaining(), rng.nextInt(100)), text.length() - pos);
+            buffer.put(text, pos, pos + size);
+            pos += size;
+            buffer.flip();
+            count += ComplexFormat.parse(buffer, x2, y2, count, x2.length - count);
+            buffer.compact();
+        }
+        Assertions.assertEquals(x2.length, count);
+        Assertions.assertEquals(0, buffer.position());
+        assertEquals(re, im, x2, y2);
+
+        // Incomplete final value is not consumed
+        final CharBuffer partial = CharBuffer.wrap("(1,2) (3,");
+        Assertions.assertEquals(1, ComplexFormat.parse(partial, x, y, 0, 5));
+        Assertions.assertEquals(5, partial.position());
+    }
+
+    private static void assertEquals(double[] re, double[] im, double[] x, double[] y) {
+        for (int i = 0; i < re.length; i++) {
+            Assertions.assertEquals(re[i], x[i + 1]);
+            Assertions.assertEquals(im[i], y[i + 1]);
+        }
+    }
+
+    @Test
+    void testParseInvalid() {
+        final double[] x = new double[2];
+        final double[] y = new double[2];
+        Assertions.assertEquals(0, ComplexFormat.parse(" ,; \n", x, y));
+        for (final String s : new String[] {"1,2", "(1,2) x", "(1,2", "(1 2)", "(a,2)", "(1,b)",
+                                            "(1,2,3)", "(,2)", "(1,)", "(1,2)(3,4)(5,6)", "(1e,2)"}) {
+            Assertions.assertThrows(NumberFormatException.class, () -> ComplexFormat.parse(s, x, y), s);
+        }
+        Assertions.assertThrows(NumberFormatException.class,
+            () -> ComplexFormat.parse(CharBuffer.wrap("(1,2) [3,4]"), x, y, 0, 2));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexFormat.parse("(1,2)", x, new double[1]));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+            () -> ComplexFormat.parse(CharBuffer.wrap("(1,2)"), x, y, 1, 2));
+    }
+}
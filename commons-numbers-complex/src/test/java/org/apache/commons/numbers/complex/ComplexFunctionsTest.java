@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexFunctions}.
+ */
+class ComplexFunctionsTest {
+    private static final double inf = Double.POSITIVE_INFINITY;
+    private static final double nan = Double.NaN;
+
+    /** Edge case values for the real and imaginary parts. */
+    private static final double[] EDGE_VALUES = {
+        0.0, -0.0, 1.0, -1.0, 0.5, -2.0, Double.MIN_VALUE, -Double.MIN_NORMAL,
+        Double.MAX_VALUE, -Double.MAX_VALUE, 1e300, -1e-300, 710, -746, inf, -inf, nan,
+    };
+
+    /** Integer exponents. */
+    private static final int[] POW_EXPONENTS = {
+        0, 1, -1, 2, 3, -4, 17, Integer.MIN_VALUE, Integer.MAX_VALUE,
+    };
+
+    /**
+     * Functions of a complex number computed on the real and imaginary parts.
+     */
+    private interface ComplexFunction {
+        /**
+         * Apply the function.
+         *
+         * @param real Real part.
+         * @param imaginary Imaginary part.
+         * @param sink Consumer of the result.
+         * @return the result
+         */
+        Complex apply(double real, double imaginary, ComplexSink<Complex> sink);
+    }
+
+    /**
+     * Functions of two complex numbers computed on the real and imaginary parts.
+     */
+    private interface ComplexBinaryFunction {
+        /**
+         * Apply the function.
+         *
+         * @param re1 Real part of the first number.
+         * @param im1 Imaginary part of the first number.
+         * @param re2 Real part of the second number.
+         * @param im2 Imaginary part of the second number.
+         * @param sink Consumer of the result.
+         * @return the result
+         */
+        Complex apply(double re1, double im1, double re2, double im2, ComplexSink<Complex> sink);
+    }
+
+    /**
+     * Create values containing all combinations of the edge case values
+     * followed by random values.
+     *
+     * @param randomSize Number of random values.
+     * @return the values
+     */
+    private static Complex[] createValues(int randomSize) {
+        return TestUtils.createValues(EDGE_VALUES, RandomSource.create(RandomSource.SPLIT_MIX_64), randomSize);
+    }
+
+    @Test
+    void testUnaryFunctions() {
+        assertFunction(ComplexFunctions::exp, Complex::exp);
+        assertFunction(ComplexFunctions::log, Complex::log);
+        assertFunction(ComplexFunctions::log10, Complex::log10);
+        assertFunction(ComplexFunctions::sqrt, Complex::sqrt);
+        assertFunction(ComplexFunctions::sin, Complex::sin);
+        assertFunction(ComplexFunctions::cos, Complex::cos);
+        assertFunction(ComplexFunctions::tan, Complex::tan);
+        assertFunction(ComplexFunctions::asin, Complex::asin);
+        assertFunction(ComplexFunctions::acos, Complex::acos);
+        assertFunction(ComplexFunctions::atan, Complex::atan);
+        assertFunction(ComplexFunctions::sinh, Complex::sinh);
+        assertFunction(ComplexFunctions::cosh, Complex::cosh);
+        assertFunction(ComplexFunctions::tanh, Complex::tanh);
+        assertFunction(ComplexFunctions::asinh, Complex::asinh);
+        assertFunction(ComplexFunctions::acosh, Complex::acosh);
+        assertFunction(ComplexFunctions::atanh, Complex::atanh);
+    }
+
+    @Test
+    void testBinaryFunctions() {
+        assertFunction(ComplexFunctions::multiply, Complex::multiply);
+        assertFunction(ComplexFunctions::divide, Complex::divide);
+        assertFunction(ComplexFunctions::pow, (BiFunction<Complex, Complex, Complex>) Complex::pow);
+    }
+
+    @Test
+    void testFiniteBinaryFunctions() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final List<Complex> values = new ArrayList<>(Arrays.asList(createValues(0)));
+        // Finite values that do not overflow and are not sub-normal
+        values.removeIf(z -> !z.isFinite() || z.abs() > 1e300 ||
+            isSubNormal(z.getReal()) || isSubNormal(z.getImaginary()));
+        for (int i = 0; i < 200; i++) {
+            // Random values with a wide range of exponents
+            values.add(Complex.ofCartesian(Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(400) - 200),
+                                           Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(400) - 200)));
+        }
+        for (final Complex z1 : values) {
+            for (final Complex z2 : values) {
+                final Complex product = z1.multiply(z2);
+                if (product.isFinite()) {
+                    Assertions.assertEquals(product, ComplexFunctions.multiplyFinite(z1.getReal(), z1.getImaginary(),
+                        z2.getReal(), z2.getImaginary(), Complex::ofCartesian), () -> z1 + " * " + z2);
+                }
+                final Complex quotient = z1.divide(z2);
+                if (quotient.isFinite() && quotient.abs() > 0x1.0p-900 && !z2.equals(Complex.ZERO)) {
+                    final Complex actual = ComplexFunctions.divideFinite(z1.getReal(), z1.getImaginary(),
+                        z2.getReal(), z2.getImaginary(), Complex::ofCartesian);
+                    // Error relative to the magnitude of the result.
+                    // Each part of Smith's algorithm has several rounding errors: the observed
+                    // maximum over random samples with a wide range of exponents is about 5.
+                    final double error = actual.subtract(quotient).abs() / Math.ulp(quotient.abs());
+                    Assertions.assertTrue(error <= 8, () -> z1 + " / " + z2 + ": " + actual + " != " + quotient);
+                }
+            }
+        }
+    }
+
+    private static boolean isSubNormal(double x) {
+        return x != 0 && Math.abs(x) < Double.MIN_NORMAL;
+    }
+
+    @Test
+    void testPowReal() {
+        final Complex[] values = createValues(100);
+        for (final Complex z : values) {
+            for (final double x : EDGE_VALUES) {
+                Assertions.assertEquals(z.pow(x),
+                    ComplexFunctions.pow(z.getReal(), z.getImaginary(), x, Complex::ofCartesian),
+                    () -> z + " ^ " + x);
+            }
+        }
+    }
+
+    @Test
+    void testPowInt() {
+        final Complex[] values = createValues(100);
+        for (final Complex z : values) {
+            for (final int n : POW_EXPONENTS) {
+                Assertions.assertEquals(z.pow(n),
+                    ComplexFunctions.pow(z.getReal(), z.getImaginary(), n, Complex::ofCartesian),
+                    () -> z + " ^ " + n);
+            }
+        }
+    }
+
+    @Test
+    void testRealValuedFunctions() {
+        assertFunction(ComplexFunctions::abs, Complex::abs);
+        assertFunction(ComplexFunctions::arg, Complex::arg);
+        assertFunction(ComplexFunctions::norm, Complex::norm);
+    }
+
+    @Test
+    void testSinkResult() {
+        // The result of the sink is returned
+        final double[] result = new double[2];
+        final double[] out = ComplexFunctions.sin(0.5, -0.25, (re, im) -> {
+            result[0] = re;
+            result[1] = im;
+            return result;
+        });
+        Assertions.assertSame(result, out);
+        final Complex expected = Complex.ofCartesian(0.5, -0.25).sin();
+        Assertions.assertEquals(expected.getReal(), result[0]);
+        Assertions.assertEquals(expected.getImaginary(), result[1]);
+    }
+
+    private static void assertFunction(ComplexFunction fun, UnaryOperator<Complex> operation) {
+        for (final Complex z : createValues(500)) {
+            Assertions.assertEquals(operation.apply(z),
+                fun.apply(z.getReal(), z.getImaginary(), Complex::ofCartesian), z::toString);
+        }
+    }
+
+    private static void assertFunction(ComplexBinaryFunction fun, BiFunction<Complex, Complex, Complex> operation) {
+        final Complex[] values = createValues(50);
+        for (final Complex z1 : values) {
+            for (final Complex z2 : values) {
+                Assertions.assertEquals(operation.apply(z1, z2),
+                    fun.apply(z1.getReal(), z1.getImaginary(), z2.getReal(), z2.getImaginary(), Complex::ofCartesian),
+                    () -> z1 + " , " + z2);
+            }
+        }
+    }
+
+    private static void assertFunction(BiFunction<Double, Double, Double> fun, ToDoubleFunction<Complex> operation) {
+        for (final Complex z : createValues(500)) {
+            Assertions.assertEquals(operation.applyAsDouble(z), fun.apply(z.getReal(), z.getImaginary()), z::toString);
+        }
+    }
+}
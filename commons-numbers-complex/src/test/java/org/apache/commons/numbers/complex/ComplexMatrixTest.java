@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexMatrix}.
+ */
+class ComplexMatrixTest {
+
+    private static Complex[][] random(UniformRandomProvider rng, int rows, int columns) {
+        final Complex[][] a = new Complex[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                a[i][j] = Complex.ofCartesian(rng.nextDouble() * 2 - 1, rng.nextDouble() * 2 - 1);
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Compute the matrix product using Complex arithmetic.
+     */
+    private static Complex[][] multiply(Complex[][] a, Complex[][] b) {
+        final int n = a.length;
+        final int m = b[0].length;
+        final Complex[][] c = new Complex[n][m];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                Complex sum = Complex.ZERO;
+                for (int k = 0; k < b.length; k++) {
+                    sum = sum.add(a[i][k].multiply(b[k][j]));
+                }
+                c[i][j] = sum;
+            }
+        }
+        return c;
+    }
+
+    private static void assertClose(Complex[][] expected, ComplexMatrix actual, double tolerance) {
+        Assertions.assertEquals(expected.length, actual.getRowDimension());
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i].length, actual.getColumnDimension());
+            for (int j = 0; j < expected[i].length; j++) {
+                final Complex e = expected[i][j];
+                final Complex a = actual.get(i, j);
+                Assertions.assertEquals(0, e.subtract(a).abs(), tolerance, () -> e + " != " + a);
+            }
+        }
+    }
+
+    @Test
+    void testFactoriesAndAccessors() {
+        final ComplexMatrix m = ComplexMatrix.create(2, 3);
+        Assertions.assertEquals(2, m.getRowDimension());
+        Assertions.assertEquals(3, m.getColumnDimension());
+        Assertions.assertEquals(Complex.ZERO, m.get(1, 2));
+        m.set(1, 2, 3, 4).set(0, 1, Complex.I);
+        Assertions.assertEquals(3, m.getReal(1, 2));
+        Assertions.assertEquals(4, m.getImaginary(1, 2));
+        Assertions.assertEquals(Complex.I, m.get(0, 1));
+
+        final double[][] re = m.getReal();
+        final double[][] im = m.getImaginary();
+        Assertions.assertArrayEquals(new double[] {0, 0, 3}, re[1]);
+        Assertions.assertArrayEquals(new double[] {0, 1, 0}, im[0]);
+        final ComplexMatrix m2 = ComplexMatrix.ofCartesian(re, im);
+        Assertions.assertEquals(m, m2);
+        Assertions.assertEquals(m.hashCode(), m2.hashCode());
+        Assertions.assertEquals(m, ComplexMatrix.of(m.toArray()));
+
+        final ComplexMatrix copy = m.copy();
+        copy.set(0, 0, Complex.ONE);
+        Assertions.assertNotEquals(m, copy);
+        Assertions.assertEquals(Complex.ZERO, m.get(0, 0));
+        Assertions.assertNotEquals(m, ComplexMatrix.create(3, 2));
+        Assertions.assertEquals(ComplexMatrix.create(0, 0), ComplexMatrix.of(new Complex[0][]));
+
+        final ComplexMatrix id = ComplexMatrix.identity(3);
+        Assertions.assertEquals(Complex.ONE, id.get(2, 2));
+        Assertions.assertEquals(Complex.ZERO, id.get(2, 1));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexMatrix.create(-1, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexMatrix.create(2, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexMatrix.create(1 << 16, 1 << 16));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexMatrix.ofCartesian(new double[2][2], new double[3][2]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexMatrix.ofCartesian(new double[][] {{1, 2}, {3}}, new double[2][2]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexMatrix.of(new Complex[][] {{Complex.ONE}, {}}));
+        final ComplexMatrix m = ComplexMatrix.create(2, 3);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.get(2, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.get(0, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> m.set(-1, 0, Complex.ONE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.multiply(m));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> m.operate(ComplexVector.create(2)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexVector.create(2).innerProduct(ComplexVector.create(3)));
+    }
+
+    @Test
+    void testConjugateTranspose() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final int[] size : new int[][] {{1, 1}, {3, 5}, {70, 130}}) {
+            final Complex[][] a = random(rng, size[0], size[1]);
+            final ComplexMatrix t = ComplexMatrix.of(a).conjugateTranspose();
+            Assertions.assertEquals(size[1], t.getRowDimension());
+            Assertions.assertEquals(size[0], t.getColumnDimension());
+            for (int i = 0; i < size[0]; i++) {
+                for (int j = 0; j < size[1]; j++) {
+                    Assertions.assertEquals(a[i][j].conj(), t.get(j, i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testMultiply() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        // Sizes smaller and larger than the block size; the largest product is computed in parallel
+        for (final int[] size : new int[][] {{1, 1, 1}, {2, 3, 4}, {65, 63, 70}, {150, 130, 170}}) {
+            final Complex[][] a = random(rng, size[0], size[1]);
+            final Complex[][] b = random(rng, size[1], size[2]);
+            final ComplexMatrix c = ComplexMatrix.of(a).multiply(ComplexMatrix.of(b));
+            assertClose(multiply(a, b), c, 1e-12);
+        }
+        final ComplexMatrix m = ComplexMatrix.of(random(rng, 5, 5));
+        Assertions.assertEquals(m, m.multiply(ComplexMatrix.identity(5)));
+        Assertions.assertEquals(m, ComplexMatrix.identity(5).multiply(m));
+        Assertions.assertEquals(ComplexMatrix.create(3, 4),
+            ComplexMatrix.create(3, 0).multiply(ComplexMatrix.create(0, 4)));
+    }
+
+    @Test
+    void testOperate() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final int[] size : new int[][] {{1, 1}, {3, 7}, {1000, 700}}) {
+            final Complex[][] a = random(rng, size[0], size[1]);
+            final Complex[][] x = random(rng, size[1], 1);
+            final ComplexVector y = ComplexMatrix.of(a).operate(toVector(x));
+            final Complex[][] expected = multiply(a, x);
+            Assertions.assertEquals(size[0], y.size());
+            for (int i = 0; i < size[0]; i++) {
+                final Complex e = expected[i][0];
+                final Complex v = y.get(i);
+                Assertions.assertEquals(0, e.subtract(v).abs(), 1e-12, () -> e + " != " + v);
+            }
+        }
+    }
+
+    @Test
+    void testInnerProduct() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final Complex[][] x = random(rng, 50, 1);
+        final Complex[][] y = random(rng, 50, 1);
+        final ComplexVector vx = toVector(x);
+        final ComplexVector vy = toVector(y);
+        // <x, y> = x^H y
+        final Complex[][] expected = multiply(ComplexMatrix.of(x).conjugateTranspose().toArray(), y);
+        final Complex actual = vx.innerProduct(vy);
+        Assertions.assertEquals(0, expected[0][0].subtract(actual).abs(), 1e-13);
+        // Conjugate symmetry
+        Assertions.assertEquals(actual.conj(), vy.innerProduct(vx));
+        // <x, x> is the squared norm
+        final Complex xx = vx.innerProduct(vx);
+        Assertions.assertEquals(0, xx.getImaginary());
+        double sum = 0;
+        for (final Complex[] c : x) {
+            sum += c[0].norm();
+        }
+        Assertions.assertEquals(sum, xx.getReal(), sum * 1e-14);
+        Assertions.assertEquals(Complex.ZERO, ComplexVector.create(0).innerProduct(ComplexVector.create(0)));
+    }
+
+    private static ComplexVector toVector(Complex[][] column) {
+        final Complex[] v = new Complex[column.length];
+        for (int i = 0; i < v.length; i++) {
+            v[i] = column[i][0];
+        }
+        return ComplexVector.of(v);
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexPolynomial}.
+ */
+class ComplexPolynomialTest {
+
+    private static double[] random(UniformRandomProvider rng, int n) {
+        final double[] a = new double[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = rng.nextDouble() * 2 - 1;
+        }
+        return a;
+    }
+
+    /**
+     * Evaluate the polynomial as the sum of the terms c_j z^j using Complex.
+     */
+    private static Complex sum(ComplexPolynomial p, Complex z) {
+        Complex sum = Complex.ZERO;
+        Complex power = Complex.ONE;
+        for (int j = 0; j <= p.degree(); j++) {
+            sum = sum.add(p.getCoefficient(j).multiply(power));
+            power = power.multiply(z);
+        }
+        return sum;
+    }
+
+    private static void assertClose(Complex expected, Complex actual, double tolerance) {
+        // Absolute tolerance for small values, otherwise relative
+        Assertions.assertEquals(0, expected.subtract(actual).abs(), tolerance * Math.max(1, expected.abs()),
+            () -> expected + " != " + actual);
+    }
+
+    @Test
+    void testCoefficients() {
+        final ComplexPolynomial p = ComplexPolynomial.of(new double[] {1, 2, 0, 0}, new double[] {3, 0, 0, 0});
+        Assertions.assertEquals(1, p.degree());
+        Assertions.assertArrayEquals(new double[] {1, 2}, p.getReal());
+        Assertions.assertArrayEquals(new double[] {3, 0}, p.getImaginary());
+        Assertions.assertEquals(Complex.ofCartesian(1, 3), p.getCoefficient(0));
+        Assertions.assertEquals(0, ComplexPolynomial.of(Complex.ZERO, Complex.ZERO).degree());
+        final ComplexPolynomial q = ComplexPolynomial.of(Complex.ONE, Complex.I, Complex.ofCartesian(2, -1));
+        Assertions.assertEquals(2, q.degree());
+        final ComplexPolynomial d = q.derivative();
+        Assertions.assertEquals(Complex.I, d.getCoefficient(0));
+        Assertions.assertEquals(Complex.ofCartesian(4, -2), d.getCoefficient(1));
+        Assertions.assertEquals(0, d.derivative().derivative().degree());
+        Assertions.assertEquals(Complex.ZERO, d.derivative().derivative().getCoefficient(0));
+    }
+
+    @Test
+    void testFromRoots() {
+        // (z - 1)(z + i) = z^2 + (i - 1) z - i
+        final ComplexPolynomial p = ComplexPolynomial.fromRoots(new double[] {1, 0}, new double[] {0, -1});
+        Assertions.assertArrayEquals(new double[] {0, -1, 1}, p.getReal());
+        Assertions.assertArrayEquals(new double[] {-1, 1, 0}, p.getImaginary());
+        Assertions.assertEquals(0, ComplexPolynomial.fromRoots(new double[0], new double[0]).degree());
+    }
+
+    @Test
+    void testValue() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final int degree : new int[] {0, 1, 2, 7, 30}) {
+            final ComplexPolynomial p = ComplexPolynomial.of(random(rng, degree + 1), random(rng, degree + 1));
+            final double[] x = random(rng, 50);
+            final double[] y = random(rng, 50);
+            final double[] re = new double[x.length];
+            final double[] im = new double[x.length];
+            p.value(x, y, re, im);
+            for (int i = 0; i < x.length; i++) {
+                final Complex z = Complex.ofCartesian(x[i], y[i]);
+                final Complex value = p.value(z);
+                assertClose(sum(p, z), value, 1e-13);
+                Assertions.assertEquals(value, Complex.ofCartesian(re[i], im[i]));
+            }
+            // In-place
+            p.value(x, y, x, y);
+            Assertions.assertArrayEquals(re, x);
+            Assertions.assertArrayEquals(im, y);
+        }
+    }
+
+    @Test
+    void testValueAtRootsOfUnity() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final int degree : new int[] {0, 3, 16, 40}) {
+            final ComplexPolynomial p = ComplexPolynomial.of(random(rng, degree + 1), random(rng, degree + 1));
+            for (final int n : new int[] {1, 2, 5, 16, 17, 64}) {
+                final RootsOfUnity roots = RootsOfUnity.of(n);
+                final double[] re = new double[n];
+                final double[] im = new double[n];
+                p.value(roots.getReal(), roots.getImaginary(), re, im);
+                final double[] re2 = new double[n];
+                final double[] im2 = new double[n];
+                p.valueAtRootsOfUnity(re2, im2);
+                for (int k = 0; k < n; k++) {
+                    assertClose(Complex.ofCartesian(re[k], im[k]), Complex.ofCartesian(re2[k], im2[k]), 1e-12);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRootsFromKnownRoots() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final int degree : new int[] {1, 2, 5, 12, 20}) {
+            final double[] x = random(rng, degree);
+            final double[] y = random(rng, degree);
+            final ComplexPolynomial p = ComplexPolynomial.fromRoots(x, y);
+            assertRoots(x, y, p.roots(), 1e-8);
+        }
+    }
+
+    @Test
+    void testRootsOfUnityPolynomial() {
+        // z^n - c has roots c^(1/n) e^(2 pi i k / n). High degree requires evaluation
+        // outside the unit circle without overflow.
+        for (final int n : new int[] {3, 10, 64, 300}) {
+            for (final double c : new double[] {1, 2, 1e-3}) {
+                final double[] re = new double[n + 1];
+                final double[] im = new double[n + 1];
+                re[0] = -c;
+                re[n] = 1;
+                final ComplexPolynomial p = ComplexPolynomial.of(re, im);
+                final RootsOfUnity roots = RootsOfUnity.of(n);
+                final double r = Math.pow(c, 1.0 / n);
+                final double[] x = roots.getReal();
+                final double[] y = roots.getImaginary();
+                for (int k = 0; k < n; k++) {
+                    x[k] *= r;
+                    y[k] *= r;
+                }
+                assertRoots(x, y, p.roots(), 1e-13);
+            }
+        }
+    }
+
+    @Test
+    void testRootsWithZeros() {
+        // z^2 (z - 2)(z - 3i) = z^4 - (2 + 3i) z^3 + 6i z^2
+        final ComplexPolynomial p = ComplexPolynomial.of(new double[] {0, 0, 0, -2, 1},
+                                                         new double[] {0, 0, 6, -3, 0});
+        assertRoots(new double[] {0, 0, 2, 0}, new double[] {0, 0, 0, 3}, p.roots(), 1e-14);
+        // Linear
+        assertRoots(new double[] {0.5}, new double[] {-0.5},
+                    ComplexPolynomial.of(Complex.ofCartesian(-1, 0), Complex.ofCartesian(1, 1)).roots(), 0);
+        // Constant
+        Assertions.assertEquals(0, ComplexPolynomial.of(Complex.ONE).roots().length);
+    }
+
+    @Test
+    void testRootsMultiple() {
+        // (z - 1)^3 (z + 1): multiple roots converge with reduced accuracy
+        final ComplexPolynomial p = ComplexPolynomial.fromRoots(new double[] {1, 1, 1, -1}, new double[4]);
+        assertRoots(new double[] {1, 1, 1, -1}, new double[4], p.roots(), 1e-4);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexPolynomial.of());
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexPolynomial.of(new double[2], new double[3]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexPolynomial.fromRoots(new double[2], new double[3]));
+        final ComplexPolynomial p = ComplexPolynomial.of(Complex.ONE, Complex.ONE, Complex.ONE);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> p.roots(new double[2], new double[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> p.roots(new double[3], new double[3]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> p.value(new double[2], new double[2], new double[2], new double[1]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> p.valueAtRootsOfUnity(new double[0], new double[0]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> p.valueAtRootsOfUnity(new double[2], new double[1]));
+    }
+
+    /**
+     * Assert each expected root is matched by a distinct computed root.
+     */
+    private static void assertRoots(double[] x, double[] y, Complex[] roots, double tolerance) {
+        Assertions.assertEquals(x.length, roots.length);
+        final boolean[] used = new boolean[roots.length];
+        for (int i = 0; i < x.length; i++) {
+            final Complex expected = Complex.ofCartesian(x[i], y[i]);
+            int best = -1;
+            double min = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < roots.length; j++) {
+                final double d = roots[j].subtract(expected).abs();
+                if (!used[j] && d < min) {
+                    min = d;
+                    best = j;
+                }
+            }
+            used[best] = true;
+            final double error = min;
+            Assertions.assertTrue(error <= tolerance, () -> "Root " + expected + " error " + error);
+        }
+    }
+}
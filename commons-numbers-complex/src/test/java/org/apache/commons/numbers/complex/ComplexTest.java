@@ -17,6 +17,8 @@
 
 package org.apache.commons.numbers.complex;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -1464,12 +1466,75 @@ class ComplexTest {
     void testPowScalerRealZero() {
         // Hits the edge case when real == 0 but imaginary != 0
         final Complex x = Complex.ofCartesian(0, 1);
-        final Complex c = x.pow(2);
+        final Complex c = x.pow(2.0);
         // Answer from g++
         Assertions.assertEquals(-1, c.getReal());
         Assertions.assertEquals(1.2246467991473532e-16, c.getImaginary());
     }
 
+    @Test
+    void testPowInt() {
+        // Exact for representable products
+        Assertions.assertEquals(Complex.ofCartesian(-1, 0), Complex.I.pow(2));
+        Assertions.assertEquals(Complex.ofCartesian(-7, 24), Complex.ofCartesian(3, 4).pow(2));
+        Assertions.assertEquals(Complex.ofCartesian(-117, 44), Complex.ofCartesian(3, 4).pow(3));
+        Assertions.assertEquals(Complex.ofCartesian(1.0 / 8, 0), Complex.ofCartesian(2, 0).pow(-3));
+        Assertions.assertEquals(Complex.ONE, Complex.ofCartesian(3, 4).pow(0));
+        final Complex one = Complex.I.pow(Integer.MIN_VALUE);
+        Assertions.assertEquals(1, one.getReal());
+        Assertions.assertEquals(0, one.getImaginary(), 0.0);
+        // No intermediate overflow or underflow
+        Assertions.assertEquals(Complex.ofCartesian(0x1.0p-1040, 0), Complex.ofCartesian(0x1.0p520, 0).pow(-2));
+        Assertions.assertEquals(Complex.ofCartesian(0x1.0p1020, 0), Complex.ofCartesian(0x1.0p-510, 0).pow(-2));
+        Assertions.assertEquals(Complex.ofCartesian(-0x1.0p901, 0x1.0p901), Complex.ofCartesian(0x1.0p300, 0x1.0p300).pow(3));
+        // Overflow and underflow of the result
+        Assertions.assertEquals(Complex.ofCartesian(inf, 0), Complex.ofCartesian(2, 0).pow(1024));
+        Assertions.assertEquals(Complex.ZERO, Complex.ofCartesian(2, 0).pow(-1075));
+        Assertions.assertEquals(Complex.ofCartesian(Double.MIN_VALUE, 0), Complex.ofCartesian(0.5, 0).pow(1074));
+        // Special cases use the exponential route
+        Assertions.assertEquals(Complex.ZERO, Complex.ZERO.pow(3));
+        Assertions.assertEquals(NAN, Complex.ZERO.pow(0));
+        Assertions.assertEquals(NAN, Complex.ZERO.pow(-1));
+        for (final Complex z : new Complex[] {NAN, INF, negInfInf, oneInf, Complex.ofCartesian(nan, 1)}) {
+            Assertions.assertEquals(z.pow(3.0), z.pow(3));
+        }
+    }
+
+    @Test
+    void testPowIntAccuracy() {
+        // Compare to a high precision computation using repeated multiplication.
+        // The error in the norm is bounded by (|n| - 1) sqrt(5) eps (plus the
+        // error of the reciprocal for negative n).
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final MathContext mc = MathContext.DECIMAL128;
+        for (int i = 0; i < 200; i++) {
+            final double re = Math.scalb(rng.nextDouble() * 2 - 1, rng.nextInt(40) - 20);
+            final double im = Math.scalb(rng.nextDouble() * 2 - 1, rng.nextInt(40) - 20);
+            final int n = rng.nextInt(61) - 30;
+            // Expected: z^|n| then the reciprocal
+            BigDecimal xr = BigDecimal.ONE;
+            BigDecimal xi = BigDecimal.ZERO;
+            final BigDecimal zr = new BigDecimal(re);
+            final BigDecimal zi = new BigDecimal(im);
+            for (int j = Math.abs(n); j > 0; j--) {
+                final BigDecimal tr = xr.multiply(zr, mc).subtract(xi.multiply(zi, mc), mc);
+                xi = xr.multiply(zi, mc).add(xi.multiply(zr, mc), mc);
+                xr = tr;
+            }
+            if (n < 0) {
+                final BigDecimal d = xr.multiply(xr, mc).add(xi.multiply(xi, mc), mc);
+                xr = xr.divide(d, mc);
+                xi = xi.negate().divide(d, mc);
+            }
+            final Complex z = Complex.ofCartesian(re, im);
+            final Complex expected = Complex.ofCartesian(xr.doubleValue(), xi.doubleValue());
+            final Complex actual = z.pow(n);
+            final double error = actual.subtract(expected).abs() / expected.abs();
+            final double bound = (Math.abs(n) + 2) * Math.sqrt(5) * 0x1.0p-52;
+            Assertions.assertTrue(error <= bound, () -> z + "^" + n + ": " + actual + " != " + expected);
+        }
+    }
+
     @Test
     void testPowScalarZeroBase() {
         final double x = Double.MIN_VALUE;
@@ -1719,6 +1784,47 @@ class ComplexTest {
         Assertions.assertEquals(n, r.size());
     }
 
+    @Test
+    void testNthRootEdgeCases() {
+        // Infinite
+        assertNthRoots(Complex.ofCartesian(inf, inf), 2, inf, inf, -inf, -inf);
+        assertNthRoots(Complex.ofCartesian(inf, 0), 2, inf, nan, -inf, inf);
+        assertNthRoots(Complex.ofCartesian(-inf, 0), 2, inf, inf, -inf, -inf);
+        assertNthRoots(Complex.ofCartesian(0, inf), 4, inf, inf, -inf, inf, -inf, -inf, inf, -inf);
+        // NaN
+        assertNthRoots(Complex.ofCartesian(nan, 0), 2, nan, nan, nan, nan);
+        assertNthRoots(Complex.ofCartesian(1, nan), 2, nan, nan, nan, nan);
+        assertNthRoots(Complex.ofCartesian(nan, inf), 2, nan, nan, nan, nan);
+        // Signed zeros of the principal root
+        assertNthRoots(Complex.ofCartesian(4, 0), -2, 0.5, -0.0, -0.5, 0.0);
+        assertNthRoots(Complex.ofCartesian(4, -0.0), 2, 2, -0.0, -2, 0.0);
+        assertNthRoots(Complex.ofCartesian(4, 0), 2, 2, 0.0, -2, -0.0);
+        assertNthRoots(Complex.ofCartesian(16, 0), 4, 2, 0.0, -0.0, 2, -2, -0.0, 0.0, -2);
+        assertNthRoots(Complex.ofCartesian(16, -0.0), -4, 0.5, 0.0, 0.0, -0.5, -0.5, -0.0, -0.0, 0.5);
+    }
+
+    /**
+     * Assert the n-th roots are equal to the expected parts {@code [re0, im0, re1, im1, ...]}.
+     * Infinite and NaN parts must match exactly. Zero parts must match the sign.
+     * Other values use a relative tolerance.
+     */
+    private static void assertNthRoots(Complex z, int n, double... expected) {
+        final List<Complex> r = z.nthRoot(n);
+        Assertions.assertEquals(expected.length / 2, r.size());
+        for (int k = 0; k < r.size(); k++) {
+            assertPart(expected[2 * k], r.get(k).getReal(), z, n, k);
+            assertPart(expected[2 * k + 1], r.get(k).getImaginary(), z, n, k);
+        }
+    }
+
+    private static void assertPart(double expected, double actual, Complex z, int n, int k) {
+        if (expected == 0 || !Double.isFinite(expected)) {
+            Assertions.assertEquals(expected, actual, () -> z + " root " + n + " [" + k + "]");
+        } else {
+            Assertions.assertEquals(expected, actual, Math.ulp(expected) * 4, () -> z + " root " + n + " [" + k + "]");
+        }
+    }
+
     @Test
     void testEqualsWithNull() {
         final Complex x = Complex.ofCartesian(3.0, 4.0);
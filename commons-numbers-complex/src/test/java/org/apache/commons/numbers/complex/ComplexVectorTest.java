@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexVector}.
+ */
+class ComplexVectorTest {
+    @Test
+    void testCreate() {
+        final ComplexVector v = ComplexVector.create(3);
+        Assertions.assertEquals(3, v.size());
+        for (int i = 0; i < v.size(); i++) {
+            Assertions.assertEquals(Complex.ZERO, v.get(i));
+        }
+        Assertions.assertEquals(0, ComplexVector.create(0).size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ComplexVector.create(-1));
+    }
+
+    @Test
+    void testFactoriesAndAccessors() {
+        final double[] re = {1, 2, 3};
+        final double[] im = {4, 5, 6};
+        final ComplexVector v = ComplexVector.ofCartesian(re, im);
+        // Arrays are copied
+        re[0] = 42;
+        Assertions.assertEquals(1, v.getReal(0));
+        Assertions.assertEquals(4, v.getImaginary(0));
+        Assertions.assertArrayEquals(new double[] {1, 2, 3}, v.getReal());
+        Assertions.assertArrayEquals(new double[] {4, 5, 6}, v.getImaginary());
+        Assertions.assertArrayEquals(new double[] {1, 4, 2, 5, 3, 6}, v.toInterleaved());
+        Assertions.assertEquals(v, ComplexVector.ofInterleaved(v.toInterleaved()));
+        Assertions.assertEquals(v, ComplexVector.of(v.toArray()));
+        Assertions.assertEquals(v.hashCode(), v.copy().hashCode());
+        Assertions.assertEquals(Complex.ofCartesian(2, 5), v.get(1));
+        Assertions.assertNotEquals(v, v.copy().set(2, -3, 6));
+        Assertions.assertEquals(Complex.ofCartesian(7, 8), v.set(1, Complex.ofCartesian(7, 8)).get(1));
+        Assertions.assertNotEquals(v, new Object());
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexVector.ofCartesian(new double[2], new double[3]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexVector.ofInterleaved(new double[3]));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> v.get(3));
+    }
+
+    @Test
+    void testOfPolar() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[][] parts = TestUtils.createParts(TestUtils.EDGE_VALUES, rng, 100);
+        final double[] rho = parts[0];
+        final double[] theta = parts[1];
+        final ComplexVector polar = ComplexVector.ofPolar(rho, theta);
+        final ComplexVector cis = ComplexVector.ofCis(theta);
+        for (int i = 0; i < rho.length; i++) {
+            final int index = i;
+            assertEquals(Complex.ofPolar(rho[i], theta[i]), polar.get(i), () -> rho[index] + ", " + theta[index]);
+            assertEquals(Complex.ofCis(theta[i]), cis.get(i), () -> Double.toString(theta[index]));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ComplexVector.ofPolar(new double[2], new double[3]));
+    }
+
+    /**
+     * Assert the complex numbers are equal within 2 ulp in each part.
+     *
+     * @param expected Expected value.
+     * @param actual Actual value.
+     * @param msg Failure message.
+     */
+    private static void assertEquals(Complex expected, Complex actual, Supplier<String> msg) {
+        assertEquals(expected.getReal(), actual.getReal(), msg);
+        assertEquals(expected.getImaginary(), actual.getImaginary(), msg);
+    }
+
+    private static void assertEquals(double expected, double actual, Supplier<String> msg) {
+        if (Double.isFinite(expected)) {
+            Assertions.assertEquals(expected, actual, 2 * Math.ulp(expected), msg);
+        } else {
+            Assertions.assertEquals(expected, actual, msg);
+        }
+    }
+
+    @Test
+    void testDimensionMismatch() {
+        final ComplexVector v = ComplexVector.create(2);
+        final ComplexVector w = ComplexVector.create(3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v.add(w));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v.subtract(w));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v.multiply(w));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v.divide(w));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v.abs(new double[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v.arg(new double[1]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> v.norm(new double[0]));
+    }
+
+    @Test
+    void testUnaryOperations() {
+        assertUnaryOperation(ComplexVector::conj, Complex::conj);
+        assertUnaryOperation(ComplexVector::negate, Complex::negate);
+        assertUnaryOperation(ComplexVector::exp, Complex::exp);
+        assertUnaryOperation(ComplexVector::log, Complex::log);
+        assertUnaryOperation(ComplexVector::log10, Complex::log10);
+        assertUnaryOperation(ComplexVector::sqrt, Complex::sqrt);
+        assertUnaryOperation(v -> v.pow(3), z -> z.pow(3));
+        assertUnaryOperation(v -> v.pow(-2), z -> z.pow(-2));
+    }
+
+    @Test
+    void testBinaryOperations() {
+        assertBinaryOperation(ComplexVector::add, Complex::add);
+        assertBinaryOperation(ComplexVector::subtract, Complex::subtract);
+        assertBinaryOperation(ComplexVector::multiply, Complex::multiply);
+        assertBinaryOperation(ComplexVector::divide, Complex::divide);
+    }
+
+    @Test
+    void testScalarOperations() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final Complex[] values = TestUtils.createValues(TestUtils.EDGE_VALUES, rng, 50);
+        for (final Complex c : values) {
+            assertUnaryOperation(v -> v.add(c), z -> z.add(c), values);
+            assertUnaryOperation(v -> v.subtract(c), z -> z.subtract(c), values);
+            assertUnaryOperation(v -> v.multiply(c), z -> z.multiply(c), values);
+            assertUnaryOperation(v -> v.divide(c), z -> z.divide(c), values);
+        }
+        for (final double x : TestUtils.EDGE_VALUES) {
+            assertUnaryOperation(v -> v.add(x), z -> z.add(x), values);
+            assertUnaryOperation(v -> v.subtract(x), z -> z.subtract(x), values);
+            assertUnaryOperation(v -> v.multiply(x), z -> z.multiply(x), values);
+            assertUnaryOperation(v -> v.divide(x), z -> z.divide(x), values);
+        }
+    }
+
+    @Test
+    void testRealValuedOperations() {
+        assertRealOperation(ComplexVector::abs, ComplexVector::abs, Complex::abs);
+        assertRealOperation(ComplexVector::arg, ComplexVector::arg, Complex::arg);
+        assertRealOperation(ComplexVector::norm, ComplexVector::norm, Complex::norm);
+    }
+
+    @Test
+    void testOperationsWithSelf() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final Complex[] values = TestUtils.createValues(TestUtils.EDGE_VALUES, rng, 100);
+        assertUnaryOperation(v -> v.multiply(v), z -> z.multiply(z), values);
+        assertUnaryOperation(v -> v.divide(v), z -> z.divide(z), values);
+        assertUnaryOperation(v -> v.add(v), z -> z.add(z), values);
+    }
+
+    @Test
+    void testChaining() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final Complex[] values = TestUtils.createValues(TestUtils.EDGE_VALUES, rng, 100);
+        final Complex c = Complex.ofCartesian(0.25, -1.5);
+        assertUnaryOperation(v -> v.multiply(c).exp().add(1).sqrt(),
+            z -> z.multiply(c).exp().add(1).sqrt(), values);
+    }
+
+    private static void assertUnaryOperation(UnaryOperator<ComplexVector> vectorOp,
+                                             UnaryOperator<Complex> scalarOp) {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        assertUnaryOperation(vectorOp, scalarOp, TestUtils.createValues(TestUtils.EDGE_VALUES, rng, 500));
+    }
+
+    private static void assertUnaryOperation(UnaryOperator<ComplexVector> vectorOp,
+                                             UnaryOperator<Complex> scalarOp,
+                                             Complex[] values) {
+        final ComplexVector v = ComplexVector.of(values);
+        Assertions.assertSame(v, vectorOp.apply(v));
+        for (int i = 0; i < values.length; i++) {
+            final int index = i;
+            Assertions.assertEquals(scalarOp.apply(values[i]), v.get(i), () -> values[index].toString());
+        }
+    }
+
+    private static void assertBinaryOperation(BiFunction<ComplexVector, ComplexVector, ComplexVector> vectorOp,
+                                              BiFunction<Complex, Complex, Complex> scalarOp) {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final Complex[] values1 = TestUtils.createValues(TestUtils.EDGE_VALUES, rng, 500);
+        // Reverse the values to create different pairs
+        final Complex[] values2 = new Complex[values1.length];
+        for (int i = 0; i < values1.length; i++) {
+            values2[i] = values1[values1.length - i - 1];
+        }
+        final ComplexVector v = ComplexVector.of(values1);
+        Assertions.assertSame(v, vectorOp.apply(v, ComplexVector.of(values2)));
+        for (int i = 0; i < values1.length; i++) {
+            final int index = i;
+            Assertions.assertEquals(scalarOp.apply(values1[i], values2[i]), v.get(i),
+                () -> values1[index] + " , " + values2[index]);
+        }
+    }
+
+    private static void assertRealOperation(Function<ComplexVector, double[]> vectorOp,
+                                            BiFunction<ComplexVector, double[], double[]> vectorOpWithResult,
+                                            ToDoubleFunction<Complex> scalarOp) {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final Complex[] values = TestUtils.createValues(TestUtils.EDGE_VALUES, rng, 500);
+        final ComplexVector v = ComplexVector.of(values);
+        final double[] expected = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            expected[i] = scalarOp.applyAsDouble(values[i]);
+        }
+        Assertions.assertArrayEquals(expected, vectorOp.apply(v));
+        final double[] result = new double[values.length];
+        Assertions.assertSame(result, vectorOpWithResult.apply(v, result));
+        Assertions.assertArrayEquals(expected, result);
+        // Not modified
+        Assertions.assertEquals(ComplexVector.of(values), v);
+    }
+}
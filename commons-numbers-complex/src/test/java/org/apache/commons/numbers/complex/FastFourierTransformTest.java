@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link FastFourierTransform}.
+ */
+class FastFourierTransformTest {
+    /** Sizes to test covering the radix-2, mixed-radix and Bluestein algorithms. */
+    private static final int[] SIZES = {
+        1, 2, 3, 4, 5, 6, 7, 8, 9, 12, 15, 16, 30, 31, 32, 37, 49, 64, 74, 97, 100, 127, 210, 256, 1000, 1021,
+    };
+
+    @Test
+    void testInvalidSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FastFourierTransform.of(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FastFourierTransform.of(-1));
+        // Sizes that require Bluestein's algorithm with a convolution size above 2^30
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FastFourierTransform.of(Integer.MAX_VALUE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FastFourierTransform.of((1 << 29) + 11));
+    }
+
+    @Test
+    void testDimensionMismatch() {
+        final FastFourierTransform fft = FastFourierTransform.of(4);
+        Assertions.assertEquals(4, fft.size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.forward(new double[3], new double[4]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.forward(new double[4], new double[5]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.inverse(new double[5], new double[4]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.forward(new double[6]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.forward(new double[9]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> fft.inverse(new double[10]));
+    }
+
+    @Test
+    void testCache() {
+        Assertions.assertSame(FastFourierTransform.of(64), FastFourierTransform.of(64));
+        Assertions.assertSame(FastFourierTransform.of(97), FastFourierTransform.of(97));
+    }
+
+    @Test
+    void testCacheEviction() {
+        // Fill the cache with large transforms so the least recently used are evicted
+        final FastFourierTransform fft = FastFourierTransform.of(1 << 20);
+        FastFourierTransform.of(3 << 18);
+        FastFourierTransform.of(5 << 17);
+        Assertions.assertNotSame(fft, FastFourierTransform.of(1 << 20));
+        // Transforms above the cached limit are created each time
+        final int n = 1 << 21;
+        Assertions.assertNotSame(FastFourierTransform.of(n), FastFourierTransform.of(n));
+    }
+
+    @Test
+    void testImpulse() {
+        // The transform of a unit impulse at index 0 is all ones
+        for (final int n : SIZES) {
+            final double[] re = new double[n];
+            final double[] im = new double[n];
+            re[0] = 1;
+            FastFourierTransform.of(n).forward(re, im);
+            for (int k = 0; k < n; k++) {
+                Assertions.assertEquals(1.0, re[k], 1e-14);
+                Assertions.assertEquals(0.0, im[k], 1e-14);
+            }
+        }
+    }
+
+    @Test
+    void testForward() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final int n : SIZES) {
+            final double[] re = randomData(rng, n);
+            final double[] im = randomData(rng, n);
+            final double[][] expected = dft(re, im, -1);
+            FastFourierTransform.of(n).forward(re, im);
+            assertEquals(expected, re, im, n);
+        }
+    }
+
+    @Test
+    void testInverse() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final int n : SIZES) {
+            final double[] re = randomData(rng, n);
+            final double[] im = randomData(rng, n);
+            final double[][] expected = dft(re, im, 1);
+            for (int k = 0; k < n; k++) {
+                expected[0][k] /= n;
+                expected[1][k] /= n;
+            }
+            FastFourierTransform.of(n).inverse(re, im);
+            assertEquals(expected, re, im, n);
+        }
+    }
+
+    @Test
+    void testRoundTrip() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final int n : new int[] {1024, 1000, 4093, 4096 * 3}) {
+            final double[] re = randomData(rng, n);
+            final double[] im = randomData(rng, n);
+            final double[][] expected = {re.clone(), im.clone()};
+            final FastFourierTransform fft = FastFourierTransform.of(n);
+            fft.forward(re, im);
+            fft.inverse(re, im);
+            assertEquals(expected, re, im, n);
+
+            final double[] data = new double[2 * n];
+            for (int i = 0; i < n; i++) {
+                data[2 * i] = expected[0][i];
+                data[2 * i + 1] = expected[1][i];
+            }
+            fft.forward(data);
+            fft.inverse(data);
+            for (int i = 0; i < n; i++) {
+                re[i] = data[2 * i];
+                im[i] = data[2 * i + 1];
+            }
+            assertEquals(expected, re, im, n);
+        }
+    }
+
+    @Test
+    void testInterleaved() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final int n : SIZES) {
+            final double[] re = randomData(rng, n);
+            final double[] im = randomData(rng, n);
+            final double[] data = new double[2 * n];
+            for (int i = 0; i < n; i++) {
+                data[2 * i] = re[i];
+                data[2 * i + 1] = im[i];
+            }
+            final FastFourierTransform fft = FastFourierTransform.of(n);
+            fft.forward(re, im);
+            fft.forward(data);
+            for (int i = 0; i < n; i++) {
+                Assertions.assertEquals(re[i], data[2 * i]);
+                Assertions.assertEquals(im[i], data[2 * i + 1]);
+            }
+            fft.inverse(re, im);
+            fft.inverse(data);
+            for (int i = 0; i < n; i++) {
+                Assertions.assertEquals(re[i], data[2 * i]);
+                Assertions.assertEquals(im[i], data[2 * i + 1]);
+            }
+        }
+    }
+
+    private static double[] randomData(UniformRandomProvider rng, int n) {
+        final double[] data = new double[n];
+        for (int i = 0; i < n; i++) {
+            data[i] = rng.nextDouble() * 2 - 1;
+        }
+        return data;
+    }
+
+    /**
+     * Compute the discrete Fourier transform directly.
+     *
+     * @param re Real parts.
+     * @param im Imaginary parts.
+     * @param sign Sign of the exponent.
+     * @return the transform {real, imaginary}
+     */
+    private static double[][] dft(double[] re, double[] im, int sign) {
+        final int n = re.length;
+        final double[] outRe = new double[n];
+        final double[] outIm = new double[n];
+        for (int k = 0; k < n; k++) {
+            double sumRe = 0;
+            double sumIm = 0;
+            for (int j = 0; j < n; j++) {
+                // Reduce the exponent modulo n for accuracy
+                final long jk = ((long) j * k) % n;
+                final double angle = sign * 2 * Math.PI * jk / n;
+                final double c = Math.cos(angle);
+                final double s = Math.sin(angle);
+                sumRe += re[j] * c - im[j] * s;
+                sumIm += re[j] * s + im[j] * c;
+            }
+            outRe[k] = sumRe;
+            outIm[k] = sumIm;
+        }
+        return new double[][] {outRe, outIm};
+    }
+
+    private static void assertEquals(double[][] expected, double[] re, double[] im, int n) {
+        // Error bound relative to the magnitude of the data
+        final double delta = 1e-13 * Math.sqrt(n) * (1 + Math.log(n));
+        for (int k = 0; k < n; k++) {
+            final int index = k;
+            Assertions.assertEquals(expected[0][k], re[k], delta, () -> "size " + n + " real " + index);
+            Assertions.assertEquals(expected[1][k], im[k], delta, () -> "size " + n + " imaginary " + index);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RootsOfUnity}.
+ */
+class RootsOfUnityTest {
+
+    @Test
+    void testInvalidOrder() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RootsOfUnity.of(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RootsOfUnity.of(-1));
+    }
+
+    @Test
+    void testCache() {
+        Assertions.assertSame(RootsOfUnity.of(12), RootsOfUnity.of(12));
+        Assertions.assertNotSame(RootsOfUnity.of(12), RootsOfUnity.of(13));
+    }
+
+    @Test
+    void testCacheConcurrent() {
+        final ConcurrentHashMap<RootsOfUnity, Boolean> set = new ConcurrentHashMap<>();
+        IntStream.range(0, 1000).parallel().forEach(i -> set.put(RootsOfUnity.of(4567), Boolean.TRUE));
+        Assertions.assertEquals(1, set.size());
+    }
+
+    @Test
+    void testCacheEviction() {
+        // Fill the cache with large tables so the least recently used are evicted
+        final RootsOfUnity roots = RootsOfUnity.of(1 << 20);
+        RootsOfUnity.of((1 << 20) - 1);
+        RootsOfUnity.of((1 << 20) - 2);
+        Assertions.assertNotSame(roots, RootsOfUnity.of(1 << 20));
+        // Tables above the cached limit are created each time
+        final int n = (1 << 20) + 1;
+        Assertions.assertNotSame(RootsOfUnity.of(n), RootsOfUnity.of(n));
+    }
+
+    @Test
+    void testExactRoots() {
+        for (final int n : new int[] {1, 2, 4, 8, 12, 100}) {
+            final RootsOfUnity roots = RootsOfUnity.of(n);
+            Assertions.assertEquals(n, roots.size());
+            assertRoot(1, 0, roots, 0);
+            if (n % 2 == 0) {
+                assertRoot(-1, 0, roots, n / 2);
+            }
+            if (n % 4 == 0) {
+                assertRoot(0, 1, roots, n / 4);
+                assertRoot(0, -1, roots, 3 * n / 4);
+            }
+        }
+        // Symmetric values
+        final RootsOfUnity roots = RootsOfUnity.of(12);
+        final double half = roots.getReal(2);
+        Assertions.assertEquals(0.5, half, Math.ulp(0.5));
+        Assertions.assertEquals(half, roots.getImaginary(1));
+        Assertions.assertEquals(-half, roots.getReal(4));
+        Assertions.assertEquals(roots.getReal(1), roots.getImaginary(2));
+        Assertions.assertEquals(roots.getReal(1), -roots.getReal(5));
+        Assertions.assertEquals(roots.getImaginary(1), -roots.getImaginary(11));
+    }
+
+    @Test
+    void testAccuracy() {
+        for (final int n : new int[] {3, 7, 30, 97, 1000, 4099}) {
+            final RootsOfUnity roots = RootsOfUnity.of(n);
+            for (int k = 0; k < n; k++) {
+                // Reference using the reduced angle 2 pi k / n in [-pi, pi]
+                final int j = k <= n / 2 ? k : k - n;
+                final double angle = 2 * Math.PI * j / n;
+                final double c = Math.cos(angle);
+                final double s = Math.sin(angle);
+                // Allow the error of the reference angle (up to ulp(pi))
+                Assertions.assertEquals(c, roots.getReal(k), 4 * Math.ulp(1.0));
+                Assertions.assertEquals(s, roots.getImaginary(k), 4 * Math.ulp(1.0));
+                // Magnitude is 1
+                final double abs = Math.hypot(roots.getReal(k), roots.getImaginary(k));
+                Assertions.assertEquals(1.0, abs, 2 * Math.ulp(1.0));
+            }
+        }
+    }
+
+    @Test
+    void testAccuracyHighPrecision() {
+        // cos(2 pi / 5) = (sqrt(5) - 1) / 4
+        final double expected = new BigDecimal("0.30901699437494742410229341718281905886015458990288").doubleValue();
+        Assertions.assertEquals(expected, RootsOfUnity.of(5).getReal(1), Math.ulp(expected));
+        Assertions.assertEquals(expected, RootsOfUnity.of(10).getReal(2), Math.ulp(expected));
+    }
+
+    @Test
+    void testAccessors() {
+        final int n = 7;
+        final RootsOfUnity roots = RootsOfUnity.of(n);
+        final double[] re = roots.getReal();
+        final double[] im = roots.getImaginary();
+        final double[] data = roots.toInterleaved();
+        Assertions.assertEquals(n, re.length);
+        Assertions.assertEquals(n, im.length);
+        Assertions.assertEquals(2 * n, data.length);
+        for (int k = 0; k < n; k++) {
+            Assertions.assertEquals(re[k], roots.getReal(k));
+            Assertions.assertEquals(im[k], roots.getImaginary(k));
+            Assertions.assertEquals(re[k], data[2 * k]);
+            Assertions.assertEquals(im[k], data[2 * k + 1]);
+            Assertions.assertEquals(Complex.ofCartesian(re[k], im[k]), roots.get(k));
+            // Index is modulo n
+            Assertions.assertEquals(roots.get(k), roots.get(k + n));
+            Assertions.assertEquals(roots.get(k), roots.get(k - 3 * n));
+        }
+        // Copies do not modify the table
+        re[1] = 42;
+        Assertions.assertNotEquals(42, roots.getReal(1));
+    }
+
+    @Test
+    void testNthRoot() {
+        // Roots of unity from nthRoot match the table.
+        // The sign of zero parts is not compared: it is determined by the principal root.
+        for (final int n : new int[] {1, 3, 4, 9}) {
+            final List<Complex> r1 = Complex.ONE.nthRoot(n);
+            final List<Complex> r2 = Complex.ONE.nthRoot(-n);
+            final RootsOfUnity roots = RootsOfUnity.of(n);
+            for (int k = 0; k < n; k++) {
+                Assertions.assertEquals(roots.getReal(k), r1.get(k).getReal(), 0.0);
+                Assertions.assertEquals(roots.getImaginary(k), r1.get(k).getImaginary(), 0.0);
+                Assertions.assertEquals(roots.getReal(-k), r2.get(k).getReal(), 0.0);
+                Assertions.assertEquals(roots.getImaginary(-k), r2.get(k).getImaginary(), 0.0);
+            }
+        }
+    }
+
+    private static void assertRoot(double re, double im, RootsOfUnity roots, int k) {
+        Assertions.assertEquals(re, roots.getReal(k), () -> "real " + k);
+        Assertions.assertEquals(im, roots.getImaginary(k), () -> "imaginary " + k);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.complex;
+
+import java.util.function.Supplier;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SinCos}.
+ */
+class SinCosTest {
+    /** The maximum error in ulp of the result relative to {@link StrictMath}. */
+    private static final int MAX_ULPS = 1;
+
+    @Test
+    void testDimensionMismatch() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> SinCos.sincos(new double[2], new double[1], new double[2]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> SinCos.sincos(new double[2], new double[2], new double[3]));
+    }
+
+    @Test
+    void testEdgeCases() {
+        final double[] theta = {0.0, -0.0, Double.MIN_VALUE, -Double.MIN_NORMAL, 0x1.0p-30,
+            Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN, Double.MAX_VALUE, -1e300};
+        final double[] sin = new double[theta.length];
+        final double[] cos = new double[theta.length];
+        SinCos.sincos(theta, sin, cos);
+        for (int i = 0; i < theta.length; i++) {
+            // Exact for these cases including the sign of zero
+            Assertions.assertEquals(Math.sin(theta[i]), sin[i], "sin");
+            Assertions.assertEquals(Math.cos(theta[i]), cos[i], "cos");
+        }
+    }
+
+    @Test
+    void testMultiplesOfPiOver2() {
+        // Values close to multiples of pi/2 require extra precision in the reduction
+        final int n = 1000;
+        final double[] theta = new double[n * 3];
+        for (int i = 0; i < n; i++) {
+            final double x = (i + 1) * Math.PI / 2;
+            theta[3 * i] = x;
+            theta[3 * i + 1] = Math.nextUp(x);
+            theta[3 * i + 2] = -Math.nextDown(x);
+        }
+        assertSinCos(theta);
+    }
+
+    @Test
+    void testRanges() {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        for (final double range : new double[] {Math.PI / 4, Math.PI, 10, 1e4, 1e6, 1e10, 1e300}) {
+            final double[] theta = new double[10000];
+            for (int i = 0; i < theta.length; i++) {
+                theta[i] = (rng.nextDouble() * 2 - 1) * range;
+            }
+            assertSinCos(theta);
+        }
+    }
+
+    @Test
+    void testInPlace() {
+        // Output to the input array
+        final double[] theta = {0.5, 1.5, 2.5, -7};
+        final double[] expected = theta.clone();
+        final double[] cos = new double[theta.length];
+        SinCos.sincos(theta, theta, cos);
+        for (int i = 0; i < theta.length; i++) {
+            Assertions.assertEquals(StrictMath.sin(expected[i]), theta[i], Math.ulp(theta[i]));
+            Assertions.assertEquals(StrictMath.cos(expected[i]), cos[i], Math.ulp(cos[i]));
+        }
+    }
+
+    private static void assertSinCos(double[] theta) {
+        final double[] sin = new double[theta.length];
+        final double[] cos = new double[theta.length];
+        SinCos.sincos(theta, sin, cos);
+        for (int i = 0; i < theta.length; i++) {
+            final double x = theta[i];
+            assertUlps(StrictMath.sin(x), sin[i], () -> "sin " + x);
+            assertUlps(StrictMath.cos(x), cos[i], () -> "cos " + x);
+        }
+    }
+
+    private static void assertUlps(double expected, double actual, Supplier<String> msg) {
+        Assertions.assertEquals(expected, actual, MAX_ULPS * Math.ulp(expected), msg);
+    }
+}
@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import org.apache.commons.numbers.core.Precision;
+import org.apache.commons.rng.UniformRandomProvider;
 
 import org.junit.jupiter.api.Assertions;
 
@@ -36,6 +37,12 @@ import org.junit.jupiter.api.Assertions;
  * Test utilities. TODO: Cleanup (remove unused and obsolete methods).
  */
 public final class TestUtils {
+    /** Edge case values for the real and imaginary parts of complex numbers. */
+    public static final double[] EDGE_VALUES = {
+        0.0, -0.0, 1.0, -1.0, 0.5, -2.0, Double.MIN_VALUE, -Double.MIN_NORMAL,
+        Double.MAX_VALUE, -Double.MAX_VALUE, 1e300, -1e-300,
+        Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN,
+    };
 
     /**
      * The option for how to process test data lines flagged (prefixed)
@@ -297,6 +304,51 @@ public final class TestUtils {
         return positiveMassCount;
     }
 
+    /**
+     * Create complex numbers containing all combinations of the edge case values
+     * followed by random values with parts uniformly distributed in {@code [-10, 10)}.
+     *
+     * @param edgeValues Edge case values for the real and imaginary parts.
+     * @param rng Source of randomness.
+     * @param randomSize Number of random values.
+     * @return the values
+     */
+    public static Complex[] createValues(double[] edgeValues, UniformRandomProvider rng, int randomSize) {
+        final double[][] parts = createParts(edgeValues, rng, randomSize);
+        final Complex[] values = new Complex[parts[0].length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Complex.ofCartesian(parts[0][i], parts[1][i]);
+        }
+        return values;
+    }
+
+    /**
+     * Create the parts of complex numbers containing all combinations of the edge case
+     * values followed by random values with parts uniformly distributed in {@code [-10, 10)}.
+     *
+     * @param edgeValues Edge case values for the real and imaginary parts.
+     * @param rng Source of randomness.
+     * @param randomSize Number of random values.
+     * @return the real and imaginary parts: {@code {re, im}}
+     */
+    public static double[][] createParts(double[] edgeValues, UniformRandomProvider rng, int randomSize) {
+        final int n = edgeValues.length;
+        final double[] re = new double[n * n + randomSize];
+        final double[] im = new double[re.length];
+        int k = 0;
+        for (final double x : edgeValues) {
+            for (final double y : edgeValues) {
+                re[k] = x;
+                im[k++] = y;
+            }
+        }
+        while (k < re.length) {
+            re[k] = rng.nextDouble() * 20 - 10;
+            im[k++] = rng.nextDouble() * 20 - 10;
+        }
+        return new double[][] {re, im};
+    }
+
     /**
      * Load test data from resources.
      *
@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+/**
+ * <a href="https://en.wikipedia.org/wiki/Dot_product">Dot product</a> functions
+ * with a selectable accuracy.
+ *
+ * <p>The accuracy of a floating-point dot product depends on the condition number
+ * of the data, \( C = 2 \sum_i |a_i b_i| / |\sum_i a_i b_i| \). A K-fold method
+ * computes a result as if using K times the working precision and then rounds to
+ * working precision. The relative error is then approximately \( C \epsilon^K \) where
+ * \( \epsilon = 2^{-53} \). The {@link #EXACT} method is correctly rounded for any
+ * condition number. Higher accuracy requires more operations.
+ *
+ * <p>The K-fold algorithms are described in the 2005 paper
+ * <a href="https://citeseerx.ist.psu.edu/viewdoc/summary?doi=10.1.1.2.1547">
+ * Accurate Sum and Dot Product</a> by Takeshi Ogita, Siegfried M. Rump,
+ * and Shin'ichi Oishi published in <em>SIAM J. Sci. Comput</em>. The exact
+ * method uses the expansion arithmetic described by
+ * <a href="http://www-2.cs.cmu.edu/afs/cs/project/quake/public/papers/robust-arithmetic.ps">
+ * Shewchuk (1997): Arbitrary Precision Floating-Point Arithmetic</a>.
+ *
+ * <p>Results follow the IEEE 754 rules: if any product is infinite or {@link Double#NaN}
+ * the result is that of the standard floating-point dot product.
+ *
+ * @see Sum#ofProducts(double[], double[])
+ */
+public enum DotProduct {
+    /** Standard floating-point summation of the products. */
+    STANDARD(DotProduct::standard),
+    /**
+     * 2-fold precision using the Dot2S algorithm. This is the accuracy of
+     * {@link Sum#ofProducts(double[], double[])}.
+     */
+    DOT2(DotProduct::dot2),
+    /** 3-fold precision using the DotK algorithm. */
+    DOT3((a, b) -> dotK(a, b, 3)),
+    /** 4-fold precision using the DotK algorithm. */
+    DOT4((a, b) -> dotK(a, b, 4)),
+    /** Correctly rounded result of the exact dot product. */
+    EXACT(DotProduct::exact);
+
+    /** Function of array arguments. */
+    @FunctionalInterface
+    private interface Array {
+        /**
+         * @param a Factors.
+         * @param b Factors.
+         * @return the dot product.
+         */
+        double of(double[] a, double[] b);
+    }
+
+    /** Function of array arguments. */
+    private final Array array;
+
+    /**
+     * @param array Function of array arguments.
+     */
+    DotProduct(Array array) {
+        this.array = array;
+    }
+
+    /**
+     * Computes the dot product \( \sum_i a_i b_i \).
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @return the dot product.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    public final double of(double[] a,
+                           double[] b) {
+        checkDimensions(a, b);
+        return array.of(a, b);
+    }
+
+    /**
+     * Computes the dot product \( \sum_i a_i b_i \) as if using K-fold working
+     * precision. Values of {@code k} above 4 are only of benefit for data with a
+     * very large condition number; for such data the {@link #EXACT} method
+     * may be faster.
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @param k K-fold precision.
+     * @return the dot product.
+     * @throws IllegalArgumentException if the arrays do not have the same length or
+     * {@code k < 2}.
+     */
+    public static double ofK(double[] a,
+                             double[] b,
+                             int k) {
+        checkDimensions(a, b);
+        if (k < 2) {
+            throw new IllegalArgumentException("K-fold precision is not at least 2: " + k);
+        }
+        return k == 2 ? dot2(a, b) : dotK(a, b, k);
+    }
+
+    /**
+     * Computes the dot product using standard precision.
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @return the dot product.
+     */
+    private static double standard(double[] a,
+                                   double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Computes the dot product using the Dot2S algorithm (Ogita et al, Algorithm 5.3).
+     * The round-off of each product and sum is accumulated in standard precision.
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @return the dot product.
+     */
+    private static double dot2(double[] a,
+                               double[] b) {
+        final int len = a.length;
+        if (len < 2) {
+            return standard(a, b);
+        }
+        double p = a[0] * b[0];
+        double s = ExtendedPrecision.productLow(a[0], b[0], p);
+        for (int i = 1; i < len; i++) {
+            final double h = a[i] * b[i];
+            final double r = ExtendedPrecision.productLow(a[i], b[i], h);
+            final double q = p + h;
+            s += ExtendedPrecision.twoSumLow(p, h, q) + r;
+            p = q;
+        }
+        return getSum(p, p + s);
+    }
+
+    /**
+     * Computes the dot product using the DotK algorithm (Ogita et al, Algorithm 5.10).
+     * All round-off parts are stored and the sum is computed to (K-1)-fold precision
+     * using repeated error-free vector transformations.
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @param k K-fold precision.
+     * @return the dot product.
+     */
+    private static double dotK(double[] a,
+                               double[] b,
+                               int k) {
+        final int len = a.length;
+        if (len < 2) {
+            return standard(a, b);
+        }
+        // Round-off parts of each product are r[0 to (n-1)].
+        // Round-off parts of each sum are r[n to (2n-2)].
+        // The standard precision dot product is r[2n-1].
+        final double[] r = new double[len * 2];
+        double p = a[0] * b[0];
+        r[0] = ExtendedPrecision.productLow(a[0], b[0], p);
+        for (int i = 1; i < len; i++) {
+            final double h = a[i] * b[i];
+            r[i] = ExtendedPrecision.productLow(a[i], b[i], h);
+            final double q = p + h;
+            r[i + len - 1] = ExtendedPrecision.twoSumLow(p, h, q);
+            p = q;
+        }
+        r[r.length - 1] = p;
+        // (K-1)-fold sum of the parts: (K-2) error-free vector transformations
+        for (int j = 2; j < k; j++) {
+            for (int i = 1; i < r.length; i++) {
+                final double x = r[i] + r[i - 1];
+                r[i - 1] = ExtendedPrecision.twoSumLow(r[i], r[i - 1], x);
+                r[i] = x;
+            }
+        }
+        double sum = 0;
+        for (final double x : r) {
+            sum += x;
+        }
+        return getSum(p, sum);
+    }
+
+    /**
+     * Computes the correctly rounded dot product. Each product is represented exactly
+     * as the sum of two doubles and added to a non-overlapping expansion. The
+     * expansion is then compressed and summed with a sticky bit to round the result
+     * to nearest, ties-to-even.
+     *
+     * <p>Note: The round-off of a sub-normal product is not representable and is lost.
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @return the dot product.
+     */
+    private static double exact(double[] a,
+                                double[] b) {
+        final int len = a.length;
+        if (len < 2) {
+            return standard(a, b);
+        }
+        // Expansion in order of increasing magnitude with interspersed zeros removed.
+        // Each product adds at most two parts.
+        final double[] e = new double[len * 2];
+        int size = 0;
+        for (int i = 0; i < len; i++) {
+            final double h = a[i] * b[i];
+            final double l = ExtendedPrecision.productLow(a[i], b[i], h);
+            if (l != 0) {
+                size = growExpansion(e, size, l);
+            }
+            size = growExpansion(e, size, h);
+        }
+        final double result = size == 0 ? 0 : sumExpansion(e, size);
+        if (!Double.isFinite(result)) {
+            // Non-finite products or overflow: use the IEEE754 result
+            return standard(a, b);
+        }
+        return result;
+    }
+
+    /**
+     * Grows the expansion by two-summing the value through the expansion.
+     * Zero parts are removed.
+     *
+     * @param e Expansion.
+     * @param size Expansion size.
+     * @param value Value to add.
+     * @return the new size
+     */
+    private static int growExpansion(double[] e, int size, double value) {
+        double p = value;
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            final double ei = e[i];
+            final double q = ei + p;
+            final double r = ExtendedPrecision.twoSumLow(ei, p, q);
+            if (r != 0) {
+                e[n++] = r;
+            }
+            // Carry the larger magnitude to the next iteration
+            p = q;
+        }
+        if (p != 0) {
+            e[n++] = p;
+        }
+        return n;
+    }
+
+    /**
+     * Sums the expansion with a correctly rounded result. This uses Shewchuk's
+     * COMPRESS algorithm for the first traversal (big to small). The second traversal
+     * (small to big) carries the round-off using a sticky bit so the final addition
+     * is rounded to nearest, ties-to-even.
+     *
+     * @param e Expansion (non-empty).
+     * @param size Expansion size.
+     * @return the sum
+     */
+    private static double sumExpansion(double[] e, int size) {
+        final int m = size - 1;
+        double q = e[m];
+        int bottom = m;
+        for (int i = m - 1; i >= 0; i--) {
+            final double p = q + e[i];
+            final double qq = ExtendedPrecision.fastTwoSumLow(q, e[i], p);
+            if (qq != 0) {
+                // Store the larger component and carry the smaller
+                e[bottom--] = p;
+                q = qq;
+            } else {
+                q = p;
+            }
+        }
+        if (bottom == m) {
+            // Compressed to a single value
+            return q;
+        }
+        for (int i = bottom + 1; i < m; i++) {
+            q = fastSumWithStickyBit(e[i], q);
+        }
+        return e[m] + q;
+    }
+
+    /**
+     * Computes the sum of two numbers {@code a} and {@code b} where {@code |a| >= |b|}.
+     * If the sum is inexact the least significant bit of the result is used as a
+     * sticky bit: it is set to push a subsequent addition to a larger magnitude
+     * value in the direction of the lost round-off. This simulates an extended
+     * register for the correct round-to-nearest, ties-to-even result of the
+     * subsequent addition.
+     *
+     * <p>Details of the sticky bit can be found in:
+     * <blockquote>
+     * Coonen, J.T., "An Implementation Guide to a Proposed Standard for Floating Point
+     * Arithmetic", Computer, Vol. 13, No. 1, Jan. 1980, pp 68-79.
+     * </blockquote>
+     *
+     * @param a First part of sum.
+     * @param b Second part of sum.
+     * @return the sum with a sticky bit
+     */
+    private static double fastSumWithStickyBit(double a, double b) {
+        double sum = a + b;
+        final double r = ExtendedPrecision.fastTwoSumLow(a, b, sum);
+        if (r != 0) {
+            long hi = Double.doubleToRawLongBits(sum);
+            // Can only set the sticky bit if it is not set
+            if ((hi & 0x1) == 0) {
+                // Move the magnitude in the direction of the round-off
+                if (sum > 0) {
+                    hi += (r > 0) ? 1 : -1;
+                } else {
+                    hi += (r < 0) ? 1 : -1;
+                }
+                sum = Double.longBitsToDouble(hi);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the final sum. This returns the standard precision sum if the high precision
+     * sum is not finite. This occurs for non-finite input, overflow in the summation,
+     * or overflow in the split of a product.
+     *
+     * @param sum Standard sum.
+     * @param hpSum High precision sum.
+     * @return the sum
+     */
+    private static double getSum(double sum, double hpSum) {
+        return Double.isFinite(hpSum) ? hpSum : sum;
+    }
+
+    /**
+     * Checks the arrays have the same length.
+     *
+     * @param a Factors.
+     * @param b Factors.
+     * @throws IllegalArgumentException if the arrays do not have the same length.
+     */
+    private static void checkDimensions(double[] a,
+                                        double[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Dimension mismatch: " +
+                                               a.length + " != " + b.length);
+        }
+    }
+}
@@ -285,6 +285,24 @@ final class ExtendedPrecision {
         return c - (c - value);
     }
 
+    /**
+     * Compute the round-off from the sum of two numbers {@code a} and {@code b} using
+     * Dekker's two-sum algorithm. The values are required to be ordered by magnitude:
+     * {@code |a| >= |b|}. The standard precision sum must be provided.
+     *
+     * @param a First part of sum.
+     * @param b Second part of sum.
+     * @param sum Sum of the parts (a + b).
+     * @return <code>b - (sum - a)</code>
+     * @see <a href="http://www-2.cs.cmu.edu/afs/cs/project/quake/public/papers/robust-arithmetic.ps">
+     * Shewchuk (1997) Theorum 6</a>
+     */
+    static double fastTwoSumLow(double a, double b, double sum) {
+        // bVirtual = sum - a
+        // b - bVirtual == b round-off
+        return b - (sum - a);
+    }
+
     /**
      * Compute the round-off from the sum of two numbers {@code a} and {@code b} using
      * Knuth's two-sum algorithm. The values are not required to be ordered by magnitude.
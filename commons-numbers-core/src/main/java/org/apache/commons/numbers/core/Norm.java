@@ -16,6 +16,9 @@
  */
 package org.apache.commons.numbers.core;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * <a href="https://en.wikipedia.org/wiki/Norm_(mathematics)">Norm</a> functions.
  *
@@ -24,6 +27,10 @@ package org.apache.commons.numbers.core;
  * <a href="https://citeseerx.ist.psu.edu/viewdoc/summary?doi=10.1.1.2.1547">
  * Accurate Sum and Dot Product</a> by Takeshi Ogita, Siegfried M. Rump,
  * and Shin'ichi Oishi published in <em>SIAM J. Sci. Comput</em>.
+ *
+ * <p>Norms can be computed for strided data and for each row or column of a
+ * row-major matrix without copying the values. The batch methods have parallel
+ * variants that run on the {@link ForkJoinPool#commonPool() common fork-join pool}.
  */
 public enum Norm {
     /**
@@ -50,28 +57,31 @@ public enum Norm {
      * set to this value can be squared without underflow. Values less than this must
      * be scaled up.
      */
-    private static final double SMALL_THRESH = 0x1.0p-511;
+    static final double SMALL_THRESH = 0x1.0p-511;
     /**
      * Threshold for scaling large numbers. This value is chosen such that 2^31 doubles
      * set to this value can be squared and added without overflow. Values greater than
      * this must be scaled down.
      */
-    private static final double LARGE_THRESH = 0x1.0p+496;
+    static final double LARGE_THRESH = 0x1.0p+496;
+    /** Value used to scale down large numbers. */
+    static final double SCALE_DOWN = 0x1.0p-600;
+    /** Value used to scale up small numbers. */
+    static final double SCALE_UP = 0x1.0p+600;
     /**
      * Threshold for scaling up a single value by {@link #SCALE_UP} without risking
      * overflow when the value is squared.
      */
     private static final double SAFE_SCALE_UP_THRESH = 0x1.0p-100;
-    /** Value used to scale down large numbers. */
-    private static final double SCALE_DOWN = 0x1.0p-600;
-    /** Value used to scale up small numbers. */
-    private static final double SCALE_UP = 0x1.0p+600;
 
     /** Threshold for the difference between the exponents of two Euclidean 2D input values
      * where the larger value dominates the calculation.
      */
     private static final int EXP_DIFF_THRESHOLD_2D = 54;
 
+    /** Minimum number of values processed by a parallel task. */
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
     /** Function of 2 arguments. */
     @FunctionalInterface
     private interface Two {
@@ -103,6 +113,58 @@ public enum Norm {
         double of(double[] v);
     }
 
+    /** Computes the norms of a range of vectors of a batch. */
+    @FunctionalInterface
+    private interface Batch {
+        /**
+         * @param from Index of the first vector (inclusive).
+         * @param to Index of the last vector (exclusive).
+         */
+        void apply(int from, int to);
+    }
+
+    /**
+     * Applies a batch function to a range of indices, splitting the range between
+     * tasks until the number of indices is below a minimum.
+     */
+    private static final class BatchAction extends RecursiveAction {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261015L;
+
+        /** Start of the range (inclusive). */
+        private final int from;
+        /** End of the range (exclusive). */
+        private final int to;
+        /** Minimum number of indices to split. */
+        private final int grain;
+        /** Function to apply to the range. */
+        private final transient Batch batch;
+
+        /**
+         * @param from Start of the range (inclusive).
+         * @param to End of the range (exclusive).
+         * @param grain Minimum number of indices to split.
+         * @param batch Function to apply to the range.
+         */
+        BatchAction(int from, int to, int grain, Batch batch) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.batch = batch;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                batch.apply(from, to);
+            } else {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new BatchAction(from, mid, grain, batch),
+                          new BatchAction(mid, to, grain, batch));
+            }
+        }
+    }
+
     /** Function of 2 arguments. */
     private final Two two;
     /** Function of 3 arguments. */
@@ -187,10 +249,125 @@ public enum Norm {
      * @throws IllegalArgumentException if the array is empty.
      */
     public final double of(double[] v) {
-        ensureNonEmpty(v);
+        ensureNonEmpty(v.length);
         return array.of(v);
     }
 
+    /**
+     * Computes the norm of the values {@code data[offset + i * stride]} for {@code i}
+     * in {@code [0, length)}. The result is the same as computing the norm of an array
+     * containing the values.
+     *
+     * @param data Values.
+     * @param offset Index of the first value.
+     * @param length Number of values.
+     * @param stride Distance between consecutive values (must be positive).
+     * @return the norm.
+     * @throws IllegalArgumentException if the length is not strictly positive or the
+     * stride is not positive.
+     * @throws IndexOutOfBoundsException if any value is outside the array.
+     * @see #of(double[])
+     */
+    public final double of(double[] data,
+                           int offset,
+                           int length,
+                           int stride) {
+        ensureNonEmpty(length);
+        return accumulator().add(data, offset, length, stride).getAsDouble();
+    }
+
+    /**
+     * Computes the norm of each row of a matrix stored in row-major order.
+     *
+     * @param data Matrix values in row-major order.
+     * @param rows Number of rows.
+     * @param columns Number of columns.
+     * @return the norm of each row.
+     * @throws IllegalArgumentException if the number of rows or columns is not strictly
+     * positive, or the array length is not {@code rows * columns}.
+     */
+    public final double[] ofRows(double[] data,
+                                 int rows,
+                                 int columns) {
+        checkMatrix(data, rows, columns);
+        final double[] result = new double[rows];
+        rowNorms(data, columns, result, 0, rows);
+        return result;
+    }
+
+    /**
+     * Computes the norm of each row of a matrix stored in row-major order.
+     * Rows are processed in parallel if the matrix is large.
+     * The result is the same as {@link #ofRows(double[], int, int)}.
+     *
+     * @param data Matrix values in row-major order.
+     * @param rows Number of rows.
+     * @param columns Number of columns.
+     * @return the norm of each row.
+     * @throws IllegalArgumentException if the number of rows or columns is not strictly
+     * positive, or the array length is not {@code rows * columns}.
+     */
+    public final double[] ofRowsParallel(double[] data,
+                                         int rows,
+                                         int columns) {
+        checkMatrix(data, rows, columns);
+        final double[] result = new double[rows];
+        forEach(rows, columns, (from, to) -> rowNorms(data, columns, result, from, to));
+        return result;
+    }
+
+    /**
+     * Computes the norm of each column of a matrix stored in row-major order.
+     * The values are read in memory order; no column is copied.
+     *
+     * @param data Matrix values in row-major order.
+     * @param rows Number of rows.
+     * @param columns Number of columns.
+     * @return the norm of each column.
+     * @throws IllegalArgumentException if the number of rows or columns is not strictly
+     * positive, or the array length is not {@code rows * columns}.
+     */
+    public final double[] ofColumns(double[] data,
+                                    int rows,
+                                    int columns) {
+        checkMatrix(data, rows, columns);
+        final double[] result = new double[columns];
+        columnNorms(data, rows, columns, result, 0, columns);
+        return result;
+    }
+
+    /**
+     * Computes the norm of each column of a matrix stored in row-major order.
+     * Ranges of columns are processed in parallel if the matrix is large.
+     * The result is the same as {@link #ofColumns(double[], int, int)}.
+     *
+     * @param data Matrix values in row-major order.
+     * @param rows Number of rows.
+     * @param columns Number of columns.
+     * @return the norm of each column.
+     * @throws IllegalArgumentException if the number of rows or columns is not strictly
+     * positive, or the array length is not {@code rows * columns}.
+     */
+    public final double[] ofColumnsParallel(double[] data,
+                                            int rows,
+                                            int columns) {
+        checkMatrix(data, rows, columns);
+        final double[] result = new double[columns];
+        forEach(columns, rows, (from, to) -> columnNorms(data, rows, columns, result, from, to));
+        return result;
+    }
+
+    /**
+     * Creates an accumulator to compute the norm incrementally. Values can be added
+     * one at a time or in chunks, and accumulators can be combined.
+     *
+     * @return a new accumulator.
+     * @see NormAccumulator#of(Norm)
+     */
+    public final NormAccumulator accumulator() {
+        return NormAccumulator.of(this);
+    }
+
     /** Computes the Manhattan norm.
      *
      * @param x first input value
@@ -408,104 +585,11 @@ public enum Norm {
      * @see #of(double[])
      */
     private static double euclidean(final double[] v) {
-        // sum of big, normal and small numbers
-        double s1 = 0;
-        double s2 = 0;
-        double s3 = 0;
-
-        // sum compensation values
-        double c1 = 0;
-        double c2 = 0;
-        double c3 = 0;
-
+        final NormAccumulator.Euclidean acc = new NormAccumulator.Euclidean();
         for (int i = 0; i < v.length; ++i) {
-            final double x = Math.abs(v[i]);
-            if (!Double.isFinite(x)) {
-                // not finite; determine whether to return NaN or positive infinity
-                return euclideanNormSpecial(v, i);
-            } else if (x > LARGE_THRESH) {
-                // scale down
-                final double sx = x * SCALE_DOWN;
-
-                // compute the product and product compensation
-                final double p = sx * sx;
-                final double cp = ExtendedPrecision.squareLowUnscaled(sx, p);
-
-                // compute the running sum and sum compensation
-                final double s = s1 + p;
-                final double cs = ExtendedPrecision.twoSumLow(s1, p, s);
-
-                // update running totals
-                c1 += cp + cs;
-                s1 = s;
-            } else if (x < SMALL_THRESH) {
-                // scale up
-                final double sx = x * SCALE_UP;
-
-                // compute the product and product compensation
-                final double p = sx * sx;
-                final double cp = ExtendedPrecision.squareLowUnscaled(sx, p);
-
-                // compute the running sum and sum compensation
-                final double s = s3 + p;
-                final double cs = ExtendedPrecision.twoSumLow(s3, p, s);
-
-                // update running totals
-                c3 += cp + cs;
-                s3 = s;
-            } else {
-                // no scaling
-                // compute the product and product compensation
-                final double p = x * x;
-                final double cp = ExtendedPrecision.squareLowUnscaled(x, p);
-
-                // compute the running sum and sum compensation
-                final double s = s2 + p;
-                final double cs = ExtendedPrecision.twoSumLow(s2, p, s);
-
-                // update running totals
-                c2 += cp + cs;
-                s2 = s;
-            }
-        }
-
-        // The highest sum is the significant component. Add the next significant.
-        // Note that the "x * SCALE_DOWN * SCALE_DOWN" expressions must be executed
-        // in the order given. If the two scale factors are multiplied together first,
-        // they will underflow to zero.
-        if (s1 != 0) {
-            // add s1, s2, c1, c2
-            final double s2Adj = s2 * SCALE_DOWN * SCALE_DOWN;
-            final double sum = s1 + s2Adj;
-            final double comp = ExtendedPrecision.twoSumLow(s1, s2Adj, sum) +
-                c1 + (c2 * SCALE_DOWN * SCALE_DOWN);
-            return Math.sqrt(sum + comp) * SCALE_UP;
-        } else if (s2 != 0) {
-            // add s2, s3, c2, c3
-            final double s3Adj = s3 * SCALE_DOWN * SCALE_DOWN;
-            final double sum = s2 + s3Adj;
-            final double comp = ExtendedPrecision.twoSumLow(s2, s3Adj, sum) +
-                c2 + (c3 * SCALE_DOWN * SCALE_DOWN);
-            return Math.sqrt(sum + comp);
-        }
-        // add s3, c3
-        return Math.sqrt(s3 + c3) * SCALE_DOWN;
-    }
-
-    /** Special cases of non-finite input.
-     *
-     * @param v input vector
-     * @param start index to start examining the input vector from
-     * @return Euclidean norm special value
-     */
-    private static double euclideanNormSpecial(final double[] v,
-                                               final int start) {
-        for (int i = start; i < v.length; ++i) {
-            if (Double.isNaN(v[i])) {
-                return Double.NaN;
-            }
+            acc.add(v[i]);
         }
-        return Double.POSITIVE_INFINITY;
+        return acc.getAsDouble();
     }
 
     /** Computes the maximum norm.
@@ -560,11 +644,116 @@ public enum Norm {
     }
 
     /**
-     * @param a Array.
+     * Computes the norms of the rows in {@code [from, to)}.
+     *
+     * @param data Matrix values in row-major order.
+     * @param columns Number of columns.
+     * @param result Norm of each row.
+     * @param from First row (inclusive).
+     * @param to Last row (exclusive).
+     */
+    private void rowNorms(double[] data,
+                          int columns,
+                          double[] result,
+                          int from,
+                          int to) {
+        for (int i = from; i < to; i++) {
+            final int start = i * columns;
+            result[i] = accumulator().add(data, start, start + columns).getAsDouble();
+        }
+    }
+
+    /**
+     * Computes the norms of the columns in {@code [from, to)}. The matrix is
+     * traversed row by row with one accumulator for each column.
+     *
+     * @param data Matrix values in row-major order.
+     * @param rows Number of rows.
+     * @param columns Number of columns.
+     * @param result Norm of each column.
+     * @param from First column (inclusive).
+     * @param to Last column (exclusive).
+     */
+    private void columnNorms(double[] data,
+                             int rows,
+                             int columns,
+                             double[] result,
+                             int from,
+                             int to) {
+        final NormAccumulator[] acc = new NormAccumulator[to - from];
+        for (int j = 0; j < acc.length; j++) {
+            acc[j] = accumulator();
+        }
+        for (int i = 0; i < rows; i++) {
+            final int start = i * columns + from;
+            for (int j = 0; j < acc.length; j++) {
+                acc[j].add(data[start + j]);
+            }
+        }
+        for (int j = 0; j < acc.length; j++) {
+            result[from + j] = acc[j].getAsDouble();
+        }
+    }
+
+    /**
+     * Applies the batch function to the vectors {@code [0, count)}. The vectors are
+     * processed in parallel if the total number of values is large.
+     *
+     * @param count Number of vectors.
+     * @param length Number of values in each vector.
+     * @param batch Function to compute the norms of a range of vectors.
+     */
+    private static void forEach(int count,
+                                int length,
+                                Batch batch) {
+        if ((long) count * length < 2L * PARALLEL_THRESHOLD || count < 2) {
+            batch.apply(0, count);
+        } else {
+            // Number of vectors processed by a task to provide at least the minimum work
+            final int grain = Math.max(1, PARALLEL_THRESHOLD / length);
+            ForkJoinPool.commonPool().invoke(new BatchAction(0, count, grain, batch));
+        }
+    }
+
+    /**
+     * Checks the array is a matrix of the given dimensions.
+     *
+     * @param data Matrix values in row-major order.
+     * @param rows Number of rows.
+     * @param columns Number of columns.
+     * @throws IllegalArgumentException if the number of rows or columns is not strictly
+     * positive, or the array length is not {@code rows * columns}.
+     */
+    private static void checkMatrix(double[] data,
+                                    int rows,
+                                    int columns) {
+        if (rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("Invalid dimensions: " + dimensions(rows, columns));
+        }
+        if ((long) rows * columns != data.length) {
+            throw new IllegalArgumentException("Dimension mismatch: " +
+                                               data.length + " != " + dimensions(rows, columns));
+        }
+    }
+
+    /**
+     * Formats the dimensions of a matrix for an error message.
+     *
+     * @param rows Number of rows.
+     * @param columns Number of columns.
+     * @return the dimensions
+     */
+    private static String dimensions(int rows,
+                                     int columns) {
+        return rows + " x " + columns;
+    }
+
+    /**
+     * @param length Array length.
      * @throws IllegalArgumentException for zero-size array.
      */
-    private static void ensureNonEmpty(double[] a) {
-        if (a.length == 0) {
+    private static void ensureNonEmpty(int length) {
+        if (length == 0) {
             throw new IllegalArgumentException("Empty array");
         }
     }
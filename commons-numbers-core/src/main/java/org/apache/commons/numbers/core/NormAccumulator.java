@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Incremental computation of a {@link Norm}. Values can be added one at a time or
+ * in chunks and the partial results of accumulators for the same norm can be
+ * combined, for example to compute the norm of sharded data using several threads.
+ *
+ * <pre>
+ * NormAccumulator acc = Norm.L2.accumulator();
+ * for (double[] chunk : chunks) {
+ *     acc.add(chunk);
+ * }
+ * double norm = acc.getAsDouble();
+ * </pre>
+ *
+ * <p>The result is computed with the same overflow and underflow protection as
+ * {@link Norm#of(double[])}. For values added in the same order the result is
+ * identical to the array method. The norm of no values is zero.
+ *
+ * <p>Instances of this class are mutable and not safe for use by multiple
+ * threads.
+ */
+public abstract class NormAccumulator
+    implements DoubleSupplier,
+               DoubleConsumer {
+
+    /** Package-private construction for the supported norms. */
+    NormAccumulator() {}
+
+    /**
+     * Creates a new instance for the given norm.
+     *
+     * @param norm Norm.
+     * @return a new instance.
+     */
+    public static NormAccumulator of(Norm norm) {
+        switch (norm) {
+        case L1:
+        case MANHATTAN:
+            return new Manhattan();
+        case L2:
+        case EUCLIDEAN:
+            return new Euclidean();
+        case LINF:
+        case MAXIMUM:
+            return new Maximum();
+        default:
+            throw new IllegalArgumentException("Unsupported norm: " + norm);
+        }
+    }
+
+    /**
+     * Gets the norm computed by this instance. Aliases are reported using
+     * the primary constant, for example {@link Norm#L2} for {@link Norm#EUCLIDEAN}.
+     *
+     * @return the norm.
+     */
+    public abstract Norm getNorm();
+
+    /**
+     * Adds a single value.
+     *
+     * @param value Value.
+     * @return this instance.
+     */
+    public abstract NormAccumulator add(double value);
+
+    /**
+     * Adds the values of the array.
+     *
+     * @param values Values.
+     * @return this instance.
+     */
+    public NormAccumulator add(double[] values) {
+        return add(values, 0, values.length);
+    }
+
+    /**
+     * Adds the values in the range {@code [from, to)} of the array.
+     *
+     * @param values Values.
+     * @param from Start of the range (inclusive).
+     * @param to End of the range (exclusive).
+     * @return this instance.
+     * @throws IndexOutOfBoundsException if the range is outside the array.
+     */
+    public NormAccumulator add(double[] values, int from, int to) {
+        Sum.checkFromToIndex(from, to, values.length);
+        for (int i = from; i < to; i++) {
+            add(values[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the values {@code data[offset + i * stride]} for {@code i} in {@code [0, length)}.
+     * This can be used to add a column of a row-major matrix.
+     *
+     * @param data Values.
+     * @param offset Index of the first value.
+     * @param length Number of values.
+     * @param stride Distance between consecutive values (must be positive).
+     * @return this instance.
+     * @throws IllegalArgumentException if the length is negative or the stride is not
+     * positive.
+     * @throws IndexOutOfBoundsException if any value is outside the array.
+     */
+    public NormAccumulator add(double[] data, int offset, int length, int stride) {
+        checkStridedRange(data, offset, length, stride);
+        for (int i = 0, j = offset; i < length; i++, j += stride) {
+            add(data[j]);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the values of another accumulator for the same norm.
+     *
+     * @param other Accumulator.
+     * @return this instance.
+     * @throws IllegalArgumentException if the other accumulator computes a different norm.
+     */
+    public NormAccumulator add(NormAccumulator other) {
+        if (other.getNorm() != getNorm()) {
+            throw new IllegalArgumentException("Norm mismatch: " + getNorm() + " != " + other.getNorm());
+        }
+        combine(other);
+        return this;
+    }
+
+    /**
+     * Adds a single value.
+     * This is equivalent to {@link #add(double)}.
+     *
+     * @param value Value.
+     */
+    @Override
+    public void accept(double value) {
+        add(value);
+    }
+
+    /**
+     * Gets the norm of the values.
+     *
+     * @return the norm.
+     */
+    @Override
+    public abstract double getAsDouble();
+
+    /**
+     * Combines the values of another accumulator of the same type.
+     *
+     * @param other Accumulator.
+     */
+    abstract void combine(NormAccumulator other);
+
+    /**
+     * Checks the strided range {@code data[offset + i * stride]} for {@code i} in
+     * {@code [0, length)} is within the array.
+     *
+     * @param data Values.
+     * @param offset Index of the first value.
+     * @param length Number of values.
+     * @param stride Distance between consecutive values.
+     * @throws IllegalArgumentException if the length is negative or the stride is not
+     * positive.
+     * @throws IndexOutOfBoundsException if any value is outside the array.
+     */
+    static void checkStridedRange(double[] data, int offset, int length, int stride) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        if (stride <= 0) {
+            throw new IllegalArgumentException("Stride is not strictly positive: " + stride);
+        }
+        if (length != 0) {
+            final long last = offset + (long) (length - 1) * stride;
+            if (offset < 0 || last >= data.length) {
+                throw new IndexOutOfBoundsException("Range [" + offset + ", " + last +
+                                                    "] out of bounds for length " + data.length);
+            }
+        }
+    }
+
+    /**
+     * Manhattan norm: compensated sum of the absolute values.
+     */
+    static final class Manhattan extends NormAccumulator {
+        /** Sum of the absolute values. */
+        private final Sum sum = Sum.create();
+
+        @Override
+        public Norm getNorm() {
+            return Norm.L1;
+        }
+
+        @Override
+        public Manhattan add(double value) {
+            sum.add(Math.abs(value));
+            return this;
+        }
+
+        @Override
+        public double getAsDouble() {
+            return sum.getAsDouble();
+        }
+
+        @Override
+        void combine(NormAccumulator other) {
+            sum.add(((Manhattan) other).sum);
+        }
+    }
+
+    /**
+     * Euclidean norm. Squares are summed with compensation in three ranges (big,
+     * normal and small) which are scaled to avoid overflow and underflow. The ranges
+     * are combined when the result is computed.
+     */
+    static final class Euclidean extends NormAccumulator {
+        /** Sum of the big numbers (scaled down). */
+        private double s1;
+        /** Sum of the normal numbers. */
+        private double s2;
+        /** Sum of the small numbers (scaled up). */
+        private double s3;
+        /** Compensation of the big numbers. */
+        private double c1;
+        /** Compensation of the normal numbers. */
+        private double c2;
+        /** Compensation of the small numbers. */
+        private double c3;
+        /** Set to true if a NaN value was added. */
+        private boolean nan;
+        /** Set to true if an infinite value was added. */
+        private boolean inf;
+
+        @Override
+        public Norm getNorm() {
+            return Norm.L2;
+        }
+
+        @Override
+        public Euclidean add(double value) {
+            final double x = Math.abs(value);
+            if (!Double.isFinite(x)) {
+                // NaN takes precedence over infinity
+                if (x != x) {
+                    nan = true;
+                } else {
+                    inf = true;
+                }
+            } else if (x > Norm.LARGE_THRESH) {
+                // scale down
+                final double sx = x * Norm.SCALE_DOWN;
+                final double p = sx * sx;
+                final double s = s1 + p;
+                c1 += ExtendedPrecision.squareLowUnscaled(sx, p) + ExtendedPrecision.twoSumLow(s1, p, s);
+                s1 = s;
+            } else if (x < Norm.SMALL_THRESH) {
+                // scale up
+                final double sx = x * Norm.SCALE_UP;
+                final double p = sx * sx;
+                final double s = s3 + p;
+                c3 += ExtendedPrecision.squareLowUnscaled(sx, p) + ExtendedPrecision.twoSumLow(s3, p, s);
+                s3 = s;
+            } else {
+                // no scaling
+                final double p = x * x;
+                final double s = s2 + p;
+                c2 += ExtendedPrecision.squareLowUnscaled(x, p) + ExtendedPrecision.twoSumLow(s2, p, s);
+                s2 = s;
+            }
+            return this;
+        }
+
+        @Override
+        public double getAsDouble() {
+            if (nan) {
+                return Double.NaN;
+            }
+            if (inf) {
+                return Double.POSITIVE_INFINITY;
+            }
+            // The highest sum is the significant component. Add the next significant.
+            // Note that the "x * SCALE_DOWN * SCALE_DOWN" expressions must be executed
+            // in the order given. If the two scale factors are multiplied together first,
+            // they will underflow to zero.
+            if (s1 != 0) {
+                // add s1, s2, c1, c2
+                final double s2Adj = s2 * Norm.SCALE_DOWN * Norm.SCALE_DOWN;
+                final double sum = s1 + s2Adj;
+                final double comp = ExtendedPrecision.twoSumLow(s1, s2Adj, sum) +
+                    c1 + (c2 * Norm.SCALE_DOWN * Norm.SCALE_DOWN);
+                return Math.sqrt(sum + comp) * Norm.SCALE_UP;
+            } else if (s2 != 0) {
+                // add s2, s3, c2, c3
+                final double s3Adj = s3 * Norm.SCALE_DOWN * Norm.SCALE_DOWN;
+                final double sum = s2 + s3Adj;
+                final double comp = ExtendedPrecision.twoSumLow(s2, s3Adj, sum) +
+                    c2 + (c3 * Norm.SCALE_DOWN * Norm.SCALE_DOWN);
+                return Math.sqrt(sum + comp);
+            }
+            // add s3, c3
+            return Math.sqrt(s3 + c3) * Norm.SCALE_DOWN;
+        }
+
+        @Override
+        void combine(NormAccumulator other) {
+            final Euclidean o = (Euclidean) other;
+            // Pull all values first to support combining with itself
+            final double o1 = o.s1;
+            final double o2 = o.s2;
+            final double o3 = o.s3;
+            final double oc1 = o.c1;
+            final double oc2 = o.c2;
+            final double oc3 = o.c3;
+            double s = s1 + o1;
+            c1 += ExtendedPrecision.twoSumLow(s1, o1, s) + oc1;
+            s1 = s;
+            s = s2 + o2;
+            c2 += ExtendedPrecision.twoSumLow(s2, o2, s) + oc2;
+            s2 = s;
+            s = s3 + o3;
+            c3 += ExtendedPrecision.twoSumLow(s3, o3, s) + oc3;
+            s3 = s;
+            nan |= o.nan;
+            inf |= o.inf;
+        }
+    }
+
+    /**
+     * Maximum norm: maximum of the absolute values.
+     */
+    static final class Maximum extends NormAccumulator {
+        /** Maximum absolute value. */
+        private double max;
+
+        @Override
+        public Norm getNorm() {
+            return Norm.LINF;
+        }
+
+        @Override
+        public Maximum add(double value) {
+            max = Math.max(max, Math.abs(value));
+            return this;
+        }
+
+        @Override
+        public double getAsDouble() {
+            return max;
+        }
+
+        @Override
+        void combine(NormAccumulator other) {
+            max = Math.max(max, ((Maximum) other).max);
+        }
+    }
+}
@@ -16,8 +16,12 @@
  */
 package org.apache.commons.numbers.core;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleSupplier;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
 
 /**
  * Class providing accurate floating-point sums and linear combinations.
@@ -56,6 +60,10 @@ import java.util.function.DoubleSupplier;
  *
  * // same as above but using a convenience factory method
  * double result = Sum.ofProducts(a, b).getAsDouble();
+ *
+ * // compute the sum of a (parallel) stream of values
+ * double result = values.collect(Sum::create, Sum::add, Sum::add).getAsDouble();
+ * double result = list.stream().collect(Sum.toSum()).getAsDouble();
  * </pre>
  *
  * <p>It is worth noting that this class is designed to reduce floating point errors
@@ -76,6 +84,13 @@ import java.util.function.DoubleSupplier;
  * balance of precision and performance. Future releases may choose to use
  * different algorithms.
  *
+ * <p>The bulk methods {@link #ofArray(double[], int, int)} and
+ * {@link #ofArrayParallel(double[], int, int)} split the terms between several
+ * independent compensated sums which are combined at the end. This removes the
+ * serial dependency between consecutive additions. Each term still contributes its
+ * exact rounding error to the compensation so the error bound is that of <em>Sum2S</em>;
+ * the result may differ from sequential addition in the last bit.
+ *
  * <p>Results follow the IEEE 754 rules for addition: For example, if any
  * input value is {@link Double#NaN}, the result is {@link Double#NaN}.
  *
@@ -85,11 +100,54 @@ import java.util.function.DoubleSupplier;
 public final class Sum
     implements DoubleSupplier,
                DoubleConsumer {
+    /** Minimum number of terms summed by a parallel task. */
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
     /** Standard sum. */
     private double sum;
     /** Compensation value. */
     private double comp;
 
+    /**
+     * Sums a range of an array, splitting the range between tasks until the
+     * number of terms is below a minimum. The partial sums are combined in a fixed
+     * order so the result does not depend on the scheduling of the tasks.
+     */
+    private static final class SumTask extends RecursiveTask<Sum> {
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 20261015L;
+
+        /** Terms. */
+        private final double[] values;
+        /** Start of the range (inclusive). */
+        private final int from;
+        /** End of the range (exclusive). */
+        private final int to;
+
+        /**
+         * @param values Terms.
+         * @param from Start of the range (inclusive).
+         * @param to End of the range (exclusive).
+         */
+        SumTask(double[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Sum compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return create().addRange(values, from, to);
+            }
+            final int mid = (from + to) >>> 1;
+            final SumTask left = new SumTask(values, from, mid);
+            left.fork();
+            final Sum right = new SumTask(values, mid, to).compute();
+            return left.join().add(right);
+        }
+    }
+
     /**
      * Constructs a new instance with the given initial value.
      *
@@ -128,6 +186,57 @@ public final class Sum
         return this;
     }
 
+    /**
+     * Adds the terms in the range {@code [from, to)} of the array to this sum using
+     * four independent compensated sums.
+     *
+     * @param values Terms.
+     * @param from Start of the range (inclusive).
+     * @param to End of the range (exclusive).
+     * @return this instance.
+     */
+    private Sum addRange(final double[] values,
+                         final int from,
+                         final int to) {
+        double s0 = 0;
+        double s1 = 0;
+        double s2 = 0;
+        double s3 = 0;
+        double c0 = 0;
+        double c1 = 0;
+        double c2 = 0;
+        double c3 = 0;
+        int i = from;
+        for (final int end = to - 3; i < end; i += 4) {
+            final double t0 = values[i];
+            final double t1 = values[i + 1];
+            final double t2 = values[i + 2];
+            final double t3 = values[i + 3];
+            final double n0 = s0 + t0;
+            final double n1 = s1 + t1;
+            final double n2 = s2 + t2;
+            final double n3 = s3 + t3;
+            c0 += ExtendedPrecision.twoSumLow(s0, t0, n0);
+            c1 += ExtendedPrecision.twoSumLow(s1, t1, n1);
+            c2 += ExtendedPrecision.twoSumLow(s2, t2, n2);
+            c3 += ExtendedPrecision.twoSumLow(s3, t3, n3);
+            s0 = n0;
+            s1 = n1;
+            s2 = n2;
+            s3 = n3;
+        }
+        for (; i < to; i++) {
+            final double t = values[i];
+            final double n = s0 + t;
+            c0 += ExtendedPrecision.twoSumLow(s0, t, n);
+            s0 = n;
+        }
+        add(s0).add(s1).add(s2).add(s3);
+        comp += (c0 + c1) + (c2 + c3);
+
+        return this;
+    }
+
     /**
      * Adds the high-accuracy product \( a b \) to this sum.
      *
@@ -182,7 +291,12 @@ public final class Sum
         final double s = other.sum;
         final double c = other.comp;
 
-        return add(s).add(c);
+        // The compensation is combined separately so that a non-finite
+        // compensation does not replace the standard sum.
+        add(s);
+        comp += c;
+
+        return this;
     }
 
     /**
@@ -241,6 +355,52 @@ public final class Sum
         return create().add(values);
     }
 
+    /**
+     * Creates an instance containing the sum of the values in the range
+     * {@code [from, to)} of the array.
+     *
+     * <p>The terms are accumulated in several independent compensated sums which
+     * allows the additions to be executed concurrently by the processor. This is
+     * faster than {@link #of(double...)} for large arrays with the same error bound.
+     *
+     * @param values Values to add.
+     * @param from Start of the range (inclusive).
+     * @param to End of the range (exclusive).
+     * @return a new instance.
+     * @throws IndexOutOfBoundsException if the range is outside the array.
+     */
+    public static Sum ofArray(final double[] values,
+                              final int from,
+                              final int to) {
+        checkFromToIndex(from, to, values.length);
+        return create().addRange(values, from, to);
+    }
+
+    /**
+     * Creates an instance containing the sum of the values in the range
+     * {@code [from, to)} of the array. Large ranges are split between tasks run
+     * on the {@link ForkJoinPool#commonPool() common fork-join pool} and the
+     * partial sums are combined using {@link #add(Sum)}.
+     *
+     * <p>The ranges are split at fixed positions so the result is the same for
+     * repeated calls. The error bound is the same as {@link #ofArray(double[], int, int)}.
+     *
+     * @param values Values to add.
+     * @param from Start of the range (inclusive).
+     * @param to End of the range (exclusive).
+     * @return a new instance.
+     * @throws IndexOutOfBoundsException if the range is outside the array.
+     */
+    public static Sum ofArrayParallel(final double[] values,
+                                      final int from,
+                                      final int to) {
+        checkFromToIndex(from, to, values.length);
+        if (to - from < 2 * PARALLEL_THRESHOLD) {
+            return create().addRange(values, from, to);
+        }
+        return ForkJoinPool.commonPool().invoke(new SumTask(values, from, to));
+    }
+
     /**
      * Creates a new instance containing \( \sum_i a_i b_i \).
      *
@@ -252,4 +412,68 @@ public final class Sum
                                  final double[] b) {
         return create().addProducts(a, b);
     }
+
+    /**
+     * Returns a {@code Collector} that sums the input elements. Partial results
+     * of a parallel stream are combined using {@link #add(Sum)} which retains
+     * the compensation of each part.
+     *
+     * @return a collector producing the sum of the input elements.
+     */
+    public static Collector<Double, Sum, Sum> toSum() {
+        return Collector.of(Sum::create, Sum::add, Sum::add, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a {@code Collector} that sums a double-valued function applied to
+     * the input elements. This is an accurate alternative to
+     * {@link java.util.stream.Collectors#summingDouble(ToDoubleFunction)}.
+     *
+     * @param <T> Type of the input elements.
+     * @param mapper Function extracting the value to sum.
+     * @return a collector producing the sum of the extracted values.
+     * @see #toSum()
+     */
+    public static <T> Collector<T, Sum, Sum> toSum(final ToDoubleFunction<? super T> mapper) {
+        return Collector.of(Sum::create,
+            (sum, t) -> sum.add(mapper.applyAsDouble(t)),
+            Sum::add,
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a {@code Collector} that sums the high-accuracy products \( a b \)
+     * of two double-valued functions applied to the input elements. For example
+     * the dot product of paired values.
+     *
+     * @param <T> Type of the input elements.
+     * @param a Function extracting the first factor.
+     * @param b Function extracting the second factor.
+     * @return a collector producing the sum of the products.
+     * @see #addProduct(double, double)
+     */
+    public static <T> Collector<T, Sum, Sum> summingProducts(final ToDoubleFunction<? super T> a,
+                                                            final ToDoubleFunction<? super T> b) {
+        return Collector.of(Sum::create,
+            (sum, t) -> sum.addProduct(a.applyAsDouble(t), b.applyAsDouble(t)),
+            Sum::add,
+            Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Checks the range {@code [from, to)} is within {@code [0, length)}.
+     *
+     * @param from Start of the range (inclusive).
+     * @param to End of the range (exclusive).
+     * @param length Length of the array.
+     * @throws IndexOutOfBoundsException if the range is outside the array.
+     */
+    static void checkFromToIndex(final int from,
+                                 final int to,
+                                 final int length) {
+        if (from < 0 || from > to || to > length) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to +
+                                                ") out of bounds for length " + length);
+        }
+    }
 }
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.math.BigDecimal;
+import java.util.function.ToDoubleBiFunction;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DotProductTest {
+    /** Length of the generated dot products. */
+    private static final int LENGTH = 100;
+    /** Number of samples of the generated dot products. */
+    private static final int SAMPLES = 10;
+
+    @Test
+    void testDimensionMismatch() {
+        // act/assert
+        for (final DotProduct dot : DotProduct.values()) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> dot.of(new double[1], new double[2]));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DotProduct.ofK(new double[1], new double[2], 3));
+    }
+
+    @Test
+    void testOfK_invalidK() {
+        // act/assert
+        final double[] a = {1, 2};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DotProduct.ofK(a, a, 1));
+        Assertions.assertEquals(5, DotProduct.ofK(a, a, 2));
+    }
+
+    @Test
+    void testSmall() {
+        // act/assert
+        for (final DotProduct dot : DotProduct.values()) {
+            Assertions.assertEquals(0.0, dot.of(new double[0], new double[0]));
+            Assertions.assertEquals(6, dot.of(new double[] {2}, new double[] {3}));
+            Assertions.assertEquals(11, dot.of(new double[] {1, 2}, new double[] {3, 4}));
+            Assertions.assertEquals(0.0, dot.of(new double[] {0, -0.0}, new double[] {1, 1}));
+            Assertions.assertEquals(Double.MIN_VALUE, dot.of(new double[] {Double.MIN_VALUE, 0}, new double[] {1, 1}));
+        }
+    }
+
+    @Test
+    void testNonFinite() {
+        // arrange
+        final double inf = Double.POSITIVE_INFINITY;
+        final double max = Double.MAX_VALUE;
+
+        // act/assert
+        for (final DotProduct dot : DotProduct.values()) {
+            Assertions.assertEquals(inf, dot.of(new double[] {inf, 1, 2}, new double[] {1, 2, 3}));
+            Assertions.assertEquals(-inf, dot.of(new double[] {1, 2, 3}, new double[] {1, -inf, 3}));
+            Assertions.assertEquals(Double.NaN, dot.of(new double[] {inf, 1, inf}, new double[] {1, 2, -1}));
+            Assertions.assertEquals(Double.NaN, dot.of(new double[] {1, Double.NaN, 2}, new double[] {1, 2, 3}));
+            Assertions.assertEquals(inf, dot.of(new double[] {max, max, 1}, new double[] {2, 1, 1}));
+            Assertions.assertEquals(max, dot.of(new double[] {max, max, 1}, new double[] {1, -0.5, max / 2}));
+        }
+    }
+
+    @Test
+    void testDot2MatchesSum() {
+        // arrange
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[] a = new double[LENGTH];
+        final double[] b = new double[LENGTH];
+
+        // act/assert
+        for (int i = 0; i < SAMPLES; i++) {
+            genDot(1e25, rng, a, b);
+            Assertions.assertEquals(Sum.ofProducts(a, b).getAsDouble(), DotProduct.DOT2.of(a, b));
+            Assertions.assertEquals(DotProduct.DOT2.of(a, b), DotProduct.ofK(a, b, 2));
+            Assertions.assertEquals(DotProduct.DOT3.of(a, b), DotProduct.ofK(a, b, 3));
+            Assertions.assertEquals(DotProduct.DOT4.of(a, b), DotProduct.ofK(a, b, 4));
+        }
+    }
+
+    @Test
+    void testExact() {
+        // arrange
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[] a = new double[LENGTH];
+        final double[] b = new double[LENGTH];
+
+        // act/assert
+        for (final double c : new double[] {1e10, 1e50, 1e100, 1e200, 1e300}) {
+            for (int i = 0; i < SAMPLES; i++) {
+                final double expected = genDot(c, rng, a, b);
+                Assertions.assertEquals(expected, DotProduct.EXACT.of(a, b));
+            }
+        }
+
+        // Ties are rounded to even: 1 + 2^-53 + 2^-106 is above the tie
+        Assertions.assertEquals(Math.nextUp(1.0), DotProduct.EXACT.of(
+            new double[] {1, 0x1.0p-53, 0x1.0p-106}, new double[] {1, 1, 1}));
+        Assertions.assertEquals(1.0, DotProduct.EXACT.of(
+            new double[] {1, 0x1.0p-53, -0x1.0p-106}, new double[] {1, 1, 1}));
+        Assertions.assertEquals(1.0, DotProduct.EXACT.of(
+            new double[] {1, 0x1.0p-53, 0}, new double[] {1, 1, 1}));
+    }
+
+    @Test
+    void testConditionNumber() {
+        // A pass is a mean relative error of the dot product below 1e-3
+        assertConditionNumber(DotProduct.STANDARD::of, 1e5, 1e15);
+        assertConditionNumber(DotProduct.DOT2::of, 1e20, 1e30);
+        assertConditionNumber(DotProduct.DOT3::of, 1e35, 1e45);
+        assertConditionNumber(DotProduct.DOT4::of, 1e50, 1e65);
+        assertConditionNumber((a, b) -> DotProduct.ofK(a, b, 6), 1e80, 1e100);
+        assertConditionNumber(DotProduct.EXACT::of, 1e300, -1);
+    }
+
+    /**
+     * Assert the dot product function passes and fails at the specified condition numbers.
+     *
+     * @param fun Dot product function.
+     * @param passC Condition number to pass.
+     * @param failC Condition number to fail (ignored if negative).
+     */
+    private static void assertConditionNumber(ToDoubleBiFunction<double[], double[]> fun,
+                                              double passC, double failC) {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[] a = new double[LENGTH];
+        final double[] b = new double[LENGTH];
+        final double pass = meanRelativeError(fun, passC, rng, a, b);
+        Assertions.assertTrue(pass < 1e-3, () -> "Expected to pass at C=" + passC + ". Error = " + pass);
+        if (failC > 0) {
+            final double fail = meanRelativeError(fun, failC, rng, a, b);
+            Assertions.assertFalse(fail < 1e-3, () -> "Expected to fail at C=" + failC + ". Error = " + fail);
+        }
+    }
+
+    /**
+     * Compute the mean relative error of the dot product function for generated data.
+     * The relative error is clipped to 2.
+     *
+     * @param fun Dot product function.
+     * @param c Anticipated condition number.
+     * @param rng Source of randomness.
+     * @param a Factors (output).
+     * @param b Factors (output).
+     * @return the mean relative error
+     */
+    private static double meanRelativeError(ToDoubleBiFunction<double[], double[]> fun, double c,
+                                            UniformRandomProvider rng, double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            final double expected = genDot(c, rng, a, b);
+            final double observed = fun.applyAsDouble(a, b);
+            sum += Math.min(2, Math.abs(observed - expected) / Math.abs(expected));
+        }
+        return sum / SAMPLES;
+    }
+
+    /**
+     * Generates an ill conditioned dot product using the GenDot algorithm 6.1 of
+     * Ogita et al (2005). The first half of the products have random exponents up to
+     * half the exponent of the condition number; the second half are chosen so the
+     * partial sums approach a value in [-1, 1].
+     *
+     * @param c Anticipated condition number.
+     * @param rng Source of randomness.
+     * @param x Factors (output).
+     * @param y Factors (output).
+     * @return the exact dot product rounded to a double
+     */
+    private static double genDot(double c, UniformRandomProvider rng, double[] x, double[] y) {
+        final int n = x.length;
+        final int n2 = n / 2;
+        final double b2 = Math.log(c) / Math.log(2) / 2;
+        BigDecimal exact = BigDecimal.ZERO;
+        for (int i = 0; i < n2; i++) {
+            // Ensure the maximum exponent occurs
+            final int e = i == 0 ? (int) Math.round(b2) + 1 : (int) Math.round(rng.nextDouble() * b2);
+            x[i] = Math.scalb(rng.nextDouble() * 2 - 1, e);
+            y[i] = Math.scalb(rng.nextDouble() * 2 - 1, e);
+            exact = exact.add(new BigDecimal(x[i]).multiply(new BigDecimal(y[i])));
+        }
+        final int m = n - n2;
+        for (int i = n2; i < n; i++) {
+            // Exponents linearly decreasing from b/2 to 0
+            final int e = (int) Math.round(b2 * (m - (i - n2) - 1) / (m - 1));
+            x[i] = Math.scalb(rng.nextDouble() * 2 - 1, e);
+            y[i] = (Math.scalb(rng.nextDouble() * 2 - 1, e) - exact.doubleValue()) / x[i];
+            exact = exact.add(new BigDecimal(x[i]).multiply(new BigDecimal(y[i])));
+        }
+        // Shuffle
+        for (int i = n; i > 1; i--) {
+            final int j = rng.nextInt(i);
+            final double tx = x[i - 1];
+            x[i - 1] = x[j];
+            x[j] = tx;
+            final double ty = y[i - 1];
+            y[i - 1] = y[j];
+            y[j] = ty;
+        }
+        return exact.doubleValue();
+    }
+}
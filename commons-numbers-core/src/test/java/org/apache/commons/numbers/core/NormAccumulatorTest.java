@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.numbers.core;
+
+import java.util.Arrays;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class NormAccumulatorTest {
+
+    @Test
+    void testGetNorm() {
+        // act/assert
+        Assertions.assertEquals(Norm.L1, Norm.L1.accumulator().getNorm());
+        Assertions.assertEquals(Norm.L1, Norm.MANHATTAN.accumulator().getNorm());
+        Assertions.assertEquals(Norm.L2, Norm.L2.accumulator().getNorm());
+        Assertions.assertEquals(Norm.L2, Norm.EUCLIDEAN.accumulator().getNorm());
+        Assertions.assertEquals(Norm.LINF, Norm.LINF.accumulator().getNorm());
+        Assertions.assertEquals(Norm.LINF, Norm.MAXIMUM.accumulator().getNorm());
+        Assertions.assertEquals(Norm.L2, NormAccumulator.of(Norm.EUCLIDEAN).getNorm());
+    }
+
+    @Test
+    void testEmpty() {
+        // act/assert
+        for (final Norm norm : Norm.values()) {
+            Assertions.assertEquals(0.0, norm.accumulator().getAsDouble());
+            Assertions.assertEquals(0.0, norm.accumulator().add(new double[0]).getAsDouble());
+        }
+    }
+
+    @Test
+    void testSameAsArray() {
+        // arrange
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+
+        // act/assert
+        for (final Norm norm : Norm.values()) {
+            for (final int exp : new int[] {-1040, -600, -100, 0, 100, 600, 1000}) {
+                final double[] v = createValues(rng, 101, exp);
+                final double expected = norm.of(v);
+
+                final NormAccumulator acc = norm.accumulator();
+                for (final double x : v) {
+                    acc.add(x);
+                }
+                Assertions.assertEquals(expected, acc.getAsDouble());
+
+                final NormAccumulator consumer = norm.accumulator();
+                Arrays.stream(v).forEach(consumer);
+                Assertions.assertEquals(expected, consumer.getAsDouble());
+
+                // Chunks
+                Assertions.assertEquals(expected, norm.accumulator()
+                    .add(v, 0, 10).add(v, 10, 10).add(v, 10, 77).add(Arrays.copyOfRange(v, 77, v.length))
+                    .getAsDouble());
+            }
+        }
+    }
+
+    @Test
+    void testCombine() {
+        // arrange
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+
+        // act/assert
+        for (final Norm norm : Norm.values()) {
+            for (final int exp : new int[] {-1040, -600, 0, 600, 1000}) {
+                // Shards with a range of magnitudes
+                final double[] v1 = createValues(rng, 50, exp);
+                final double[] v2 = createValues(rng, 30, -exp / 2);
+                final double[] v3 = createValues(rng, 20, 0);
+                final double[] all = new double[v1.length + v2.length + v3.length];
+                System.arraycopy(v1, 0, all, 0, v1.length);
+                System.arraycopy(v2, 0, all, v1.length, v2.length);
+                System.arraycopy(v3, 0, all, v1.length + v2.length, v3.length);
+                final double expected = norm.of(all);
+
+                final NormAccumulator acc = norm.accumulator().add(v1);
+                acc.add(norm.accumulator().add(v2))
+                    .add(norm.accumulator().add(v3))
+                    .add(norm.accumulator());
+                Assertions.assertEquals(expected, acc.getAsDouble(), Math.ulp(expected));
+
+                // Combine with itself
+                final NormAccumulator self = norm.accumulator().add(v1);
+                final double[] twice = new double[2 * v1.length];
+                System.arraycopy(v1, 0, twice, 0, v1.length);
+                System.arraycopy(v1, 0, twice, v1.length, v1.length);
+                final double expected2 = norm.of(twice);
+                Assertions.assertEquals(expected2, self.add(self).getAsDouble(), Math.ulp(expected2));
+            }
+        }
+    }
+
+    @Test
+    void testCombineMismatch() {
+        // act/assert
+        final NormAccumulator acc = Norm.L2.accumulator();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> acc.add(Norm.L1.accumulator()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> acc.add(Norm.LINF.accumulator()));
+        acc.add(Norm.EUCLIDEAN.accumulator());
+    }
+
+    @Test
+    void testNonFinite() {
+        // arrange
+        final double inf = Double.POSITIVE_INFINITY;
+        final double nan = Double.NaN;
+
+        // act/assert
+        for (final Norm norm : Norm.values()) {
+            Assertions.assertEquals(inf, norm.accumulator().add(1).add(-inf).add(2).getAsDouble());
+            Assertions.assertEquals(nan, norm.accumulator().add(1).add(nan).add(2).getAsDouble());
+            Assertions.assertEquals(nan, norm.accumulator().add(inf).add(nan).getAsDouble());
+            Assertions.assertEquals(nan, norm.accumulator().add(nan).add(inf).getAsDouble());
+            Assertions.assertEquals(inf, norm.accumulator().add(1)
+                .add(norm.accumulator().add(inf)).getAsDouble());
+            Assertions.assertEquals(nan, norm.accumulator().add(inf)
+                .add(norm.accumulator().add(nan)).getAsDouble());
+            Assertions.assertEquals(norm.of(new double[] {3, -inf, nan}),
+                norm.accumulator().add(new double[] {3, -inf, nan}).getAsDouble());
+        }
+    }
+
+    @Test
+    void testInvalidRange() {
+        // act/assert
+        final double[] v = new double[3];
+        final NormAccumulator acc = Norm.L2.accumulator();
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> acc.add(v, -1, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> acc.add(v, 2, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> acc.add(v, 0, 4));
+    }
+
+    /**
+     * Create random values with exponents in the range {@code [exp - 30, exp + 30]},
+     * clipped to the exponent range of a double.
+     *
+     * @param rng Source of randomness.
+     * @param size Number of values.
+     * @param exp Central exponent.
+     * @return the values
+     */
+    private static double[] createValues(UniformRandomProvider rng, int size, int exp) {
+        final double[] v = new double[size];
+        for (int i = 0; i < size; i++) {
+            final int e = Math.max(-1074, Math.min(1022, exp + rng.nextInt(61) - 30));
+            v[i] = Math.scalb(rng.nextDouble() * 2 - 1, e);
+        }
+        return v;
+    }
+}
@@ -446,6 +446,81 @@ class NormTest {
                 Norm.LINF.of(new double[] {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY}));
     }
 
+    @Test
+    void testStrided() {
+        // arrange
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[] data = new double[200];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = Math.scalb(rng.nextDouble() * 2 - 1, rng.nextInt(1200) - 600);
+        }
+        data[150] = Double.NaN;
+
+        // act/assert
+        for (final Norm norm : Norm.values()) {
+            for (final int[] p : new int[][] {{0, 200, 1}, {3, 1, 7}, {5, 17, 3}, {2, 20, 10}, {0, 20, 10}}) {
+                final int offset = p[0];
+                final int length = p[1];
+                final int stride = p[2];
+                final double[] v = new double[length];
+                for (int i = 0; i < length; i++) {
+                    v[i] = data[offset + i * stride];
+                }
+                Assertions.assertEquals(norm.of(v), norm.of(data, offset, length, stride));
+            }
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.of(data, 0, 0, 1));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.of(data, 0, -1, 1));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.of(data, 0, 2, 0));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> norm.of(data, -1, 2, 1));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> norm.of(data, 0, 21, 10));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> norm.of(data, 1, 2, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void testRowsAndColumns() {
+        // arrange
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+
+        // act/assert
+        // The larger matrices are processed by several parallel tasks
+        for (final int[] dim : new int[][] {{1, 1}, {3, 5}, {1, 100}, {100, 1}, {300, 211}, {17, 5000}}) {
+            final int rows = dim[0];
+            final int columns = dim[1];
+            final double[] data = new double[rows * columns];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = Math.scalb(rng.nextDouble() * 2 - 1, rng.nextInt(1200) - 600);
+            }
+            for (final Norm norm : Norm.values()) {
+                final double[] rowNorms = norm.ofRows(data, rows, columns);
+                final double[] columnNorms = norm.ofColumns(data, rows, columns);
+                for (int i = 0; i < rows; i++) {
+                    Assertions.assertEquals(norm.of(Arrays.copyOfRange(data, i * columns, (i + 1) * columns)),
+                        rowNorms[i]);
+                }
+                for (int j = 0; j < columns; j++) {
+                    Assertions.assertEquals(norm.of(data, j, rows, columns), columnNorms[j]);
+                }
+                Assertions.assertArrayEquals(rowNorms, norm.ofRowsParallel(data, rows, columns));
+                Assertions.assertArrayEquals(columnNorms, norm.ofColumnsParallel(data, rows, columns));
+            }
+        }
+    }
+
+    @Test
+    void testRowsAndColumns_invalidDimensions() {
+        // act/assert
+        final double[] data = new double[6];
+        for (final Norm norm : Norm.values()) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.ofRows(data, 0, 6));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.ofRows(data, 6, 0));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.ofRows(data, 2, 4));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.ofRowsParallel(data, 4, 2));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.ofColumns(data, -2, -3));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> norm.ofColumnsParallel(data, 3, 3));
+        }
+    }
+
     /** Check a number of random vectors of length {@code len} with various exponent
      * ranges.
      * @param len vector array length
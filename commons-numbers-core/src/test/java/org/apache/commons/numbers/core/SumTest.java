@@ -19,7 +19,13 @@ package org.apache.commons.numbers.core;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.BaseStream;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -100,6 +106,101 @@ class SumTest {
 
         final Sum s = Sum.of(a, b);
         Assertions.assertEquals(exactSum(a, b, a, b), s.add(s).getAsDouble());
+
+        // A non-finite compensation does not change the standard sum
+        Assertions.assertEquals(Double.POSITIVE_INFINITY,
+                Sum.create().add(Sum.of(Double.POSITIVE_INFINITY, a)).getAsDouble());
+    }
+
+    @Test
+    void testOfArray() {
+        // arrange
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        // Use enough values to split the parallel sum into several tasks
+        final double[] values = new double[100003];
+        for (int i = 0; i < values.length; i++) {
+            // Values with a wide range of magnitudes and cancellation
+            values[i] = Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(60) - 30);
+        }
+
+        // act/assert
+        for (final int[] range : new int[][] {{0, values.length}, {0, 0}, {5, 6}, {3, 10}, {7, 70001}}) {
+            final int from = range[0];
+            final int to = range[1];
+            final double[] terms = Arrays.copyOfRange(values, from, to);
+            final double exact = exactSum(terms);
+            final double sum = Sum.ofArray(values, from, to).getAsDouble();
+            Assertions.assertEquals(exact, sum, Math.ulp(exact));
+            Assertions.assertEquals(exact, Sum.ofArrayParallel(values, from, to).getAsDouble(), Math.ulp(exact));
+            Assertions.assertEquals(Sum.of(terms).getAsDouble(), sum, Math.ulp(exact));
+        }
+
+        // The parallel result does not depend on the task scheduling
+        final double sum = Sum.ofArrayParallel(values, 0, values.length).getAsDouble();
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(sum, Sum.ofArrayParallel(values, 0, values.length).getAsDouble());
+        }
+    }
+
+    @Test
+    void testOfArray_nonFinite() {
+        // arrange
+        final double[] values = new double[100000];
+        Arrays.fill(values, 1);
+        values[12345] = Double.POSITIVE_INFINITY;
+
+        // act/assert
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, Sum.ofArray(values, 0, values.length).getAsDouble());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, Sum.ofArrayParallel(values, 0, values.length).getAsDouble());
+
+        values[98765] = Double.NEGATIVE_INFINITY;
+        Assertions.assertEquals(Double.NaN, Sum.ofArray(values, 0, values.length).getAsDouble());
+        Assertions.assertEquals(Double.NaN, Sum.ofArrayParallel(values, 0, values.length).getAsDouble());
+
+        Arrays.fill(values, Double.MAX_VALUE);
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, Sum.ofArray(values, 0, values.length).getAsDouble());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, Sum.ofArrayParallel(values, 0, values.length).getAsDouble());
+    }
+
+    @Test
+    void testOfArray_invalidRange() {
+        // act/assert
+        final double[] values = new double[3];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Sum.ofArray(values, -1, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Sum.ofArray(values, 2, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Sum.ofArray(values, 0, 4));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Sum.ofArrayParallel(values, -1, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Sum.ofArrayParallel(values, 2, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Sum.ofArrayParallel(values, 0, 4));
+    }
+
+    @Test
+    void testCollectors() {
+        // arrange
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.SPLIT_MIX_64);
+        final double[] a = new double[10000];
+        final double[] b = new double[a.length];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(60) - 30);
+            b[i] = Math.scalb(rng.nextDouble() - 0.5, rng.nextInt(60) - 30);
+        }
+        final double sum = exactSum(a);
+        final double dot = exactLinearCombination(IntStream.range(0, 2 * a.length)
+            .mapToDouble(i -> (i & 1) == 0 ? a[i >> 1] : b[i >> 1]).toArray());
+        final List<Double> list = Arrays.stream(a).boxed().collect(Collectors.toList());
+
+        // act/assert
+        for (final boolean parallel : new boolean[] {false, true}) {
+            Assertions.assertEquals(sum, withParallel(Arrays.stream(a), parallel)
+                .collect(Sum::create, Sum::add, Sum::add).getAsDouble(), Math.ulp(sum));
+            Assertions.assertEquals(sum, withParallel(list.stream(), parallel)
+                .collect(Sum.toSum()).getAsDouble(), Math.ulp(sum));
+            Assertions.assertEquals(sum, withParallel(IntStream.range(0, a.length).boxed(), parallel)
+                .collect(Sum.toSum(i -> a[i])).getAsDouble(), Math.ulp(sum));
+            Assertions.assertEquals(dot, withParallel(IntStream.range(0, a.length).boxed(), parallel)
+                .collect(Sum.summingProducts(i -> a[i], i -> b[i])).getAsDouble(), Math.ulp(dot));
+        }
+        Assertions.assertEquals(0.0, Arrays.<Double>asList().stream().collect(Sum.toSum()).getAsDouble());
     }
 
     @Test
@@ -448,6 +549,10 @@ class SumTest {
                     .addProduct(d, 4).getAsDouble());
     }
 
+    private static <S extends BaseStream<?, S>> S withParallel(final S stream, final boolean parallel) {
+        return parallel ? stream.parallel() : stream;
+    }
+
     private static void assertSumExact(final double... values) {
         final double exact = exactSum(values);
         assertSum(exact, values);
@@ -490,6 +595,10 @@ class SumTest {
 
         // check array factory method
         Assertions.assertEquals(expected, Sum.of(values).getAsDouble());
+
+        // check bulk factory methods
+        Assertions.assertEquals(expected, Sum.ofArray(values, 0, len).getAsDouble());
+        Assertions.assertEquals(expected, Sum.ofArrayParallel(values, 0, len).getAsDouble());
     }
 
     private static void assertSumOfProducts(final double expected, final double... args) {
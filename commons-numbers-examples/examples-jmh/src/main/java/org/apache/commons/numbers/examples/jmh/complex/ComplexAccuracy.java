@@ -0,0 +1,485 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.examples.jmh.complex;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+
+/**
+ * Evaluates the accuracy and speed of the functions in the {@link Complex} class.
+ *
+ * <p>Each function is evaluated on the data used by the {@link ComplexPerformance} benchmark:
+ * {@code cis}, {@code vector}, {@code log-uniform}, {@code uniform} and {@code edge}.
+ * The result is compared to a reference computed using {@link BigDecimal}. The error of
+ * each part of the result is measured in units of least precision (ULP) of the reference
+ * value; the error of a sample is the maximum error of the two parts. The speed is measured
+ * as the minimum time per operation over repeated evaluation of all the samples. This is an
+ * approximation; the {@link ComplexPerformance} benchmark should be used for precise timings.
+ *
+ * <p>Samples where the reference cannot be computed, e.g. non-finite input, are not
+ * evaluated. A sample fails if the reference and the result are not both finite and equal,
+ * or the error is infinite.
+ *
+ * <p>The results are output in JSON format:
+ *
+ * <pre>
+ * {
+ *   "size": 1000,
+ *   "results": [
+ *     {"function": "exp", "type": "cis", "samples": 1000, "evaluated": 1000, "failures": 0,
+ *      "maxUlp": 1.25, "meanUlp": 0.31, "nsPerOp": 45.2},
+ *     ...
+ *   ]
+ * }
+ * </pre>
+ *
+ * <p>Usage: {@code ComplexAccuracy <output file> [size]}. The default size is 1000.
+ */
+public final class ComplexAccuracy {
+    /** The types of data. */
+    static final List<String> TYPES = Collections.unmodifiableList(
+        Arrays.asList("cis", "vector", "log-uniform", "uniform", "edge"));
+    /** The default number of samples. */
+    private static final int DEFAULT_SIZE = 1000;
+    /** The minimum number of operations to time. */
+    private static final int MIN_TIMED_OPERATIONS = 1_000_000;
+    /** The minimum number of timing rounds. */
+    private static final int MIN_ROUNDS = 5;
+    /** The functions and their reference implementations. */
+    private static final Map<String, Function> FUNCTIONS = new LinkedHashMap<>();
+
+    /** Sink for the timing results to prevent dead code elimination. */
+    private static volatile double sink;
+
+    static {
+        add("exp", Complex::exp, ComplexReference::exp);
+        add("log", Complex::log, ComplexReference::log);
+        add("log10", Complex::log10, ComplexReference::log10);
+        add("sqrt", Complex::sqrt, ComplexReference::sqrt);
+        add("sin", Complex::sin, ComplexReference::sin);
+        add("cos", Complex::cos, ComplexReference::cos);
+        add("tan", Complex::tan, ComplexReference::tan);
+        add("asin", Complex::asin, ComplexReference::asin);
+        add("acos", Complex::acos, ComplexReference::acos);
+        add("atan", Complex::atan, ComplexReference::atan);
+        add("sinh", Complex::sinh, ComplexReference::sinh);
+        add("cosh", Complex::cosh, ComplexReference::cosh);
+        add("tanh", Complex::tanh, ComplexReference::tanh);
+        add("asinh", Complex::asinh, ComplexReference::asinh);
+        add("acosh", Complex::acosh, ComplexReference::acosh);
+        add("atanh", Complex::atanh, ComplexReference::atanh);
+        add("abs", z -> Complex.ofCartesian(z.abs(), 0),
+            (x, y) -> {
+                final BigDecimal r = ComplexReference.abs(x, y);
+                return r == null ? null : new BigDecimal[] {r, BigDecimal.ZERO};
+            });
+    }
+
+    /**
+     * A reference implementation of a complex function.
+     */
+    private interface Reference {
+        /**
+         * Computes the function.
+         *
+         * @param x Real part.
+         * @param y Imaginary part.
+         * @return the result {re, im}, or null if the reference is not available
+         */
+        BigDecimal[] apply(double x, double y);
+    }
+
+    /**
+     * A complex function and its reference implementation.
+     */
+    private static final class Function {
+        /** The function. */
+        private final UnaryOperator<Complex> function;
+        /** The reference. */
+        private final Reference reference;
+
+        /**
+         * @param function Function.
+         * @param reference Reference.
+         */
+        Function(UnaryOperator<Complex> function, Reference reference) {
+            this.function = function;
+            this.reference = reference;
+        }
+    }
+
+    /**
+     * Accumulates the ULP errors of the samples of a function.
+     */
+    private static final class ErrorAccumulator {
+        /** The number of evaluated samples. */
+        private int evaluated;
+        /** The number of failed samples. */
+        private int failures;
+        /** The maximum ULP error. */
+        private double max;
+        /** The sum of the ULP errors. */
+        private double sum;
+
+        /**
+         * Adds the error of an evaluated sample. A sample with an error that is not
+         * finite is a failure.
+         *
+         * @param error ULP error.
+         */
+        void add(double error) {
+            evaluated++;
+            // NaN or infinite
+            if (error <= Double.MAX_VALUE) {
+                max = Math.max(max, error);
+                sum += error;
+            } else {
+                failures++;
+            }
+        }
+
+        /**
+         * Gets the maximum ULP error. This is NaN if no samples were measured.
+         *
+         * @return the maximum ULP error
+         */
+        double getMax() {
+            return evaluated == failures ? Double.NaN : max;
+        }
+
+        /**
+         * Gets the mean ULP error. This is NaN if no samples were measured.
+         *
+         * @return the mean ULP error
+         */
+        double getMean() {
+            final int measured = evaluated - failures;
+            return measured == 0 ? Double.NaN : sum / measured;
+        }
+    }
+
+    /**
+     * The accuracy and speed of a function evaluated on a type of data.
+     */
+    public static final class Result {
+        /** The function name. */
+        private final String function;
+        /** The data type. */
+        private final String type;
+        /** The number of samples. */
+        private final int samples;
+        /** The number of evaluated samples. */
+        private final int evaluated;
+        /** The number of failed samples. */
+        private final int failures;
+        /** The maximum ULP error. */
+        private final double maxUlp;
+        /** The mean ULP error. */
+        private final double meanUlp;
+        /** The time per operation in nanoseconds. */
+        private final double nsPerOp;
+
+        /**
+         * @param function Function name.
+         * @param type Data type.
+         * @param samples Number of samples.
+         * @param errors Errors of the evaluated samples.
+         * @param nsPerOp Time per operation in nanoseconds.
+         */
+        Result(String function, String type, int samples, ErrorAccumulator errors, double nsPerOp) {
+            this.function = function;
+            this.type = type;
+            this.samples = samples;
+            this.evaluated = errors.evaluated;
+            this.failures = errors.failures;
+            this.maxUlp = errors.getMax();
+            this.meanUlp = errors.getMean();
+            this.nsPerOp = nsPerOp;
+        }
+
+        /**
+         * Gets the function name.
+         *
+         * @return the function
+         */
+        public String getFunction() {
+            return function;
+        }
+
+        /**
+         * Gets the data type.
+         *
+         * @return the type
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * Gets the number of samples.
+         *
+         * @return the samples
+         */
+        public int getSamples() {
+            return samples;
+        }
+
+        /**
+         * Gets the number of samples where the reference was computed.
+         *
+         * @return the evaluated samples
+         */
+        public int getEvaluated() {
+            return evaluated;
+        }
+
+        /**
+         * Gets the number of evaluated samples where the result did not match
+         * a non-finite reference, or the error was infinite.
+         *
+         * @return the failures
+         */
+        public int getFailures() {
+            return failures;
+        }
+
+        /**
+         * Gets the maximum ULP error. This is NaN if no samples were measured.
+         *
+         * @return the maximum ULP error
+         */
+        public double getMaxUlp() {
+            return maxUlp;
+        }
+
+        /**
+         * Gets the mean ULP error. This is NaN if no samples were measured.
+         *
+         * @return the mean ULP error
+         */
+        public double getMeanUlp() {
+            return meanUlp;
+        }
+
+        /**
+         * Gets the time per operation in nanoseconds.
+         *
+         * @return the time
+         */
+        public double getNsPerOp() {
+            return nsPerOp;
+        }
+
+        /**
+         * Append the result as a JSON object.
+         *
+         * @param sb Output.
+         */
+        void appendJson(StringBuilder sb) {
+            sb.append("{\"function\": \"").append(function)
+              .append("\", \"type\": \"").append(type)
+              .append("\", \"samples\": ").append(samples)
+              .append(", \"evaluated\": ").append(evaluated)
+              .append(", \"failures\": ").append(failures)
+              .append(", \"maxUlp\": ").append(jsonNumber(maxUlp))
+              .append(", \"meanUlp\": ").append(jsonNumber(meanUlp))
+              .append(", \"nsPerOp\": ").append(jsonNumber(nsPerOp))
+              .append('}');
+        }
+    }
+
+    /** No instances. */
+    private ComplexAccuracy() {}
+
+    /**
+     * Adds the function.
+     *
+     * @param name Name.
+     * @param function Function.
+     * @param reference Reference.
+     */
+    private static void add(String name, UnaryOperator<Complex> function,
+                            Reference reference) {
+        FUNCTIONS.put(name, new Function(function, reference));
+    }
+
+    /**
+     * Gets the names of the evaluated functions.
+     *
+     * @return the names
+     */
+    static List<String> getFunctions() {
+        return new ArrayList<>(FUNCTIONS.keySet());
+    }
+
+    /**
+     * Evaluates all the functions on all the data types.
+     *
+     * @param size Number of samples for each data type.
+     * @return the results
+     */
+    public static List<Result> evaluate(int size) {
+        final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_128_PP);
+        final List<Result> results = new ArrayList<>();
+        for (final String type : TYPES) {
+            final Complex[] numbers = ComplexPerformance.createNumbers(type, size, rng);
+            for (final String name : FUNCTIONS.keySet()) {
+                results.add(evaluate(name, type, numbers));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Evaluates the function on the numbers.
+     *
+     * @param name Function name.
+     * @param type Data type.
+     * @param numbers Numbers.
+     * @return the result
+     */
+    static Result evaluate(String name, String type, Complex[] numbers) {
+        final Function f = FUNCTIONS.get(name);
+        if (f == null) {
+            throw new IllegalArgumentException("Unknown function: " + name);
+        }
+        final ErrorAccumulator errors = new ErrorAccumulator();
+        for (final Complex z : numbers) {
+            final BigDecimal[] expected = f.reference.apply(z.getReal(), z.getImaginary());
+            if (expected == null) {
+                continue;
+            }
+            final Complex actual = f.function.apply(z);
+            // Math.max propagates NaN
+            errors.add(Math.max(ulpError(actual.getReal(), expected[0]),
+                                ulpError(actual.getImaginary(), expected[1])));
+        }
+        return new Result(name, type, numbers.length, errors, time(f.function, numbers));
+    }
+
+    /**
+     * Compute the error of the value in units of least precision of the expected value.
+     *
+     * @param actual Actual value.
+     * @param expected Expected value.
+     * @return the error, or NaN if either value is not finite and they are not equal
+     */
+    static double ulpError(double actual, BigDecimal expected) {
+        final double e = expected.doubleValue();
+        if (!Double.isFinite(e) || !Double.isFinite(actual)) {
+            return e == actual ? 0 : Double.NaN;
+        }
+        return new BigDecimal(actual).subtract(expected).abs().doubleValue() / Math.ulp(e);
+    }
+
+    /**
+     * Time the function. Returns the minimum time per operation over a number of rounds.
+     *
+     * @param function Function.
+     * @param numbers Numbers.
+     * @return the time per operation in nanoseconds
+     */
+    private static double time(UnaryOperator<Complex> function, Complex[] numbers) {
+        if (numbers.length == 0) {
+            return Double.NaN;
+        }
+        final int rounds = Math.max(MIN_ROUNDS, MIN_TIMED_OPERATIONS / numbers.length);
+        long min = Long.MAX_VALUE;
+        double s = 0;
+        for (int i = 0; i < rounds; i++) {
+            final long start = System.nanoTime();
+            for (final Complex z : numbers) {
+                s += function.apply(z).getReal();
+            }
+            min = Math.min(min, System.nanoTime() - start);
+        }
+        sink = s;
+        return (double) min / numbers.length;
+    }
+
+    /**
+     * Convert the results to JSON.
+     *
+     * @param size Number of samples for each data type.
+     * @param results Results.
+     * @return the JSON
+     */
+    public static String toJson(int size, List<Result> results) {
+        final StringBuilder sb = new StringBuilder(results.size() * 180);
+        sb.append("{\n  \"size\": ").append(size).append(",\n  \"results\": [");
+        for (int i = 0; i < results.size(); i++) {
+            sb.append(i == 0 ? "\n    " : ",\n    ");
+            results.get(i).appendJson(sb);
+        }
+        sb.append("\n  ]\n}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Format the number for JSON. Non-finite values are written as {@code null}.
+     *
+     * @param x Value.
+     * @return the JSON number
+     */
+    private static String jsonNumber(double x) {
+        return Double.isFinite(x) ? Double.toString(x) : "null";
+    }
+
+    /**
+     * Evaluate the functions and write the results in JSON format.
+     *
+     * @param size Number of samples for each data type.
+     * @param out Output.
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(int size, Writer out) throws IOException {
+        out.write(toJson(size, evaluate(size)));
+    }
+
+    /**
+     * Evaluate the functions and write the results in JSON format to the output file.
+     *
+     * @param args Arguments: output file [size].
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the output file is not specified
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: ComplexAccuracy <output file> [size]");
+        }
+        final int size = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SIZE;
+        try (Writer out = Files.newBufferedWriter(Paths.get(args[0]), StandardCharsets.UTF_8)) {
+            write(size, out);
+        }
+    }
+}
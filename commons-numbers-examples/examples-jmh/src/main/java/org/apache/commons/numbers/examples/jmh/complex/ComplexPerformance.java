@@ -18,6 +18,7 @@
 package org.apache.commons.numbers.examples.jmh.complex;
 
 import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.ComplexFunctions;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.distribution.ZigguratNormalizedGaussianSampler;
 import org.apache.commons.rng.simple.RandomSource;
@@ -122,27 +123,7 @@ public class ComplexPerformance {
          * @return the random complex number
          */
         Complex[] createNumbers(UniformRandomProvider rng) {
-            Supplier<Complex> generator;
-            if ("cis".equals(type)) {
-                generator = () -> Complex.ofCis(rng.nextDouble() * 2 * Math.PI);
-            } else if ("vector".equals(type)) {
-                // An unnormalised random vector is created using a Gaussian sample
-                // for each dimension. Normalisation would create a cis number.
-                // This is effectively a polar complex number with random modulus
-                // in [-pi, pi] and random magnitude in a range defined by a Chi-squared
-                // distribution with 2 degrees of freedom.
-                final ZigguratNormalizedGaussianSampler s = ZigguratNormalizedGaussianSampler.of(rng);
-                generator = () -> Complex.ofCartesian(s.sample(), s.sample());
-            } else if ("log-uniform".equals(type)) {
-                generator = () -> Complex.ofCartesian(createLogUniformNumber(rng), createLogUniformNumber(rng));
-            } else if ("uniform".equals(type)) {
-                generator = () -> Complex.ofCartesian(createUniformNumber(rng), createUniformNumber(rng));
-            } else if ("edge".equals(type)) {
-                generator = () -> Complex.ofCartesian(createEdgeNumber(rng), createEdgeNumber(rng));
-            } else {
-                throw new IllegalStateException("Unknown number type: " + type);
-            }
-            return Stream.generate(generator).limit(getSize()).toArray(Complex[]::new);
+            return ComplexPerformance.createNumbers(type, getSize(), rng);
         }
     }
 
@@ -206,6 +187,27 @@ public class ComplexPerformance {
         }
     }
 
+    /**
+     * Contains an array of complex numbers and an integer power.
+     */
+    @State(Scope.Benchmark)
+    public static class ComplexNumbersAndPower extends ComplexNumbers {
+        /**
+         * The integer power.
+         */
+        @Param({"2", "3", "8", "25", "-2"})
+        private int power;
+
+        /**
+         * Gets the power.
+         *
+         * @return the power
+         */
+        public int getPower() {
+            return power;
+        }
+    }
+
     /**
      * Define a function between a complex and real number.
      */
@@ -220,6 +222,39 @@ public class ComplexPerformance {
         Complex apply(Complex z, double x);
     }
 
+    /**
+     * Creates the numbers.
+     *
+     * @param type Type of the data: {@code cis}, {@code vector}, {@code log-uniform},
+     * {@code uniform} or {@code edge}.
+     * @param size Number of values.
+     * @param rng Random number generator.
+     * @return the random complex numbers
+     */
+    static Complex[] createNumbers(String type, int size, UniformRandomProvider rng) {
+        Supplier<Complex> generator;
+        if ("cis".equals(type)) {
+            generator = () -> Complex.ofCis(rng.nextDouble() * 2 * Math.PI);
+        } else if ("vector".equals(type)) {
+            // An unnormalised random vector is created using a Gaussian sample
+            // for each dimension. Normalisation would create a cis number.
+            // This is effectively a polar complex number with random modulus
+            // in [-pi, pi] and random magnitude in a range defined by a Chi-squared
+            // distribution with 2 degrees of freedom.
+            final ZigguratNormalizedGaussianSampler s = ZigguratNormalizedGaussianSampler.of(rng);
+            generator = () -> Complex.ofCartesian(s.sample(), s.sample());
+        } else if ("log-uniform".equals(type)) {
+            generator = () -> Complex.ofCartesian(createLogUniformNumber(rng), createLogUniformNumber(rng));
+        } else if ("uniform".equals(type)) {
+            generator = () -> Complex.ofCartesian(createUniformNumber(rng), createUniformNumber(rng));
+        } else if ("edge".equals(type)) {
+            generator = () -> Complex.ofCartesian(createEdgeNumber(rng), createEdgeNumber(rng));
+        } else {
+            throw new IllegalStateException("Unknown number type: " + type);
+        }
+        return Stream.generate(generator).limit(size).toArray(Complex[]::new);
+    }
+
     /**
      * Creates a random double number with a random sign and mantissa and a large range for
      * the exponent. The numbers will not be uniform over the range. This samples randomly
@@ -607,6 +642,23 @@ public class ComplexPerformance {
         apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::divide, bh);
     }
 
+    // Fast variants for finite inputs. These are compared to the standard methods
+    // on the same data sets; results are only equal for the 'uniform',
+    // 'log-uniform', 'cis' and 'vector' data. The 'edge' data contains
+    // non-finite values outside the contract of the fast methods.
+
+    @Benchmark
+    public void multiplyFinite(TwoComplexNumbers numbers, Blackhole bh) {
+        apply(numbers.getNumbers(), numbers.getNumbers2(), (z1, z2) ->
+            ComplexFunctions.multiplyFinite(z1.real(), z1.imag(), z2.real(), z2.imag(), Complex::ofCartesian), bh);
+    }
+
+    @Benchmark
+    public void divideFinite(TwoComplexNumbers numbers, Blackhole bh) {
+        apply(numbers.getNumbers(), numbers.getNumbers2(), (z1, z2) ->
+            ComplexFunctions.divideFinite(z1.real(), z1.imag(), z2.real(), z2.imag(), Complex::ofCartesian), bh);
+    }
+
     @Benchmark
     public void add(TwoComplexNumbers numbers, Blackhole bh) {
         apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::add, bh);
@@ -633,6 +685,21 @@ public class ComplexPerformance {
         apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::pow, bh);
     }
 
+    // Integer powers using binary exponentiation compared to the exponential route
+    // e^(n ln(z)) used for a real exponent.
+
+    @Benchmark
+    public void powInt(ComplexNumbersAndPower numbers, Blackhole bh) {
+        final int n = numbers.getPower();
+        apply(numbers.getNumbers(), (UnaryOperator<Complex>) z -> z.pow(n), bh);
+    }
+
+    @Benchmark
+    public void powIntAsReal(ComplexNumbersAndPower numbers, Blackhole bh) {
+        final double x = numbers.getPower();
+        apply(numbers.getNumbers(), (UnaryOperator<Complex>) z -> z.pow(x), bh);
+    }
+
     @Benchmark
     public void multiplyReal(ComplexAndRealNumbers numbers, Blackhole bh) {
         apply(numbers.getNumbers(), numbers.getNumbers2(), Complex::multiply, bh);
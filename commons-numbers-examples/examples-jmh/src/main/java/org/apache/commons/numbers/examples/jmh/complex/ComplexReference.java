@@ -0,0 +1,710 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.examples.jmh.complex;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Reference implementations of the complex functions computed using {@link BigDecimal}.
+ *
+ * <p>The functions are computed from the exact decimal value of the finite input parts.
+ * The working precision is increased for inputs with a large or small magnitude to allow
+ * for cancellation in the formulas used to compute the result, e.g. {@code ln(1 + x)}
+ * for small {@code x}. The result is accurate to at least 30 significant digits.
+ *
+ * <p>The result of a function is {@code null} if either input part is not finite, or if
+ * the result cannot be computed in reasonable time, e.g. the exponential of a number with a
+ * real part of {@code 1e300}. These cases are covered by the ISO C99 special case tests of
+ * the {@code Complex} class.
+ *
+ * <p>Functions with a branch cut use the symmetry of the function to compute the result
+ * from the absolute values of the parts, e.g. {@code f(conj(z)) = conj(f(z))}. The sign
+ * of the input parts thus identifies the side of the branch cut consistent with the
+ * ISO C99 definitions. A result part that is zero is returned as {@link BigDecimal#ZERO};
+ * the sign of zero is not defined.
+ */
+final class ComplexReference {
+    /** The maximum working precision. */
+    private static final int MAX_PRECISION = 1000;
+    /** The number of digits of the constants. This allows reduction of the largest finite
+     * double argument of a trigonometric function at the maximum working precision. */
+    private static final int CONSTANT_DIGITS = MAX_PRECISION + 340;
+    /** The minimum precision of the result. */
+    private static final int MIN_PRECISION = 40;
+    /** The limit on the magnitude of the argument of the exponential function. */
+    private static final double EXP_LIMIT = 1e4;
+    /** 2. */
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+    /** 0.5. */
+    private static final BigDecimal HALF = new BigDecimal("0.5");
+    /** 0.25. */
+    private static final BigDecimal QUARTER = new BigDecimal("0.25");
+    /** The value of pi. */
+    private static final BigDecimal PI = computePi(new MathContext(CONSTANT_DIGITS));
+    /** The value of ln(10). */
+    private static final BigDecimal LN_10 = lnHalley(BigDecimal.TEN, new MathContext(CONSTANT_DIGITS));
+
+    /** No instances. */
+    private ComplexReference() {}
+
+    /**
+     * Computes the exponential.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] exp(double x, double y) {
+        if (!isFinite(x, y) || Math.abs(x) > EXP_LIMIT) {
+            return null;
+        }
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal e = exp(new BigDecimal(x), mc);
+        final BigDecimal[] sc = sincos(new BigDecimal(y), mc);
+        return new BigDecimal[] {e.multiply(sc[1], mc), e.multiply(sc[0], mc)};
+    }
+
+    /**
+     * Computes the natural logarithm.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] log(double x, double y) {
+        if (!isFinite(x, y) || (x == 0 && y == 0)) {
+            return null;
+        }
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] r = log(new BigDecimal(Math.abs(x)), new BigDecimal(Math.abs(y)), mc);
+        return signs(r[0], negative(x) ? PI.subtract(r[1], mc) : r[1], negative(y), false);
+    }
+
+    /**
+     * Computes the base 10 logarithm. As with {@link org.apache.commons.numbers.complex.Complex#log10()}
+     * only the real part is scaled; the imaginary part is the argument of the number.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] log10(double x, double y) {
+        final BigDecimal[] r = log(x, y);
+        if (r == null) {
+            return null;
+        }
+        final MathContext mc = workingPrecision(x, y);
+        return new BigDecimal[] {r[0].divide(LN_10, mc), r[1]};
+    }
+
+    /**
+     * Computes the square root.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] sqrt(double x, double y) {
+        if (!isFinite(x, y)) {
+            return null;
+        }
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] r = sqrt(new BigDecimal(x), new BigDecimal(Math.abs(y)), mc);
+        return signs(r[0], r[1], negative(y), false);
+    }
+
+    /**
+     * Computes the sine.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] sin(double x, double y) {
+        if (!isFinite(x, y) || Math.abs(y) > EXP_LIMIT) {
+            return null;
+        }
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] sc = sincos(new BigDecimal(x), mc);
+        final BigDecimal[] sch = sinhcosh(new BigDecimal(y), mc);
+        return new BigDecimal[] {sc[0].multiply(sch[1], mc), sc[1].multiply(sch[0], mc)};
+    }
+
+    /**
+     * Computes the cosine.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] cos(double x, double y) {
+        if (!isFinite(x, y) || Math.abs(y) > EXP_LIMIT) {
+            return null;
+        }
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] sc = sincos(new BigDecimal(x), mc);
+        final BigDecimal[] sch = sinhcosh(new BigDecimal(y), mc);
+        return new BigDecimal[] {sc[1].multiply(sch[1], mc), sc[0].multiply(sch[0], mc).negate()};
+    }
+
+    /**
+     * Computes the tangent.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] tan(double x, double y) {
+        // tan(z) = -i tanh(iz)
+        final BigDecimal[] r = tanh(-y, x);
+        return r == null ? null : new BigDecimal[] {r[1], r[0].negate()};
+    }
+
+    /**
+     * Computes the hyperbolic sine.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] sinh(double x, double y) {
+        if (!isFinite(x, y) || Math.abs(x) > EXP_LIMIT) {
+            return null;
+        }
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] sch = sinhcosh(new BigDecimal(x), mc);
+        final BigDecimal[] sc = sincos(new BigDecimal(y), mc);
+        return new BigDecimal[] {sch[0].multiply(sc[1], mc), sch[1].multiply(sc[0], mc)};
+    }
+
+    /**
+     * Computes the hyperbolic cosine.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] cosh(double x, double y) {
+        if (!isFinite(x, y) || Math.abs(x) > EXP_LIMIT) {
+            return null;
+        }
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] sch = sinhcosh(new BigDecimal(x), mc);
+        final BigDecimal[] sc = sincos(new BigDecimal(y), mc);
+        return new BigDecimal[] {sch[1].multiply(sc[1], mc), sch[0].multiply(sc[0], mc)};
+    }
+
+    /**
+     * Computes the hyperbolic tangent.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] tanh(double x, double y) {
+        if (!isFinite(x, y) || Math.abs(x) > EXP_LIMIT) {
+            return null;
+        }
+        // tanh(z) = (sinh(2x) + i sin(2y)) / (cosh(2x) + cos(2y))
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] sch = sinhcosh(new BigDecimal(x).multiply(TWO), mc);
+        final BigDecimal[] sc = sincos(new BigDecimal(y).multiply(TWO), mc);
+        final BigDecimal d = sch[1].add(sc[1], mc);
+        return new BigDecimal[] {sch[0].divide(d, mc), sc[0].divide(d, mc)};
+    }
+
+    /**
+     * Computes the inverse sine.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] asin(double x, double y) {
+        if (!isFinite(x, y)) {
+            return null;
+        }
+        // Odd function: asin(x + iy) = (Im A, Re A) with A = asinh(y + ix) in the first quadrant
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] a = asinh(new BigDecimal(Math.abs(y)), new BigDecimal(Math.abs(x)), mc);
+        return signs(a[1], a[0], negative(y), negative(x));
+    }
+
+    /**
+     * Computes the inverse cosine.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] acos(double x, double y) {
+        if (!isFinite(x, y)) {
+            return null;
+        }
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] r = acos(new BigDecimal(x), new BigDecimal(Math.abs(y)), mc);
+        return signs(r[0], r[1], negative(y), false);
+    }
+
+    /**
+     * Computes the inverse tangent.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] atan(double x, double y) {
+        if (!isFinite(x, y)) {
+            return null;
+        }
+        // Odd function: atan(x + iy) = (Im B, Re B) with B = atanh(y + ix) in the first quadrant
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] b = atanh(new BigDecimal(Math.abs(y)), new BigDecimal(Math.abs(x)), mc);
+        if (b == null) {
+            return null;
+        }
+        return signs(b[1], b[0], negative(y), negative(x));
+    }
+
+    /**
+     * Computes the inverse hyperbolic sine.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] asinh(double x, double y) {
+        if (!isFinite(x, y)) {
+            return null;
+        }
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] r = asinh(new BigDecimal(Math.abs(x)), new BigDecimal(Math.abs(y)), mc);
+        return signs(r[0], r[1], negative(y), negative(x));
+    }
+
+    /**
+     * Computes the inverse hyperbolic cosine.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] acosh(double x, double y) {
+        if (!isFinite(x, y)) {
+            return null;
+        }
+        // acosh(z) = i acos(z) for the upper half-plane
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] r = acos(new BigDecimal(x), new BigDecimal(Math.abs(y)), mc);
+        return signs(r[1].negate(), r[0], negative(y), false);
+    }
+
+    /**
+     * Computes the inverse hyperbolic tangent.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result {re, im}, or null
+     */
+    static BigDecimal[] atanh(double x, double y) {
+        if (!isFinite(x, y)) {
+            return null;
+        }
+        final MathContext mc = workingPrecision(x, y);
+        final BigDecimal[] r = atanh(new BigDecimal(Math.abs(x)), new BigDecimal(Math.abs(y)), mc);
+        if (r == null) {
+            return null;
+        }
+        return signs(r[0], r[1], negative(y), negative(x));
+    }
+
+    /**
+     * Computes the absolute value.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the result, or null
+     */
+    static BigDecimal abs(double x, double y) {
+        if (!isFinite(x, y)) {
+            return null;
+        }
+        final BigDecimal a = new BigDecimal(x);
+        final BigDecimal b = new BigDecimal(y);
+        return a.multiply(a).add(b.multiply(b)).sqrt(workingPrecision(x, y));
+    }
+
+    // Complex functions in the first quadrant, or upper half-plane.
+
+    /**
+     * Computes the natural logarithm of a non-zero number.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @param mc Working precision.
+     * @return the result {re, im}
+     */
+    private static BigDecimal[] log(BigDecimal x, BigDecimal y, MathContext mc) {
+        final BigDecimal norm = x.multiply(x).add(y.multiply(y));
+        return new BigDecimal[] {ln(norm, mc).multiply(HALF), atan2(y, x, mc)};
+    }
+
+    /**
+     * Computes the square root of a number in the upper half-plane.
+     *
+     * @param x Real part.
+     * @param y Imaginary part (positive).
+     * @param mc Working precision.
+     * @return the result {re, im}
+     */
+    private static BigDecimal[] sqrt(BigDecimal x, BigDecimal y, MathContext mc) {
+        final BigDecimal r = x.multiply(x).add(y.multiply(y)).sqrt(mc);
+        if (r.signum() == 0) {
+            return new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO};
+        }
+        // t = sqrt((|x| + r) / 2); no cancellation
+        final BigDecimal t = x.abs().add(r, mc).multiply(HALF).sqrt(mc);
+        final BigDecimal u = y.divide(t.multiply(TWO), mc);
+        return x.signum() >= 0 ?
+            new BigDecimal[] {t, u} :
+            new BigDecimal[] {u, t};
+    }
+
+    /**
+     * Computes the inverse hyperbolic sine of a number in the first quadrant.
+     *
+     * @param x Real part (positive).
+     * @param y Imaginary part (positive).
+     * @param mc Working precision.
+     * @return the result {re, im}
+     */
+    private static BigDecimal[] asinh(BigDecimal x, BigDecimal y, MathContext mc) {
+        // asinh(z) = ln(z + sqrt(z^2 + 1)); all terms are positive
+        final BigDecimal[] s = sqrt(x.multiply(x).subtract(y.multiply(y)).add(BigDecimal.ONE),
+                                    x.multiply(y).multiply(TWO), mc);
+        return log(x.add(s[0], mc), y.add(s[1], mc), mc);
+    }
+
+    /**
+     * Computes the inverse cosine of a number in the upper half-plane.
+     *
+     * @param x Real part.
+     * @param y Imaginary part (positive).
+     * @param mc Working precision.
+     * @return the result {re, im}
+     */
+    private static BigDecimal[] acos(BigDecimal x, BigDecimal y, MathContext mc) {
+        // acos(z) = pi/2 - asin(z) where asin(x + iy) = (Im A, Re A), A = asinh(y + i|x|)
+        final BigDecimal[] a = asinh(y, x.abs(), mc);
+        // Use pi/2 at the working precision so the result on the real axis is exactly zero
+        final BigDecimal re = PI.multiply(HALF).round(mc).subtract(a[1], mc);
+        if (x.signum() < 0) {
+            // acos(-z) = pi - acos(z)
+            return new BigDecimal[] {PI.subtract(re, mc), a[0].negate()};
+        }
+        return new BigDecimal[] {re, a[0].negate()};
+    }
+
+    /**
+     * Computes the inverse hyperbolic tangent of a number in the first quadrant.
+     *
+     * @param x Real part (positive).
+     * @param y Imaginary part (positive).
+     * @param mc Working precision.
+     * @return the result {re, im}, or null if the result is infinite
+     */
+    private static BigDecimal[] atanh(BigDecimal x, BigDecimal y, MathContext mc) {
+        // re = 1/4 ln(((1 + x)^2 + y^2) / ((1 - x)^2 + y^2))
+        // im = 1/2 atan2(2y, (1 - x)(1 + x) - y^2)
+        // The terms are computed exactly.
+        final BigDecimal y2 = y.multiply(y);
+        final BigDecimal xp1 = BigDecimal.ONE.add(x);
+        final BigDecimal xm1 = BigDecimal.ONE.subtract(x);
+        final BigDecimal d = xm1.multiply(xm1).add(y2);
+        if (d.signum() == 0) {
+            return null;
+        }
+        final BigDecimal n = xp1.multiply(xp1).add(y2);
+        return new BigDecimal[] {
+            ln(n.divide(d, mc), mc).multiply(QUARTER),
+            atan2(y.multiply(TWO), xm1.multiply(xp1).subtract(y2), mc).multiply(HALF),
+        };
+    }
+
+    // Real functions
+
+    /**
+     * Computes the exponential.
+     *
+     * @param x Argument.
+     * @param mc Working precision.
+     * @return exp(x)
+     */
+    static BigDecimal exp(BigDecimal x, MathContext mc) {
+        if (x.signum() == 0) {
+            return BigDecimal.ONE;
+        }
+        if (x.signum() < 0) {
+            return BigDecimal.ONE.divide(exp(x.negate(), mc), mc);
+        }
+        // Reduce the argument to below 2^-10: exp(x) = exp(x / 2^k)^(2^k)
+        final int k = Math.max(0, Math.getExponent(x.doubleValue()) + 11);
+        final MathContext wc = new MathContext(mc.getPrecision() + k / 3 + 10);
+        final BigDecimal r = x.divide(new BigDecimal(BigInteger.ONE.shiftLeft(k)), wc);
+        final BigDecimal eps = BigDecimal.ONE.movePointLeft(wc.getPrecision());
+        BigDecimal sum = BigDecimal.ONE;
+        BigDecimal term = BigDecimal.ONE;
+        for (int n = 1; term.compareTo(eps) > 0; n++) {
+            term = term.multiply(r).divide(BigDecimal.valueOf(n), wc);
+            sum = sum.add(term, wc);
+        }
+        for (int i = 0; i < k; i++) {
+            sum = sum.multiply(sum, wc);
+        }
+        return sum.round(mc);
+    }
+
+    /**
+     * Computes the hyperbolic sine and cosine.
+     *
+     * @param x Argument.
+     * @param mc Working precision.
+     * @return {sinh(x), cosh(x)}
+     */
+    private static BigDecimal[] sinhcosh(BigDecimal x, MathContext mc) {
+        final BigDecimal e = exp(x, mc);
+        final BigDecimal ie = BigDecimal.ONE.divide(e, mc);
+        return new BigDecimal[] {e.subtract(ie, mc).multiply(HALF), e.add(ie, mc).multiply(HALF)};
+    }
+
+    /**
+     * Computes the natural logarithm.
+     *
+     * @param x Argument (positive).
+     * @param mc Working precision.
+     * @return ln(x)
+     */
+    static BigDecimal ln(BigDecimal x, MathContext mc) {
+        // x = a * 10^n with a in [1, 10)
+        final int n = x.precision() - x.scale() - 1;
+        final BigDecimal a = x.movePointLeft(n);
+        final BigDecimal lna = lnHalley(a, mc);
+        return n == 0 ? lna : lna.add(LN_10.multiply(BigDecimal.valueOf(n)), mc);
+    }
+
+    /**
+     * Computes the natural logarithm using Halley's method. The argument must be
+     * in the range of a double.
+     *
+     * @param x Argument (positive).
+     * @param mc Working precision.
+     * @return ln(x)
+     */
+    private static BigDecimal lnHalley(BigDecimal x, MathContext mc) {
+        final MathContext wc = new MathContext(mc.getPrecision() + 10);
+        final BigDecimal eps = BigDecimal.ONE.movePointLeft(mc.getPrecision() + 2);
+        BigDecimal y = new BigDecimal(Math.log(x.doubleValue()));
+        for (;;) {
+            // y = y + 2 (x - e^y) / (x + e^y)
+            final BigDecimal e = exp(y, wc);
+            final BigDecimal delta = x.subtract(e, wc).multiply(TWO).divide(x.add(e, wc), wc);
+            y = y.add(delta, wc);
+            if (delta.abs().compareTo(eps) <= 0) {
+                return y.round(mc);
+            }
+        }
+    }
+
+    /**
+     * Computes the sine and cosine.
+     *
+     * @param x Argument.
+     * @param mc Working precision.
+     * @return {sin(x), cos(x)}
+     */
+    private static BigDecimal[] sincos(BigDecimal x, MathContext mc) {
+        // Reduce the argument to [-pi, pi]. The precision must include the integer digits.
+        final int intDigits = Math.max(0, x.precision() - x.scale());
+        final MathContext wc = new MathContext(mc.getPrecision() + intDigits + 10);
+        final BigDecimal twoPi = PI.multiply(TWO).round(wc);
+        final BigDecimal q = x.divide(twoPi, wc).setScale(0, RoundingMode.HALF_EVEN);
+        final BigDecimal r = x.subtract(q.multiply(twoPi), wc).round(new MathContext(mc.getPrecision() + 10));
+        final MathContext tc = new MathContext(mc.getPrecision() + 10);
+        final BigDecimal eps = BigDecimal.ONE.movePointLeft(tc.getPrecision() + 2);
+        final BigDecimal r2 = r.multiply(r, tc).negate();
+        // Taylor series
+        BigDecimal sin = r;
+        BigDecimal cos = BigDecimal.ONE;
+        BigDecimal ts = r;
+        BigDecimal tc2 = BigDecimal.ONE;
+        for (int n = 2; ts.abs().compareTo(eps) > 0 || tc2.abs().compareTo(eps) > 0; n += 2) {
+            tc2 = tc2.multiply(r2, tc).divide(BigDecimal.valueOf((long) (n - 1) * n), tc);
+            ts = ts.multiply(r2, tc).divide(BigDecimal.valueOf((long) n * (n + 1)), tc);
+            cos = cos.add(tc2, tc);
+            sin = sin.add(ts, tc);
+        }
+        return new BigDecimal[] {sin.round(mc), cos.round(mc)};
+    }
+
+    /**
+     * Computes the four-quadrant inverse tangent of {@code y / x}. If {@code y} is zero and
+     * {@code x} is negative the result is {@code pi}.
+     *
+     * @param y Ordinate.
+     * @param x Abscissa.
+     * @param mc Working precision.
+     * @return atan2(y, x)
+     */
+    static BigDecimal atan2(BigDecimal y, BigDecimal x, MathContext mc) {
+        if (x.signum() == 0) {
+            return PI.multiply(HALF).multiply(BigDecimal.valueOf(y.signum())).round(mc);
+        }
+        final BigDecimal a = atan(y.abs().divide(x.abs(), mc), mc);
+        final BigDecimal r = x.signum() > 0 ? a : PI.subtract(a, mc);
+        return y.signum() < 0 ? r.negate() : r;
+    }
+
+    /**
+     * Computes the inverse tangent.
+     *
+     * @param x Argument (positive).
+     * @param mc Working precision.
+     * @return atan(x)
+     */
+    private static BigDecimal atan(BigDecimal x, MathContext mc) {
+        if (x.compareTo(BigDecimal.ONE) > 0) {
+            // atan(x) = pi/2 - atan(1/x)
+            return PI.multiply(HALF).subtract(atan(BigDecimal.ONE.divide(x, mc), mc), mc);
+        }
+        final MathContext wc = new MathContext(mc.getPrecision() + 10);
+        // Argument halving: atan(x) = 2 atan(x / (1 + sqrt(1 + x^2)))
+        BigDecimal t = x;
+        int k = 0;
+        final BigDecimal limit = new BigDecimal("0.01");
+        while (t.compareTo(limit) > 0) {
+            t = t.divide(BigDecimal.ONE.add(BigDecimal.ONE.add(t.multiply(t, wc)).sqrt(wc)), wc);
+            k++;
+        }
+        // Taylor series
+        final BigDecimal eps = BigDecimal.ONE.movePointLeft(wc.getPrecision() + 2);
+        final BigDecimal t2 = t.multiply(t, wc).negate();
+        BigDecimal sum = t;
+        BigDecimal power = t;
+        for (int n = 3; power.abs().compareTo(eps) > 0; n += 2) {
+            power = power.multiply(t2, wc);
+            sum = sum.add(power.divide(BigDecimal.valueOf(n), wc), wc);
+        }
+        return sum.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(k))).round(mc);
+    }
+
+    /**
+     * Computes pi using Machin's formula: {@code pi = 16 atan(1/5) - 4 atan(1/239)}.
+     *
+     * @param mc Precision.
+     * @return pi
+     */
+    private static BigDecimal computePi(MathContext mc) {
+        final MathContext wc = new MathContext(mc.getPrecision() + 10);
+        return atanInverse(5, wc).multiply(BigDecimal.valueOf(16))
+            .subtract(atanInverse(239, wc).multiply(BigDecimal.valueOf(4)), wc).round(mc);
+    }
+
+    /**
+     * Computes {@code atan(1/n)} using the Taylor series.
+     *
+     * @param n Integer.
+     * @param mc Working precision.
+     * @return atan(1/n)
+     */
+    private static BigDecimal atanInverse(int n, MathContext mc) {
+        final BigDecimal eps = BigDecimal.ONE.movePointLeft(mc.getPrecision() + 2);
+        final BigDecimal n2 = BigDecimal.valueOf((long) n * n).negate();
+        BigDecimal power = BigDecimal.ONE.divide(BigDecimal.valueOf(n), mc);
+        BigDecimal sum = power;
+        for (int k = 3; power.abs().compareTo(eps) > 0; k += 2) {
+            power = power.divide(n2, mc);
+            sum = sum.add(power.divide(BigDecimal.valueOf(k), mc), mc);
+        }
+        return sum;
+    }
+
+    // Utilities
+
+    /**
+     * Gets the working precision for the arguments. This adds two digits for each power of
+     * 10 of the magnitude of the largest or smallest argument to the minimum precision.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return the working precision
+     */
+    private static MathContext workingPrecision(double x, double y) {
+        final int digits = Math.max(decimalExponent(x), decimalExponent(y));
+        return new MathContext(Math.min(MAX_PRECISION, MIN_PRECISION + 2 * digits));
+    }
+
+    /**
+     * Gets the magnitude of the decimal exponent of the value.
+     *
+     * @param x Value.
+     * @return |log10(|x|)|, or 0 for zero
+     */
+    private static int decimalExponent(double x) {
+        return x == 0 ? 0 : (int) Math.ceil(Math.abs(Math.getExponent(x)) * 0.30103) + 1;
+    }
+
+    /**
+     * Apply the signs of the input to the result of a function computed from the absolute
+     * values of the input parts. For a function where {@code f(conj(z)) = conj(f(z))} the
+     * imaginary part has the sign of the imaginary part of the input. If the function is
+     * also odd, {@code f(-z) = -f(z)}, the real part has the sign of the real part of the input.
+     *
+     * @param re Real part of the result.
+     * @param im Imaginary part of the result.
+     * @param conj Set to true to conjugate the result.
+     * @param negate Set to true to negate the real part of the result.
+     * @return the result {re, im}
+     */
+    private static BigDecimal[] signs(BigDecimal re, BigDecimal im, boolean conj, boolean negate) {
+        return new BigDecimal[] {negate ? re.negate() : re, conj ? im.negate() : im};
+    }
+
+    /**
+     * Test if both parts are finite.
+     *
+     * @param x Real part.
+     * @param y Imaginary part.
+     * @return true if finite
+     */
+    private static boolean isFinite(double x, double y) {
+        return Double.isFinite(x) && Double.isFinite(y);
+    }
+
+    /**
+     * Test if the value is negative, including negative zero.
+     *
+     * @param x Value.
+     * @return true if negative
+     */
+    private static boolean negative(double x) {
+        return Double.doubleToRawLongBits(x) < 0;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.examples.jmh.complex;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.streams.ComplexUtils;
+import org.apache.commons.numbers.complex.streams.ParallelComplexUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a benchmark to measure the speed of the sequential multi-dimensional
+ * conversions in {@link ComplexUtils} compared to the fork-join implementations in
+ * {@link ParallelComplexUtils}.
+ *
+ * <p>Scaling with the number of threads can be measured by setting the parallelism of
+ * the common pool using the JVM argument
+ * {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism=n}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms2048M", "-Xmx2048M"})
+public class ComplexUtilsPerformance {
+    /**
+     * Contains 3D arrays of data.
+     */
+    @State(Scope.Benchmark)
+    public static class Data3D {
+        /** The length of each dimension of the cube. */
+        @Param({"16", "64", "128"})
+        private int edge;
+
+        /** The real data. */
+        private double[][][] real;
+
+        /** The data as complex numbers. */
+        private Complex[][][] numbers;
+
+        /**
+         * Gets the real data.
+         *
+         * @return the data
+         */
+        public double[][][] getReal() {
+            return real;
+        }
+
+        /**
+         * Gets the data as complex numbers.
+         *
+         * @return the numbers
+         */
+        public Complex[][][] getNumbers() {
+            return numbers;
+        }
+
+        /**
+         * Create the data.
+         */
+        @Setup
+        public void setup() {
+            final SplittableRandom rng = new SplittableRandom();
+            real = new double[edge][edge][edge];
+            numbers = new Complex[edge][edge][edge];
+            for (int x = 0; x < edge; x++) {
+                for (int y = 0; y < edge; y++) {
+                    for (int z = 0; z < edge; z++) {
+                        real[x][y][z] = rng.nextDouble();
+                        numbers[x][y][z] = Complex.ofCartesian(rng.nextDouble(), rng.nextDouble());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Contains 4D arrays of data.
+     */
+    @State(Scope.Benchmark)
+    public static class Data4D {
+        /** The length of each dimension of the hypercube. */
+        @Param({"8", "16", "32"})
+        private int edge;
+
+        /** The real parts. */
+        private double[][][][] real;
+
+        /** The imaginary parts. */
+        private double[][][][] imaginary;
+
+        /**
+         * Gets the real parts.
+         *
+         * @return the real parts
+         */
+        public double[][][][] getReal() {
+            return real;
+        }
+
+        /**
+         * Gets the imaginary parts.
+         *
+         * @return the imaginary parts
+         */
+        public double[][][][] getImaginary() {
+            return imaginary;
+        }
+
+        /**
+         * Create the data.
+         */
+        @Setup
+        public void setup() {
+            final SplittableRandom rng = new SplittableRandom();
+            real = new double[edge][edge][edge][edge];
+            imaginary = new double[edge][edge][edge][edge];
+            for (int x = 0; x < edge; x++) {
+                for (int y = 0; y < edge; y++) {
+                    for (int z = 0; z < edge; z++) {
+                        for (int t = 0; t < edge; t++) {
+                            real[x][y][z][t] = rng.nextDouble();
+                            imaginary[x][y][z][t] = rng.nextDouble();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Benchmark methods.
+    // The result is returned to the JMH black-hole.
+
+    // CHECKSTYLE: stop JavadocMethod
+    // CHECKSTYLE: stop DesignForExtension
+
+    @Benchmark
+    public Complex[][][] real2Complex3D(Data3D data) {
+        return ComplexUtils.real2Complex(data.getReal());
+    }
+
+    @Benchmark
+    public Complex[][][] parallelReal2Complex3D(Data3D data) {
+        return ParallelComplexUtils.real2Complex(data.getReal());
+    }
+
+    @Benchmark
+    public double[][][] complex2Interleaved3D(Data3D data) {
+        return ComplexUtils.complex2Interleaved(data.getNumbers(), 2);
+    }
+
+    @Benchmark
+    public double[][][] parallelComplex2Interleaved3D(Data3D data) {
+        return ParallelComplexUtils.complex2Interleaved(data.getNumbers(), 2);
+    }
+
+    @Benchmark
+    public Complex[][][][] split2Complex4D(Data4D data) {
+        return ComplexUtils.split2Complex(data.getReal(), data.getImaginary());
+    }
+
+    @Benchmark
+    public Complex[][][][] parallelSplit2Complex4D(Data4D data) {
+        return ParallelComplexUtils.split2Complex(data.getReal(), data.getImaginary());
+    }
+
+    @Benchmark
+    public Complex[][][][] interleaved2Complex4D(Data4D data) {
+        return ComplexUtils.interleaved2Complex(data.getReal(), 3);
+    }
+
+    @Benchmark
+    public Complex[][][][] parallelInterleaved2Complex4D(Data4D data) {
+        return ParallelComplexUtils.interleaved2Complex(data.getReal(), 3);
+    }
+}
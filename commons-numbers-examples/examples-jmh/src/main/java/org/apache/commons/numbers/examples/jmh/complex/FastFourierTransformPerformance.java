@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.examples.jmh.complex;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.numbers.complex.FastFourierTransform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a benchmark to measure the speed of the {@link FastFourierTransform}
+ * compared to a naive discrete Fourier transform computed using {@link Complex}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class FastFourierTransformPerformance {
+    /**
+     * Contains the signal data to transform.
+     */
+    @State(Scope.Benchmark)
+    public static class Signal {
+        /**
+         * The size of the data. This covers the radix-2, mixed-radix and
+         * Bluestein (prime size) algorithms.
+         */
+        @Param({"256", "1000", "1021"})
+        private int size;
+
+        /** The interleaved signal data. */
+        private double[] data;
+
+        /** The working copy of the interleaved data. */
+        private double[] work;
+
+        /** The signal data as complex numbers. */
+        private Complex[] numbers;
+
+        /**
+         * Gets a copy of the interleaved data. The same array is returned each time
+         * to avoid allocation during the benchmark.
+         *
+         * @return the data
+         */
+        public double[] getData() {
+            System.arraycopy(data, 0, work, 0, data.length);
+            return work;
+        }
+
+        /**
+         * Gets the signal data as complex numbers.
+         *
+         * @return the numbers
+         */
+        public Complex[] getNumbers() {
+            return numbers;
+        }
+
+        /**
+         * Create the signal data.
+         */
+        @Setup
+        public void setup() {
+            final SplittableRandom rng = new SplittableRandom();
+            data = new double[size * 2];
+            work = new double[size * 2];
+            numbers = new Complex[size];
+            for (int i = 0; i < size; i++) {
+                final double re = rng.nextDouble(-1, 1);
+                final double im = rng.nextDouble(-1, 1);
+                data[2 * i] = re;
+                data[2 * i + 1] = im;
+                numbers[i] = Complex.ofCartesian(re, im);
+            }
+            // Create the cached transform
+            FastFourierTransform.of(size);
+        }
+    }
+
+    /**
+     * Compute the naive discrete Fourier transform.
+     *
+     * @param x Signal.
+     * @return the transform
+     */
+    private static Complex[] dft(Complex[] x) {
+        final int n = x.length;
+        final Complex[] y = new Complex[n];
+        final double w = -2 * Math.PI / n;
+        for (int k = 0; k < n; k++) {
+            Complex sum = Complex.ZERO;
+            for (int j = 0; j < n; j++) {
+                // Reduce the exponent modulo n for accuracy
+                final long jk = ((long) j * k) % n;
+                sum = sum.add(x[j].multiply(Complex.ofCis(w * jk)));
+            }
+            y[k] = sum;
+        }
+        return y;
+    }
+
+    // Benchmark methods.
+    //
+    // The methods are partially documented as the names are self-documenting.
+    // CHECKSTYLE: stop JavadocMethod
+    // CHECKSTYLE: stop DesignForExtension
+
+    /**
+     * Baseline the copy of the data used by the fast transform.
+     *
+     * @param signal Signal data.
+     * @return the data
+     */
+    @Benchmark
+    public double[] baselineCopy(Signal signal) {
+        return signal.getData();
+    }
+
+    @Benchmark
+    public double[] fastFourierTransform(Signal signal) {
+        final double[] data = signal.getData();
+        FastFourierTransform.of(data.length >> 1).forward(data);
+        return data;
+    }
+
+    @Benchmark
+    public Complex[] discreteFourierTransform(Signal signal) {
+        return dft(signal.getNumbers());
+    }
+}
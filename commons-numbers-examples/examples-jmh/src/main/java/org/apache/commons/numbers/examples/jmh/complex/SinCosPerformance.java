@@ -18,6 +18,7 @@
 package org.apache.commons.numbers.examples.jmh.complex;
 
 import org.apache.commons.math3.util.FastMath;
+import org.apache.commons.numbers.complex.SinCos;
 import org.apache.commons.numbers.core.Precision;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -42,7 +43,8 @@ import java.util.stream.DoubleStream;
  * Executes a benchmark to estimate the speed of sin/cos operations.
  * This compares the Math implementation to FastMath. It would be possible
  * to adapt FastMath to compute sin/cos together as they both use a common
- * initial stage to map the value to the domain [0, pi/2).
+ * initial stage to map the value to the domain [0, pi/2). This is done by
+ * the bulk {@link SinCos} computation.
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -328,4 +330,38 @@ public class SinCosPerformance {
     public void rangeFastMathSin(UniformNumbers numbers, Blackhole bh) {
         apply(numbers.getNumbers(), FastMath::sin, bh);
     }
+
+    /**
+     * Benchmark {@link SinCos#sincos(double[], double[], double[])}. This computes both
+     * the sine and cosine and should be compared to the sum of {@link #mathSin(Numbers, Blackhole)}
+     * and {@link #mathCos(Numbers, Blackhole)}.
+     *
+     * @param numbers Numbers.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void bulkSinCos(Numbers numbers, Blackhole bh) {
+        final double[] x = numbers.getNumbers();
+        final double[] sin = new double[x.length];
+        final double[] cos = new double[x.length];
+        SinCos.sincos(x, sin, cos);
+        bh.consume(sin);
+        bh.consume(cos);
+    }
+
+    /**
+     * Benchmark {@link SinCos#sincos(double[], double[], double[])} using a uniform range of numbers.
+     *
+     * @param numbers Numbers.
+     * @param bh Data sink.
+     */
+    @Benchmark
+    public void rangeBulkSinCos(UniformNumbers numbers, Blackhole bh) {
+        final double[] x = numbers.getNumbers();
+        final double[] sin = new double[x.length];
+        final double[] cos = new double[x.length];
+        SinCos.sincos(x, sin, cos);
+        bh.consume(sin);
+        bh.consume(cos);
+    }
 }
@@ -19,9 +19,11 @@ package org.apache.commons.numbers.examples.jmh.core;
 
 import java.math.MathContext;
 import java.util.Arrays;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 import java.util.function.IntFunction;
 
+import org.apache.commons.numbers.core.DotProduct;
 import org.apache.commons.numbers.core.Sum;
 import org.apache.commons.numbers.examples.jmh.core.LinearCombination.FourD;
 import org.apache.commons.numbers.examples.jmh.core.LinearCombination.ND;
@@ -184,7 +186,9 @@ public class LinearCombinationPerformance {
                 // Only faster when 'length' is >16. Below this the array
                 // is small enough to be allocated locally
                 // (Search for Thread Local Allocation Buffer (TLAB))
-                "dot3c", "extendedc"})
+                "dot3c", "extendedc",
+                // DotProduct in core
+                "core_dot2", "core_dot3", "core_dot4", "core_exact"})
         private String name;
 
         /** The 2D implementation. */
@@ -248,6 +252,18 @@ public class LinearCombinationPerformance {
                 nd = (a, b) -> Sum.ofProducts(a, b).getAsDouble();
                 return;
             }
+            if (name.startsWith("core_")) {
+                // Small combinations use the array method
+                final DotProduct dot = DotProduct.valueOf(name.substring(5).toUpperCase(Locale.ROOT));
+                twod = (a1, b1, a2, b2) ->
+                    dot.of(new double[] {a1, a2}, new double[] {b1, b2});
+                threed = (a1, b1, a2, b2, a3, b3) ->
+                    dot.of(new double[] {a1, a2, a3}, new double[] {b1, b2, b3});
+                fourd = (a1, b1, a2, b2, a3, b3, a4, b4) ->
+                    dot.of(new double[] {a1, a2, a3, a4}, new double[] {b1, b2, b3, b4});
+                nd = dot::of;
+                return;
+            }
             // All implementations below are expected to implement all the interfaces.
             if ("standard".endsWith(name)) {
                 nd = LinearCombinations.StandardPrecision.INSTANCE;
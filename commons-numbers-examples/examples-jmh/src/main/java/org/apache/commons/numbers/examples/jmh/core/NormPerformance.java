@@ -16,6 +16,7 @@
  */
 package org.apache.commons.numbers.examples.jmh.core;
 
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.function.ToDoubleFunction;
 
@@ -104,6 +105,52 @@ public class NormPerformance {
         }
     }
 
+    /** Class providing a matrix in row-major order for benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class MatrixInput {
+
+        /** Number of rows. */
+        @Param("1000")
+        private int rows;
+
+        /** Number of columns. */
+        @Param({"10", "1000"})
+        private int columns;
+
+        /** Matrix values in row-major order. */
+        private double[] data;
+
+        /** Get the number of rows.
+         * @return the number of rows
+         */
+        public int getRows() {
+            return rows;
+        }
+
+        /** Get the number of columns.
+         * @return the number of columns
+         */
+        public int getColumns() {
+            return columns;
+        }
+
+        /** Get the matrix values.
+         * @return matrix values in row-major order
+         */
+        public double[] getData() {
+            return data;
+        }
+
+        /** Create the matrix for the instance.
+         */
+        @Setup
+        public void createMatrix() {
+            final UniformRandomProvider rng = RandomSource.create(RandomSource.XO_RO_SHI_RO_1024_PP);
+            data = DoubleUtils.randomArray(rows * columns, -26, 26, rng);
+        }
+    }
+
     /** Class providing 2D input vectors for benchmarks.
      */
     @State(Scope.Benchmark)
@@ -210,4 +257,93 @@ public class NormPerformance {
     public void euclideanArray(final VectorArrayInput input, final Blackhole bh) {
         eval(Norm.L2, input, bh);
     }
+
+    /** Compute the performance of the {@link Norm#L2} row norms by copying each row
+     * to an array.
+     * @param input benchmark input
+     * @return the row norms
+     */
+    @Benchmark
+    public double[] euclideanRowsCopy(final MatrixInput input) {
+        final double[] data = input.getData();
+        final int columns = input.getColumns();
+        final double[] result = new double[input.getRows()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Norm.L2.of(Arrays.copyOfRange(data, i * columns, (i + 1) * columns));
+        }
+        return result;
+    }
+
+    /** Compute the performance of the {@link Norm#L2} row norm method.
+     * @param input benchmark input
+     * @return the row norms
+     */
+    @Benchmark
+    public double[] euclideanRows(final MatrixInput input) {
+        return Norm.L2.ofRows(input.getData(), input.getRows(), input.getColumns());
+    }
+
+    /** Compute the performance of the {@link Norm#L2} parallel row norm method.
+     * @param input benchmark input
+     * @return the row norms
+     */
+    @Benchmark
+    public double[] euclideanRowsParallel(final MatrixInput input) {
+        return Norm.L2.ofRowsParallel(input.getData(), input.getRows(), input.getColumns());
+    }
+
+    /** Compute the performance of the {@link Norm#L2} column norms by copying each column
+     * to an array.
+     * @param input benchmark input
+     * @return the column norms
+     */
+    @Benchmark
+    public double[] euclideanColumnsCopy(final MatrixInput input) {
+        final double[] data = input.getData();
+        final int rows = input.getRows();
+        final int columns = input.getColumns();
+        final double[] result = new double[columns];
+        final double[] column = new double[rows];
+        for (int j = 0; j < columns; j++) {
+            for (int i = 0; i < rows; i++) {
+                column[i] = data[i * columns + j];
+            }
+            result[j] = Norm.L2.of(column);
+        }
+        return result;
+    }
+
+    /** Compute the performance of the {@link Norm#L2} strided norm method for each column.
+     * @param input benchmark input
+     * @return the column norms
+     */
+    @Benchmark
+    public double[] euclideanColumnsStrided(final MatrixInput input) {
+        final double[] data = input.getData();
+        final int rows = input.getRows();
+        final int columns = input.getColumns();
+        final double[] result = new double[columns];
+        for (int j = 0; j < columns; j++) {
+            result[j] = Norm.L2.of(data, j, rows, columns);
+        }
+        return result;
+    }
+
+    /** Compute the performance of the {@link Norm#L2} column norm method.
+     * @param input benchmark input
+     * @return the column norms
+     */
+    @Benchmark
+    public double[] euclideanColumns(final MatrixInput input) {
+        return Norm.L2.ofColumns(input.getData(), input.getRows(), input.getColumns());
+    }
+
+    /** Compute the performance of the {@link Norm#L2} parallel column norm method.
+     * @param input benchmark input
+     * @return the column norms
+     */
+    @Benchmark
+    public double[] euclideanColumnsParallel(final MatrixInput input) {
+        return Norm.L2.ofColumnsParallel(input.getData(), input.getRows(), input.getColumns());
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.numbers.examples.jmh.complex;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import org.apache.commons.numbers.complex.Complex;
+import org.apache.commons.rng.simple.RandomSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ComplexAccuracy} and {@link ComplexReference}.
+ */
+class ComplexAccuracyTest {
+    /** pi/2. */
+    private static final double PI_OVER_2 = Math.PI / 2;
+
+    @Test
+    void testReferenceValues() {
+        assertReference(Math.E, 0, ComplexReference.exp(1, 0));
+        assertReference(Math.cos(2), Math.sin(2), ComplexReference.exp(0, 2));
+        assertReference(0, Math.PI, ComplexReference.log(-1, 0));
+        assertReference(0, -Math.PI, ComplexReference.log(-1, -0.0));
+        assertReference(Math.log(5), Math.atan2(4, 3), ComplexReference.log(3, 4));
+        assertReference(Math.log10(5), Math.atan2(-4, -3), ComplexReference.log10(-3, -4));
+        assertReference(0, 2, ComplexReference.sqrt(-4, 0));
+        assertReference(0, -2, ComplexReference.sqrt(-4, -0.0));
+        assertReference(2, -1, ComplexReference.sqrt(3, -4));
+        assertReference(Math.sin(1) * Math.cosh(2), Math.cos(1) * Math.sinh(2), ComplexReference.sin(1, 2));
+        assertReference(Math.cos(1) * Math.cosh(2), -Math.sin(1) * Math.sinh(2), ComplexReference.cos(1, 2));
+        assertReference(Math.tan(0.5), 0, ComplexReference.tan(0.5, 0));
+        assertReference(Math.sinh(1.5), 0, ComplexReference.sinh(1.5, 0));
+        assertReference(Math.cosh(1.5), 0, ComplexReference.cosh(1.5, 0));
+        assertReference(Math.tanh(1.5), 0, ComplexReference.tanh(1.5, 0));
+        assertReference(0, Math.tanh(1.5), ComplexReference.tan(0, 1.5));
+        // Branch cuts: the sign of the zero imaginary part selects the side of the cut
+        final double acosh2 = 1.3169578969248166;
+        assertReference(PI_OVER_2, acosh2, ComplexReference.asin(2, 0));
+        assertReference(PI_OVER_2, -acosh2, ComplexReference.asin(2, -0.0));
+        assertReference(-PI_OVER_2, acosh2, ComplexReference.asin(-2, 0));
+        assertReference(0, -acosh2, ComplexReference.acos(2, 0));
+        assertReference(Math.PI, -acosh2, ComplexReference.acos(-2, 0));
+        assertReference(Math.PI, acosh2, ComplexReference.acos(-2, -0.0));
+        assertReference(acosh2, 0, ComplexReference.acosh(2, 0));
+        assertReference(acosh2, Math.PI, ComplexReference.acosh(-2, 0));
+        assertReference(acosh2, -Math.PI, ComplexReference.acosh(-2, -0.0));
+        assertReference(0, PI_OVER_2, ComplexReference.acosh(0, 0));
+        final double atanh2 = 0.5493061443340549;
+        assertReference(atanh2, PI_OVER_2, ComplexReference.atanh(2, 0));
+        assertReference(atanh2, -PI_OVER_2, ComplexReference.atanh(2, -0.0));
+        assertReference(-atanh2, PI_OVER_2, ComplexReference.atanh(-2, 0));
+        assertReference(PI_OVER_2, atanh2, ComplexReference.atan(0, 2));
+        assertReference(-PI_OVER_2, atanh2, ComplexReference.atan(-0.0, 2));
+        assertReference(acosh2, PI_OVER_2, ComplexReference.asinh(0, 2));
+        assertReference(-acosh2, PI_OVER_2, ComplexReference.asinh(-0.0, 2));
+        assertReference(5, 0, new BigDecimal[] {ComplexReference.abs(3, -4), BigDecimal.ZERO});
+        // Not available
+        Assertions.assertNull(ComplexReference.exp(Double.NaN, 0));
+        Assertions.assertNull(ComplexReference.exp(1e300, 0));
+        Assertions.assertNull(ComplexReference.log(0, 0));
+        Assertions.assertNull(ComplexReference.atanh(1, 0));
+    }
+
+    @Test
+    void testReferenceExtremeValues() {
+        // Large argument reduction: sin(1e22) is known to high accuracy
+        assertReference(-0.8522008497671888, 0, ComplexReference.sin(1e22, 0));
+        // Cancellation for small arguments
+        assertReference(1e-300, 0, ComplexReference.sinh(1e-300, 0));
+        assertReference(5e-301, 1e-150, ComplexReference.log(1, 1e-150));
+        assertReference(1e-300, 0, ComplexReference.atanh(1e-300, 0));
+        assertReference(Math.sqrt(2e-300), -Math.sqrt(2e-300), ComplexReference.acos(1, 2e-300));
+    }
+
+    @Test
+    void testReferenceAgreesWithComplex() {
+        // The Complex functions are accurate to a few ULP on moderate values
+        final Complex[] numbers = ComplexPerformance.createNumbers("uniform", 50,
+            RandomSource.create(RandomSource.SPLIT_MIX_64));
+        for (final String name : ComplexAccuracy.getFunctions()) {
+            final ComplexAccuracy.Result r = ComplexAccuracy.evaluate(name, "uniform", numbers);
+            Assertions.assertEquals(numbers.length, r.getEvaluated(), name);
+            Assertions.assertEquals(0, r.getFailures(), name);
+            Assertions.assertTrue(r.getMaxUlp() < 10, () -> name + " max ULP " + r.getMaxUlp());
+            Assertions.assertTrue(r.getMeanUlp() <= r.getMaxUlp(), name);
+        }
+    }
+
+    @Test
+    void testUlpError() {
+        Assertions.assertEquals(0, ComplexAccuracy.ulpError(1.5, new BigDecimal(1.5)));
+        Assertions.assertEquals(1, ComplexAccuracy.ulpError(Math.nextUp(1.5), new BigDecimal(1.5)));
+        Assertions.assertEquals(0.5, ComplexAccuracy.ulpError(1.0, new BigDecimal(1.0).add(
+            new BigDecimal(Math.ulp(1.0)).divide(BigDecimal.valueOf(2)))));
+        Assertions.assertEquals(Double.NaN, ComplexAccuracy.ulpError(Double.NaN, BigDecimal.ONE));
+        Assertions.assertEquals(0, ComplexAccuracy.ulpError(Double.POSITIVE_INFINITY,
+            new BigDecimal(Double.MAX_VALUE).multiply(BigDecimal.TEN)));
+    }
+
+    @Test
+    void testJson() {
+        final Complex[] numbers = ComplexPerformance.createNumbers("edge", 20,
+            RandomSource.create(RandomSource.SPLIT_MIX_64));
+        final ComplexAccuracy.Result r = ComplexAccuracy.evaluate("exp", "edge", numbers);
+        final String json = ComplexAccuracy.toJson(20, Collections.singletonList(r));
+        Assertions.assertTrue(json.startsWith("{\n  \"size\": 20,\n  \"results\": [\n    {\"function\": \"exp\""));
+        Assertions.assertTrue(json.contains("\"type\": \"edge\", \"samples\": 20, \"evaluated\": " +
+            r.getEvaluated() + ", \"failures\": " + r.getFailures() + ", \"maxUlp\": "));
+        Assertions.assertTrue(json.endsWith("}\n  ]\n}\n"));
+        Assertions.assertFalse(json.contains("Infinity"));
+        Assertions.assertFalse(json.contains("NaN"));
+    }
+
+    /**
+     * Report the accuracy and speed of the complex functions and write the results to a
+     * JSON file. This is not a test.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    @Disabled("This method is used to output a report of the accuracy of the functions.")
+    void reportUlpErrors() throws IOException {
+        ComplexAccuracy.main(new String[] {"target/complex-accuracy.json", "10000"});
+    }
+
+    /**
+     * Assert the reference value is within 2 ULP of the expected double value. The
+     * expected values may be composed from several rounded double results.
+     *
+     * @param re Expected real part.
+     * @param im Expected imaginary part.
+     * @param actual Reference value.
+     */
+    private static void assertReference(double re, double im, BigDecimal[] actual) {
+        Assertions.assertNotNull(actual);
+        Assertions.assertEquals(re, actual[0].doubleValue(), 2 * Math.ulp(re), "real");
+        Assertions.assertEquals(im, actual[1].doubleValue(), 2 * Math.ulp(im), "imaginary");
+    }
+}
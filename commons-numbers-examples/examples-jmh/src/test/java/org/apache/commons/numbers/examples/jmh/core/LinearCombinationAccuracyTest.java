@@ -26,6 +26,7 @@ import java.util.Formatter;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.commons.numbers.core.DotProduct;
 import org.apache.commons.numbers.examples.jmh.core.LinearCombination.ND;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.simple.RandomSource;
@@ -70,7 +71,11 @@ class LinearCombinationAccuracyTest {
             Arguments.of(LinearCombinations.ExtendedPrecision.INSTANCE, 1e300, -1),
             Arguments.of(LinearCombinations.ExtendedPrecision.DOUBLE, 1e300, -1),
             Arguments.of(LinearCombinations.ExtendedPrecision.EXACT, 1e300, -1),
-            Arguments.of(LinearCombinations.Exact.INSTANCE, 1e300, -1)
+            Arguments.of(LinearCombinations.Exact.INSTANCE, 1e300, -1),
+            Arguments.of((ND) DotProduct.DOT2::of, 1e20, 1e30),
+            Arguments.of((ND) DotProduct.DOT3::of, 1e35, 1e45),
+            Arguments.of((ND) DotProduct.DOT4::of, 1e50, 1e65),
+            Arguments.of((ND) DotProduct.EXACT::of, 1e300, -1)
         );
     }
 
@@ -156,6 +161,10 @@ class LinearCombinationAccuracyTest {
         addMethod(methods, names, LinearCombinations.ExtendedPrecision.DOUBLE, "extended2");
         addMethod(methods, names, LinearCombinations.ExtendedPrecision.EXACT, "extended_exact");
         addMethod(methods, names, LinearCombinations.Exact.INSTANCE, "exact");
+        addMethod(methods, names, DotProduct.DOT2::of, "core_dot2");
+        addMethod(methods, names, DotProduct.DOT3::of, "core_dot3");
+        addMethod(methods, names, DotProduct.DOT4::of, "core_dot4");
+        addMethod(methods, names, DotProduct.EXACT::of, "core_exact");
 
         for (int i = 0; i < samples; i++) {
             // Random condition number.